@@ -0,0 +1,12 @@
+package com.gabojait.gabojaitspring.api.benchmark;
+
+/**
+ * 로그 추적 벤치마크 대상 |
+ * AspectLogging 포인트컷에 포함되도록 api 패키지에 둔다.
+ */
+public class TracedService {
+
+    public String login(String username, String password) {
+        return "LoginResponse(username=" + username + ", password=" + password + ")";
+    }
+}
@@ -0,0 +1,162 @@
+package com.gabojait.gabojaitspring.common.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.gabojait.gabojaitspring.api.benchmark.TracedService;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 추적 벤치마크 |
+ * 호출마다 리플렉션과 정규식 컴파일을 하던 기존 방식과 메타 정보 캐시, 지연 메시지 생성, 샘플링 방식의 호출당 비용을 비교한다.
+ * 메시지를 실제로 포맷하는 appender를 붙이되 출력은 버려서, 디스크 쓰기 없이 메시지 생성 비용까지 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AspectLoggingBenchmark {
+
+    @Param({"INFO", "WARN"})
+    private String level;
+
+    @Param({"1.0", "0.0"})
+    private double sampleRate;
+
+    private TracedService direct;
+    private TracedService legacy;
+    private TracedService traced;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        for (Class<?> type : new Class<?>[] { AspectLogging.class, LegacyAspectLogging.class }) {
+            Logger logger = (Logger) LoggerFactory.getLogger(type);
+            logger.detachAndStopAllAppenders();
+            logger.addAppender(createDiscardingAppender(logger));
+            logger.setAdditive(false);
+            logger.setLevel(Level.toLevel(level));
+        }
+
+        AspectLogging aspectLogging = new AspectLogging();
+        for (String field : new String[] { "apiSampleRate", "repositorySampleRate", "domainSampleRate" })
+            setField(aspectLogging, field, sampleRate);
+
+        direct = new TracedService();
+        legacy = proxy(new LegacyAspectLogging());
+        traced = proxy(aspectLogging);
+    }
+
+    @Benchmark
+    public String direct() {
+        return direct.login("tester", "password1!");
+    }
+
+    @Benchmark
+    public String legacy() {
+        return legacy.login("tester", "password1!");
+    }
+
+    @Benchmark
+    public String traced() {
+        return traced.login("tester", "password1!");
+    }
+
+    private TracedService proxy(Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TracedService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+
+        return factory.getProxy();
+    }
+
+    /**
+     * 출력을 버리는 appender 생성 |
+     * 콘솔 로그와 같은 형태의 패턴으로 메시지를 포맷한 후 버린다.
+     * @param logger 로거
+     * @return appender
+     */
+    private OutputStreamAppender<ILoggingEvent> createDiscardingAppender(Logger logger) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(logger.getLoggerContext());
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(logger.getLoggerContext());
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        return appender;
+    }
+
+    private void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    /**
+     * 기존 로그 추적 방식
+     */
+    @Aspect
+    public static class LegacyAspectLogging {
+
+        private static final org.slf4j.Logger log = LoggerFactory.getLogger(LegacyAspectLogging.class);
+
+        @Before("execution(public * com.gabojait.gabojaitspring.api..*(..))")
+        public void beforeGlobal(JoinPoint jp) {
+            final MethodSignature signature = (MethodSignature) jp.getSignature();
+            final String className = signature.getDeclaringType().getSimpleName();
+            final Method method = signature.getMethod();
+            final Parameter[] parameterNames = method.getParameters();
+            final Object[] arguments = jp.getArgs();
+            final int paramLength = Math.min(parameterNames.length, arguments.length);
+            final String uuid = InterceptorLogging.getRequestId() == null ? "SYSTEM" : InterceptorLogging.getRequestId();
+
+            StringBuilder param = new StringBuilder();
+            for (int i = 0; i < paramLength; i++) {
+                param.append(parameterNames[i].getName()).append("=");
+
+                if (arguments[i] != null) param.append(arguments[i]);
+                else param.append("null");
+
+                if (i != parameterNames.length - 1) param.append(", ");
+            }
+
+            log.info("[{} | BEFORE] {} | {} ({})", uuid, className, method.getName(), param);
+        }
+
+        @AfterReturning(value = "execution(public * com.gabojait.gabojaitspring.api..*(..))", returning = "result")
+        public void afterGlobal(JoinPoint jp, Object result) {
+            final MethodSignature signature = (MethodSignature) jp.getSignature();
+            final String className = signature.getDeclaringType().getSimpleName();
+            final String methodName = signature.getMethod().getName();
+            final String uuid = InterceptorLogging.getRequestId() == null ? "SYSTEM" : InterceptorLogging.getRequestId();
+
+            if (result != null) {
+                result = result.toString().replaceAll("(?<=password\\s?=\\s?)\\S+", "******");
+                result = result.toString().replaceAll("(?<=passwordReEntered\\s?=\\s?)\\S+", "******");
+            }
+
+            log.info("[{} | AFTER] {} | {} | return={}", uuid, className, methodName, result);
+        }
+    }
+}
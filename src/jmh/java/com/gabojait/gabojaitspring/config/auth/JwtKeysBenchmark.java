@@ -0,0 +1,75 @@
+package com.gabojait.gabojaitspring.config.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 서명/검증 벤치마크 |
+ * 요청마다 Algorithm, JWTVerifier를 생성하던 방식과 JwtKeys 재사용 방식을 비교한다.
+ * ./gradlew jmh 실행 시 gc 프로파일러로 요청당 할당량(gc.alloc.rate.norm)도 함께 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JwtKeysBenchmark {
+
+    private static final String secret = "benchmark-secret";
+
+    private JwtKeys jwtKeys;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtKeys = new JwtKeys("key2", secret, "key1:retired-secret");
+        token = JWT.create()
+                .withKeyId(jwtKeys.getKeyId())
+                .withSubject("1")
+                .withExpiresAt(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .withClaim("roles", List.of("USER"))
+                .sign(jwtKeys.getAlgorithm());
+    }
+
+    @Benchmark
+    public DecodedJWT verifyPerCall() {
+        Algorithm algorithm = Algorithm.HMAC256(secret.getBytes(StandardCharsets.UTF_8));
+        JWTVerifier verifier = JWT.require(algorithm).build();
+
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyReused() {
+        return jwtKeys.verify(token);
+    }
+
+    @Benchmark
+    public String signPerCall() {
+        Algorithm algorithm = Algorithm.HMAC256(secret.getBytes(StandardCharsets.UTF_8));
+
+        return JWT.create()
+                .withSubject("1")
+                .withClaim("roles", List.of("USER"))
+                .sign(algorithm);
+    }
+
+    @Benchmark
+    public String signReused() {
+        return JWT.create()
+                .withKeyId(jwtKeys.getKeyId())
+                .withSubject("1")
+                .withClaim("roles", List.of("USER"))
+                .sign(jwtKeys.getAlgorithm());
+    }
+}
@@ -1,7 +1,11 @@
 package com.gabojait.gabojaitspring.api.controller.develop;
 
+import com.gabojait.gabojaitspring.api.dto.develop.response.QueryMetricResponse;
+import com.gabojait.gabojaitspring.common.response.DefaultMultiResponse;
 import com.gabojait.gabojaitspring.common.response.DefaultNoResponse;
+import com.gabojait.gabojaitspring.common.response.PageData;
 import com.gabojait.gabojaitspring.api.service.develop.DevelopService;
+import com.gabojait.gabojaitspring.api.service.develop.MetricService;
 import com.gabojait.gabojaitspring.config.auth.JwtProvider;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
 import io.swagger.annotations.Api;
@@ -12,11 +16,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.constraints.Positive;
+import java.util.List;
 
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.SERVER_ERROR;
 import static com.gabojait.gabojaitspring.common.constant.code.SuccessCode.*;
@@ -30,6 +36,7 @@ public class DevelopController {
 
     private final JwtProvider jwtProvider;
     private final DevelopService developService;
+    private final MetricService metricService;
 
     @ApiOperation(value = "헬스 체크",
             notes = "<응답 코드>\n" +
@@ -118,4 +125,57 @@ public class DevelopController {
                         .responseMessage(TESTER_TOKEN_ISSUED.getMessage())
                         .build());
     }
+
+    @ApiOperation(value = "지표 전체 조회",
+            notes = "<응답 형식>\n" +
+                    "- Prometheus 텍스트 형식 (text/plain; version=0.0.4)\n\n" +
+                    "<응답 코드>\n" +
+                    "- 200 = OK\n" +
+                    "- 401 = TOKEN_UNAUTHENTICATED\n" +
+                    "- 403 = TOKEN_UNAUTHORIZED\n" +
+                    "- 500 = SERVER_ERROR\n" +
+                    "- 503 = ONGOING_INSPECTION")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN"),
+            @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
+            @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
+    })
+    @GetMapping(value = "/master/metrics")
+    public ResponseEntity<String> scrapeMetrics() {
+        String metrics = metricService.scrape();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/plain; version=0.0.4; charset=utf-8"))
+                .body(metrics);
+    }
+
+    @ApiOperation(value = "엔드포인트별 쿼리 지표 전체 조회",
+            notes = "<응답 코드>\n" +
+                    "- 200 = QUERY_METRICS_FOUND\n" +
+                    "- 401 = TOKEN_UNAUTHENTICATED\n" +
+                    "- 403 = TOKEN_UNAUTHORIZED\n" +
+                    "- 500 = SERVER_ERROR\n" +
+                    "- 503 = ONGOING_INSPECTION")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = QueryMetricResponse.class))),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN"),
+            @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
+            @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
+    })
+    @GetMapping("/master/metrics/query")
+    public ResponseEntity<DefaultMultiResponse<Object>> findQueryMetrics() {
+        List<QueryMetricResponse> responses = developService.findQueryMetrics();
+
+        return ResponseEntity.status(QUERY_METRICS_FOUND.getHttpStatus())
+                .body(DefaultMultiResponse.multiDataBuilder()
+                        .responseCode(QUERY_METRICS_FOUND.name())
+                        .responseMessage(QUERY_METRICS_FOUND.getMessage())
+                        .responseData(new PageData<>(responses, responses.size()))
+                        .build());
+    }
 }
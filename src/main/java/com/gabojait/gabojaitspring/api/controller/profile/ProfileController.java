@@ -4,12 +4,15 @@ import com.gabojait.gabojaitspring.common.response.DefaultMultiResponse;
 import com.gabojait.gabojaitspring.common.response.DefaultNoResponse;
 import com.gabojait.gabojaitspring.common.response.DefaultSingleResponse;
 import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.api.dto.profile.request.PortfolioFileConfirmRequest;
+import com.gabojait.gabojaitspring.api.dto.profile.request.PortfolioFileUploadUrlRequest;
 import com.gabojait.gabojaitspring.api.dto.profile.request.ProfileDescriptionRequest;
 import com.gabojait.gabojaitspring.api.dto.profile.request.ProfileIsSeekRequest;
 import com.gabojait.gabojaitspring.api.dto.profile.request.ProfileUpdateRequest;
 import com.gabojait.gabojaitspring.api.dto.profile.response.*;
 import com.gabojait.gabojaitspring.api.service.profile.ProfileService;
 import com.gabojait.gabojaitspring.config.auth.JwtProvider;
+import com.gabojait.gabojaitspring.domain.profile.Level;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -50,7 +53,7 @@ public class ProfileController {
                     "- 403 = TOKEN_UNAUTHORIZED\n" +
                     "- 404 = USER_NOT_FOUND\n" +
                     "- 500 = SERVER_ERROR\n" +
-                    "- 503 = ONGOING_INSPECTION")
+                    "- 503 = ONGOING_INSPECTION || SERVER_OVERLOADED")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(schema = @Schema(implementation = ProfileFindMyselfResponse.class))),
@@ -86,7 +89,7 @@ public class ProfileController {
                     "- 403 = TOKEN_UNAUTHORIZED\n" +
                     "- 404 = USER_NOT_FOUND\n" +
                     "- 500 = SERVER_ERROR\n" +
-                    "- 503 = ONGOING_INSPECTION")
+                    "- 503 = ONGOING_INSPECTION || SERVER_OVERLOADED")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(schema = @Schema(implementation = ProfileFindOtherResponse.class))),
@@ -350,6 +353,91 @@ public class ProfileController {
                         .build());
     }
 
+    @ApiOperation(value = "파일 포트폴리오 업로드 URL 발급",
+            notes = "<응답 코드>\n" +
+                    "- 201 = PORTFOLIO_FILE_UPLOAD_URL_CREATED\n" +
+                    "- 400 = CONTENT_TYPE_FIELD_REQUIRED || FILE_SIZE_FIELD_REQUIRED || FILE_SIZE_POSITIVE_ONLY\n" +
+                    "- 401 = TOKEN_UNAUTHENTICATED\n" +
+                    "- 403 = TOKEN_UNAUTHORIZED\n" +
+                    "- 404 = USER_NOT_FOUND\n" +
+                    "- 413 = FILE_SIZE_EXCEED\n" +
+                    "- 415 = FILE_TYPE_UNSUPPORTED\n" +
+                    "- 500 = SERVER_ERROR\n" +
+                    "- 503 = ONGOING_INSPECTION\n\n" +
+                    "<업로드>\n" +
+                    "- 발급된 URL에 요청한 파일 타입(Content-Type)과 파일 크기(Content-Length) 그대로 PUT 요청\n" +
+                    "- 업로드 후 파일 포트폴리오 업로드 확인 요청")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "CREATED",
+                    content = @Content(schema = @Schema(implementation = PortfolioFileUploadUrlResponse.class))),
+            @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN"),
+            @ApiResponse(responseCode = "404", description = "NOT FOUND"),
+            @ApiResponse(responseCode = "413", description = "PAYLOAD TOO LARGE"),
+            @ApiResponse(responseCode = "415", description = "UNSUPPORTED MEDIA TYPE"),
+            @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
+            @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
+    })
+    @ResponseStatus(value = HttpStatus.CREATED)
+    @PostMapping("/portfolio/file/upload-url")
+    public ResponseEntity<DefaultSingleResponse<Object>> createPortfolioFileUploadUrl(
+            @RequestHeader(value = AUTHORIZATION, required = false) String authorization,
+            @RequestBody @Valid PortfolioFileUploadUrlRequest request
+    ) {
+        long userId = jwtProvider.getUserId(authorization);
+
+        PortfolioFileUploadUrlResponse response = profileService.createPortfolioFileUploadUrl(userId, request);
+
+        return ResponseEntity.status(PORTFOLIO_FILE_UPLOAD_URL_CREATED.getHttpStatus())
+                .body(DefaultSingleResponse.singleDataBuilder()
+                        .responseCode(PORTFOLIO_FILE_UPLOAD_URL_CREATED.name())
+                        .responseMessage(PORTFOLIO_FILE_UPLOAD_URL_CREATED.getMessage())
+                        .data(response)
+                        .build());
+    }
+
+    @ApiOperation(value = "파일 포트폴리오 업로드 확인",
+            notes = "<응답 코드>\n" +
+                    "- 201 = PORTFOLIO_FILE_UPLOADED\n" +
+                    "- 400 = FILE_NAME_FIELD_REQUIRED || FILE_NAME_FORMAT_INVALID\n" +
+                    "- 401 = TOKEN_UNAUTHENTICATED\n" +
+                    "- 403 = TOKEN_UNAUTHORIZED\n" +
+                    "- 404 = USER_NOT_FOUND || FILE_NOT_FOUND\n" +
+                    "- 413 = FILE_SIZE_EXCEED\n" +
+                    "- 415 = FILE_TYPE_UNSUPPORTED\n" +
+                    "- 500 = SERVER_ERROR\n" +
+                    "- 503 = ONGOING_INSPECTION")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "CREATED",
+                    content = @Content(schema = @Schema(implementation = PortfolioUrlResponse.class))),
+            @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN"),
+            @ApiResponse(responseCode = "404", description = "NOT FOUND"),
+            @ApiResponse(responseCode = "413", description = "PAYLOAD TOO LARGE"),
+            @ApiResponse(responseCode = "415", description = "UNSUPPORTED MEDIA TYPE"),
+            @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
+            @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
+    })
+    @ResponseStatus(value = HttpStatus.CREATED)
+    @PostMapping("/portfolio/file/confirm")
+    public ResponseEntity<DefaultSingleResponse<Object>> confirmPortfolioFile(
+            @RequestHeader(value = AUTHORIZATION, required = false) String authorization,
+            @RequestBody @Valid PortfolioFileConfirmRequest request
+    ) {
+        long userId = jwtProvider.getUserId(authorization);
+
+        PortfolioUrlResponse response = profileService.confirmPortfolioFile(userId, request);
+
+        return ResponseEntity.status(PORTFOLIO_FILE_UPLOADED.getHttpStatus())
+                .body(DefaultSingleResponse.singleDataBuilder()
+                        .responseCode(PORTFOLIO_FILE_UPLOADED.name())
+                        .responseMessage(PORTFOLIO_FILE_UPLOADED.getMessage())
+                        .data(response)
+                        .build());
+    }
+
     @ApiOperation(value = "팀을 찾는 회원 페이징 조회",
             notes = "<검증>\n" +
                     "- position[default: NONE] = NotBlank && Pattern(regex = ^(DESIGNER|BACKEND|FRONTEND|MANAGER|NONE))\n" +
@@ -401,4 +489,64 @@ public class ProfileController {
                         .responseData(responses)
                         .build());
     }
+
+    @ApiOperation(value = "기술로 팀을 찾는 회원 페이징 조회",
+            notes = "<검증>\n" +
+                    "- skill-names = NotEmpty && Size(min = 1, max = 5)\n" +
+                    "- level[default: LOW] = Pattern(regex = ^(LOW|MID|HIGH))\n" +
+                    "- page-from[default: 0] = PositiveOrZero\n" +
+                    "- page-size[default: 20] = Positive && Max(value = 100)\n\n" +
+                    "<설명>\n" +
+                    "- 모든 기술을 level 이상으로 가진 회원을 평점, 최근 접속 순으로 조회한다.\n" +
+                    "- 기술명은 대소문자, 공백, 구분 기호를 무시하고 별칭(js, 스프링 등)을 대표 기술명으로 바꿔 비교한다.\n" +
+                    "- page-from은 순위 기준 시작점이며 다음 페이지는 page-from + page-size로 조회한다.\n\n" +
+                    "<응답 코드>\n" +
+                    "- 200 = USERS_SKILL_FOUND\n" +
+                    "- 400 = SKILL_NAMES_FIELD_REQUIRED || SKILL_NAMES_LENGTH_INVALID || LEVEL_TYPE_INVALID || " +
+                    "PAGE_FROM_POSITIVE_OR_ZERO_ONLY || PAGE_SIZE_POSITIVE_ONLY || PAGE_SIZE_RANGE_INVALID\n" +
+                    "- 401 = TOKEN_UNAUTHENTICATED\n" +
+                    "- 403 = TOKEN_UNAUTHORIZED\n" +
+                    "- 404 = USER_NOT_FOUND\n" +
+                    "- 500 = SERVER_ERROR\n" +
+                    "- 503 = ONGOING_INSPECTION")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = ProfilePageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN"),
+            @ApiResponse(responseCode = "404", description = "NOT FOUND"),
+            @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
+            @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
+    })
+    @GetMapping("/skill")
+    public ResponseEntity<DefaultMultiResponse<Object>> findUsersBySkill(
+            @RequestHeader(value = AUTHORIZATION, required = false) String authorization,
+            @RequestParam(value = "skill-names", required = false)
+            @NotEmpty(message = "기술명은 필수 입력입니다.")
+            @Size(min = 1, max = 5, message = "기술명은 1~5개만 가능합니다.")
+            List<String> skillNames,
+            @RequestParam(value = "level", required = false, defaultValue = "LOW")
+            @Pattern(regexp = "^(LOW|MID|HIGH)", message = "레벨은 'LOW', 'MID', 또는 'HIGH' 중 하나여야 됩니다.")
+            String level,
+            @RequestParam(value = "page-from", required = false, defaultValue = "0")
+            @PositiveOrZero(message = "페이지 시작점은 0 또는 양수만 가능합니다.")
+            Long pageFrom,
+            @RequestParam(value = "page-size", required = false, defaultValue = "20")
+            @Positive(message = "페이지 사이즈는 양수만 가능합니다.")
+            @Max(value = 100, message = "페이지 사이즈는 100까지의 수만 가능합니다.")
+            Integer pageSize
+    ) {
+        long userId = jwtProvider.getUserId(authorization);
+
+        PageData<List<ProfilePageResponse>> responses = profileService.findPageUserBySkill(userId, skillNames,
+                Level.valueOf(level), pageFrom, pageSize);
+
+        return ResponseEntity.status(USERS_SKILL_FOUND.getHttpStatus())
+                .body(DefaultMultiResponse.multiDataBuilder()
+                        .responseCode(USERS_SKILL_FOUND.name())
+                        .responseMessage(USERS_SKILL_FOUND.getMessage())
+                        .responseData(responses)
+                        .build());
+    }
 }
@@ -4,6 +4,7 @@ import com.gabojait.gabojaitspring.common.response.DefaultMultiResponse;
 import com.gabojait.gabojaitspring.common.response.DefaultNoResponse;
 import com.gabojait.gabojaitspring.common.response.DefaultSingleResponse;
 import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.api.dto.profile.response.ProfilePageResponse;
 import com.gabojait.gabojaitspring.api.dto.team.request.TeamCompleteRequest;
 import com.gabojait.gabojaitspring.api.dto.team.request.TeamCreateRequest;
 import com.gabojait.gabojaitspring.api.dto.team.request.TeamIsRecruitingUpdateRequest;
@@ -26,8 +27,11 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -254,6 +258,121 @@ public class TeamController {
                         .build());
     }
 
+    @ApiOperation(value = "팀 검색",
+            notes = "<검증>\n" +
+                    "- query = NotBlank && Size(max = 50)\n" +
+                    "- position[default: NONE] = NotBlank && Pattern(regex = ^(DESIGNER|BACKEND|FRONTEND|MANAGER|NONE))\n" +
+                    "- page-from[default: 0] = PositiveOrZero\n" +
+                    "- page-size[default: 20] = Positive && Max(value = 100)\n\n" +
+                    "<설명>\n" +
+                    "- 팀원을 구하는 팀의 프로젝트명, 프로젝트 설명, 바라는 점에서 검색어와 관련도가 높은 순으로 조회한다.\n" +
+                    "- 한글은 두 글자 단위로 비교하여 띄어쓰기와 조사가 달라도 검색된다.\n" +
+                    "- position을 지정하면 해당 포지션 자리가 남은 팀만 조회한다.\n" +
+                    "- page-from은 순위 기준 시작점이며 다음 페이지는 page-from + page-size로 조회한다.\n\n" +
+                    "<응답 코드>\n" +
+                    "- 200 = TEAMS_SEARCHED\n" +
+                    "- 400 = QUERY_FIELD_REQUIRED || QUERY_LENGTH_INVALID || POSITION_TYPE_INVALID || " +
+                    "PAGE_FROM_POSITIVE_OR_ZERO_ONLY || PAGE_SIZE_POSITIVE_ONLY || PAGE_SIZE_RANGE_INVALID\n" +
+                    "- 401 = TOKEN_UNAUTHENTICATED\n" +
+                    "- 403 = TOKEN_UNAUTHORIZED\n" +
+                    "- 500 = SERVER_ERROR\n" +
+                    "- 503 = ONGOING_INSPECTION")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = TeamPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN"),
+            @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
+            @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
+    })
+    @GetMapping("/team/search")
+    public ResponseEntity<DefaultMultiResponse<Object>> searchTeams(
+            @RequestParam(value = "query", required = false)
+            @NotBlank(message = "검색어는 필수 입력입니다.")
+            @Size(max = 50, message = "검색어는 1~50자만 가능합니다.")
+            String query,
+            @RequestParam(value = "position", required = false, defaultValue = "NONE")
+            @Pattern(regexp = "^(DESIGNER|BACKEND|FRONTEND|MANAGER|NONE)",
+                    message = "포지션은 'DESIGNER', 'BACKEND', 'FRONTEND', 'MANAGER', 또는 'NONE' 중 하나여야 됩니다.")
+            String position,
+            @RequestParam(value = "page-from", required = false, defaultValue = "0")
+            @PositiveOrZero(message = "페이지 시작점은 0 또는 양수만 가능합니다.")
+            Long pageFrom,
+            @RequestParam(value = "page-size", required = false, defaultValue = "20")
+            @Positive(message = "페이지 사이즈는 양수만 가능합니다.")
+            @Max(value = 100, message = "페이지 사이즈는 100까지의 수만 가능합니다.")
+            Integer pageSize
+    ) {
+        PageData<List<TeamPageResponse>> responses = teamService.searchTeam(query, Position.valueOf(position),
+                pageFrom, pageSize);
+
+        return ResponseEntity.status(TEAMS_SEARCHED.getHttpStatus())
+                .body(DefaultMultiResponse.multiDataBuilder()
+                        .responseCode(TEAMS_SEARCHED.name())
+                        .responseMessage(TEAMS_SEARCHED.getMessage())
+                        .responseData(responses)
+                        .build());
+    }
+
+    @ApiOperation(value = "팀 추천 회원 페이징 조회",
+            notes = "<검증>\n" +
+                    "- position[default: NONE] = NotBlank && Pattern(regex = ^(DESIGNER|BACKEND|FRONTEND|MANAGER|NONE))\n" +
+                    "- page-from[default: 0] = PositiveOrZero\n" +
+                    "- page-size[default: 20] = Positive && Max(value = 100)\n\n" +
+                    "<설명>\n" +
+                    "- 팀장만 조회할 수 있으며, 팀의 모집 중인 포지션의 팀을 찾는 회원을 추천 점수가 높은 순으로 조회한다.\n" +
+                    "- 추천 점수는 팀의 프로젝트명, 프로젝트 설명, 바라는 점에 나온 기술과의 일치도, 평점, 리뷰 수, " +
+                    "최근 접속으로 계산한다.\n" +
+                    "- 팀과 진행 중이거나 거절된 제안이 있는 회원은 제외한다.\n" +
+                    "- page-from은 순위 기준 시작점이며 다음 페이지는 page-from + page-size로 조회한다.\n\n" +
+                    "<응답 코드>\n" +
+                    "- 200 = TEAM_RECOMMENDATIONS_FOUND\n" +
+                    "- 400 = POSITION_TYPE_INVALID || PAGE_FROM_POSITIVE_OR_ZERO_ONLY || PAGE_SIZE_POSITIVE_ONLY || " +
+                    "PAGE_SIZE_RANGE_INVALID\n" +
+                    "- 401 = TOKEN_UNAUTHENTICATED\n" +
+                    "- 403 = TOKEN_UNAUTHORIZED || REQUEST_FORBIDDEN\n" +
+                    "- 404 = CURRENT_TEAM_NOT_FOUND\n" +
+                    "- 500 = SERVER_ERROR\n" +
+                    "- 503 = ONGOING_INSPECTION || RECOMMENDATION_NOT_READY")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = ProfilePageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN"),
+            @ApiResponse(responseCode = "404", description = "NOT FOUND"),
+            @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
+            @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
+    })
+    @GetMapping("/team/recommendation")
+    public ResponseEntity<DefaultMultiResponse<Object>> findRecommendedUsers(
+            @RequestHeader(value = AUTHORIZATION, required = false) String authorization,
+            @RequestParam(value = "position", required = false, defaultValue = "NONE")
+            @Pattern(regexp = "^(DESIGNER|BACKEND|FRONTEND|MANAGER|NONE)",
+                    message = "포지션은 'DESIGNER', 'BACKEND', 'FRONTEND', 'MANAGER', 또는 'NONE' 중 하나여야 됩니다.")
+            String position,
+            @RequestParam(value = "page-from", required = false, defaultValue = "0")
+            @PositiveOrZero(message = "페이지 시작점은 0 또는 양수만 가능합니다.")
+            Long pageFrom,
+            @RequestParam(value = "page-size", required = false, defaultValue = "20")
+            @Positive(message = "페이지 사이즈는 양수만 가능합니다.")
+            @Max(value = 100, message = "페이지 사이즈는 100까지의 수만 가능합니다.")
+            Integer pageSize
+    ) {
+        long userId = jwtProvider.getUserId(authorization);
+
+        PageData<List<ProfilePageResponse>> responses = teamService.findPageRecommendedUser(userId,
+                Position.valueOf(position), pageFrom, pageSize);
+
+        return ResponseEntity.status(TEAM_RECOMMENDATIONS_FOUND.getHttpStatus())
+                .body(DefaultMultiResponse.multiDataBuilder()
+                        .responseCode(TEAM_RECOMMENDATIONS_FOUND.name())
+                        .responseMessage(TEAM_RECOMMENDATIONS_FOUND.getMessage())
+                        .responseData(responses)
+                        .build());
+    }
+
     @ApiOperation(value = "팀원 모집 여부 업데이트",
             notes = "<응답 코드>\n" +
                     "- 200 = TEAM_IS_RECRUITING_UPDATED\n" +
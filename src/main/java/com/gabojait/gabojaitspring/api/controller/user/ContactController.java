@@ -33,6 +33,7 @@ public class ContactController {
                     "- 201 = VERIFICATION_CODE_SENT\n" +
                     "- 400 = EMAIL_FIELD_REQUIRED || EMAIL_FORMAT_INVALID\n" +
                     "- 409 = EXISTING_CONTACT\n" +
+                    "- 429 = REQUEST_LIMIT_EXCEEDED\n" +
                     "- 500 = SERVER_ERROR || EMAIL_SEND_ERROR\n" +
                     "- 503 = ONGOING_INSPECTION")
     @ApiResponses(value = {
@@ -40,6 +41,7 @@ public class ContactController {
                     content = @Content(schema = @Schema(implementation = Object.class))),
             @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
             @ApiResponse(responseCode = "409", description = "CONFLICT"),
+            @ApiResponse(responseCode = "429", description = "TOO MANY REQUESTS"),
             @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
             @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
     })
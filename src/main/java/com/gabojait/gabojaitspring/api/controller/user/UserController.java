@@ -117,7 +117,7 @@ public class UserController {
                     "- 409 = UNAVAILABLE_USERNAME || EXISTING_USERNAME || UNAVAILABLE_NICKNAME || " +
                     "EXISTING_NICKNAME || EXISTING_CONTACT\n" +
                     "- 500 = SERVER_ERROR\n" +
-                    "- 503 = ONGOING_INSPECTION")
+                    "- 503 = ONGOING_INSPECTION || SERVER_OVERLOADED")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "CREATED",
                     content = @Content(schema = @Schema(implementation = UserRegisterResponse.class))),
@@ -148,14 +148,16 @@ public class UserController {
                     "- 200 = USER_LOGIN\n" +
                     "- 400 = USERNAME_FIELD_REQUIRED || PASSWORD_FIELD_REQUIRED\n" +
                     "- 401 = LOGIN_UNAUTHENTICATED\n" +
-                    "- 404 = USER_NOT_FOUND" +
+                    "- 404 = USER_NOT_FOUND\n" +
+                    "- 429 = REQUEST_LIMIT_EXCEEDED\n" +
                     "- 500 = SERVER_ERROR\n" +
-                    "- 503 = ONGOING_INSPECTION")
+                    "- 503 = ONGOING_INSPECTION || SERVER_OVERLOADED")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(schema = @Schema(implementation = UserLoginResponse.class))),
             @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
             @ApiResponse(responseCode = "401", description = "UNAUTHORIZED"),
+            @ApiResponse(responseCode = "429", description = "TOO MANY REQUESTS"),
             @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
             @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
     })
@@ -198,6 +200,7 @@ public class UserController {
         long userId = jwtProvider.getUserId(authorization);
 
         userService.logout(userId, request.getFcmToken());
+        jwtProvider.revokeJwt(authorization);
 
         return ResponseEntity.status(USER_LOGOUT.getHttpStatus())
                 .body(DefaultNoResponse.noDataBuilder()
@@ -263,9 +266,9 @@ public class UserController {
                                                         @RequestBody @Valid UserRenewTokenRequest request) {
         long userId = jwtProvider.getUserId(refreshToken);
 
-        userService.updateFcmToken(userId, request.getFcmToken(), LocalDateTime.now());
+        HttpHeaders headers = jwtProvider.renewJwt(refreshToken);
 
-        HttpHeaders headers = jwtProvider.createJwt(userId);
+        userService.updateFcmToken(userId, request.getFcmToken(), LocalDateTime.now());
 
         return ResponseEntity.status(TOKEN_RENEWED.getHttpStatus())
                 .headers(headers)
@@ -280,6 +283,7 @@ public class UserController {
                     "- 200 = USERNAME_EMAIL_SENT\n" +
                     "- 400 = EMAIL_FIELD_REQUIRED || EMAIL_FORMAT_INVALID\n" +
                     "- 404 = CONTACT_NOT_FOUND\n" +
+                    "- 429 = REQUEST_LIMIT_EXCEEDED\n" +
                     "- 500 = SERVER_ERROR || EMAIL_SEND_ERROR\n" +
                     "- 503 = ONGOING_INSPECTION")
     @ApiResponses(value = {
@@ -287,6 +291,7 @@ public class UserController {
                     content = @Content(schema = @Schema(implementation = Object.class))),
             @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
             @ApiResponse(responseCode = "404", description = "NOT FOUND"),
+            @ApiResponse(responseCode = "429", description = "TOO MANY REQUESTS"),
             @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
             @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
     })
@@ -307,6 +312,7 @@ public class UserController {
                     "- 400 = EMAIL_FIELD_REQUIRED || USERNAME_FIELD_REQUIRED || EMAIL_FORMAT_INVALID || " +
                     "USERNAME_EMAIL_MATCH_INVALID\n" +
                     "- 404 = USER_NOT_FOUND\n" +
+                    "- 429 = REQUEST_LIMIT_EXCEEDED\n" +
                     "- 500 = SERVER_ERROR || EMAIL_SEND_ERROR\n" +
                     "- 503 = ONGOING_INSPECTION")
     @ApiResponses(value = {
@@ -314,6 +320,7 @@ public class UserController {
                     content = @Content(schema = @Schema(implementation = Object.class))),
             @ApiResponse(responseCode = "400", description = "BAD REQUEST"),
             @ApiResponse(responseCode = "404", description = "NOT FOUND"),
+            @ApiResponse(responseCode = "429", description = "TOO MANY REQUESTS"),
             @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR"),
             @ApiResponse(responseCode = "503", description = "SERVICE UNAVAILABLE")
     })
@@ -336,7 +343,7 @@ public class UserController {
                     "- 403 = TOKEN_UNAUTHORIZED\n" +
                     "- 404 = USER_NOT_FOUND\n" +
                     "- 500 = SERVER_ERROR\n" +
-                    "- 503 = ONGOING_INSPECTION")
+                    "- 503 = ONGOING_INSPECTION || SERVER_OVERLOADED")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(schema = @Schema(implementation = Object.class))),
@@ -407,7 +414,7 @@ public class UserController {
                     "- 403 = TOKEN_UNAUTHORIZED\n" +
                     "- 404 = USER_NOT_FOUND\n" +
                     "- 500 = SERVER_ERROR\n" +
-                    "- 503 = ONGOING_INSPECTION")
+                    "- 503 = ONGOING_INSPECTION || SERVER_OVERLOADED")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(schema = @Schema(implementation = Object.class))),
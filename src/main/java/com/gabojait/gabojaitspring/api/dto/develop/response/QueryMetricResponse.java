@@ -0,0 +1,46 @@
+package com.gabojait.gabojaitspring.api.dto.develop.response;
+
+import com.gabojait.gabojaitspring.common.log.QueryStatistics;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@ApiModel(value = "쿼리 지표 응답")
+public class QueryMetricResponse {
+
+    @ApiModelProperty(position = 1, required = true, value = "엔드포인트")
+    private String endpoint;
+
+    @ApiModelProperty(position = 2, required = true, value = "요청 수")
+    private Long requestCnt;
+
+    @ApiModelProperty(position = 3, required = true, value = "쿼리 수")
+    private Long statementCnt;
+
+    @ApiModelProperty(position = 4, required = true, value = "요청당 평균 쿼리 수")
+    private Double avgStatementCnt;
+
+    @ApiModelProperty(position = 5, required = true, value = "요청당 최대 쿼리 수")
+    private Long maxStatementCnt;
+
+    @ApiModelProperty(position = 6, required = true, value = "요청당 평균 쿼리 시간(ms)")
+    private Double avgElapsedTime;
+
+    @ApiModelProperty(position = 7, required = true, value = "쿼리 예산 초과 수")
+    private Long exceededCnt;
+
+    public QueryMetricResponse(QueryStatistics statistics) {
+        long requestCnt = statistics.getRequestCnt();
+
+        this.endpoint = statistics.getEndpoint();
+        this.requestCnt = requestCnt;
+        this.statementCnt = statistics.getStatementCnt();
+        this.avgStatementCnt = requestCnt == 0 ? 0 : (double) statementCnt / requestCnt;
+        this.maxStatementCnt = statistics.getMaxStatementCnt();
+        this.avgElapsedTime = requestCnt == 0 ? 0 : (double) statistics.getElapsedMillis() / requestCnt;
+        this.exceededCnt = statistics.getExceededCnt();
+    }
+}
@@ -60,7 +60,7 @@ public class FavoriteUserPageResponse {
         this.position = user.getPosition();
         this.reviewCnt = user.getReviewCnt();
         this.rating = user.getRating();
-        this.imageUrl = user.getImageUrl();
+        this.imageUrl = user.getListImageUrl();
 
         this.skills = skills.stream()
                 .map(FavoriteSkillResponse::new)
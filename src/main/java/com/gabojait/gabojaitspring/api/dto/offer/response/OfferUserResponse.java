@@ -54,7 +54,7 @@ public class OfferUserResponse {
         this.position = user.getPosition();
         this.reviewCnt = user.getReviewCnt();
         this.rating = user.getRating();
-        this.imageUrl = user.getImageUrl();
+        this.imageUrl = user.getListImageUrl();
 
         this.skills = skills.stream()
                 .map(OfferSkillResponse::new)
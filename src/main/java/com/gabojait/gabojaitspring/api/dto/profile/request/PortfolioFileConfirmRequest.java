@@ -0,0 +1,27 @@
+package com.gabojait.gabojaitspring.api.dto.profile.request;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ApiModel(value = "포트폴리오 파일 업로드 확인 요청")
+public class PortfolioFileConfirmRequest {
+
+    @ApiModelProperty(position = 1, required = true, value = "파일명", example = "0f8fad5b-d9cb-469f-a165-70867728950e")
+    @NotBlank(message = "파일명은 필수 입력입니다.")
+    @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$",
+            message = "파일명은 발급받은 파일명 형식만 가능합니다.")
+    private String fileName;
+
+    @Builder
+    private PortfolioFileConfirmRequest(String fileName) {
+        this.fileName = fileName;
+    }
+}
@@ -0,0 +1,33 @@
+package com.gabojait.gabojaitspring.api.dto.profile.request;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ApiModel(value = "포트폴리오 파일 업로드 URL 요청")
+public class PortfolioFileUploadUrlRequest {
+
+    @ApiModelProperty(position = 1, required = true, value = "파일 타입", example = "application/pdf",
+            allowableValues = "application/pdf, image/jpeg, image/jpg, image/png")
+    @NotBlank(message = "파일 타입은 필수 입력입니다.")
+    private String contentType;
+
+    @ApiModelProperty(position = 2, required = true, value = "파일 크기", example = "1048576")
+    @NotNull(message = "파일 크기는 필수 입력입니다.")
+    @Positive(message = "파일 크기는 양수만 가능합니다.")
+    private Long fileSize;
+
+    @Builder
+    private PortfolioFileUploadUrlRequest(String contentType, Long fileSize) {
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+    }
+}
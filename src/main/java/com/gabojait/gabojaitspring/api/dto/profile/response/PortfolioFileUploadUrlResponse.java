@@ -0,0 +1,23 @@
+package com.gabojait.gabojaitspring.api.dto.profile.response;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@ApiModel(value = "포트폴리오 파일 업로드 URL 응답")
+public class PortfolioFileUploadUrlResponse {
+
+    @ApiModelProperty(position = 1, required = true, value = "업로드 URL")
+    private String uploadUrl;
+
+    @ApiModelProperty(position = 2, required = true, value = "파일명")
+    private String fileName;
+
+    public PortfolioFileUploadUrlResponse(String uploadUrl, String fileName) {
+        this.uploadUrl = uploadUrl;
+        this.fileName = fileName;
+    }
+}
@@ -2,7 +2,6 @@ package com.gabojait.gabojaitspring.api.dto.profile.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.gabojait.gabojaitspring.api.vo.profile.ProfileVO;
-import com.gabojait.gabojaitspring.domain.profile.Skill;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import com.gabojait.gabojaitspring.domain.user.User;
 import io.swagger.annotations.ApiModel;
@@ -12,8 +11,6 @@ import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Getter
 @ToString
@@ -77,7 +74,7 @@ public class ProfileFindMyselfResponse {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private LocalDateTime updatedAt;
 
-    public ProfileFindMyselfResponse(User user, List<Skill> skills, ProfileVO profile) {
+    public ProfileFindMyselfResponse(User user, ProfileVO profile) {
         this.userId = user.getId();
         this.nickname = user.getNickname();
         this.position = user.getPosition();
@@ -87,36 +84,14 @@ public class ProfileFindMyselfResponse {
         this.profileDescription = user.getProfileDescription();
         this.isSeekingTeam = user.getIsSeekingTeam();
 
-        this.skills = skills.stream()
-                .map(SkillResponse::new)
-                .collect(Collectors.toList());
-        this.educations = profile.getEducations().stream()
-                .map(EducationResponse::new)
-                .collect(Collectors.toList());
-        this.portfolios = profile.getPortfolios().stream()
-                .map(PortfolioResponse::new)
-                .collect(Collectors.toList());
-        this.works = profile.getWorks().stream()
-                .map(WorkResponse::new)
-                .collect(Collectors.toList());
-
-        this.completedTeams = profile.getTeamMembers().stream()
-                .filter(tm -> tm.getTeam().getCompletedAt() != null)
-                .map(ProfileTeamResponse::new)
-                .collect(Collectors.toList());
-        this.isLeader = false;
-        profile.getTeamMembers().stream()
-                .filter(tm -> tm.getTeam().getCompletedAt() == null)
-                .findFirst()
-                .ifPresent(tm -> {
-                    this.currentTeam = new ProfileTeamResponse(tm);
-                    this.isLeader = tm.getIsLeader();
-                });
-
-        this.reviews = IntStream.range(0, profile.getReviews().getData().size())
-                .mapToObj(i ->
-                        new ProfileReviewResponse(profile.getReviews().getData().get(i), (int) (profile.getReviewCnt() - i))
-                ).collect(Collectors.toList());
+        this.skills = profile.getSkills();
+        this.educations = profile.getEducations();
+        this.portfolios = profile.getPortfolios();
+        this.works = profile.getWorks();
+        this.completedTeams = profile.getCompletedTeams();
+        this.currentTeam = profile.getCurrentTeam();
+        this.isLeader = profile.getIsLeader();
+        this.reviews = profile.getReviews();
 
         this.createdAt = user.getCreatedAt();
         this.updatedAt = user.getUpdatedAt();
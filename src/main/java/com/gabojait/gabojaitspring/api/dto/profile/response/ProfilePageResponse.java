@@ -58,7 +58,7 @@ public class ProfilePageResponse {
         this.position = user.getPosition();
         this.reviewCnt = user.getReviewCnt();
         this.rating = user.getRating();
-        this.imageUrl = user.getImageUrl();
+        this.imageUrl = user.getListImageUrl();
 
         this.skills = skills.stream()
                 .map(SkillResponse::new)
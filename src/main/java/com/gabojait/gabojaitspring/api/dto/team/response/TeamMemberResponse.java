@@ -28,11 +28,15 @@ public class TeamMemberResponse {
     @ApiModelProperty(position = 5, required = true, value = "리더 여부")
     private Boolean isLeader;
 
+    @ApiModelProperty(position = 6, value = "프로필 사진")
+    private String imageUrl;
+
     public TeamMemberResponse(TeamMember teamMember) {
         this.userId = teamMember.getUser().getId();
         this.username = teamMember.getUser().getUsername();
         this.nickname = teamMember.getUser().getNickname();
         this.position = teamMember.getPosition();
         this.isLeader = teamMember.getIsLeader();
+        this.imageUrl = teamMember.getUser().getListImageUrl();
     }
 }
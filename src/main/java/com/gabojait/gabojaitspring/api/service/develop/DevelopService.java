@@ -1,6 +1,9 @@
 package com.gabojait.gabojaitspring.api.service.develop;
 
+import com.gabojait.gabojaitspring.api.dto.develop.response.QueryMetricResponse;
+import com.gabojait.gabojaitspring.common.log.QueryBudgetInterceptor;
 import com.gabojait.gabojaitspring.common.util.PasswordUtility;
+import com.gabojait.gabojaitspring.config.auth.UserDetailsCache;
 import com.gabojait.gabojaitspring.domain.profile.*;
 import com.gabojait.gabojaitspring.domain.review.Review;
 import com.gabojait.gabojaitspring.domain.team.Team;
@@ -32,8 +35,13 @@ import javax.persistence.PersistenceContext;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.TESTER_NOT_FOUND;
 
@@ -62,6 +70,8 @@ public class DevelopService {
     private final NotificationRepository notificationRepository;
     private final FcmRepository fcmRepository;
     private final FavoriteRepository favoriteRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
 
     /**
      * 서버명 조회
@@ -83,6 +93,19 @@ public class DevelopService {
         return user.getUsername();
     }
 
+    /**
+     * 엔드포인트별 쿼리 지표 전체 조회 |
+     * 요청당 평균 쿼리 수 내림차순으로 정렬한다.
+     * @return 쿼리 지표 응답들
+     */
+    public List<QueryMetricResponse> findQueryMetrics() {
+        return queryBudgetInterceptor.getStatistics()
+                .stream()
+                .map(QueryMetricResponse::new)
+                .sorted(Comparator.comparing(QueryMetricResponse::getAvgStatementCnt).reversed())
+                .collect(Collectors.toList());
+    }
+
     /**
      * 데이터베이스 초기화 및 테스트 데이터 주입
      */
@@ -229,6 +252,7 @@ public class DevelopService {
     @Transactional
     public void injectCompleteTeams(List<User> users) {
         List<TeamMember> teamMembers = new ArrayList<>();
+        Map<Long, IntSummaryStatistics> ratings = new HashMap<>();
         for (int i = 0; i < 25; i += 5) {
             Team team = Team.builder()
                     .projectName("가볼까잇" + (i + 1))
@@ -267,8 +291,12 @@ public class DevelopService {
                             .post("열정적인 팀원이였습니다.")
                             .build();
                     reviewRepository.save(review);
+                    ratings.computeIfAbsent(users.get(j).getId(), id -> new IntSummaryStatistics())
+                            .accept(review.getRating());
                 }
         }
+
+        userRepository.incrementRatings(ratings);
     }
 
     /**
@@ -317,6 +345,7 @@ public class DevelopService {
         entityManager.createNativeQuery("DELETE FROM team_member").executeUpdate();
         entityManager.createNativeQuery("DELETE FROM team").executeUpdate();
         entityManager.createNativeQuery("DELETE FROM user_role").executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM refresh_token_family").executeUpdate();
         entityManager.createNativeQuery("DELETE FROM users").executeUpdate();
         entityManager.createNativeQuery("DELETE FROM contact").executeUpdate();
 
@@ -332,8 +361,11 @@ public class DevelopService {
         entityManager.createNativeQuery("ALTER TABLE team_member AUTO_INCREMENT = 1").executeUpdate();
         entityManager.createNativeQuery("ALTER TABLE team AUTO_INCREMENT = 1").executeUpdate();
         entityManager.createNativeQuery("ALTER TABLE user_role AUTO_INCREMENT = 1").executeUpdate();
+        entityManager.createNativeQuery("ALTER TABLE refresh_token_family AUTO_INCREMENT = 1").executeUpdate();
         entityManager.createNativeQuery("ALTER TABLE users AUTO_INCREMENT = 1").executeUpdate();
         entityManager.createNativeQuery("ALTER TABLE contact AUTO_INCREMENT = 1").executeUpdate();
+
+        userDetailsCache.evictAll();
     }
 
     /**
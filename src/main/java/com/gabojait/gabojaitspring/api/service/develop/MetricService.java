@@ -0,0 +1,239 @@
+package com.gabojait.gabojaitspring.api.service.develop;
+
+import com.gabojait.gabojaitspring.common.log.LatencyInterceptor;
+import com.gabojait.gabojaitspring.common.log.QueryBudgetInterceptor;
+import com.gabojait.gabojaitspring.common.log.QueryStatistics;
+import com.gabojait.gabojaitspring.common.util.ImageUtility;
+import com.gabojait.gabojaitspring.common.util.LatencyHistogram;
+import com.gabojait.gabojaitspring.common.util.PageCountUtility;
+import com.gabojait.gabojaitspring.common.util.ParallelQueryUtility;
+import com.gabojait.gabojaitspring.common.util.ProfileCacheUtility;
+import com.gabojait.gabojaitspring.common.util.PasswordUtility;
+import com.gabojait.gabojaitspring.config.AsyncConfig;
+import com.gabojait.gabojaitspring.config.auth.UserDetailsCache;
+import com.gabojait.gabojaitspring.config.metric.HikariMetrics;
+import com.gabojait.gabojaitspring.config.ratelimit.RateLimitFilter;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.*;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 지표 서비스 |
+ * 수집된 지표를 Prometheus 텍스트 형식으로 변환한다.
+ * 지연 시간은 서버 시작 이후 누적 값이며 백분위는 summary의 quantile로 내보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricService {
+
+    private static final double[] quantiles = { 0.5, 0.95, 0.99 };
+
+    private final LatencyInterceptor latencyInterceptor;
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+    private final HikariMetrics hikariMetrics;
+    private final AsyncConfig asyncConfig;
+    private final PasswordUtility passwordUtility;
+    private final ParallelQueryUtility parallelQueryUtility;
+    private final ImageUtility imageUtility;
+    private final RateLimitFilter rateLimitFilter;
+    private final UserDetailsCache userDetailsCache;
+    private final PageCountUtility pageCountUtility;
+    private final ProfileCacheUtility profileCacheUtility;
+
+    /**
+     * 지표 전체 조회
+     * @return Prometheus 텍스트 형식 지표
+     */
+    public String scrape() {
+        StringBuilder sb = new StringBuilder(4096);
+
+        writeHttp(sb);
+        writeQuery(sb);
+        writeHikari(sb);
+        writeExecutor(sb);
+        writeJvm(sb);
+        writeSecurity(sb);
+
+        return sb.toString();
+    }
+
+    private void writeHttp(StringBuilder sb) {
+        Map<String, LatencyHistogram> histograms = new TreeMap<>(latencyInterceptor.getHistograms());
+
+        header(sb, "http_server_requests_seconds", "summary", "Handler latency since startup");
+        histograms.forEach((endpoint, histogram) ->
+                summary(sb, "http_server_requests_seconds", endpointLabels(endpoint), histogram));
+
+        header(sb, "http_server_requests_seconds_max", "gauge", "Maximum handler latency since startup");
+        histograms.forEach((endpoint, histogram) ->
+                sample(sb, "http_server_requests_seconds_max", endpointLabels(endpoint),
+                        seconds(histogram.getMaxNanos())));
+    }
+
+    private void writeQuery(StringBuilder sb) {
+        Map<String, QueryStatistics> statistics = new TreeMap<>();
+        queryBudgetInterceptor.getStatistics().forEach(s -> statistics.put(s.getEndpoint(), s));
+
+        header(sb, "sql_statements_total", "counter", "SQL statements executed per endpoint");
+        statistics.forEach((endpoint, s) ->
+                sample(sb, "sql_statements_total", endpointLabels(endpoint), s.getStatementCnt()));
+
+        header(sb, "sql_statements_seconds_total", "counter", "SQL execution time per endpoint");
+        statistics.forEach((endpoint, s) ->
+                sample(sb, "sql_statements_seconds_total", endpointLabels(endpoint), s.getElapsedMillis() / 1000.0));
+
+        header(sb, "sql_statements_max", "gauge", "Maximum SQL statements in a single request");
+        statistics.forEach((endpoint, s) ->
+                sample(sb, "sql_statements_max", endpointLabels(endpoint), s.getMaxStatementCnt()));
+
+        header(sb, "sql_budget_exceeded_total", "counter", "Requests over the SQL statement budget");
+        statistics.forEach((endpoint, s) ->
+                sample(sb, "sql_budget_exceeded_total", endpointLabels(endpoint), s.getExceededCnt()));
+
+        header(sb, "page_count_cache_requests_total", "counter", "Page total count cache lookups");
+        sample(sb, "page_count_cache_requests_total", "result=\"hit\"", pageCountUtility.getHitCnt());
+        sample(sb, "page_count_cache_requests_total", "result=\"miss\"", pageCountUtility.getMissCnt());
+
+        header(sb, "profile_cache_requests_total", "counter", "Profile read model cache lookups");
+        sample(sb, "profile_cache_requests_total", "result=\"hit\"", profileCacheUtility.getHitCnt());
+        sample(sb, "profile_cache_requests_total", "result=\"miss\"", profileCacheUtility.getMissCnt());
+    }
+
+    private void writeHikari(StringBuilder sb) {
+        PoolStats poolStats = hikariMetrics.getPoolStats();
+
+        if (poolStats != null) {
+            header(sb, "hikaricp_connections", "gauge", "Connections by state");
+            sample(sb, "hikaricp_connections", "state=\"active\"", poolStats.getActiveConnections());
+            sample(sb, "hikaricp_connections", "state=\"idle\"", poolStats.getIdleConnections());
+            sample(sb, "hikaricp_connections", "state=\"total\"", poolStats.getTotalConnections());
+            sample(sb, "hikaricp_connections", "state=\"max\"", poolStats.getMaxConnections());
+
+            header(sb, "hikaricp_connections_pending", "gauge", "Threads waiting for a connection");
+            sample(sb, "hikaricp_connections_pending", "", poolStats.getPendingThreads());
+        }
+
+        header(sb, "hikaricp_connections_acquire_seconds", "summary", "Connection acquire wait time");
+        summary(sb, "hikaricp_connections_acquire_seconds", "", hikariMetrics.getAcquireHistogram());
+
+        header(sb, "hikaricp_connections_usage_seconds", "summary", "Connection borrowed time");
+        summary(sb, "hikaricp_connections_usage_seconds", "", hikariMetrics.getUsageHistogram());
+
+        header(sb, "hikaricp_connections_timeout_total", "counter", "Connection acquire timeouts");
+        sample(sb, "hikaricp_connections_timeout_total", "", hikariMetrics.getTimeoutCnt());
+    }
+
+    private void writeExecutor(StringBuilder sb) {
+        header(sb, "executor_queued_tasks", "gauge", "Tasks waiting in the executor queue");
+        sample(sb, "executor_queued_tasks", "name=\"async\"", asyncConfig.getQueueSize());
+        sample(sb, "executor_queued_tasks", "name=\"password\"", passwordUtility.getQueueSize());
+        sample(sb, "executor_queued_tasks", "name=\"query\"", parallelQueryUtility.getQueueSize());
+        sample(sb, "executor_queued_tasks", "name=\"thumbnail\"", imageUtility.getQueueSize());
+
+        header(sb, "executor_active_threads", "gauge", "Threads running tasks");
+        sample(sb, "executor_active_threads", "name=\"async\"", asyncConfig.getActiveCnt());
+        sample(sb, "executor_active_threads", "name=\"password\"", passwordUtility.getActiveCnt());
+        sample(sb, "executor_active_threads", "name=\"query\"", parallelQueryUtility.getActiveCnt());
+        sample(sb, "executor_active_threads", "name=\"thumbnail\"", imageUtility.getActiveCnt());
+
+        header(sb, "executor_pool_size_threads", "gauge", "Threads in the pool");
+        sample(sb, "executor_pool_size_threads", "name=\"async\"", asyncConfig.getPoolSize());
+
+        header(sb, "executor_rejected_tasks_total", "counter", "Tasks rejected by the executor");
+        sample(sb, "executor_rejected_tasks_total", "name=\"password\"", passwordUtility.getRejectedCnt());
+        sample(sb, "executor_rejected_tasks_total", "name=\"query\"", parallelQueryUtility.getRejectedCnt());
+        sample(sb, "executor_rejected_tasks_total", "name=\"thumbnail\"", imageUtility.getRejectedCnt());
+
+        header(sb, "executor_timed_out_tasks_total", "counter", "Tasks that missed their deadline");
+        sample(sb, "executor_timed_out_tasks_total", "name=\"query\"", parallelQueryUtility.getTimeoutCnt());
+
+        header(sb, "executor_failed_tasks_total", "counter", "Tasks that threw an exception");
+        sample(sb, "executor_failed_tasks_total", "name=\"thumbnail\"", imageUtility.getFailedCnt());
+    }
+
+    private void writeJvm(StringBuilder sb) {
+        header(sb, "jvm_gc_collection_seconds_count", "counter", "GC collections");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            sample(sb, "jvm_gc_collection_seconds_count", label("gc", gc.getName()), gc.getCollectionCount());
+
+        header(sb, "jvm_gc_collection_seconds_sum", "counter", "GC collection time");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            sample(sb, "jvm_gc_collection_seconds_sum", label("gc", gc.getName()), gc.getCollectionTime() / 1000.0);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        MemoryUsage nonHeap = memory.getNonHeapMemoryUsage();
+
+        header(sb, "jvm_memory_used_bytes", "gauge", "Used memory");
+        sample(sb, "jvm_memory_used_bytes", "area=\"heap\"", heap.getUsed());
+        sample(sb, "jvm_memory_used_bytes", "area=\"nonheap\"", nonHeap.getUsed());
+
+        header(sb, "jvm_memory_committed_bytes", "gauge", "Committed memory");
+        sample(sb, "jvm_memory_committed_bytes", "area=\"heap\"", heap.getCommitted());
+        sample(sb, "jvm_memory_committed_bytes", "area=\"nonheap\"", nonHeap.getCommitted());
+
+        header(sb, "jvm_memory_max_bytes", "gauge", "Max memory");
+        sample(sb, "jvm_memory_max_bytes", "area=\"heap\"", heap.getMax());
+
+        ThreadMXBean thread = ManagementFactory.getThreadMXBean();
+        header(sb, "jvm_threads_live_threads", "gauge", "Live threads");
+        sample(sb, "jvm_threads_live_threads", "", thread.getThreadCount());
+    }
+
+    private void writeSecurity(StringBuilder sb) {
+        header(sb, "rate_limit_buckets", "gauge", "Active rate limit buckets");
+        sample(sb, "rate_limit_buckets", "", rateLimitFilter.getBucketSize());
+
+        header(sb, "user_details_cache_size", "gauge", "Cached user details");
+        sample(sb, "user_details_cache_size", "", userDetailsCache.getSize());
+
+        header(sb, "user_details_cache_requests_total", "counter", "User details cache lookups");
+        sample(sb, "user_details_cache_requests_total", "result=\"hit\"", userDetailsCache.getHitCnt());
+        sample(sb, "user_details_cache_requests_total", "result=\"miss\"", userDetailsCache.getMissCnt());
+
+        header(sb, "user_details_cache_evictions_total", "counter", "User details cache evictions");
+        sample(sb, "user_details_cache_evictions_total", "", userDetailsCache.getEvictionCnt());
+    }
+
+    private void summary(StringBuilder sb, String name, String labels, LatencyHistogram histogram) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+
+        for (double quantile : quantiles)
+            sample(sb, name, prefix + "quantile=\"" + quantile + "\"",
+                    seconds(histogram.getPercentileNanos(quantile)));
+        sample(sb, name + "_count", labels, histogram.getCount());
+        sample(sb, name + "_sum", labels, seconds(histogram.getSumNanos()));
+    }
+
+    private void header(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private void sample(StringBuilder sb, String name, String labels, double value) {
+        sb.append(name);
+        if (!labels.isEmpty())
+            sb.append('{').append(labels).append('}');
+        sb.append(' ').append(value).append('\n');
+    }
+
+    private String endpointLabels(String endpoint) {
+        int delimiter = endpoint.indexOf(' ');
+
+        return label("method", endpoint.substring(0, delimiter)) + "," + label("uri", endpoint.substring(delimiter + 1));
+    }
+
+    private String label(String name, String value) {
+        String escaped = value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+
+        return name + "=\"" + escaped + "\"";
+    }
+
+    private double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+}
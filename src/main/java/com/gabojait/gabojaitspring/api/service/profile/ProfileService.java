@@ -5,7 +5,12 @@ import com.gabojait.gabojaitspring.api.dto.profile.response.*;
 import com.gabojait.gabojaitspring.api.vo.profile.ProfileVO;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
 import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.common.util.CollectionDiff;
 import com.gabojait.gabojaitspring.common.util.FileUtility;
+import com.gabojait.gabojaitspring.common.util.ImageUtility;
+import com.gabojait.gabojaitspring.common.util.ParallelQueryUtility;
+import com.gabojait.gabojaitspring.common.util.ProfileCacheUtility;
+import com.gabojait.gabojaitspring.common.util.VisitCountUtility;
 import com.gabojait.gabojaitspring.domain.offer.Offer;
 import com.gabojait.gabojaitspring.domain.profile.*;
 import com.gabojait.gabojaitspring.domain.review.Review;
@@ -16,18 +21,27 @@ import com.gabojait.gabojaitspring.repository.favorite.FavoriteRepository;
 import com.gabojait.gabojaitspring.repository.offer.OfferRepository;
 import com.gabojait.gabojaitspring.repository.profile.EducationRepository;
 import com.gabojait.gabojaitspring.repository.profile.PortfolioRepository;
+import com.gabojait.gabojaitspring.repository.profile.SkillIndex;
 import com.gabojait.gabojaitspring.repository.profile.SkillRepository;
 import com.gabojait.gabojaitspring.repository.profile.WorkRepository;
 import com.gabojait.gabojaitspring.repository.review.ReviewRepository;
 import com.gabojait.gabojaitspring.repository.team.TeamMemberRepository;
+import com.gabojait.gabojaitspring.repository.team.TeamRecommendationIndex;
 import com.gabojait.gabojaitspring.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.annotation.PreDestroy;
+
 import java.util.*;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.*;
@@ -43,6 +57,12 @@ public class ProfileService {
     @Value(value = "${s3.bucket.portfolio-file}")
     private String portfolioBucketName;
 
+    @Value(value = "${api.skill.index.batch-size}")
+    private int skillIndexBatchSize;
+
+    @Value(value = "${api.skill.search.chunk-size}")
+    private int skillSearchChunkSize;
+
     private final EducationRepository educationRepository;
     private final PortfolioRepository portfolioRepository;
     private final SkillRepository skillRepository;
@@ -53,34 +73,43 @@ public class ProfileService {
     private final OfferRepository offerRepository;
     private final FavoriteRepository favoriteRepository;
     private final FileUtility fileUtility;
+    private final ImageUtility imageUtility;
+    private final ProfileCacheUtility profileCacheUtility;
+    private final ParallelQueryUtility parallelQueryUtility;
+    private final VisitCountUtility visitCountUtility;
+    private final SkillIndex skillIndex;
+    private final TeamRecommendationIndex teamRecommendationIndex;
 
     /**
      * 내 프로필 조회 |
+     * 병렬 조회를 기다리는 동안 커넥션을 점유하지 않도록 트랜잭션 없이 프로필을 먼저 조회한 후 회원을 조회한다.
      * 404(USER_NOT_FOUND)
+     * 503(SERVER_OVERLOADED)
      * @param userId 회원 식별자
      * @return 프로필 본인 조회 응답
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProfileFindMyselfResponse findMyProfile(long userId) {
-        User user = findUser(userId);
-        List<Skill> skills = skillRepository.findAll(user.getId());
-        ProfileVO profile = findProfileInfo(user);
+        ProfileVO profile = findProfileInfoConcurrently(userId);
+        User user = findProfileUser(userId);
 
-        return new ProfileFindMyselfResponse(user, skills, profile);
+        return new ProfileFindMyselfResponse(user, profile);
     }
 
     /**
      * 다른 프로필 조회 |
+     * 병렬 조회를 기다리는 동안 커넥션을 점유하지 않도록 트랜잭션 없이 프로필을 먼저 조회한 후 회원을 조회한다.
      * 404(USER_NOT_FOUND)
+     * 503(SERVER_OVERLOADED)
      * @param myUserId 내 회원 아이디
      * @param otherUserId 다른 회원 식별자
      * @return 프로필 단건 조회 응답
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProfileFindOtherResponse findOtherProfile(long myUserId, long otherUserId) {
-        User otherUser = findUser(otherUserId);
+        ProfileVO profile = findProfileInfoConcurrently(otherUserId);
+        User otherUser = findProfileUser(otherUserId);
 
-        List<Skill> skills = skillRepository.findAll(otherUserId);
-        ProfileVO profile = findProfileInfo(otherUser);
         List<Offer> offers = new ArrayList<>();
         Boolean isFavorite = null;
 
@@ -88,14 +117,15 @@ public class ProfileService {
             offers = offerRepository.findAllByUserId(otherUserId, myUserId);
             isFavorite = favoriteRepository.existsUser(myUserId, otherUserId);
 
-            otherUser.visit();
+            visitCountUtility.visitUser(otherUserId);
         }
 
-        return new ProfileFindOtherResponse(otherUser, skills, profile, offers, isFavorite);
+        return new ProfileFindOtherResponse(otherUser, profile, offers, isFavorite);
     }
 
     /**
      * 프로필 이미지 업로드 |
+     * 목록용 썸네일은 커밋 이후 별도 스레드에서 만들어 원본 옆에 저장한다.
      * 400(FILE_FIELD_REQUIRED)
      * 404(USER_NOT_FOUND)
      * 415(IMAGE_TYPE_UNSUPPORTED)
@@ -108,15 +138,36 @@ public class ProfileService {
     public ProfileImageResponse uploadProfileImage(long userId, MultipartFile image) {
         User user = findUser(userId);
 
-        String url = fileUtility.upload(profileImgBucketName, user.getId().toString(), UUID.randomUUID().toString(),
-                image, true);
+        String folderName = user.getId().toString();
+        String fileName = UUID.randomUUID().toString();
+        String url = fileUtility.upload(profileImgBucketName, folderName, fileName, image, true);
+        String contentType = image.getContentType();
 
         user.updateImageUrl(url);
+        imageUtility.submitAfterCommit(() -> createThumbnail(userId, folderName, fileName, contentType, url));
 
-        List<Skill> skills = skillRepository.findAll(user.getId());
         ProfileVO profile = findProfileInfo(user);
 
-        return new ProfileImageResponse(user, skills, profile);
+        return new ProfileImageResponse(user, profile);
+    }
+
+    /**
+     * 프로필 썸네일 생성 |
+     * 원본 이미지를 내려받아 썸네일을 만들고, 그동안 프로필 이미지가 바뀌지 않은 경우에만 회원에 반영한다.
+     * 500(SERVER_ERROR)
+     * @param userId 회원 식별자
+     * @param folderName 폴더명
+     * @param fileName 원본 파일명
+     * @param contentType 원본 이미지 타입
+     * @param url 원본 이미지 주소
+     */
+    private void createThumbnail(long userId, String folderName, String fileName, String contentType, String url) {
+        byte[] thumbnail = imageUtility.resize(fileUtility.download(profileImgBucketName, folderName, fileName),
+                contentType);
+        String thumbnailUrl = fileUtility.upload(profileImgBucketName, folderName, fileName + "_thumbnail", thumbnail,
+                contentType);
+
+        userRepository.updateThumbnailUrl(userId, url, thumbnailUrl);
     }
 
     /**
@@ -131,10 +182,9 @@ public class ProfileService {
 
         user.updateImageUrl(null);
 
-        List<Skill> skills = skillRepository.findAll(user.getId());
         ProfileVO profile = findProfileInfo(user);
 
-        return new ProfileImageResponse(user, skills, profile);
+        return new ProfileImageResponse(user, profile);
     }
 
     /**
@@ -169,150 +219,147 @@ public class ProfileService {
         updatePortfolios(user, request.getPortfolios());
         updateSkills(user, request.getSkills());
         updateWorks(user, request.getWorks());
+        profileCacheUtility.evictUser(user.getId());
 
-        List<Skill> skills = skillRepository.findAll(user.getId());
         ProfileVO profile = findProfileInfo(user);
 
-        return new ProfileUpdateResponse(user, skills, profile);
+        return new ProfileUpdateResponse(user, profile);
     }
 
     /**
      * 학력들 생성 수정 및 삭제 |
+     * 생성은 한번의 배치로, 삭제는 한번의 쿼리로 실행한다.
      * @param user 회원
      * @param requests 학력 업데이트 요청들
      */
     @Transactional
     public void updateEducations(User user, List<EducationUpdateRequest> requests) {
-        List<Education> currentEducations = educationRepository.findAll(user.getId());
-
-        if (requests.isEmpty()) {
-            educationRepository.deleteAll(currentEducations);
-            return;
-        }
-
-        for (EducationUpdateRequest request : requests) {
-            if (request.getEducationId() == null)
-                educationRepository.save(request.toEntity(user));
-            else
-                currentEducations.stream()
-                        .filter(currentEducation -> currentEducation.getId().equals(request.getEducationId()))
-                        .findFirst()
-                        .ifPresent(currentEducation -> {
-                            currentEducations.remove(currentEducation);
-
-                            if (request.hashCode(user) != currentEducation.hashCode())
-                                currentEducation.update(request.getInstitutionName(),
-                                        request.getStartedAt(),
-                                        request.getEndedAt(),
-                                        request.getIsCurrent());
-                        });
+        CollectionDiff<Education, EducationUpdateRequest> diff = CollectionDiff.of(
+                educationRepository.findAll(user.getId()), Education::getId,
+                requests, EducationUpdateRequest::getEducationId);
+
+        for (CollectionDiff.Update<Education, EducationUpdateRequest> update : diff.getUpdates()) {
+            Education currentEducation = update.getCurrent();
+            EducationUpdateRequest request = update.getRequest();
+
+            if (request.hashCode(user) != currentEducation.hashCode())
+                currentEducation.update(request.getInstitutionName(),
+                        request.getStartedAt(),
+                        request.getEndedAt(),
+                        request.getIsCurrent());
         }
 
-        educationRepository.deleteAll(currentEducations);
+        educationRepository.insertAll(diff.getInserts().stream()
+                .map(request -> request.toEntity(user))
+                .collect(Collectors.toList()));
+        if (!diff.getDeletes().isEmpty())
+            educationRepository.deleteAllByIdInBatch(diff.getDeleteIds(Education::getId));
+        if (diff.hasInsertOrDelete())
+            profileCacheUtility.evictUser(user.getId());
     }
 
     /**
-     * 포트폴리오들 생성 수정 및 삭제
+     * 포트폴리오들 생성 수정 및 삭제 |
+     * 생성은 한번의 배치로, 삭제는 한번의 쿼리로 실행한다.
      * @param user 회원
      * @param requests 포트폴리오 업데이트 요청들
      */
     @Transactional
     public void updatePortfolios(User user, List<PortfolioUpdateRequest> requests) {
-        List<Portfolio> currentPortfolios = portfolioRepository.findAll(user.getId());
-
-        if (requests.isEmpty()) {
-            portfolioRepository.deleteAll(currentPortfolios);
-            return;
-        }
-
-        for (PortfolioUpdateRequest request : requests) {
-            if (request.getPortfolioId() == null)
-                portfolioRepository.save(request.toEntity(user));
-            else
-                currentPortfolios.stream()
-                        .filter(currentPortfolio -> request.getPortfolioId().equals(currentPortfolio.getId()))
-                        .findFirst()
-                        .ifPresent(currentPortfolio -> {
-                            currentPortfolios.remove(currentPortfolio);
-
-                            if (request.hashCode(user) != currentPortfolio.hashCode())
-                                currentPortfolio.update(request.getPortfolioName(),
-                                        request.getPortfolioUrl(),
-                                        Media.valueOf(request.getMedia()));
-                        });
+        CollectionDiff<Portfolio, PortfolioUpdateRequest> diff = CollectionDiff.of(
+                portfolioRepository.findAll(user.getId()), Portfolio::getId,
+                requests, PortfolioUpdateRequest::getPortfolioId);
+
+        for (CollectionDiff.Update<Portfolio, PortfolioUpdateRequest> update : diff.getUpdates()) {
+            Portfolio currentPortfolio = update.getCurrent();
+            PortfolioUpdateRequest request = update.getRequest();
+
+            if (request.hashCode(user) != currentPortfolio.hashCode())
+                currentPortfolio.update(request.getPortfolioName(),
+                        request.getPortfolioUrl(),
+                        Media.valueOf(request.getMedia()));
         }
 
-        portfolioRepository.deleteAll(currentPortfolios);
+        portfolioRepository.insertAll(diff.getInserts().stream()
+                .map(request -> request.toEntity(user))
+                .collect(Collectors.toList()));
+        if (!diff.getDeletes().isEmpty())
+            portfolioRepository.deleteAllByIdInBatch(diff.getDeleteIds(Portfolio::getId));
+        if (diff.hasInsertOrDelete())
+            profileCacheUtility.evictUser(user.getId());
     }
 
     /**
-     * 기술들 생성 수정 및 삭제
+     * 기술들 생성 수정 및 삭제 |
+     * 생성은 한번의 배치로, 삭제는 한번의 쿼리로 실행한다.
+     * 남은 기술들로 기술 역색인의 회원 기술을 교체하고, 팀 추천 인덱스의 회원 점수를 다시 계산한다.
      * @param user 회원
      * @param requests 기술 업데이트 요청들
      */
     @Transactional
     public void updateSkills(User user, List<SkillUpdateRequest> requests) {
-        List<Skill> currentSkills = skillRepository.findAll(user.getId());
-
-        if (requests.isEmpty()) {
-            skillRepository.deleteAll(currentSkills);
-            return;
+        CollectionDiff<Skill, SkillUpdateRequest> diff = CollectionDiff.of(
+                skillRepository.findAll(user.getId()), Skill::getId,
+                requests, SkillUpdateRequest::getSkillId);
+        List<Skill> skills = new ArrayList<>();
+
+        for (CollectionDiff.Update<Skill, SkillUpdateRequest> update : diff.getUpdates()) {
+            Skill currentSkill = update.getCurrent();
+            SkillUpdateRequest request = update.getRequest();
+
+            if (request.hashCode(user) != currentSkill.hashCode())
+                currentSkill.update(request.getSkillName(),
+                        Level.valueOf(request.getLevel()),
+                        request.getIsExperienced());
+            skills.add(currentSkill);
         }
 
-        for (SkillUpdateRequest request : requests) {
-            if (request.getSkillId() == null)
-                skillRepository.save(request.toEntity(user));
-            else
-                currentSkills.stream()
-                        .filter(currentSkill -> request.getSkillId().equals(currentSkill.getId()))
-                        .findFirst()
-                        .ifPresent(currentSkill -> {
-                            currentSkills.remove(currentSkill);
-
-                            if (request.hashCode(user) != currentSkill.hashCode())
-                                currentSkill.update(request.getSkillName(),
-                                        Level.valueOf(request.getLevel()),
-                                        request.getIsExperienced());
-                        });
-        }
+        List<Skill> insertedSkills = diff.getInserts().stream()
+                .map(request -> request.toEntity(user))
+                .collect(Collectors.toList());
+        skills.addAll(insertedSkills);
+
+        skillRepository.insertAll(insertedSkills);
+        if (!diff.getDeletes().isEmpty())
+            skillRepository.deleteAllByIdInBatch(diff.getDeleteIds(Skill::getId));
+        if (diff.hasInsertOrDelete())
+            profileCacheUtility.evictUser(user.getId());
 
-        skillRepository.deleteAll(currentSkills);
+        skillIndex.update(user.getId(), skills);
+        teamRecommendationIndex.updateCandidateSkills(user);
     }
 
     /**
-     * 경력들 생성 수정 및 삭제
+     * 경력들 생성 수정 및 삭제 |
+     * 생성은 한번의 배치로, 삭제는 한번의 쿼리로 실행한다.
      * @param user 회원
      * @param requests 경력 업데이트 요청들
      */
     @Transactional
     public void updateWorks(User user, List<WorkUpdateRequest> requests) {
-        List<Work> currentWorks = workRepository.findAll(user.getId());
-
-        if (requests.isEmpty()) {
-            workRepository.deleteAll(currentWorks);
-            return;
+        CollectionDiff<Work, WorkUpdateRequest> diff = CollectionDiff.of(
+                workRepository.findAll(user.getId()), Work::getId,
+                requests, WorkUpdateRequest::getWorkId);
+
+        for (CollectionDiff.Update<Work, WorkUpdateRequest> update : diff.getUpdates()) {
+            Work currentWork = update.getCurrent();
+            WorkUpdateRequest request = update.getRequest();
+
+            if (request.hashCode(user) != currentWork.hashCode())
+                currentWork.update(request.getCorporationName(),
+                        request.getWorkDescription(),
+                        request.getStartedAt(),
+                        request.getEndedAt(),
+                        request.getIsCurrent());
         }
 
-        for (WorkUpdateRequest request : requests) {
-            if (request.getWorkId() == null)
-                workRepository.save(request.toEntity(user));
-            else
-                currentWorks.stream()
-                        .filter(currentWork -> request.getWorkId().equals(currentWork.getId()))
-                        .findFirst()
-                        .ifPresent(currentWork -> {
-                            currentWorks.remove(currentWork);
-
-                            if (request.hashCode(user) != currentWork.hashCode())
-                                currentWork.update(request.getCorporationName(),
-                                        request.getWorkDescription(),
-                                        request.getStartedAt(),
-                                        request.getEndedAt(),
-                                        request.getIsCurrent());
-                        });
-        }
-
-        workRepository.deleteAll(currentWorks);
+        workRepository.insertAll(diff.getInserts().stream()
+                .map(request -> request.toEntity(user))
+                .collect(Collectors.toList()));
+        if (!diff.getDeletes().isEmpty())
+            workRepository.deleteAllByIdInBatch(diff.getDeleteIds(Work::getId));
+        if (diff.hasInsertOrDelete())
+            profileCacheUtility.evictUser(user.getId());
     }
 
     /**
@@ -375,6 +422,47 @@ public class ProfileService {
         return new PortfolioUrlResponse(portfolioUrl);
     }
 
+    /**
+     * 포트폴리오 파일 업로드 URL 발급 |
+     * 클라이언트가 서버를 거치지 않고 파일을 직접 업로드할 수 있는 짧은 유효기간의 URL을 발급한다.
+     * 404(USER_NOT_FOUND)
+     * 413(FILE_SIZE_EXCEED)
+     * 415(FILE_TYPE_UNSUPPORTED)
+     * 500(SERVER_ERROR)
+     * @param userId 회원 식별자
+     * @param request 포트폴리오 파일 업로드 URL 요청
+     * @return 포트폴리오 파일 업로드 URL 응답
+     */
+    public PortfolioFileUploadUrlResponse createPortfolioFileUploadUrl(long userId,
+                                                                       PortfolioFileUploadUrlRequest request) {
+        User user = findUser(userId);
+
+        String fileName = UUID.randomUUID().toString();
+        String uploadUrl = fileUtility.createUploadUrl(portfolioBucketName, user.getId().toString(), fileName,
+                request.getContentType(), request.getFileSize(), false);
+
+        return new PortfolioFileUploadUrlResponse(uploadUrl, fileName);
+    }
+
+    /**
+     * 포트폴리오 파일 업로드 확인 |
+     * 404(USER_NOT_FOUND / FILE_NOT_FOUND)
+     * 413(FILE_SIZE_EXCEED)
+     * 415(FILE_TYPE_UNSUPPORTED)
+     * 500(SERVER_ERROR)
+     * @param userId 회원 식별자
+     * @param request 포트폴리오 파일 업로드 확인 요청
+     * @return 포트폴리오 URL 응답
+     */
+    public PortfolioUrlResponse confirmPortfolioFile(long userId, PortfolioFileConfirmRequest request) {
+        User user = findUser(userId);
+
+        String portfolioUrl = fileUtility.confirmUpload(portfolioBucketName, user.getId().toString(),
+                request.getFileName(), false);
+
+        return new PortfolioUrlResponse(portfolioUrl);
+    }
+
     /**
      * 프로필 페이징 조회 |
      * 404(USER_NOT_FOUND)
@@ -391,6 +479,87 @@ public class ProfileService {
         User user = findUser(userId);
 
         PageData<List<User>> users = userRepository.findPage(position, pageFrom, pageSize);
+
+        return toProfilePageResponses(user, users);
+    }
+
+    /**
+     * 기술로 프로필 페이징 조회 |
+     * 기술 역색인에서 모든 기술을 최소 레벨 이상으로 가진 회원을 찾고, 팀을 찾는 회원만 평점과 최근 접속 순으로 정렬한다.
+     * 후보가 많으면 나누어 조회하되 후보를 자르지 않으므로 순위와 전체 개수는 모든 후보 기준이다.
+     * 404(USER_NOT_FOUND)
+     * @param userId 회원 식별자
+     * @param skillNames 기술명들
+     * @param level 최소 레벨
+     * @param pageFrom 페이지 시작점 (순위)
+     * @param pageSize 페이지 크기
+     * @return 프로필 제안 응답들
+     */
+    public PageData<List<ProfilePageResponse>> findPageUserBySkill(long userId,
+                                                                   List<String> skillNames,
+                                                                   Level level,
+                                                                   long pageFrom,
+                                                                   int pageSize) {
+        User user = findUser(userId);
+
+        if (!skillIndex.isReady())
+            rebuildSkillIndex();
+
+        List<Long> userIds = skillIndex.search(skillNames, level);
+        PageData<List<User>> users = userRepository.findPageRanked(userIds, skillSearchChunkSize, pageFrom, pageSize);
+
+        return toProfilePageResponses(user, users);
+    }
+
+    /**
+     * 기술 역색인 재구성 |
+     * 서버 시작 시 역색인을 만들고, 이후 주기적으로 다시 만들어 다른 서버의 변경을 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${api.skill.index.rebuild-interval}")
+    public void rebuildSkillIndex() {
+        skillIndex.rebuild(idFrom -> skillRepository.findAllAfter(idFrom, skillIndexBatchSize));
+    }
+
+    /**
+     * 회원 방문 수 반영 |
+     * 모아 둔 방문 수를 한번의 배치로 더하고, 트랜잭션이 롤백되면 다음 반영에 다시 포함한다.
+     * @return 반영된 회원 수
+     */
+    @Scheduled(fixedDelayString = "${api.visit.flush-interval}",
+            initialDelayString = "${api.visit.flush-interval}")
+    @Transactional
+    public int flushUserVisits() {
+        Map<Long, Long> visits = visitCountUtility.drainUsers();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK)
+                    visitCountUtility.restoreUsers(visits);
+            }
+        });
+        userRepository.incrementVisitedCnt(visits);
+
+        return visits.size();
+    }
+
+    /**
+     * 서버 종료 시 회원 방문 수 반영 |
+     * 종료 중에는 프록시를 거치지 않으므로 트랜잭션 없이 한번의 배치로 남은 방문 수를 반영한다.
+     */
+    @PreDestroy
+    public void flushUserVisitsOnShutdown() {
+        userRepository.incrementVisitedCnt(visitCountUtility.drainUsers());
+    }
+
+    /**
+     * 프로필 페이징 응답 변환 |
+     * 회원들의 기술과 내가 보낸 제안을 한번에 조회한다.
+     * @param user 회원
+     * @param users 회원들
+     * @return 프로필 제안 응답들
+     */
+    private PageData<List<ProfilePageResponse>> toProfilePageResponses(User user, PageData<List<User>> users) {
         List<Skill> skills = skillRepository.findAllInFetchUser(users.getData()
                 .stream()
                 .map(User::getId)
@@ -432,17 +601,80 @@ public class ProfileService {
 
     /**
      * 프로필 정보 조회 |
+     * 프로필 캐시에 없거나 무효화된 경우에만 기술, 학력, 포트폴리오, 경력, 팀, 리뷰를 조회하여 읽기 모델을 만든다.
+     * 현재 트랜잭션의 변경이 반영되어야 하므로 요청 트랜잭션에서 순서대로 조회한다.
      * @param user 회원
      * @return 프로필
      */
     private ProfileVO findProfileInfo(User user) {
-        List<Education> educations = educationRepository.findAll(user.getId());
-        List<Portfolio> portfolios = portfolioRepository.findAll(user.getId());
-        List<Work> works = workRepository.findAll(user.getId());
-        List<TeamMember> teamMembers = teamMemberRepository.findAllFetchTeam(user.getId());
-        PageData<List<Review>> reviews = reviewRepository.findPage(user.getId(), Long.MAX_VALUE, 3);
-        long reviewCnt = reviewRepository.countPrevious(user.getId(), Long.MAX_VALUE);
-
-        return new ProfileVO(educations, portfolios, works, teamMembers, reviews, reviewCnt);
+        return profileCacheUtility.get(user.getId(), () -> new ProfileVO(
+                skillRepository.findAll(user.getId()),
+                educationRepository.findAll(user.getId()),
+                portfolioRepository.findAll(user.getId()),
+                workRepository.findAll(user.getId()),
+                teamMemberRepository.findAllFetchTeam(user.getId()),
+                reviewRepository.findPage(user.getId(), Long.MAX_VALUE, 3),
+                reviewRepository.countPrevious(user.getId(), Long.MAX_VALUE)));
+    }
+
+    /**
+     * 프로필 회원 조회 |
+     * 프로필을 먼저 조회하므로, 회원이 없으면 빈 프로필이 캐시에 남지 않도록 무효화한다.
+     * 404(USER_NOT_FOUND)
+     * @param userId 회원 식별자
+     * @return 회원
+     */
+    private User findProfileUser(long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    profileCacheUtility.evictUser(userId);
+                    throw new CustomException(USER_NOT_FOUND);
+                });
+    }
+
+    /**
+     * 프로필 정보 병렬 조회 |
+     * 프로필 캐시에 없거나 무효화된 경우 서로 독립적인 조회들을 각자의 커넥션으로 동시에 실행하여 읽기 모델을 만든다.
+     * 별도 커넥션은 커밋되지 않은 변경을 볼 수 없으므로 요청 트랜잭션에서 쓰기 전에만 호출한다.
+     * 요청 스레드가 커넥션을 점유한 채 기다리면 커넥션 풀 크기 이상의 동시 요청에서 조회 스레드가 커넥션을 얻지 못하므로,
+     * 요청 스레드에서 커넥션을 얻기 전에 호출한다.
+     * 한 조회라도 실패하거나 마감 시각을 넘기면 나머지 조회를 취소한다.
+     * 500(SERVER_ERROR)
+     * 503(SERVER_OVERLOADED)
+     * @param userId 회원 식별자
+     * @return 프로필
+     */
+    private ProfileVO findProfileInfoConcurrently(long userId) {
+        return profileCacheUtility.get(userId, () -> {
+            Future<List<Skill>> skills = null;
+            Future<List<Education>> educations = null;
+            Future<List<Portfolio>> portfolios = null;
+            Future<List<Work>> works = null;
+            Future<List<TeamMember>> teamMembers = null;
+            Future<PageData<List<Review>>> reviews = null;
+            Future<Long> reviewCnt = null;
+
+            try {
+                skills = parallelQueryUtility.submit(() -> skillRepository.findAll(userId));
+                educations = parallelQueryUtility.submit(() -> educationRepository.findAll(userId));
+                portfolios = parallelQueryUtility.submit(() -> portfolioRepository.findAll(userId));
+                works = parallelQueryUtility.submit(() -> workRepository.findAll(userId));
+                teamMembers = parallelQueryUtility.submit(() -> teamMemberRepository.findAllFetchTeam(userId));
+                reviews = parallelQueryUtility.submit(() -> reviewRepository.findPage(userId, Long.MAX_VALUE, 3));
+                reviewCnt = parallelQueryUtility.submit(() -> reviewRepository.countPrevious(userId, Long.MAX_VALUE));
+                long deadline = parallelQueryUtility.deadline();
+
+                return new ProfileVO(parallelQueryUtility.get(skills, deadline),
+                        parallelQueryUtility.get(educations, deadline),
+                        parallelQueryUtility.get(portfolios, deadline),
+                        parallelQueryUtility.get(works, deadline),
+                        parallelQueryUtility.get(teamMembers, deadline),
+                        parallelQueryUtility.get(reviews, deadline),
+                        parallelQueryUtility.get(reviewCnt, deadline));
+            } catch (RuntimeException e) {
+                parallelQueryUtility.cancel(skills, educations, portfolios, works, teamMembers, reviews, reviewCnt);
+                throw e;
+            }
+        });
     }
 }
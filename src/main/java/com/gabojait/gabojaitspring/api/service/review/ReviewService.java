@@ -8,20 +8,32 @@ import com.gabojait.gabojaitspring.api.dto.review.response.ReviewPageResponse;
 import com.gabojait.gabojaitspring.domain.review.Review;
 import com.gabojait.gabojaitspring.domain.team.TeamMember;
 import com.gabojait.gabojaitspring.domain.team.TeamMemberStatus;
+import com.gabojait.gabojaitspring.domain.user.User;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
 import com.gabojait.gabojaitspring.repository.review.ReviewRepository;
 import com.gabojait.gabojaitspring.repository.team.TeamMemberRepository;
+import com.gabojait.gabojaitspring.repository.team.TeamRecommendationIndex;
+import com.gabojait.gabojaitspring.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.TEAM_MEMBER_NOT_FOUND;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -29,6 +41,12 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final UserRepository userRepository;
+    private final TeamRecommendationIndex teamRecommendationIndex;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${api.review.rating.repair-batch-size}")
+    private int ratingRepairBatchSize;
 
     /**
      * 리뷰 가능한 팀 전체 조회 |
@@ -64,6 +82,7 @@ public class ReviewService {
 
     /**
      * 리뷰 생성 |
+     * 리뷰 대상 회원별 평점 합과 리뷰 수를 한번에 원자적으로 증가시킨다.
      * 404(TEAM_MEMBER_NOT_FOUND)
      * @param userId 회원 식별자
      * @param teamId 팀 식별자
@@ -84,6 +103,47 @@ public class ReviewService {
                 .collect(Collectors.toList());
 
         reviewRepository.saveAll(reviews);
+
+        Map<User, IntSummaryStatistics> ratings = reviews.stream()
+                .collect(Collectors.groupingBy(review -> review.getReviewee().getUser(),
+                        Collectors.summarizingInt(Review::getRating)));
+
+        userRepository.incrementRatings(ratings.entrySet()
+                .stream()
+                .collect(Collectors.toMap(rating -> rating.getKey().getId(), Map.Entry::getValue)));
+
+        ratings.forEach((user, rating) -> {
+            user.rate(rating.getSum(), (int) rating.getCount());
+            teamRecommendationIndex.updateCandidate(user);
+        });
+    }
+
+    /**
+     * 회원 평점 정합성 검사 |
+     * 회원 식별자 범위 단위로 평점 합과 리뷰 수가 리뷰 테이블과 다른 회원을 찾아 다시 계산한다.
+     * 전체 회원의 행 잠금을 한번에 잡지 않도록 범위마다 별도의 트랜잭션으로 커밋한다.
+     * @return 수정된 회원 수
+     */
+    @Scheduled(fixedDelayString = "${api.review.rating.repair-interval}",
+            initialDelayString = "${api.review.rating.repair-interval}")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int repairRatings() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int repairedCnt = 0;
+        long lastId = userRepository.findLastId();
+
+        for (long idFrom = 0; idFrom < lastId; idFrom += ratingRepairBatchSize) {
+            long batchFrom = idFrom;
+            Integer batchCnt = transactionTemplate.execute(status ->
+                    userRepository.repairRatings(batchFrom, batchFrom + ratingRepairBatchSize));
+
+            repairedCnt += batchCnt == null ? 0 : batchCnt;
+        }
+
+        if (repairedCnt > 0)
+            log.warn("[SYSTEM | REVIEW] ratings repaired={}", repairedCnt);
+
+        return repairedCnt;
     }
 
     /**
@@ -1,33 +1,52 @@
 package com.gabojait.gabojaitspring.api.service.team;
 
+import com.gabojait.gabojaitspring.api.dto.profile.response.ProfilePageResponse;
 import com.gabojait.gabojaitspring.common.response.PageData;
 import com.gabojait.gabojaitspring.api.dto.team.request.TeamCreateRequest;
 import com.gabojait.gabojaitspring.api.dto.team.request.TeamUpdateRequest;
 import com.gabojait.gabojaitspring.api.dto.team.response.*;
 import com.gabojait.gabojaitspring.api.service.notification.NotificationService;
 import com.gabojait.gabojaitspring.domain.offer.Offer;
+import com.gabojait.gabojaitspring.domain.profile.Skill;
 import com.gabojait.gabojaitspring.domain.team.Team;
 import com.gabojait.gabojaitspring.domain.team.TeamMember;
 import com.gabojait.gabojaitspring.domain.team.TeamMemberStatus;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import com.gabojait.gabojaitspring.domain.user.User;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
+import com.gabojait.gabojaitspring.common.util.VisitCountUtility;
 import com.gabojait.gabojaitspring.repository.favorite.FavoriteRepository;
 import com.gabojait.gabojaitspring.repository.offer.OfferRepository;
+import com.gabojait.gabojaitspring.repository.profile.SkillIndex;
+import com.gabojait.gabojaitspring.repository.profile.SkillRepository;
 import com.gabojait.gabojaitspring.repository.team.TeamMemberRepository;
+import com.gabojait.gabojaitspring.repository.team.RecruitingTeamIndex;
+import com.gabojait.gabojaitspring.repository.team.TeamRecommendationIndex;
 import com.gabojait.gabojaitspring.repository.team.TeamRepository;
+import com.gabojait.gabojaitspring.repository.team.TeamSearchIndex;
 import com.gabojait.gabojaitspring.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -38,7 +57,22 @@ public class TeamService {
     private final UserRepository userRepository;
     private final OfferRepository offerRepository;
     private final FavoriteRepository favoriteRepository;
+    private final SkillRepository skillRepository;
     private final NotificationService notificationService;
+    private final RecruitingTeamIndex recruitingTeamIndex;
+    private final TeamSearchIndex teamSearchIndex;
+    private final TeamRecommendationIndex teamRecommendationIndex;
+    private final SkillIndex skillIndex;
+    private final VisitCountUtility visitCountUtility;
+
+    @Value("${api.team.open-positions.batch-size}")
+    private int openPositionsBatchSize;
+
+    @Value("${api.team.recommendation.batch-size}")
+    private int recommendationBatchSize;
+
+    @Value("${api.skill.index.batch-size}")
+    private int skillIndexBatchSize;
 
     /**
      * 팀 생성 |
@@ -113,7 +147,6 @@ public class TeamService {
      * @param teamId 팀 식별자
      * @return 팀 단건 조회 응답
      */
-    @Transactional
     public TeamFindResponse findOtherTeam(long userId, long teamId) {
         Team team = findTeam(teamId);
         List<TeamMember> teamMembers = teamMemberRepository.findAllCurrentFetchUser(team.getId());
@@ -122,7 +155,7 @@ public class TeamService {
         List<Offer> offers = new ArrayList<>();
         boolean isTeamMember = teamMemberRepository.exists(userId, team.getId());
         if (!isTeamMember) {
-            team.visit();
+            visitCountUtility.visitTeam(team.getId());
 
             offers = offerRepository.findAllByTeamId(userId, team.getId());
         }
@@ -148,6 +181,185 @@ public class TeamService {
         return new PageData<>(responses, teams.getTotal());
     }
 
+    /**
+     * 팀 검색 |
+     * 팀 검색 인덱스에서 찾은 순서대로 반환하며, 다른 서버의 변경이 아직 반영되지 않았을 수 있어 조회 조건을 함께 확인한다.
+     * 서버 시작 직후 인덱스가 아직 만들어지지 않았으면 검색어를 포함한 팀을 DB에서 최신순으로 조회한다.
+     * @param query 검색어
+     * @param position 포지션
+     * @param pageFrom 페이지 시작점 (순위)
+     * @param pageSize 페이지 크기
+     * @return 팀 기본 응답들
+     */
+    public PageData<List<TeamPageResponse>> searchTeam(String query, Position position, long pageFrom, int pageSize) {
+        if (!teamSearchIndex.isReady()) {
+            PageData<List<Team>> teams = teamRepository.searchRecruiting(query.strip(), position, pageFrom, pageSize);
+
+            List<TeamPageResponse> responses = teams.getData()
+                    .stream()
+                    .map(TeamPageResponse::new)
+                    .collect(Collectors.toList());
+
+            return new PageData<>(responses, teams.getTotal());
+        }
+
+        PageData<List<Long>> teamIds = teamSearchIndex.search(query, position, pageFrom, pageSize);
+        Map<Long, Team> teams = teamRepository.findAllRecruitingIn(teamIds.getData(), position)
+                .stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+
+        List<TeamPageResponse> responses = teamIds.getData()
+                .stream()
+                .filter(teams::containsKey)
+                .map(teamId -> new TeamPageResponse(teams.get(teamId)))
+                .collect(Collectors.toList());
+
+        return new PageData<>(responses, teamIds.getTotal());
+    }
+
+    /**
+     * 팀 추천 회원 페이징 조회 |
+     * 팀 추천 인덱스의 순위대로 반환하며, 다른 서버의 변경이 아직 반영되지 않았을 수 있어 팀을 찾는 중인지 함께 확인한다.
+     * 서버 시작 직후 인덱스가 아직 만들어지지 않았으면 요청 스레드에서 재구성하지 않고 예외를 던진다.
+     * 403(REQUEST_FORBIDDEN)
+     * 404(CURRENT_TEAM_NOT_FOUND)
+     * 503(RECOMMENDATION_NOT_READY)
+     * @param userId 회원 식별자
+     * @param position 포지션
+     * @param pageFrom 페이지 시작점 (순위)
+     * @param pageSize 페이지 크기
+     * @return 프로필 기본 응답들
+     */
+    public PageData<List<ProfilePageResponse>> findPageRecommendedUser(long userId,
+                                                                       Position position,
+                                                                       long pageFrom,
+                                                                       int pageSize) {
+        TeamMember teamMember = findCurrentTeamMemberFetchTeam(userId);
+        validateLeader(teamMember);
+
+        if (!teamRecommendationIndex.isReady())
+            throw new CustomException(RECOMMENDATION_NOT_READY);
+
+        List<Long> userIds = teamRecommendationIndex.find(teamMember.getTeam().getId(), position);
+        List<Long> pageUserIds = userIds.subList((int) Math.min(pageFrom, userIds.size()),
+                (int) Math.min(pageFrom + pageSize, userIds.size()));
+
+        Map<Long, User> users = userRepository.findAllSeekingTeamIn(pageUserIds)
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, List<Skill>> skills = skillRepository.findAllInFetchUser(pageUserIds)
+                .stream()
+                .collect(Collectors.groupingBy(s -> s.getUser().getId()));
+        Map<Long, List<Offer>> offers = offerRepository.findAllInUserIds(pageUserIds, userId)
+                .stream()
+                .collect(Collectors.groupingBy(o -> o.getUser().getId()));
+
+        List<ProfilePageResponse> responses = pageUserIds.stream()
+                .filter(users::containsKey)
+                .map(id -> new ProfilePageResponse(users.get(id),
+                        skills.getOrDefault(id, Collections.emptyList()),
+                        offers.getOrDefault(id, Collections.emptyList())))
+                .collect(Collectors.toList());
+
+        return new PageData<>(responses, userIds.size());
+    }
+
+    /**
+     * 모집 중인 팀 인덱스 재구성 |
+     * 서버 시작 시 인덱스를 만들고, 이후 주기적으로 다시 만들어 다른 서버의 변경을 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${api.team.index.rebuild-interval}")
+    public void rebuildRecruitingTeamIndex() {
+        recruitingTeamIndex.rebuild(teamRepository::findAllRecruiting);
+    }
+
+    /**
+     * 팀 검색 인덱스 재구성 |
+     * 서버 시작 시 인덱스를 만들고, 이후 주기적으로 다시 만들어 다른 서버의 변경을 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${api.team.search.rebuild-interval}")
+    public void rebuildTeamSearchIndex() {
+        teamSearchIndex.rebuild(teamRepository::findAllRecruiting);
+    }
+
+    /**
+     * 팀 추천 인덱스 재구성 |
+     * 서버 시작 시 인덱스를 만들고, 이후 주기적으로 다시 만들어 다른 서버의 변경과 최근 접속 점수를 반영한다.
+     * 팀의 기술과 회원의 기술 일치도를 기술 역색인으로 계산하므로 기술 역색인이 없으면 먼저 만든다.
+     */
+    @Scheduled(fixedDelayString = "${api.team.recommendation.rebuild-interval}")
+    public void rebuildTeamRecommendationIndex() {
+        if (!skillIndex.isReady())
+            skillIndex.rebuild(idFrom -> skillRepository.findAllAfter(idFrom, skillIndexBatchSize));
+
+        teamRecommendationIndex.rebuild(idFrom -> userRepository.findAllSeekingTeamAfter(idFrom,
+                        recommendationBatchSize),
+                teamRepository::findAllRecruiting,
+                offerRepository::findAllRecruitingTeam);
+    }
+
+    /**
+     * 모집 중인 포지션 비트 정합성 검사 |
+     * 포지션별 현재/최대 인원으로 계산한 값과 저장된 비트가 다른 팀을 배치 단위로 찾아 다시 계산한다.
+     * @return 수정된 팀 수
+     */
+    @Scheduled(fixedDelayString = "${api.team.open-positions.check-interval}",
+            initialDelayString = "${api.team.open-positions.check-interval}")
+    @Transactional
+    public int checkOpenPositions() {
+        int repairedCnt = 0;
+        long idFrom = 0;
+        List<Team> teams;
+
+        do {
+            teams = teamRepository.findAllOpenPositionsMismatch(idFrom, openPositionsBatchSize);
+
+            for (Team team : teams)
+                if (team.refreshOpenPositions())
+                    repairedCnt++;
+
+            if (!teams.isEmpty())
+                idFrom = teams.get(teams.size() - 1).getId();
+        } while (teams.size() == openPositionsBatchSize);
+
+        if (repairedCnt > 0)
+            log.warn("[SYSTEM | TEAM] open positions repaired={}", repairedCnt);
+
+        return repairedCnt;
+    }
+
+    /**
+     * 팀 방문 수 반영 |
+     * 모아 둔 방문 수를 한번의 배치로 더하고, 트랜잭션이 롤백되면 다음 반영에 다시 포함한다.
+     * @return 반영된 팀 수
+     */
+    @Scheduled(fixedDelayString = "${api.visit.flush-interval}",
+            initialDelayString = "${api.visit.flush-interval}")
+    @Transactional
+    public int flushTeamVisits() {
+        Map<Long, Long> visits = visitCountUtility.drainTeams();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK)
+                    visitCountUtility.restoreTeams(visits);
+            }
+        });
+        teamRepository.incrementVisitedCnt(visits);
+
+        return visits.size();
+    }
+
+    /**
+     * 서버 종료 시 팀 방문 수 반영 |
+     * 종료 중에는 프록시를 거치지 않으므로 트랜잭션 없이 한번의 배치로 남은 방문 수를 반영한다.
+     */
+    @PreDestroy
+    public void flushTeamVisitsOnShutdown() {
+        teamRepository.incrementVisitedCnt(visitCountUtility.drainTeams());
+    }
+
     /**
      * 팀원 모집 여부 업데이트 |
      * 403(REQUEST_FORBIDDEN)
@@ -0,0 +1,214 @@
+package com.gabojait.gabojaitspring.api.service.user;
+
+import com.gabojait.gabojaitspring.common.util.BloomFilter;
+import com.gabojait.gabojaitspring.domain.user.RefreshTokenFamily;
+import com.gabojait.gabojaitspring.domain.user.User;
+import com.gabojait.gabojaitspring.repository.user.RefreshTokenFamilyRepository;
+import com.gabojait.gabojaitspring.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 서비스 |
+ * 폐기된 패밀리는 블룸 필터로 먼저 거르므로 필터에 빠진 폐기는 데이터베이스에서도 확인되지 않는다.
+ * 폐기는 바로 필터에 추가하고 커밋 이후 한번 더 추가하며, 다른 서버의 폐기는 짧은 주기로 최근 폐기된 패밀리를 조회하여 추가한다.
+ * 필터 재구성 중 추가된 폐기는 따로 기록했다가 새 필터에 다시 추가하여 재구성 결과가 최근 폐기를 잃지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    @Value("${api.jwt.family.filter.expected-insertions}")
+    private int expectedInsertions;
+
+    @Value("${api.jwt.family.filter.false-positive-rate}")
+    private double falsePositiveRate;
+
+    @Value("${api.jwt.family.refresh-interval}")
+    private long refreshInterval;
+
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final UserRepository userRepository;
+    private final Object lock = new Object();
+    private volatile BloomFilter revokedFilter;
+    private List<String> pendingRevokes;
+    private volatile LocalDateTime refreshedAt;
+
+    @PostConstruct
+    void init() {
+        refreshedAt = LocalDateTime.now();
+        rebuildRevokedFilter(refreshedAt);
+    }
+
+    /**
+     * 리프레시 토큰 패밀리 생성 |
+     * 로그인 또는 회원 가입시 새로운 패밀리를 시작한다.
+     * @param userId 회원 식별자
+     * @param tokenId 리프레시 토큰 식별자
+     * @param expiresAt 만료 일시
+     * @return 패밀리 식별자
+     */
+    @Transactional
+    public String createFamily(long userId, String tokenId, LocalDateTime expiresAt) {
+        User user = userRepository.getById(userId);
+
+        RefreshTokenFamily refreshTokenFamily = RefreshTokenFamily.builder()
+                .user(user)
+                .familyId(UUID.randomUUID().toString())
+                .currentTokenId(tokenId)
+                .expiresAt(expiresAt)
+                .build();
+
+        refreshTokenFamilyRepository.save(refreshTokenFamily);
+
+        return refreshTokenFamily.getFamilyId();
+    }
+
+    /**
+     * 리프레시 토큰 교체 |
+     * 현재 토큰 식별자가 일치하고 폐기되지 않은 패밀리만 단일 조건부 갱신으로 교체한다.
+     * 실패한 경우 이미 사용된 토큰의 재사용이거나 폐기된 패밀리이다.
+     * @param familyId 패밀리 식별자
+     * @param currentTokenId 현재 리프레시 토큰 식별자
+     * @param newTokenId 새 리프레시 토큰 식별자
+     * @param expiresAt 새 만료 일시
+     * @return 교체 여부
+     */
+    @Transactional
+    public boolean rotate(String familyId, String currentTokenId, String newTokenId, LocalDateTime expiresAt) {
+        if (currentTokenId == null)
+            return false;
+
+        return refreshTokenFamilyRepository.rotate(familyId, currentTokenId, newTokenId, expiresAt,
+                LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 리프레시 토큰 패밀리 폐기 |
+     * 같은 트랜잭션의 인증에도 반영되도록 바로 필터에 추가한다. 롤백되어 필터에 남은 패밀리는 데이터베이스 확인에서 걸러진다.
+     * 커밋 전에 조회한 결과로 필터가 재구성될 수 있으므로 트랜잭션 안에서 호출된 경우 커밋 이후에 한번 더 추가한다.
+     * @param familyId 패밀리 식별자
+     */
+    @Transactional
+    public void revokeFamily(String familyId) {
+        refreshTokenFamilyRepository.revoke(familyId, LocalDateTime.now());
+        addRevoked(familyId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addRevoked(familyId);
+            }
+        });
+    }
+
+    /**
+     * 리프레시 토큰 패밀리 폐기 여부 확인 |
+     * 필터에 없으면 폐기되지 않았음이 보장되므로 데이터베이스를 조회하지 않는다.
+     * @param familyId 패밀리 식별자
+     * @return 폐기 여부
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isRevoked(String familyId) {
+        return revokedFilter.mightContain(familyId) && refreshTokenFamilyRepository.existsRevoked(familyId);
+    }
+
+    /**
+     * 회원 리프레시 토큰 패밀리 전체 삭제
+     * @param userId 회원 식별자
+     */
+    @Transactional
+    public void deleteAll(long userId) {
+        refreshTokenFamilyRepository.deleteAll(userId);
+    }
+
+    /**
+     * 만료된 리프레시 토큰 패밀리 정리 |
+     * 만료된 패밀리를 삭제하고, 다른 서버에서 폐기한 패밀리를 반영하도록 필터를 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${api.jwt.family.sweep-interval}",
+            initialDelayString = "${api.jwt.family.sweep-interval}")
+    @Transactional
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        long deletedCnt = refreshTokenFamilyRepository.deleteExpired(now);
+
+        rebuildRevokedFilter(now);
+
+        log.info("[SYSTEM | REFRESH TOKEN] expired families deleted={}", deletedCnt);
+    }
+
+    /**
+     * 최근 폐기된 리프레시 토큰 패밀리 반영 |
+     * 다른 서버에서 폐기한 패밀리를 필터에 추가한다.
+     * 직전 조회 시점에 커밋되지 않았던 폐기도 반영하도록 조회 구간을 한 주기만큼 겹친다.
+     */
+    @Scheduled(fixedDelayString = "${api.jwt.family.refresh-interval}",
+            initialDelayString = "${api.jwt.family.refresh-interval}")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void refreshRevoked() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> familyIds = refreshTokenFamilyRepository.findAllRevokedFamilyId(
+                refreshedAt.minusNanos(refreshInterval * 1_000_000), now);
+
+        familyIds.forEach(this::addRevoked);
+        refreshedAt = now;
+    }
+
+    /**
+     * 폐기된 리프레시 토큰 패밀리 필터 재구성 |
+     * 조회 중 추가된 폐기를 새 필터에 다시 추가한 후 교체한다.
+     * @param now 현재 일시
+     */
+    private synchronized void rebuildRevokedFilter(LocalDateTime now) {
+        synchronized (lock) {
+            pendingRevokes = new ArrayList<>();
+        }
+
+        BloomFilter filter;
+        try {
+            List<String> familyIds = refreshTokenFamilyRepository.findAllRevokedFamilyId(now);
+
+            filter = new BloomFilter(Math.max(expectedInsertions, familyIds.size() * 2), falsePositiveRate);
+            familyIds.forEach(filter::put);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingRevokes = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            pendingRevokes.forEach(filter::put);
+            pendingRevokes = null;
+            revokedFilter = filter;
+        }
+    }
+
+    private void addRevoked(String familyId) {
+        synchronized (lock) {
+            if (pendingRevokes != null)
+                pendingRevokes.add(familyId);
+            if (revokedFilter != null)
+                revokedFilter.put(familyId);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.gabojait.gabojaitspring.api.dto.user.response.UserLoginResponse;
 import com.gabojait.gabojaitspring.api.dto.user.response.UserRegisterResponse;
 import com.gabojait.gabojaitspring.common.util.EmailUtility;
 import com.gabojait.gabojaitspring.common.util.PasswordUtility;
+import com.gabojait.gabojaitspring.config.auth.UserDetailsCache;
 import com.gabojait.gabojaitspring.domain.notification.Fcm;
 import com.gabojait.gabojaitspring.domain.team.TeamMember;
 import com.gabojait.gabojaitspring.domain.user.Contact;
@@ -51,6 +52,8 @@ public class UserService {
     private final WorkRepository workRepository;
     private final PasswordUtility passwordUtility;
     private final EmailUtility emailUtility;
+    private final UserDetailsCache userDetailsCache;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 아이디 검증 |
@@ -83,6 +86,7 @@ public class UserService {
      * 400(PASSWORD_MATCH_INVALID / VERIFICATION_CODE_INVALID)
      * 404(EMAIL_NOT_FOUND)
      * 409(UNAVAILABLE_USERNAME / EXISTING_USERNAME / UNAVAILABLE_NICKNAME / EXISTING_NICKNAME / EXISTING_CONTACT)
+     * 503(SERVER_OVERLOADED)
      * @param request 회원 가입 요청
      * @param lastRequestAt 마지막 요청일
      * @return 회원 가입 응답
@@ -108,6 +112,7 @@ public class UserService {
      * 회원 로그인 |
      * 401(LOGIN_UNAUTHENTICATED)
      * 404(USER_NOT_FOUND)
+     * 503(SERVER_OVERLOADED)
      * @param request 회원 로그인 요청
      * @param lastRequestAt 마지막 요청일
      * @return 회원 로그인 응답
@@ -153,6 +158,7 @@ public class UserService {
                 .build();
 
         userRoleRepository.save(userRole);
+        userDetailsCache.evict(user.getId());
     }
 
     /**
@@ -235,6 +241,7 @@ public class UserService {
 
         String tempPassword = passwordUtility.generateRandomCode(8);
         user.updatePassword(tempPassword, true);
+        userDetailsCache.evict(user.getId());
 
         emailUtility.sendEmail(
                 user.getContact().getEmail(),
@@ -248,6 +255,7 @@ public class UserService {
      * 비밀번호 검증 |
      * 401(PASSWORD_UNAUTHENTICATED)
      * 404(USER_NOT_FOUND)
+     * 503(SERVER_OVERLOADED)
      * @param userId 회원 식별자
      * @param password 비밀번호
      */
@@ -280,6 +288,7 @@ public class UserService {
      * 비밀번호 업데이트 |
      * 400(PASSWORD_MATCH_INVALID)
      * 404(USER_NOT_FOUND)
+     * 503(SERVER_OVERLOADED)
      * @param userId 회원 식별자
      * @param password 비밀번호
      * @param passwordReEntered 비밀번호 재입력
@@ -292,6 +301,7 @@ public class UserService {
 
         String encodedPassword = passwordUtility.encodePassword(password);
         user.updatePassword(encodedPassword, false);
+        userDetailsCache.evict(user.getId());
     }
 
     /**
@@ -320,6 +330,7 @@ public class UserService {
         fcmRepository.deleteAll(fcmRepository.findAllByUser(user));
         notificationRepository.deleteAll(notificationRepository.findAllByUser(user));
         userRoleRepository.deleteAll(userRoleRepository.findAll(userId));
+        refreshTokenService.deleteAll(userId);
 
         educationRepository.deleteAll(educationRepository.findAll(user.getId()));
         portfolioRepository.deleteAll(portfolioRepository.findAll(user.getId()));
@@ -329,6 +340,7 @@ public class UserService {
         teamMemberRepository.findAll(user.getId()).forEach(TeamMember::disconnectUser);
 
         userRepository.delete(user);
+        userDetailsCache.evict(userId);
     }
 
     /**
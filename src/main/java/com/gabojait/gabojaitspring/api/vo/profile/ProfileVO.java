@@ -1,36 +1,75 @@
 package com.gabojait.gabojaitspring.api.vo.profile;
 
+import com.gabojait.gabojaitspring.api.dto.profile.response.*;
 import com.gabojait.gabojaitspring.common.response.PageData;
 import com.gabojait.gabojaitspring.domain.profile.Education;
 import com.gabojait.gabojaitspring.domain.profile.Portfolio;
+import com.gabojait.gabojaitspring.domain.profile.Skill;
 import com.gabojait.gabojaitspring.domain.profile.Work;
 import com.gabojait.gabojaitspring.domain.review.Review;
 import com.gabojait.gabojaitspring.domain.team.TeamMember;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+/**
+ * 프로필 읽기 모델 |
+ * 회원 정보를 제외한 프로필(기술, 학력, 포트폴리오, 경력, 팀, 최근 리뷰)을 응답 형태로 변환해 둔 회원당 하나의 문서이다.
+ * 엔티티를 참조하지 않아 트랜잭션 밖에서 캐시하고 여러 요청이 함께 사용할 수 있다.
+ */
 @Getter
 public final class ProfileVO {
 
-    private final List<Education> educations;
-    private final List<Portfolio> portfolios;
-    private final List<Work> works;
-    private final List<TeamMember> teamMembers;
-    private final PageData<List<Review>> reviews;
-    private final long reviewCnt;
+    private final List<SkillResponse> skills;
+    private final List<EducationResponse> educations;
+    private final List<PortfolioResponse> portfolios;
+    private final List<WorkResponse> works;
+    private final List<ProfileTeamResponse> completedTeams;
+    private final ProfileTeamResponse currentTeam;
+    private final Boolean isLeader;
+    private final List<ProfileReviewResponse> reviews;
+    private final List<Long> teamIds;
 
-    public ProfileVO(List<Education> educations,
+    public ProfileVO(List<Skill> skills,
+                     List<Education> educations,
                      List<Portfolio> portfolios,
                      List<Work> works,
                      List<TeamMember> teamMembers,
                      PageData<List<Review>> reviews,
                      long reviewCnt) {
-        this.educations = educations;
-        this.portfolios = portfolios;
-        this.works = works;
-        this.teamMembers = teamMembers;
-        this.reviews = reviews;
-        this.reviewCnt = reviewCnt;
+        this.skills = skills.stream()
+                .map(SkillResponse::new)
+                .collect(Collectors.toUnmodifiableList());
+        this.educations = educations.stream()
+                .map(EducationResponse::new)
+                .collect(Collectors.toUnmodifiableList());
+        this.portfolios = portfolios.stream()
+                .map(PortfolioResponse::new)
+                .collect(Collectors.toUnmodifiableList());
+        this.works = works.stream()
+                .map(WorkResponse::new)
+                .collect(Collectors.toUnmodifiableList());
+
+        this.completedTeams = teamMembers.stream()
+                .filter(tm -> tm.getTeam().getCompletedAt() != null)
+                .map(ProfileTeamResponse::new)
+                .collect(Collectors.toUnmodifiableList());
+        TeamMember currentTeamMember = teamMembers.stream()
+                .filter(tm -> tm.getTeam().getCompletedAt() == null)
+                .findFirst()
+                .orElse(null);
+        this.currentTeam = currentTeamMember == null ? null : new ProfileTeamResponse(currentTeamMember);
+        this.isLeader = currentTeamMember != null && currentTeamMember.getIsLeader();
+
+        this.reviews = IntStream.range(0, reviews.getData().size())
+                .mapToObj(i -> new ProfileReviewResponse(reviews.getData().get(i), (int) (reviewCnt - i)))
+                .collect(Collectors.toUnmodifiableList());
+
+        this.teamIds = teamMembers.stream()
+                .map(tm -> tm.getTeam().getId())
+                .distinct()
+                .collect(Collectors.toUnmodifiableList());
     }
 }
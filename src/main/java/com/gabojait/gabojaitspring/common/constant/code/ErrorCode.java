@@ -44,6 +44,11 @@ public enum ErrorCode {
     LEGAL_NAME_FIELD_REQUIRED(BAD_REQUEST, "실명은 필수 입력입니다."),
     ADMIN_ID_FIELD_REQUIRED(BAD_REQUEST, "관리자 식별자는 필수 입력입니다."),
     TESTER_ID_FIELD_REQUIRED(BAD_REQUEST, "테스터 식별자는 필수 입력입니다."),
+    SKILL_NAMES_FIELD_REQUIRED(BAD_REQUEST, "기술명은 필수 입력입니다."),
+    QUERY_FIELD_REQUIRED(BAD_REQUEST, "검색어는 필수 입력입니다."),
+    CONTENT_TYPE_FIELD_REQUIRED(BAD_REQUEST, "파일 타입은 필수 입력입니다."),
+    FILE_SIZE_FIELD_REQUIRED(BAD_REQUEST, "파일 크기는 필수 입력입니다."),
+    FILE_NAME_FIELD_REQUIRED(BAD_REQUEST, "파일명은 필수 입력입니다."),
 
     // @Size
     USERNAME_LENGTH_INVALID(BAD_REQUEST, "아이디는 5~15자만 가능합니다."),
@@ -62,6 +67,8 @@ public enum ErrorCode {
     OPEN_CHAT_URL_LENGTH_INVALID(BAD_REQUEST, "오픈 채팅 URL은 26~100자만 가능합니다."),
     POST_LENGTH_INVALID(BAD_REQUEST, "후기는 1~200자만 가능합니다."),
     LEGAL_NAME_LENGTH_INVALID(BAD_REQUEST, "실명은 1~5자만 가능합니다."),
+    SKILL_NAMES_LENGTH_INVALID(BAD_REQUEST, "기술명은 1~5개만 가능합니다."),
+    QUERY_LENGTH_INVALID(BAD_REQUEST, "검색어는 1~50자만 가능합니다."),
 
     // @Pattern, @Email - format
     EMAIL_FORMAT_INVALID(BAD_REQUEST, "올바른 이메일 형식을 입력해 주세요."),
@@ -70,6 +77,7 @@ public enum ErrorCode {
     LEGAL_NAME_FORMAT_INVALID(BAD_REQUEST, "실명은 한글 조합으로 입력해 주세요."),
     NICKNAME_FORMAT_INVALID(BAD_REQUEST, "닉네임은 한글 조합으로 입력해 주세요."),
     OPEN_CHAT_URL_FORMAT_INVALID(BAD_REQUEST, "오픈 채팅 URL은 카카오 오픈 채팅 형식만 가능합니다."),
+    FILE_NAME_FORMAT_INVALID(BAD_REQUEST, "파일명은 발급받은 파일명 형식만 가능합니다."),
 
     // @Pattern - type
     GENDER_TYPE_INVALID(BAD_REQUEST, "성별은 'M', 'F', 또는 'N' 중 하나여야 됩니다."),
@@ -89,11 +97,13 @@ public enum ErrorCode {
     BACKEND_MAX_CNT_POSITIVE_OR_ZERO_ONLY(BAD_REQUEST, "백엔드 최대 수는 0 또는 양수만 가능합니다."),
     FRONTEND_MAX_CNT_POSITIVE_OR_ZERO_ONLY(BAD_REQUEST, "프런트 최대 수는 0 또는 양수만 가능합니다."),
     MANAGER_MAX_CNT_POSITIVE_OR_ZERO_ONLY(BAD_REQUEST, "매니저 최대 수는 0 또는 양수만 가능합니다."),
+    PAGE_FROM_POSITIVE_OR_ZERO_ONLY(BAD_REQUEST, "페이지 시작점은 0 또는 양수만 가능합니다."),
     TEAM_MEMBER_ID_POSITIVE_ONLY(BAD_REQUEST, "팀원 식별자는 양수만 가능합니다."),
     OFFER_ID_POSITIVE_ONLY(BAD_REQUEST, "제안 식별자는 양수만 가능합니다."),
     NOTIFICATION_ID_POSITIVE_ONLY(BAD_REQUEST, "알림 식별자는 양수만 가능합니다."),
     ADMIN_ID_POSITIVE_ONLY(BAD_REQUEST, "관리자 식별자는 양수만 가능합니다."),
     TESTER_ID_POSITIVE_ONLY(BAD_REQUEST, "테스터 식별자는 양수만 가능합니다."),
+    FILE_SIZE_POSITIVE_ONLY(BAD_REQUEST, "파일 크기는 양수만 가능합니다."),
 
     // @Min, @Max
     RATING_RANGE_INVALID(BAD_REQUEST, "평점은 1부터 5까지의 수만 가능합니다."),
@@ -135,6 +145,7 @@ public enum ErrorCode {
     OFFER_NOT_FOUND(NOT_FOUND, "존재하지 않는 제안입니다."),
     ADMIN_NOT_FOUND(NOT_FOUND, "존재하지 않는 관리자입니다."),
     TESTER_NOT_FOUND(NOT_FOUND, "존재하지 않는 테스터입니다."),
+    FILE_NOT_FOUND(NOT_FOUND, "업로드된 파일이 존재하지 않습니다."),
 
     /**
      * 405 Method not allowed
@@ -166,6 +177,7 @@ public enum ErrorCode {
      */
     FILE_SIZE_EXCEED(PAYLOAD_TOO_LARGE, "파일 사이즈는 8MB 이하만 가능합니다."),
     FILE_COUNT_EXCEED(PAYLOAD_TOO_LARGE, "파일 수 제한 5개를 초과 하였습니다."),
+    REQUEST_SIZE_EXCEED(PAYLOAD_TOO_LARGE, "요청 본문은 4KB 이하만 가능합니다."),
 
     /**
      * 415 Unsupported media type
@@ -173,11 +185,22 @@ public enum ErrorCode {
     IMAGE_TYPE_UNSUPPORTED(UNSUPPORTED_MEDIA_TYPE, "이미지는 '.pdf', '.jpeg', '.jpg', 또는 '.png'만 가능합니다."),
     FILE_TYPE_UNSUPPORTED(UNSUPPORTED_MEDIA_TYPE, "파일은 '.jpeg', '.jpg', 또는 '.png'만 가능합니다."),
 
+    /**
+     * 429 Too many requests
+     */
+    REQUEST_LIMIT_EXCEEDED(TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도 해주세요."),
+
     /**
      * 500 Internal server error
      */
     EMAIL_SEND_ERROR(INTERNAL_SERVER_ERROR, "이메일 전송 중 서버 에러가 발생했습니다."),
-    SERVER_ERROR(INTERNAL_SERVER_ERROR, "서버 에러가 발생했습니다.");
+    SERVER_ERROR(INTERNAL_SERVER_ERROR, "서버 에러가 발생했습니다."),
+
+    /**
+     * 503 Service unavailable
+     */
+    SERVER_OVERLOADED(SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도 해주세요."),
+    RECOMMENDATION_NOT_READY(SERVICE_UNAVAILABLE, "추천 회원을 준비 중입니다. 잠시 후 다시 시도 해주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -67,6 +67,8 @@ public enum SuccessCode {
     SELF_TEAM_FOUND(OK, "본인 팀을 조회 했습니다."),
     TEAM_FOUND(OK, "팀 단건 조회를 했습니다."),
     TEAMS_RECRUITING_USERS_FOUND(OK, "팀원을 구하는 팀 다건 조회를 했습니다."),
+    TEAMS_SEARCHED(OK, "검색어로 팀원을 구하는 팀 다건 조회를 했습니다."),
+    TEAM_RECOMMENDATIONS_FOUND(OK, "팀에 추천하는 회원 다건 조회를 했습니다."),
     TEAM_IS_RECRUITING_UPDATED(OK, "팀원 모집 여부를 업데이트 했습니다."),
     PROJECT_INCOMPLETE(OK, "미완료 프로젝트를 종료 했습니다."),
     PROJECT_COMPLETE(OK, "완료 프로젝트를 종료 했습니다."),
@@ -87,10 +89,12 @@ public enum SuccessCode {
     PROFILE_DESCRIPTION_UPDATED(OK, "자기소개를 업데이트 했습니다."),
     PROFILE_UPDATED(OK, "프로필을 업데이트 했습니다."),
     USERS_SEEKING_TEAM_FOUND(OK, "팀을 구하는 회원 다건 조회를 했습니다."),
+    USERS_SKILL_FOUND(OK, "기술로 팀을 구하는 회원 다건 조회를 했습니다."),
     USER_LEFT_TEAM(OK, "회원이 팀을 탈퇴 했습니다."),
 
     // 201 Created
     PORTFOLIO_FILE_UPLOADED(CREATED, "포트폴리오 파일을 업로드 했습니다."),
+    PORTFOLIO_FILE_UPLOAD_URL_CREATED(CREATED, "포트폴리오 파일 업로드 URL을 발급 했습니다."),
 
     /**
      * User controller
@@ -140,6 +144,7 @@ public enum SuccessCode {
     SERVER_OK(OK, "헬스 체크를 했습니다."),
     TESTER_TOKEN_ISSUED(OK, "테스트 계정 토큰을 발급 했습니다."),
     TEST_FCM_SENT(OK, "테스트 FCM을 보냈습니다."),
+    QUERY_METRICS_FOUND(OK, "쿼리 지표를 조회했습니다."),
     DATABASE_RESET(OK, "데이터베이스 초기화 후 테스트 데이터를 주입했습니다.");
 
     private final HttpStatus httpStatus;
@@ -4,6 +4,7 @@ import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.gabojait.gabojaitspring.common.response.ExceptionResponse;
 import io.sentry.Sentry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,8 +30,14 @@ import static org.springframework.http.HttpStatus.PAYLOAD_TOO_LARGE;
 @RestControllerAdvice
 public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
 
+    @Value("${api.password.hashing.retry-after}")
+    private long retryAfter;
+
     @ExceptionHandler(CustomException.class)
     protected ResponseEntity<ExceptionResponse> handleCustomException(CustomException exception) {
+        if (exception.getErrorCode() == SERVER_OVERLOADED)
+            return ExceptionResponse.exceptionResponse(SERVER_OVERLOADED, retryAfter);
+
         return ExceptionResponse.exceptionResponse(exception.getErrorCode());
     }
 
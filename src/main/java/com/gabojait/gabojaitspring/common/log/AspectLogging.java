@@ -3,19 +3,39 @@ package com.gabojait.gabojaitspring.common.log;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Aspect
 @Component
 public class AspectLogging {
 
+    @Value("${api.log.trace.sample-rate.api}")
+    private double apiSampleRate;
+
+    @Value("${api.log.trace.sample-rate.repository}")
+    private double repositorySampleRate;
+
+    @Value("${api.log.trace.sample-rate.domain}")
+    private double domainSampleRate;
+
+    private final Map<Method, MethodMeta> methodMetas = new ConcurrentHashMap<>();
+    private static final Pattern passwordPattern =
+            Pattern.compile("(password(?:ReEntered)?\\s?=\\s?)\\S+");
+    private static final int sampleScale = 10000;
+
     @Pointcut("execution(public * com.gabojait.gabojaitspring.domain..*(..))" +
             "|| execution(public * com.gabojait.gabojaitspring.repository..*(..)) " +
             "|| execution(public * com.gabojait.gabojaitspring.api..*(..))")
@@ -24,42 +44,34 @@ public class AspectLogging {
     @Pointcut("execution(protected * com.gabojait.gabojaitspring.common.exception.CustomExceptionHandler..*(..))")
     private void exception() {}
 
-    @Before("global()")
-    public void beforeGlobal(JoinPoint jp) {
-        final MethodSignature signature = (MethodSignature) jp.getSignature();
-        final String className = signature.getDeclaringType().getSimpleName();
-        final Method method = signature.getMethod();
-        final Parameter[] parameterNames = method.getParameters();
-        final Object[] arguments = jp.getArgs();
-        final int paramLength = Math.min(parameterNames.length, arguments.length);
-        final String uuid = InterceptorLogging.getRequestId() == null ? "SYSTEM" : InterceptorLogging.getRequestId();
+    /**
+     * 메소드 추적 |
+     * 로그 레벨이 꺼져 있거나 샘플링에서 제외된 경우 메시지를 만들지 않고 바로 실행한다.
+     * 샘플링은 요청 식별자로 결정하여 한 요청의 호출은 모두 기록되거나 모두 제외된다.
+     */
+    @Around("global()")
+    public Object traceGlobal(ProceedingJoinPoint jp) throws Throwable {
+        if (!log.isInfoEnabled())
+            return jp.proceed();
 
-        StringBuilder param = new StringBuilder();
-        for (int i = 0; i < paramLength; i++) {
-            param.append(parameterNames[i].getName()).append("=");
+        final MethodSignature signature = (MethodSignature) jp.getSignature();
+        final MethodMeta meta = methodMetas.computeIfAbsent(signature.getMethod(),
+                method -> createMethodMeta(signature.getDeclaringType(), method));
+        final String requestId = InterceptorLogging.getRequestId();
 
-            if (arguments[i] != null) param.append(arguments[i]);
-            else param.append("null");
+        if (!isSampled(meta.sampleRate, requestId))
+            return jp.proceed();
 
-            if (i != parameterNames.length - 1) param.append(", ");
-        }
+        final String uuid = requestId == null ? "SYSTEM" : requestId;
 
-        log.info("[{} | BEFORE] {} | {} ({})", uuid, className, method.getName(), param);
-    }
+        log.info("[{} | BEFORE] {} | {} ({})", uuid, meta.className, meta.methodName,
+                new Arguments(meta.parameterNames, meta.isSensitive, jp.getArgs()));
 
-    @AfterReturning(value = "global()", returning = "result")
-    public void afterGlobal(JoinPoint jp, Object result) {
-        final MethodSignature signature = (MethodSignature) jp.getSignature();
-        final String className = signature.getDeclaringType().getSimpleName();
-        final String methodName = signature.getMethod().getName();
-        final String uuid = InterceptorLogging.getRequestId() == null ? "SYSTEM" : InterceptorLogging.getRequestId();
+        Object result = jp.proceed();
 
-        if (result != null && !methodName.contains("resultMasterPasswordScheduler")) {
-            result = result.toString().replaceAll("(?<=password\\s?=\\s?)\\S+", "******");
-            result = result.toString().replaceAll("(?<=passwordReEntered\\s?=\\s?)\\S+", "******");
-        }
+        log.info("[{} | AFTER] {} | {} | return={}", uuid, meta.className, meta.methodName, new Redacted(result));
 
-        log.info("[{} | AFTER] {} | {} | return={}", uuid, className, methodName, result);
+        return result;
     }
 
     @AfterThrowing(value = "exception()", throwing = "ex")
@@ -76,4 +88,137 @@ public class AspectLogging {
             if (ex.getThrowable() != null)
                 log.error("========== [{} | DESCRIPTION] ==========", uuid, ex.getThrowable());
     }
+
+    /**
+     * 메소드 메타 정보 생성 |
+     * 파라미터가 없는 도메인 getter와 Object 메소드는 추적하지 않는다.
+     * 이름에 password가 들어간 파라미터는 값과 관계없이 가린다.
+     * @param declaringType 선언 타입
+     * @param method 메소드
+     * @return 메소드 메타 정보
+     */
+    private MethodMeta createMethodMeta(Class<?> declaringType, Method method) {
+        final String packageName = declaringType.getPackageName();
+        final String methodName = method.getName();
+        final Parameter[] parameters = method.getParameters();
+
+        double sampleRate;
+        if (isTrivial(packageName, methodName, parameters.length))
+            sampleRate = 0;
+        else if (packageName.startsWith("com.gabojait.gabojaitspring.repository"))
+            sampleRate = repositorySampleRate;
+        else if (packageName.startsWith("com.gabojait.gabojaitspring.domain"))
+            sampleRate = domainSampleRate;
+        else
+            sampleRate = apiSampleRate;
+
+        String[] parameterNames = new String[parameters.length];
+        boolean[] isSensitive = new boolean[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            parameterNames[i] = parameters[i].getName();
+            isSensitive[i] = parameterNames[i].toLowerCase().contains("password");
+        }
+
+        return new MethodMeta(declaringType.getSimpleName(), methodName, parameterNames, isSensitive, sampleRate);
+    }
+
+    private boolean isTrivial(String packageName, String methodName, int parameterCnt) {
+        if (methodName.equals("toString") || methodName.equals("hashCode") || methodName.equals("equals"))
+            return true;
+
+        return packageName.startsWith("com.gabojait.gabojaitspring.domain")
+                && parameterCnt == 0
+                && ((methodName.startsWith("get") && methodName.length() > 3)
+                || (methodName.startsWith("is") && methodName.length() > 2));
+    }
+
+    private boolean isSampled(double sampleRate, String requestId) {
+        if (sampleRate >= 1)
+            return true;
+        if (sampleRate <= 0)
+            return false;
+
+        int bucket = requestId == null
+                ? ThreadLocalRandom.current().nextInt(sampleScale)
+                : (requestId.hashCode() & Integer.MAX_VALUE) % sampleScale;
+
+        return bucket < sampleRate * sampleScale;
+    }
+
+    private static String redact(Object value) {
+        String string = String.valueOf(value);
+
+        if (!string.contains("password"))
+            return string;
+
+        return passwordPattern.matcher(string).replaceAll("$1******");
+    }
+
+    private static final class MethodMeta {
+
+        private final String className;
+        private final String methodName;
+        private final String[] parameterNames;
+        private final boolean[] isSensitive;
+        private final double sampleRate;
+
+        private MethodMeta(String className,
+                           String methodName,
+                           String[] parameterNames,
+                           boolean[] isSensitive,
+                           double sampleRate) {
+            this.className = className;
+            this.methodName = methodName;
+            this.parameterNames = parameterNames;
+            this.isSensitive = isSensitive;
+            this.sampleRate = sampleRate;
+        }
+    }
+
+    /**
+     * 파라미터 로그 메시지 |
+     * 로그가 실제로 출력될 때만 문자열을 만든다.
+     */
+    private static final class Arguments {
+
+        private final String[] parameterNames;
+        private final boolean[] isSensitive;
+        private final Object[] arguments;
+
+        private Arguments(String[] parameterNames, boolean[] isSensitive, Object[] arguments) {
+            this.parameterNames = parameterNames;
+            this.isSensitive = isSensitive;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public String toString() {
+            final int paramLength = Math.min(parameterNames.length, arguments.length);
+
+            StringBuilder param = new StringBuilder();
+            for (int i = 0; i < paramLength; i++) {
+                param.append(parameterNames[i])
+                        .append("=")
+                        .append(isSensitive[i] ? "******" : redact(arguments[i]));
+
+                if (i != paramLength - 1) param.append(", ");
+            }
+
+            return param.toString();
+        }
+    }
+
+    private static final class Redacted {
+
+        private final Object value;
+
+        private Redacted(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return redact(value);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package com.gabojait.gabojaitspring.common.log;
+
+import com.gabojait.gabojaitspring.common.util.LatencyHistogram;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.annotation.Nullable;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지연 시간 인터셉터 |
+ * 핸들러 시작부터 응답 완료까지의 시간을 엔드포인트별 히스토그램에 기록한다.
+ * 매핑되지 않은 요청은 하나로 묶어 엔드포인트 수가 요청 경로만큼 늘어나지 않도록 한다.
+ */
+@Component
+public class LatencyInterceptor implements HandlerInterceptor {
+
+    private static final String startAttribute = LatencyInterceptor.class.getName() + ".START";
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request,
+                             @Nullable HttpServletResponse response,
+                             @Nullable Object handler) {
+        request.setAttribute(startAttribute, System.nanoTime());
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request,
+                                @Nullable HttpServletResponse response,
+                                @Nullable Object handler,
+                                @Nullable Exception ex) {
+        Object start = request.getAttribute(startAttribute);
+        if (!(start instanceof Long))
+            return;
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern == null ? "UNMAPPED" : pattern);
+
+        histograms.computeIfAbsent(endpoint, e -> new LatencyHistogram())
+                .record(System.nanoTime() - (Long) start);
+    }
+
+    /**
+     * 엔드포인트별 지연 시간 히스토그램 전체 조회
+     * @return 엔드포인트별 지연 시간 히스토그램
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+}
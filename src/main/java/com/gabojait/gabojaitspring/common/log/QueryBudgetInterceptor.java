@@ -0,0 +1,102 @@
+package com.gabojait.gabojaitspring.common.log;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.annotation.Nullable;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿼리 예산 인터셉터 |
+ * 요청별 쿼리 수와 시간을 집계하여 예산을 초과하거나 같은 형태의 쿼리가 반복되면(N+1) 경고를 남기고,
+ * 엔드포인트별 쿼리 통계를 누적한다.
+ */
+@Slf4j
+@Component
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    @Value("${api.log.query.budget.statement-cnt}")
+    private int statementCntBudget;
+
+    @Value("${api.log.query.budget.elapsed-time}")
+    private long elapsedTimeBudget;
+
+    @Value("${api.log.query.budget.repeat-cnt}")
+    private int repeatCntBudget;
+
+    @Value("${api.log.query.budget.fingerprint-cnt}")
+    private int fingerprintCnt;
+
+    private final Map<String, QueryStatistics> statistics = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request,
+                             @Nullable HttpServletResponse response,
+                             @Nullable Object handler) {
+        QueryCounter.start(InterceptorLogging.getRequestId());
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request,
+                                @Nullable HttpServletResponse response,
+                                @Nullable Object handler,
+                                @Nullable Exception ex) {
+        QueryCounter counter = QueryCounter.end();
+        if (counter == null)
+            return;
+
+        final String endpoint = getEndpoint(request);
+        final boolean isExceeded = counter.getStatementCnt() > statementCntBudget
+                || counter.getElapsedMillis() > elapsedTimeBudget;
+
+        statistics.computeIfAbsent(endpoint, QueryStatistics::new).record(counter, isExceeded);
+
+        if (counter.getStatementCnt() <= 1 || !log.isWarnEnabled())
+            return;
+
+        final List<Map.Entry<String, Integer>> fingerprints = counter.getFingerprints();
+        final boolean isRepeated = fingerprints.get(0).getValue() >= repeatCntBudget;
+
+        if (!isExceeded && !isRepeated)
+            return;
+
+        final String uuid = counter.getRequestId() == null ? "SYSTEM" : counter.getRequestId();
+
+        log.warn("[{} | QUERY BUDGET] {} | statements={}, time={}ms", uuid, endpoint, counter.getStatementCnt(),
+                counter.getElapsedMillis());
+
+        for (int i = 0; i < Math.min(fingerprintCnt, fingerprints.size()); i++) {
+            Map.Entry<String, Integer> fingerprint = fingerprints.get(i);
+
+            if (fingerprint.getValue() >= repeatCntBudget)
+                log.warn("[{} | N+1] {} | count={} | {}", uuid, endpoint, fingerprint.getValue(), fingerprint.getKey());
+            else if (isExceeded)
+                log.warn("[{} | QUERY] {} | count={} | {}", uuid, endpoint, fingerprint.getValue(),
+                        fingerprint.getKey());
+        }
+    }
+
+    /**
+     * 엔드포인트별 쿼리 통계 전체 조회
+     * @return 엔드포인트별 쿼리 통계
+     */
+    public List<QueryStatistics> getStatistics() {
+        return new ArrayList<>(statistics.values());
+    }
+
+    private String getEndpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return request.getMethod() + " " + (pattern == null ? "UNMAPPED" : pattern);
+    }
+}
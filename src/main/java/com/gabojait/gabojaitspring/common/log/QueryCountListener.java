@@ -0,0 +1,23 @@
+package com.gabojait.gabojaitspring.common.log;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * 쿼리 카운트 리스너 |
+ * p6spy 로그 출력 여부와 관계없이 모든 쿼리 실행을 요청별 쿼리 카운터에 기록한다.
+ */
+@Component
+public class QueryCountListener extends SimpleJdbcEventListener {
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        QueryCounter counter = QueryCounter.current();
+
+        if (counter != null)
+            counter.record(statementInformation.getSql(), timeElapsedNanos);
+    }
+}
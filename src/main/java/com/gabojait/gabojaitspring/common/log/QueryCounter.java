@@ -0,0 +1,104 @@
+package com.gabojait.gabojaitspring.common.log;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 요청별 쿼리 카운터 |
+ * 요청 스레드에서 실행된 쿼리 수와 시간을 기록한다.
+ * 쿼리는 실행 문자열 그대로 집계하고, 핑거프린트 정규화는 경고를 남길 때만 한다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> counterThreadLocal = new ThreadLocal<>();
+    private static final Pattern literalPattern = Pattern.compile("'(?:[^']|'')*'|\\b\\d+\\b");
+    private static final Pattern inListPattern = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern whitespacePattern = Pattern.compile("\\s+");
+
+    private final String requestId;
+    private final Map<String, Integer> statements = new HashMap<>();
+    private int statementCnt;
+    private long elapsedNanos;
+
+    private QueryCounter(String requestId) {
+        this.requestId = requestId;
+    }
+
+    /**
+     * 쿼리 카운터 시작
+     * @param requestId 요청 식별자
+     * @return 쿼리 카운터
+     */
+    public static QueryCounter start(String requestId) {
+        QueryCounter counter = new QueryCounter(requestId);
+        counterThreadLocal.set(counter);
+
+        return counter;
+    }
+
+    public static QueryCounter current() {
+        return counterThreadLocal.get();
+    }
+
+    /**
+     * 쿼리 카운터 종료
+     * @return 쿼리 카운터 (시작하지 않은 경우 null)
+     */
+    public static QueryCounter end() {
+        QueryCounter counter = counterThreadLocal.get();
+        counterThreadLocal.remove();
+
+        return counter;
+    }
+
+    /**
+     * 쿼리 기록
+     * @param sql 쿼리
+     * @param elapsedNanos 실행 시간
+     */
+    public void record(String sql, long elapsedNanos) {
+        this.statementCnt++;
+        this.elapsedNanos += elapsedNanos;
+
+        if (sql != null)
+            statements.merge(sql, 1, Integer::sum);
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public int getStatementCnt() {
+        return statementCnt;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    public Set<String> getStatements() {
+        return Collections.unmodifiableSet(statements.keySet());
+    }
+
+    /**
+     * 핑거프린트별 실행 횟수 조회 |
+     * 리터럴과 IN 절 파라미터 개수를 정규화하여 같은 형태의 쿼리를 합친 후 실행 횟수 내림차순으로 정렬한다.
+     * @return 핑거프린트별 실행 횟수
+     */
+    public List<Map.Entry<String, Integer>> getFingerprints() {
+        Map<String, Integer> fingerprints = new HashMap<>();
+        statements.forEach((sql, cnt) -> fingerprints.merge(fingerprint(sql), cnt, Integer::sum));
+
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(fingerprints.entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+        return entries;
+    }
+
+    static String fingerprint(String sql) {
+        String fingerprint = literalPattern.matcher(sql).replaceAll("?");
+        fingerprint = inListPattern.matcher(fingerprint).replaceAll("(?)");
+
+        return whitespacePattern.matcher(fingerprint).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+}
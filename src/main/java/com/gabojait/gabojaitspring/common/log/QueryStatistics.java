@@ -0,0 +1,60 @@
+package com.gabojait.gabojaitspring.common.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 쿼리 통계
+ */
+public final class QueryStatistics {
+
+    private final String endpoint;
+    private final LongAdder requestCnt = new LongAdder();
+    private final LongAdder statementCnt = new LongAdder();
+    private final LongAdder elapsedMillis = new LongAdder();
+    private final LongAdder exceededCnt = new LongAdder();
+    private final AtomicLong maxStatementCnt = new AtomicLong();
+
+    public QueryStatistics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * 요청 쿼리 기록
+     * @param counter 쿼리 카운터
+     * @param isExceeded 쿼리 예산 초과 여부
+     */
+    public void record(QueryCounter counter, boolean isExceeded) {
+        requestCnt.increment();
+        statementCnt.add(counter.getStatementCnt());
+        elapsedMillis.add(counter.getElapsedMillis());
+        maxStatementCnt.accumulateAndGet(counter.getStatementCnt(), Math::max);
+
+        if (isExceeded)
+            exceededCnt.increment();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRequestCnt() {
+        return requestCnt.sum();
+    }
+
+    public long getStatementCnt() {
+        return statementCnt.sum();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis.sum();
+    }
+
+    public long getExceededCnt() {
+        return exceededCnt.sum();
+    }
+
+    public long getMaxStatementCnt() {
+        return maxStatementCnt.get();
+    }
+}
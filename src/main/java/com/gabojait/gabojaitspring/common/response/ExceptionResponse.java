@@ -7,6 +7,7 @@ import io.swagger.annotations.ApiModelProperty;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 @Getter
@@ -29,4 +30,15 @@ public class ExceptionResponse {
                         .responseMessage(exceptionCode.getMessage())
                         .build());
     }
+
+    public static ResponseEntity<ExceptionResponse> exceptionResponse(final ErrorCode exceptionCode,
+                                                                      final long retryAfter) {
+        return ResponseEntity
+                .status(exceptionCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .body(ExceptionResponse.builder()
+                        .responseCode(exceptionCode.name())
+                        .responseMessage(exceptionCode.getMessage())
+                        .build());
+    }
 }
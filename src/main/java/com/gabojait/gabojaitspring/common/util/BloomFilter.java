@@ -0,0 +1,91 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블룸 필터 |
+ * mightContain이 false를 반환하면 추가된 적이 없음이 보장되고, true인 경우 오탐일 수 있다.
+ * 비트 배열을 AtomicLongArray로 관리하여 잠금 없이 여러 스레드에서 사용할 수 있다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCnt;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate 오탐율
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        this.bitSize = (int) Math.min(Math.max(m, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        this.hashCnt = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * 항목 추가
+     * @param value 항목
+     */
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCnt; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitSize;
+            long mask = 1L << index;
+            int word = index >>> 6;
+
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0)
+                    break;
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 항목 포함 여부 확인
+     * @param value 항목
+     * @return 포함 가능성 여부
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCnt; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitSize;
+
+            if ((bits.get(index >>> 6) & (1L << index)) == 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 64비트 FNV-1a 해시 후 비트 확산
+     * @param value 항목
+     * @return 해시
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
@@ -0,0 +1,82 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import lombok.Getter;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 컬렉션 비교 결과 |
+ * 현재 엔티티들과 요청들을 식별자로 한번에 비교하여 생성, 수정, 삭제 대상을 나눈다.
+ * 식별자가 없는 요청은 생성, 현재 엔티티와 식별자가 같은 요청은 수정, 요청에 없는 현재 엔티티는 삭제 대상이다.
+ * 현재 엔티티에 없는 식별자이거나 이미 다른 요청과 비교된 식별자를 가진 요청은 무시한다.
+ */
+@Getter
+public final class CollectionDiff<E, R> {
+
+    private final List<R> inserts = new ArrayList<>();
+    private final List<Update<E, R>> updates = new ArrayList<>();
+    private final List<E> deletes = new ArrayList<>();
+
+    private CollectionDiff() {
+    }
+
+    /**
+     * 컬렉션 비교
+     * @param currents 현재 엔티티들
+     * @param currentId 엔티티 식별자 함수
+     * @param requests 요청들
+     * @param requestId 요청 식별자 함수, 생성 요청이면 null
+     * @return 비교 결과
+     */
+    public static <E, R> CollectionDiff<E, R> of(Collection<E> currents,
+                                                 Function<E, Long> currentId,
+                                                 Collection<R> requests,
+                                                 Function<R, Long> requestId) {
+        Map<Long, E> remains = new LinkedHashMap<>();
+        for (E current : currents)
+            remains.put(currentId.apply(current), current);
+
+        CollectionDiff<E, R> diff = new CollectionDiff<>();
+        for (R request : requests) {
+            Long id = requestId.apply(request);
+
+            if (id == null) {
+                diff.inserts.add(request);
+                continue;
+            }
+
+            E current = remains.remove(id);
+            if (current != null)
+                diff.updates.add(new Update<>(current, request));
+        }
+
+        diff.deletes.addAll(remains.values());
+
+        return diff;
+    }
+
+    public List<Long> getDeleteIds(Function<E, Long> currentId) {
+        List<Long> ids = new ArrayList<>(deletes.size());
+        for (E delete : deletes)
+            ids.add(currentId.apply(delete));
+
+        return ids;
+    }
+
+    public boolean hasInsertOrDelete() {
+        return !inserts.isEmpty() || !deletes.isEmpty();
+    }
+
+    @Getter
+    public static final class Update<E, R> {
+
+        private final E current;
+        private final R request;
+
+        private Update(E current, R request) {
+            this.current = current;
+            this.request = request;
+        }
+    }
+}
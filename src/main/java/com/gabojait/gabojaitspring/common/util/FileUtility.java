@@ -1,27 +1,48 @@
 package com.gabojait.gabojaitspring.common.util;
 
-import com.amazonaws.AmazonServiceException;
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.*;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.net.URL;
-import java.util.Objects;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.*;
 
+/**
+ * 파일 유틸리티 |
+ * 업로드된 파일을 힙이나 임시 파일에 복사하지 않고 입력 스트림 그대로 S3에 전송한다.
+ * 멀티파트 업로드 기준 크기 이상인 파일은 파트 크기만큼씩 나누어 전송하므로 파일 크기와 관계없이 사용하는 메모리가 일정하다.
+ * 사전 서명 URL로 업로드하는 파일은 서버를 거치지 않으며, 확인 후에만 공개한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class FileUtility {
 
-    private final AmazonS3Client amazonS3Client;
+    @Value("${api.file.upload.multipart-threshold}")
+    private long multipartThreshold;
+
+    @Value("${api.file.upload.part-size}")
+    private long partSize;
+
+    @Value("${api.file.presigned.expiration}")
+    private long presignedExpiration;
+
+    @Value("${api.file.presigned.max-size}")
+    private long presignedMaxSize;
+
+    private final AmazonS3 amazonS3;
 
     /**
      * 파일 업로드 |
@@ -42,43 +63,201 @@ public class FileUtility {
                          boolean isImage) {
         validateFileType(multipartFile, isImage);
 
-        File file = convertMultipartToFile(multipartFile);
         String folderFileName = folderName + "/" + fileName;
-        URL url;
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(multipartFile.getSize());
+        metadata.setContentType(multipartFile.getContentType());
+
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            if (multipartFile.getSize() < multipartThreshold)
+                amazonS3.putObject(new PutObjectRequest(bucketName, folderFileName, inputStream, metadata)
+                        .withCannedAcl(CannedAccessControlList.PublicRead));
+            else
+                uploadMultipart(bucketName, folderFileName, inputStream, metadata);
+
+            return amazonS3.getUrl(bucketName, folderFileName).toString();
+        } catch (IOException | SdkClientException e) {
+            throw new CustomException(SERVER_ERROR, e);
+        }
+    }
+
+    /**
+     * 생성된 파일 업로드 |
+     * 서버에서 만든 작은 파일을 원본과 같은 폴더에 업로드한다.
+     * 500(SERVER_ERROR)
+     * @param bucketName 버켓명
+     * @param folderName 폴더명
+     * @param fileName 파일명
+     * @param content 파일 내용
+     * @param contentType 파일 타입
+     * @return 파일 주소
+     */
+    public String upload(String bucketName, String folderName, String fileName, byte[] content, String contentType) {
+        String folderFileName = folderName + "/" + fileName;
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
 
         try {
-            amazonS3Client.putObject(new PutObjectRequest(bucketName, folderFileName, file)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            amazonS3.putObject(new PutObjectRequest(bucketName, folderFileName, new ByteArrayInputStream(content),
+                    metadata).withCannedAcl(CannedAccessControlList.PublicRead));
+
+            return amazonS3.getUrl(bucketName, folderFileName).toString();
+        } catch (SdkClientException e) {
+            throw new CustomException(SERVER_ERROR, e);
+        }
+    }
 
-            url = amazonS3Client.getUrl(bucketName, folderFileName);
-        } catch (AmazonServiceException e) {
-            throw new CustomException(SERVER_ERROR, e.getCause());
+    /**
+     * 파일 다운로드 |
+     * 500(SERVER_ERROR)
+     * @param bucketName 버켓명
+     * @param folderName 폴더명
+     * @param fileName 파일명
+     * @return 파일 입력 스트림, 사용 후 닫아야 한다
+     */
+    public InputStream download(String bucketName, String folderName, String fileName) {
+        try {
+            return amazonS3.getObject(bucketName, folderName + "/" + fileName).getObjectContent();
+        } catch (SdkClientException e) {
+            throw new CustomException(SERVER_ERROR, e);
         }
+    }
+
+    /**
+     * 업로드 URL 생성 |
+     * 파일 타입과 크기를 서명에 포함한 PUT URL을 발급하므로, 클라이언트는 요청한 타입과 크기로만 업로드할 수 있다.
+     * 업로드된 파일은 비공개 상태이며 업로드 확인 후에 공개된다.
+     * 413(FILE_SIZE_EXCEED)
+     * 415(IMAGE_TYPE_UNSUPPORTED / FILE_TYPE_UNSUPPORTED)
+     * 500(SERVER_ERROR)
+     * @param bucketName 버켓명
+     * @param folderName 폴더명
+     * @param fileName 파일명
+     * @param contentType 파일 타입
+     * @param size 파일 크기
+     * @param isImage 이미지 여부
+     * @return 업로드 URL
+     */
+    public String createUploadUrl(String bucketName,
+                                  String folderName,
+                                  String fileName,
+                                  String contentType,
+                                  long size,
+                                  boolean isImage) {
+        validateContentType(contentType, isImage);
+        if (size > presignedMaxSize)
+            throw new CustomException(FILE_SIZE_EXCEED);
 
-        file.delete();
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName,
+                folderName + "/" + fileName, HttpMethod.PUT)
+                .withExpiration(new Date(System.currentTimeMillis() + presignedExpiration))
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(size));
 
-        return url.toString();
+        try {
+            return amazonS3.generatePresignedUrl(request).toString();
+        } catch (SdkClientException e) {
+            throw new CustomException(SERVER_ERROR, e);
+        }
     }
 
     /**
-     * 파일 타입 변환 |
+     * 업로드 확인 |
+     * 업로드 URL로 올라온 파일의 크기와 타입을 다시 검증하고 공개한다. 검증에 실패한 파일은 삭제한다.
+     * 404(FILE_NOT_FOUND)
+     * 413(FILE_SIZE_EXCEED)
+     * 415(IMAGE_TYPE_UNSUPPORTED / FILE_TYPE_UNSUPPORTED)
      * 500(SERVER_ERROR)
-     * @param file MultipartFile
-     * @return File
+     * @param bucketName 버켓명
+     * @param folderName 폴더명
+     * @param fileName 파일명
+     * @param isImage 이미지 여부
+     * @return 파일 주소
      */
-    private File convertMultipartToFile(MultipartFile file) {
+    public String confirmUpload(String bucketName, String folderName, String fileName, boolean isImage) {
+        String folderFileName = folderName + "/" + fileName;
+
+        try {
+            ObjectMetadata metadata = getObjectMetadata(bucketName, folderFileName);
+
+            try {
+                if (metadata.getContentLength() > presignedMaxSize)
+                    throw new CustomException(FILE_SIZE_EXCEED);
+                validateContentType(metadata.getContentType(), isImage);
+            } catch (CustomException e) {
+                amazonS3.deleteObject(bucketName, folderFileName);
+                throw e;
+            }
+
+            amazonS3.setObjectAcl(bucketName, folderFileName, CannedAccessControlList.PublicRead);
 
-        File convertFile = new File(Objects.requireNonNull(file.getOriginalFilename()));
+            return amazonS3.getUrl(bucketName, folderFileName).toString();
+        } catch (SdkClientException e) {
+            throw new CustomException(SERVER_ERROR, e);
+        }
+    }
 
+    /**
+     * 파일 메타데이터 조회 |
+     * 404(FILE_NOT_FOUND)
+     * @param bucketName 버켓명
+     * @param key 객체 키
+     * @return 파일 메타데이터
+     */
+    private ObjectMetadata getObjectMetadata(String bucketName, String key) {
         try {
-            FileOutputStream fileOutputStream = new FileOutputStream(convertFile);
-            fileOutputStream.write(file.getBytes());
-            fileOutputStream.close();
-        } catch (IOException e) {
-            throw new CustomException(SERVER_ERROR, e.getCause());
+            return amazonS3.getObjectMetadata(bucketName, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404)
+                throw new CustomException(FILE_NOT_FOUND);
+
+            throw e;
         }
+    }
+
+    /**
+     * 멀티파트 업로드 |
+     * 하나의 입력 스트림에서 파트 크기만큼씩 순서대로 읽어 전송하고, 실패하면 업로드된 파트들을 삭제한다.
+     * @param bucketName 버켓명
+     * @param key 객체 키
+     * @param inputStream 파일 입력 스트림
+     * @param metadata 파일 메타데이터
+     */
+    private void uploadMultipart(String bucketName, String key, InputStream inputStream, ObjectMetadata metadata) {
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key, metadata)
+                        .withCannedACL(CannedAccessControlList.PublicRead))
+                .getUploadId();
+
+        try {
+            long size = metadata.getContentLength();
+            List<PartETag> partETags = new ArrayList<>();
+
+            for (long position = 0; position < size; position += partSize) {
+                long currentPartSize = Math.min(partSize, size - position);
+
+                partETags.add(amazonS3.uploadPart(new UploadPartRequest()
+                                .withBucketName(bucketName)
+                                .withKey(key)
+                                .withUploadId(uploadId)
+                                .withPartNumber(partETags.size() + 1)
+                                .withPartSize(currentPartSize)
+                                .withInputStream(inputStream)
+                                .withLastPart(position + currentPartSize == size))
+                        .getPartETag());
+            }
 
-        return convertFile;
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId,
+                    partETags));
+        } catch (SdkClientException e) {
+            try {
+                amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+            } catch (SdkClientException abortException) {
+                e.addSuppressed(abortException);
+            }
+
+            throw e;
+        }
     }
 
     /**
@@ -92,7 +271,17 @@ public class FileUtility {
         if (multipartFile == null || multipartFile.isEmpty())
             throw new CustomException(FILE_FIELD_REQUIRED);
 
-        String fileType = multipartFile.getContentType().split("/")[1];
+        validateContentType(multipartFile.getContentType(), isImage);
+    }
+
+    /**
+     * 파일 타입 검증 |
+     * 415(IMAGE_TYPE_UNSUPPORTED / FILE_TYPE_UNSUPPORTED)
+     * @param contentType 파일 타입
+     * @param isImage 이미지 여부
+     */
+    private void validateContentType(String contentType, boolean isImage) {
+        String fileType = contentType == null || !contentType.contains("/") ? "" : contentType.split("/")[1];
 
         if (isImage) {
             if (!fileType.equals("jpg") && !fileType.equals("jpeg") && !fileType.equals("png"))
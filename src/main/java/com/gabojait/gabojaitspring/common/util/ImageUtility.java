@@ -0,0 +1,183 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import com.gabojait.gabojaitspring.common.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.SERVER_ERROR;
+
+/**
+ * 이미지 유틸리티 |
+ * 업로드된 이미지의 썸네일을 요청 스레드가 아닌 전용 스레드 풀에서 만든다.
+ * 썸네일 생성은 응답에 필요하지 않으므로 대기열이 가득 차거나 실패하면 건너뛰고, 그동안 원본 이미지를 사용한다.
+ */
+@Slf4j
+@Component
+public class ImageUtility {
+
+    @Value("${api.image.thumbnail.size}")
+    private int thumbnailSize;
+
+    @Value("${api.image.thumbnail.pool-size}")
+    private int poolSize;
+
+    @Value("${api.image.thumbnail.queue-capacity}")
+    private int queueCapacity;
+
+    private final LongAdder rejectedCnt = new LongAdder();
+    private final LongAdder failedCnt = new LongAdder();
+    private ThreadPoolExecutor thumbnailExecutor;
+
+    /**
+     * 썸네일 전용 스레드 풀 생성 |
+     * 이미지 디코딩이 요청 스레드와 CPU, 메모리를 독점하지 않도록 스레드 수와 대기열 크기를 제한한다.
+     */
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCnt = new AtomicInteger();
+
+        thumbnailExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ThumbnailExecutor-" + threadCnt.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void destroy() {
+        thumbnailExecutor.shutdown();
+    }
+
+    /**
+     * 썸네일 작업 실행 |
+     * 트랜잭션 안에서 호출된 경우 원본 이미지 주소가 커밋된 이후에 실행하고, 롤백되면 실행하지 않는다.
+     * @param task 썸네일 작업
+     */
+    public void submitAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(task);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(task);
+            }
+        });
+    }
+
+    /**
+     * 썸네일 생성 |
+     * 원본의 비율을 유지한 채 긴 변이 썸네일 크기가 되도록 줄이며, 원본이 더 작으면 줄이지 않는다.
+     * 썸네일보다 훨씬 큰 이미지는 디코딩할 때부터 픽셀을 건너뛰어 읽으므로 원본 크기만큼 메모리를 쓰지 않는다.
+     * 500(SERVER_ERROR)
+     * @param inputStream 원본 이미지 입력 스트림, 생성 후 닫는다
+     * @param contentType 원본 이미지 타입
+     * @return 썸네일
+     */
+    public byte[] resize(InputStream inputStream, String contentType) {
+        boolean isPng = contentType.endsWith("png");
+
+        try (InputStream in = inputStream;
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext())
+                throw new IOException("Unsupported image type " + contentType);
+
+            ImageReader reader = readers.next();
+            BufferedImage original;
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(longSide / (thumbnailSize * 2), 1);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                original = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+
+            double scale = Math.min((double) thumbnailSize / Math.max(original.getWidth(), original.getHeight()), 1);
+            int width = Math.max((int) Math.round(original.getWidth() * scale), 1);
+            int height = Math.max((int) Math.round(original.getHeight() * scale), 1);
+
+            BufferedImage thumbnail = new BufferedImage(width, height,
+                    isPng ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = thumbnail.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(original, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            ImageIO.write(thumbnail, isPng ? "png" : "jpg", outputStream);
+
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new CustomException(SERVER_ERROR, e);
+        }
+    }
+
+    public int getQueueSize() {
+        return thumbnailExecutor.getQueue().size();
+    }
+
+    public int getActiveCnt() {
+        return thumbnailExecutor.getActiveCount();
+    }
+
+    public long getRejectedCnt() {
+        return rejectedCnt.sum();
+    }
+
+    public long getFailedCnt() {
+        return failedCnt.sum();
+    }
+
+    private void submit(Runnable task) {
+        try {
+            thumbnailExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    failedCnt.increment();
+                    log.warn("[SYSTEM | IMAGE] thumbnail failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCnt.increment();
+            log.warn("[SYSTEM | IMAGE] thumbnail rejected queue={}, active={}, rejected={}", getQueueSize(),
+                    getActiveCnt(), getRejectedCnt());
+        }
+    }
+}
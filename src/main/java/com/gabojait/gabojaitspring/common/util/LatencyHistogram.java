@@ -0,0 +1,106 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램 |
+ * 마이크로초 단위로 2의 거듭제곱 구간을 8개로 나눈 로그-선형 버킷에 기록하여 백분위 상대 오차가 1/16 이내이다.
+ * 버킷을 AtomicLongArray로 관리하여 잠금 없이 여러 스레드에서 기록할 수 있다.
+ */
+public final class LatencyHistogram {
+
+    private static final int subBucketBits = 3;
+    private static final int subBucketCnt = 1 << subBucketBits;
+    private static final int maxExponent = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray((maxExponent - subBucketBits + 2) * subBucketCnt);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * 지연 시간 기록
+     * @param nanos 지연 시간(ns)
+     */
+    public void record(long nanos) {
+        if (nanos < 0)
+            return;
+
+        buckets.incrementAndGet(index(TimeUnit.NANOSECONDS.toMicros(nanos)));
+        count.increment();
+        sumNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * 백분위 지연 시간 조회 |
+     * 해당 백분위가 속한 버킷의 중간값을 반환한다.
+     * @param percentile 백분위 (0 ~ 1)
+     * @return 지연 시간(ns)
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] snapshot = new long[buckets.length()];
+        long total = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+
+        if (total == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+
+            if (seen >= rank)
+                return TimeUnit.MICROSECONDS.toNanos((lowerBound(i) + upperBound(i)) / 2);
+        }
+
+        return maxNanos.get();
+    }
+
+    private static int index(long micros) {
+        if (micros < subBucketCnt)
+            return (int) micros;
+
+        int exponent = Math.min(Long.SIZE - 1 - Long.numberOfLeadingZeros(micros), maxExponent);
+        int subBucket = (int) (micros >>> (exponent - subBucketBits)) & (subBucketCnt - 1);
+
+        return (exponent - subBucketBits + 1) * subBucketCnt + subBucket;
+    }
+
+    private static long lowerBound(int index) {
+        if (index < subBucketCnt)
+            return index;
+
+        int shift = index / subBucketCnt - 1;
+
+        return (long) (subBucketCnt + index % subBucketCnt) << shift;
+    }
+
+    private static long upperBound(int index) {
+        if (index < subBucketCnt)
+            return index;
+
+        int shift = index / subBucketCnt - 1;
+
+        return ((long) (subBucketCnt + index % subBucketCnt + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,130 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 전체 개수 유틸리티 |
+ * 페이지 조회마다 COUNT 쿼리를 실행하지 않도록 (영역, 조건)별 전체 개수를 캐시한다.
+ * EXACT는 매번 개수를 세고, CACHED는 첫 페이지에서만 세어 이후 페이지는 캐시를 사용하며 쓰기 발생 시 캐시를 삭제한다.
+ * APPROXIMATE는 첫 페이지도 캐시를 사용하고 쓰기가 발생해도 캐시를 삭제하지 않아 최대 TTL만큼 오차가 있을 수 있다.
+ * 0개는 캐시하지 않아 새로 추가된 데이터가 빈 페이지로 조회되지 않도록 한다.
+ */
+@Component
+public class PageCountUtility {
+
+    public static final long FIRST_PAGE_FROM = Long.MAX_VALUE - 1;
+
+    @Value("${api.page.count.mode}")
+    private Mode mode;
+
+    @Value("${api.page.count.ttl}")
+    private long ttl;
+
+    @Value("${api.page.count.max-size}")
+    private int maxSize;
+
+    private final Map<String, Map<String, CachedCount>> regions = new ConcurrentHashMap<>();
+    private final LongAdder hitCnt = new LongAdder();
+    private final LongAdder missCnt = new LongAdder();
+
+    /**
+     * 전체 개수 조회
+     * @param region 영역 (테이블명)
+     * @param key 조회 조건
+     * @param pageFrom 페이지 시작점
+     * @param counter 전체 개수 조회 함수
+     * @return 전체 개수
+     */
+    public long count(String region, String key, long pageFrom, LongSupplier counter) {
+        if (mode == Mode.EXACT)
+            return counter.getAsLong();
+
+        long now = System.currentTimeMillis();
+        Map<String, CachedCount> counts = regions.computeIfAbsent(region, r -> new ConcurrentHashMap<>());
+
+        if (mode == Mode.APPROXIMATE || pageFrom < FIRST_PAGE_FROM) {
+            CachedCount cached = counts.get(key);
+
+            if (cached != null && cached.expiresAt > now) {
+                hitCnt.increment();
+                return cached.count;
+            }
+        }
+
+        missCnt.increment();
+
+        long count = counter.getAsLong();
+
+        if (count == 0)
+            return count;
+
+        if (counts.size() >= maxSize)
+            counts.clear();
+        counts.put(key, new CachedCount(count, now + ttl));
+
+        return count;
+    }
+
+    /**
+     * 영역 캐시 삭제 |
+     * 트랜잭션 안에서 호출된 경우 커밋 이후에도 한번 더 삭제하여 커밋 전 개수가 남지 않도록 한다.
+     * @param region 영역 (테이블명)
+     */
+    public void evict(String region) {
+        if (mode != Mode.CACHED)
+            return;
+
+        regions.remove(region);
+
+        String resourceKey = PageCountUtility.class.getName() + "." + region;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(resourceKey))
+            return;
+
+        TransactionSynchronizationManager.bindResource(resourceKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                regions.remove(region);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+            }
+        });
+    }
+
+    public long getHitCnt() {
+        return hitCnt.sum();
+    }
+
+    public long getMissCnt() {
+        return missCnt.sum();
+    }
+
+    public enum Mode {
+        EXACT,
+        CACHED,
+        APPROXIMATE
+    }
+
+    private static final class CachedCount {
+
+        private final long count;
+        private final long expiresAt;
+
+        private CachedCount(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
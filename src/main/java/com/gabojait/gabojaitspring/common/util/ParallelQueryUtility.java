@@ -0,0 +1,173 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import com.gabojait.gabojaitspring.common.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.SERVER_ERROR;
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.SERVER_OVERLOADED;
+
+/**
+ * 병렬 조회 유틸리티 |
+ * 서로 독립적인 읽기 전용 조회를 전용 스레드 풀에서 각자의 읽기 전용 트랜잭션(커넥션)으로 동시에 실행한다.
+ * 별도 커넥션은 요청 트랜잭션에서 커밋되지 않은 변경을 볼 수 없으므로, 쓰기 전의 조회에만 사용해야 한다.
+ * 비활성화된 경우 요청 스레드에서 바로 실행한다.
+ * 대기열이 가득 찬 경우 요청 스레드에서 실행하면 커넥션을 점유한 채 다른 조회를 기다리게 되므로 실행하지 않고 거절한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParallelQueryUtility {
+
+    @Value("${api.query.parallel.enabled}")
+    private boolean isEnabled;
+
+    @Value("${api.query.parallel.pool-size}")
+    private int poolSize;
+
+    @Value("${api.query.parallel.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${api.query.parallel.timeout}")
+    private long timeout;
+
+    private final PlatformTransactionManager transactionManager;
+    private final LongAdder rejectedCnt = new LongAdder();
+    private final LongAdder timeoutCnt = new LongAdder();
+    private TransactionTemplate transactionTemplate;
+    private ThreadPoolExecutor queryExecutor;
+
+    /**
+     * 조회 전용 스레드 풀 생성 |
+     * 커넥션 풀을 모두 점유하지 않도록 스레드 수와 대기열 크기를 제한한다.
+     */
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCnt = new AtomicInteger();
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        queryExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ParallelQueryExecutor-" + threadCnt.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void destroy() {
+        queryExecutor.shutdown();
+    }
+
+    /**
+     * 조회 마감 시각 |
+     * 한 요청에서 실행한 조회들은 같은 마감 시각까지 기다린다.
+     * @return 마감 시각 (나노초)
+     */
+    public long deadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+    }
+
+    /**
+     * 조회 실행 |
+     * 비활성화된 경우 요청 스레드에서 새 트랜잭션을 열지 않고 호출한 쪽의 트랜잭션 상태로 실행한 결과를 반환한다.
+     * 503(SERVER_OVERLOADED)
+     * @param query 조회
+     * @return 조회 결과
+     */
+    public <T> Future<T> submit(Callable<T> query) {
+        if (!isEnabled)
+            return CompletableFuture.completedFuture(call(query));
+
+        try {
+            return queryExecutor.submit(() -> transactionTemplate.execute(status -> call(query)));
+        } catch (RejectedExecutionException e) {
+            rejectedCnt.increment();
+            log.warn("[SYSTEM | QUERY] parallel query rejected queue={}, active={}", getQueueSize(), getActiveCnt());
+            throw new CustomException(SERVER_OVERLOADED);
+        }
+    }
+
+    /**
+     * 조회 결과 대기 |
+     * 마감 시각까지 끝나지 않으면 조회를 취소한다.
+     * 500(SERVER_ERROR)
+     * 503(SERVER_OVERLOADED)
+     * @param future 조회
+     * @param deadline 마감 시각 (나노초)
+     * @return 조회 결과
+     */
+    public <T> T get(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCnt.increment();
+            log.warn("[SYSTEM | QUERY] parallel query timed out queue={}, active={}", getQueueSize(),
+                    getActiveCnt());
+            throw new CustomException(SERVER_OVERLOADED);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(SERVER_ERROR, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new CustomException(SERVER_ERROR, e.getCause());
+        }
+    }
+
+    /**
+     * 조회 취소 |
+     * 한 조회가 실패하면 결과를 쓰지 않을 나머지 조회들이 커넥션을 계속 점유하지 않도록 취소한다.
+     * 취소된 조회는 대기열에서 바로 제거하여 다른 요청의 조회가 거절되지 않도록 한다.
+     * 아직 제출되지 않은 조회(null)와 이미 끝난 조회는 무시한다.
+     * @param futures 조회
+     */
+    public void cancel(Future<?>... futures) {
+        for (Future<?> future : futures)
+            if (future != null)
+                future.cancel(true);
+
+        queryExecutor.purge();
+    }
+
+    public int getQueueSize() {
+        return queryExecutor.getQueue().size();
+    }
+
+    public int getActiveCnt() {
+        return queryExecutor.getActiveCount();
+    }
+
+    public long getRejectedCnt() {
+        return rejectedCnt.sum();
+    }
+
+    public long getTimeoutCnt() {
+        return timeoutCnt.sum();
+    }
+
+    private static <T> T call(Callable<T> query) {
+        try {
+            return query.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CustomException(SERVER_ERROR, e);
+        }
+    }
+}
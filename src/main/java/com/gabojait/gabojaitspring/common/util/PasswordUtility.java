@@ -1,17 +1,62 @@
 package com.gabojait.gabojaitspring.common.util;
 
+import com.gabojait.gabojaitspring.common.exception.CustomException;
 import com.gabojait.gabojaitspring.domain.user.User;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.util.Random;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.SERVER_ERROR;
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.SERVER_OVERLOADED;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class PasswordUtility {
 
+    @Value("${api.password.hashing.pool-size}")
+    private int poolSize;
+
+    @Value("${api.password.hashing.queue-capacity}")
+    private int queueCapacity;
+
     private final PasswordEncoder passwordEncoder;
+    private final LongAdder rejectedCnt = new LongAdder();
+    private ThreadPoolExecutor hashingExecutor;
+
+    /**
+     * 비밀번호 해싱 전용 스레드 풀 생성 |
+     * BCrypt 연산이 요청 스레드와 CPU를 독점하지 않도록 스레드 수와 대기열 크기를 제한한다.
+     * 풀 크기가 0 이하인 경우 가용 프로세서 수를 사용한다.
+     */
+    @PostConstruct
+    void init() {
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCnt = new AtomicInteger();
+
+        hashingExecutor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "PasswordHashingExecutor-" + threadCnt.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void destroy() {
+        hashingExecutor.shutdown();
+    }
 
     /**
      * 랜덤 코드 생성
@@ -29,16 +74,62 @@ public class PasswordUtility {
     }
 
     /**
-     * 비밀번호 암호화
+     * 비밀번호 암호화 |
+     * 503(SERVER_OVERLOADED)
      */
     public String encodePassword(String password) {
-        return passwordEncoder.encode(password);
+        return hash(() -> passwordEncoder.encode(password));
     }
 
     /**
-     * 비밀번호 검증
+     * 비밀번호 검증 |
+     * 503(SERVER_OVERLOADED)
      */
     public boolean verifyPassword(User user, String password) {
-        return passwordEncoder.matches(password, user.getPassword());
+        return hash(() -> passwordEncoder.matches(password, user.getPassword()));
+    }
+
+    public int getQueueSize() {
+        return hashingExecutor.getQueue().size();
+    }
+
+    public int getActiveCnt() {
+        return hashingExecutor.getActiveCount();
+    }
+
+    public long getRejectedCnt() {
+        return rejectedCnt.sum();
+    }
+
+    /**
+     * 해싱 스레드 풀에서 실행 |
+     * 대기열이 가득 찬 경우 기다리지 않고 바로 실패한다.
+     * 500(SERVER_ERROR)
+     * 503(SERVER_OVERLOADED)
+     * @param task 해싱 작업
+     * @return 해싱 결과
+     */
+    private <T> T hash(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCnt.increment();
+            log.warn("[SYSTEM | PASSWORD] hashing rejected queue={}, active={}, rejected={}", getQueueSize(),
+                    getActiveCnt(), getRejectedCnt());
+            throw new CustomException(SERVER_OVERLOADED);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(SERVER_ERROR, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new CustomException(SERVER_ERROR, e.getCause());
+        }
     }
 }
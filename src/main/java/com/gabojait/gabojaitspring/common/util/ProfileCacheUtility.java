@@ -0,0 +1,157 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import com.gabojait.gabojaitspring.api.vo.profile.ProfileVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 프로필 캐시 유틸리티 |
+ * 회원별 프로필 읽기 모델을 캐시하여 프로필 조회마다 기술, 학력, 포트폴리오, 경력, 팀, 리뷰 쿼리를 실행하지 않도록 한다.
+ * 회원과 팀마다 버전을 두고, 캐시한 프로필은 조회를 시작할 때의 회원 버전과 팀 버전을 함께 저장한다.
+ * 쓰기가 발생하면 버전만 올리고, 조회 시 저장된 버전이 현재 버전과 다르면 다시 조회하므로
+ * 조회 중에 커밋된 쓰기가 있어도 이전 프로필이 캐시되지 않는다.
+ * 처음 캐시하는 프로필은 조회 전에 어떤 팀이 포함될지 알 수 없어 조회 후의 팀 버전을 저장하며, 이 경우의 오차는 TTL까지이다.
+ * 버전은 식별자를 고정된 수의 칸으로 나누어 저장하여 메모리가 늘어나지 않으며, 같은 칸의 다른 회원도 함께 다시 조회된다.
+ */
+@Component
+public class ProfileCacheUtility {
+
+    private static final int versionCnt = 4096;
+
+    @Value("${api.profile.cache.ttl}")
+    private long ttl;
+
+    @Value("${api.profile.cache.max-size}")
+    private int maxSize;
+
+    private final Map<Long, CachedProfile> profiles = new ConcurrentHashMap<>();
+    private final AtomicLongArray userVersions = new AtomicLongArray(versionCnt);
+    private final AtomicLongArray teamVersions = new AtomicLongArray(versionCnt);
+    private final LongAdder hitCnt = new LongAdder();
+    private final LongAdder missCnt = new LongAdder();
+
+    /**
+     * 프로필 조회 |
+     * 캐시된 프로필이 없거나 만료되었거나 버전이 다르면 조회 함수로 만든다.
+     * @param userId 회원 식별자
+     * @param loader 프로필 조회 함수
+     * @return 프로필
+     */
+    public ProfileVO get(long userId, Supplier<ProfileVO> loader) {
+        long now = System.currentTimeMillis();
+        CachedProfile cached = profiles.get(userId);
+
+        if (cached != null && cached.expiresAt > now && isCurrent(userId, cached)) {
+            hitCnt.increment();
+            return cached.profile;
+        }
+
+        missCnt.increment();
+
+        long userVersion = userVersions.get(index(userId));
+        Map<Long, Long> previousTeamVersions = new HashMap<>();
+        if (cached != null)
+            for (Long teamId : cached.profile.getTeamIds())
+                previousTeamVersions.put(teamId, teamVersions.get(index(teamId)));
+
+        ProfileVO profile = loader.get();
+
+        List<Long> teamIds = profile.getTeamIds();
+        long[] versions = new long[teamIds.size()];
+        for (int i = 0; i < teamIds.size(); i++) {
+            Long previousVersion = previousTeamVersions.get(teamIds.get(i));
+            versions[i] = previousVersion != null ? previousVersion : teamVersions.get(index(teamIds.get(i)));
+        }
+
+        if (profiles.size() >= maxSize)
+            profiles.clear();
+        profiles.put(userId, new CachedProfile(profile, userVersion, versions, now + ttl));
+
+        return profile;
+    }
+
+    /**
+     * 회원 프로필 무효화 |
+     * 트랜잭션 안에서 호출된 경우 커밋이나 롤백 이후에도 한번 더 버전을 올려 트랜잭션 중에 캐시된 프로필이 남지 않도록 한다.
+     * @param userId 회원 식별자
+     */
+    public void evictUser(long userId) {
+        increment(userVersions, index(userId), "user." + userId);
+    }
+
+    /**
+     * 팀 프로필 무효화 |
+     * 팀 정보가 포함된 모든 팀원의 프로필을 무효화한다.
+     * @param teamId 팀 식별자
+     */
+    public void evictTeam(long teamId) {
+        increment(teamVersions, index(teamId), "team." + teamId);
+    }
+
+    public long getHitCnt() {
+        return hitCnt.sum();
+    }
+
+    public long getMissCnt() {
+        return missCnt.sum();
+    }
+
+    private boolean isCurrent(long userId, CachedProfile cached) {
+        if (cached.userVersion != userVersions.get(index(userId)))
+            return false;
+
+        List<Long> teamIds = cached.profile.getTeamIds();
+        for (int i = 0; i < teamIds.size(); i++)
+            if (cached.teamVersions[i] != teamVersions.get(index(teamIds.get(i))))
+                return false;
+
+        return true;
+    }
+
+    private void increment(AtomicLongArray versions, int index, String key) {
+        versions.incrementAndGet(index);
+
+        String resourceKey = ProfileCacheUtility.class.getName() + "." + key;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(resourceKey))
+            return;
+
+        TransactionSynchronizationManager.bindResource(resourceKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+                versions.incrementAndGet(index);
+            }
+        });
+    }
+
+    private static int index(long id) {
+        return (int) ((id ^ (id >>> 32)) & (versionCnt - 1));
+    }
+
+    private static final class CachedProfile {
+
+        private final ProfileVO profile;
+        private final long userVersion;
+        private final long[] teamVersions;
+        private final long expiresAt;
+
+        private CachedProfile(ProfileVO profile, long userVersion, long[] teamVersions, long expiresAt) {
+            this.profile = profile;
+            this.userVersion = userVersion;
+            this.teamVersions = teamVersions;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
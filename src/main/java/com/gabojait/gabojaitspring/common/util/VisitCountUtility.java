@@ -0,0 +1,100 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 방문 수 유틸리티 |
+ * 프로필과 팀 조회마다 행을 수정하지 않도록 식별자별 방문 수를 메모리에 모아 두었다가 주기적으로 한번에 반영한다.
+ * 식별자마다 LongAdder를 두어 같은 회원이나 팀을 동시에 조회해도 경합하지 않는다.
+ * 반영 전에 서버가 비정상 종료되면 모아 둔 방문 수는 사라진다.
+ */
+@Component
+public class VisitCountUtility {
+
+    private final Map<Long, LongAdder> userVisits = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> teamVisits = new ConcurrentHashMap<>();
+
+    public void visitUser(long userId) {
+        userVisits.computeIfAbsent(userId, id -> new LongAdder()).increment();
+    }
+
+    public void visitTeam(long teamId) {
+        teamVisits.computeIfAbsent(teamId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 회원 방문 수 비우기 |
+     * @return 회원 식별자별 반영할 방문 수
+     */
+    public Map<Long, Long> drainUsers() {
+        return drain(userVisits);
+    }
+
+    /**
+     * 팀 방문 수 비우기 |
+     * @return 팀 식별자별 반영할 방문 수
+     */
+    public Map<Long, Long> drainTeams() {
+        return drain(teamVisits);
+    }
+
+    /**
+     * 회원 방문 수 되돌리기 |
+     * 반영에 실패한 방문 수를 다음 반영에 포함한다.
+     * @param visits 회원 식별자별 방문 수
+     */
+    public void restoreUsers(Map<Long, Long> visits) {
+        restore(userVisits, visits);
+    }
+
+    /**
+     * 팀 방문 수 되돌리기 |
+     * 반영에 실패한 방문 수를 다음 반영에 포함한다.
+     * @param visits 팀 식별자별 방문 수
+     */
+    public void restoreTeams(Map<Long, Long> visits) {
+        restore(teamVisits, visits);
+    }
+
+    public long getPendingUserCnt(long userId) {
+        LongAdder visits = userVisits.get(userId);
+
+        return visits == null ? 0 : visits.sum();
+    }
+
+    public long getPendingTeamCnt(long teamId) {
+        LongAdder visits = teamVisits.get(teamId);
+
+        return visits == null ? 0 : visits.sum();
+    }
+
+    /**
+     * 방문 수 비우기 |
+     * 방문 수를 0으로 바꾸며 가져오고, 직전 반영 이후 방문이 없던 식별자는 제거하여 메모리가 늘어나지 않도록 한다.
+     * @param visits 식별자별 방문 수
+     * @return 식별자별 반영할 방문 수
+     */
+    private static Map<Long, Long> drain(Map<Long, LongAdder> visits) {
+        Map<Long, Long> drained = new HashMap<>();
+
+        visits.forEach((id, adder) -> {
+            long cnt = adder.sumThenReset();
+
+            if (cnt > 0)
+                drained.put(id, cnt);
+            else
+                visits.remove(id, adder);
+        });
+
+        return drained;
+    }
+
+    private static void restore(Map<Long, LongAdder> visits, Map<Long, Long> restored) {
+        restored.forEach((id, cnt) -> visits.computeIfAbsent(id, i -> new LongAdder()).add(cnt));
+    }
+}
@@ -11,6 +11,8 @@ import java.util.concurrent.Executor;
 @Configuration
 public class AsyncConfig extends AsyncConfigurerSupport {
 
+    private volatile ThreadPoolTaskExecutor executor;
+
     @Override
     public Executor getAsyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -19,6 +21,19 @@ public class AsyncConfig extends AsyncConfigurerSupport {
         executor.setQueueCapacity(50);
         executor.setThreadNamePrefix("AsyncExecutor-");
         executor.initialize();
+        this.executor = executor;
         return executor;
     }
+
+    public int getQueueSize() {
+        return executor == null ? 0 : executor.getThreadPoolExecutor().getQueue().size();
+    }
+
+    public int getActiveCnt() {
+        return executor == null ? 0 : executor.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        return executor == null ? 0 : executor.getPoolSize();
+    }
 }
@@ -1,15 +1,24 @@
 package com.gabojait.gabojaitspring.config;
 
 import com.gabojait.gabojaitspring.common.log.InterceptorLogging;
+import com.gabojait.gabojaitspring.common.log.LatencyInterceptor;
+import com.gabojait.gabojaitspring.common.log.QueryBudgetInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final LatencyInterceptor latencyInterceptor;
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(latencyInterceptor);
         registry.addInterceptor(new InterceptorLogging());
+        registry.addInterceptor(queryBudgetInterceptor);
     }
 }
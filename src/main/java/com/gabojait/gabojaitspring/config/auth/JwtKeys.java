@@ -0,0 +1,81 @@
+package com.gabojait.gabojaitspring.config.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.gabojait.gabojaitspring.common.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.TOKEN_UNAUTHENTICATED;
+
+/**
+ * 토큰 서명 키 목록 |
+ * Algorithm과 JWTVerifier는 불변이며 스레드 안전하므로 생성 시 한번만 만들어 재사용한다.
+ * 현재 키로 서명하고, 현재 키와 폐기 예정 키로 검증하여 무중단 키 교체를 지원한다.
+ */
+public final class JwtKeys {
+
+    private final String keyId;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Map<String, JWTVerifier> verifiers;
+
+    /**
+     * @param keyId 현재 키 식별자
+     * @param secret 현재 키
+     * @param retiredKeys 검증에만 사용할 이전 키 목록 ("키 식별자:키" 쉼표 구분)
+     */
+    public JwtKeys(String keyId, String secret, String retiredKeys) {
+        this.keyId = keyId;
+        this.algorithm = Algorithm.HMAC256(secret.getBytes(StandardCharsets.UTF_8));
+        this.verifier = JWT.require(algorithm).build();
+
+        Map<String, JWTVerifier> verifiers = new HashMap<>();
+        if (retiredKeys != null && !retiredKeys.isBlank())
+            for (String retiredKey : retiredKeys.split(",")) {
+                int delimiter = retiredKey.indexOf(':');
+                if (delimiter <= 0)
+                    throw new IllegalArgumentException("Retired jwt key must be formatted as <key-id>:<secret>");
+
+                Algorithm retiredAlgorithm = Algorithm.HMAC256(retiredKey.substring(delimiter + 1).trim()
+                        .getBytes(StandardCharsets.UTF_8));
+                verifiers.put(retiredKey.substring(0, delimiter).trim(), JWT.require(retiredAlgorithm).build());
+            }
+        verifiers.put(keyId, verifier);
+
+        this.verifiers = Collections.unmodifiableMap(verifiers);
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 토큰 검증 |
+     * 키 식별자가 없는 토큰은 키 식별자 도입 전에 발급된 토큰이므로 현재 키로 검증한다.
+     * 401(TOKEN_UNAUTHENTICATED)
+     * @param token 토큰
+     * @return 검증된 토큰
+     */
+    public DecodedJWT verify(String token) {
+        DecodedJWT decodedJWT = JWT.decode(token);
+
+        if (decodedJWT.getKeyId() == null)
+            return verifier.verify(decodedJWT);
+
+        JWTVerifier keyVerifier = verifiers.get(decodedJWT.getKeyId());
+        if (keyVerifier == null)
+            throw new CustomException(TOKEN_UNAUTHENTICATED);
+
+        return keyVerifier.verify(decodedJWT);
+    }
+}
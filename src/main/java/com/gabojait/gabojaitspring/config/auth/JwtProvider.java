@@ -1,9 +1,9 @@
 package com.gabojait.gabojaitspring.config.auth;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.gabojait.gabojaitspring.api.service.user.RefreshTokenService;
 import com.gabojait.gabojaitspring.api.service.user.UserDetailsService;
 import com.gabojait.gabojaitspring.domain.user.Role;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
@@ -12,13 +12,18 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.TOKEN_UNAUTHENTICATED;
@@ -30,6 +35,12 @@ public class JwtProvider {
     @Value("${api.jwt.secret}")
     private String secret;
 
+    @Value("${api.jwt.key-id}")
+    private String keyId;
+
+    @Value("${api.jwt.retired-keys}")
+    private String retiredKeys;
+
     @Value("${api.jwt.domain}")
     private String domain;
 
@@ -39,10 +50,82 @@ public class JwtProvider {
     @Value("${api.jwt.time.refresh}")
     private long refreshTokenTime;
 
+    @Value("${api.jwt.time.stateless-access}")
+    private long statelessAccessTokenTime;
+
+    @Value("${api.jwt.stateless}")
+    private boolean isStateless;
+
     private final UserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
+    private final RefreshTokenService refreshTokenService;
     private static final String tokenPrefix = "Bearer ";
+    private static final String familyClaim = "family";
+    private JwtKeys jwtKeys;
+
+    @PostConstruct
+    void init() {
+        jwtKeys = new JwtKeys(keyId, secret, retiredKeys);
+    }
 
     public HttpHeaders createJwt(Long userId) {
+        return issueJwt(userId, null, null);
+    }
+
+    /**
+     * 토큰 재발급 |
+     * 리프레시 토큰을 교체하고, 이미 교체된 리프레시 토큰이 재사용된 경우 패밀리 전체를 폐기한다.
+     * 401(TOKEN_UNAUTHENTICATED)
+     * @param refreshToken 리프레시 토큰
+     * @return 재발급된 토큰 헤더
+     */
+    public HttpHeaders renewJwt(String refreshToken) {
+        DecodedJWT decodedJWT = verifyJwt(refreshToken, Jwt.REFRESH);
+
+        return issueJwt(Long.valueOf(decodedJWT.getSubject()), decodedJWT.getClaim(familyClaim).asString(),
+                decodedJWT.getId());
+    }
+
+    /**
+     * 토큰 폐기 |
+     * 토큰이 속한 리프레시 토큰 패밀리를 폐기한다.
+     * @param token 토큰
+     */
+    public void revokeJwt(String token) {
+        String familyId = decodeJwt(token).getClaim(familyClaim).asString();
+
+        if (familyId != null)
+            refreshTokenService.revokeFamily(familyId);
+    }
+
+    public void authenticate(String token, Jwt jwt) {
+        DecodedJWT decodedJWT = verifyJwt(token, jwt);
+
+        if (isStateless && jwt == Jwt.ACCESS) {
+            authenticateByClaims(decodedJWT);
+            return;
+        }
+
+        long userId = Long.parseLong(decodedJWT.getSubject());
+        UserDetails userDetails = isStateless
+                ? userDetailsService.findUserDetails(userId)
+                : userDetailsCache.get(userId, userDetailsService::findUserDetails);
+
+        UsernamePasswordAuthenticationToken authenticationToken =
+                new UsernamePasswordAuthenticationToken(userDetails.getUsername(), "", userDetails.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    }
+
+    /**
+     * 토큰 발급 |
+     * 패밀리 식별자가 없으면 새 패밀리를 시작하고, 있으면 기존 리프레시 토큰을 교체한다.
+     * 401(TOKEN_UNAUTHENTICATED)
+     * @param userId 회원 식별자
+     * @param familyId 리프레시 토큰 패밀리 식별자
+     * @param currentTokenId 현재 리프레시 토큰 식별자
+     * @return 토큰 헤더
+     */
+    private HttpHeaders issueJwt(Long userId, String familyId, String currentTokenId) {
         UserDetails userDetails = userDetailsService.findUserDetails(userId);
         List<String> authorities = userDetails.getAuthorities()
                 .stream()
@@ -50,42 +133,72 @@ public class JwtProvider {
                 .collect(Collectors.toList());
 
         long time = System.currentTimeMillis();
-        Algorithm algorithm = Algorithm.HMAC256(secret.getBytes(StandardCharsets.UTF_8));
         HttpHeaders headers = new HttpHeaders();
-        String accessToken = JWT.create()
-                .withSubject(userId.toString())
-                .withIssuedAt(new Date(time))
-                .withExpiresAt(new Date(time + accessTokenTime))
-                .withIssuer(domain)
-                .withClaim("roles", authorities)
-                .sign(algorithm);
-
-        headers.add(HttpHeaders.AUTHORIZATION, accessToken);
 
-        if (authorities.contains(Role.MASTER.name()))
+        if (authorities.contains(Role.MASTER.name())) {
+            headers.add(HttpHeaders.AUTHORIZATION, createAccessToken(userId, authorities, null, time));
             return headers;
+        }
+
+        String tokenId = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(time + refreshTokenTime),
+                ZoneId.systemDefault());
+
+        if (familyId == null) {
+            familyId = refreshTokenService.createFamily(userId, tokenId, expiresAt);
+        } else if (!refreshTokenService.rotate(familyId, currentTokenId, tokenId, expiresAt)) {
+            refreshTokenService.revokeFamily(familyId);
+            throw new CustomException(TOKEN_UNAUTHENTICATED);
+        }
 
         String refreshToken = JWT.create()
+                .withKeyId(jwtKeys.getKeyId())
+                .withJWTId(tokenId)
                 .withSubject(userId.toString())
                 .withIssuedAt(new Date(time))
                 .withExpiresAt(new Date(time + refreshTokenTime))
                 .withIssuer(domain)
                 .withClaim("roles",  authorities)
-                .sign(algorithm);
+                .withClaim(familyClaim, familyId)
+                .sign(jwtKeys.getAlgorithm());
 
+        headers.add(HttpHeaders.AUTHORIZATION, createAccessToken(userId, authorities, familyId, time));
         headers.add("Refresh-Token", refreshToken);
 
         return headers;
     }
 
-    public void authenticate(String token, Jwt jwt) {
+    private String createAccessToken(Long userId, List<String> authorities, String familyId, long time) {
+        JWTCreator.Builder builder = JWT.create()
+                .withKeyId(jwtKeys.getKeyId())
+                .withSubject(userId.toString())
+                .withIssuedAt(new Date(time))
+                .withExpiresAt(new Date(time + getAccessTokenTime()))
+                .withIssuer(domain)
+                .withClaim("roles", authorities);
+
+        if (familyId != null)
+            builder.withClaim(familyClaim, familyId);
+
+        return builder.sign(jwtKeys.getAlgorithm());
+    }
+
+    /**
+     * 토큰 검증 |
+     * 서명, 토큰 종류별 유효 시간, 리프레시 토큰 패밀리 폐기 여부를 확인한다.
+     * 401(TOKEN_UNAUTHENTICATED)
+     * @param token 토큰
+     * @param jwt 토큰 종류
+     * @return 검증된 토큰
+     */
+    private DecodedJWT verifyJwt(String token, Jwt jwt) {
         DecodedJWT decodedJWT = decodeJwt(token);
 
         long validTime = decodedJWT.getExpiresAt().getTime() - decodedJWT.getIssuedAt().getTime();
 
         switch (jwt) {
             case ACCESS:
-                if (validTime != accessTokenTime)
+                if (validTime != getAccessTokenTime())
                     throw new CustomException(TOKEN_UNAUTHENTICATED);
                 break;
             case REFRESH:
@@ -96,14 +209,42 @@ public class JwtProvider {
                 throw new CustomException(TOKEN_UNAUTHENTICATED);
         }
 
-        long userId = Long.parseLong(decodedJWT.getSubject());
-        UserDetails userDetails = userDetailsService.findUserDetails(userId);
+        String familyId = decodedJWT.getClaim(familyClaim).asString();
+        if (familyId != null && refreshTokenService.isRevoked(familyId))
+            throw new CustomException(TOKEN_UNAUTHENTICATED);
+
+        return decodedJWT;
+    }
+
+    /**
+     * 토큰 클레임으로 인증 |
+     * 401(TOKEN_UNAUTHENTICATED)
+     * @param decodedJWT 검증된 토큰
+     */
+    private void authenticateByClaims(DecodedJWT decodedJWT) {
+        List<String> roles = decodedJWT.getClaim("roles").asList(String.class);
+
+        if (decodedJWT.getSubject() == null || roles == null || roles.isEmpty())
+            throw new CustomException(TOKEN_UNAUTHENTICATED);
+
+        List<GrantedAuthority> authorities = roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
 
         UsernamePasswordAuthenticationToken authenticationToken =
-                new UsernamePasswordAuthenticationToken(userDetails.getUsername(), "", userDetails.getAuthorities());
+                new UsernamePasswordAuthenticationToken(decodedJWT.getSubject(), "", authorities);
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
     }
 
+    /**
+     * 액세스 토큰 유효 시간 조회 |
+     * 무상태 인증 사용시 짧은 유효 시간을 사용한다.
+     * @return 액세스 토큰 유효 시간
+     */
+    private long getAccessTokenTime() {
+        return isStateless ? statelessAccessTokenTime : accessTokenTime;
+    }
+
     public Long getUserId(String token) {
         return Long.valueOf(decodeJwt(token).getSubject());
     }
@@ -112,11 +253,6 @@ public class JwtProvider {
         if (token == null || token.equals(""))
             throw new CustomException(TOKEN_UNAUTHENTICATED);
 
-        token = token.substring(tokenPrefix.length());
-
-        Algorithm algorithm = Algorithm.HMAC256(secret.getBytes(StandardCharsets.UTF_8));
-        JWTVerifier verifier = JWT.require(algorithm).build();
-
-        return verifier.verify(token);
+        return jwtKeys.verify(token.substring(tokenPrefix.length()));
     }
 }
@@ -0,0 +1,135 @@
+package com.gabojait.gabojaitspring.config.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    @Value("${api.jwt.cache.enabled}")
+    private boolean isEnabled;
+
+    @Value("${api.jwt.cache.max-size}")
+    private int maxSize;
+
+    @Value("${api.jwt.cache.ttl}")
+    private long ttl;
+
+    private final Map<Long, CachedUserDetails> cache = new ConcurrentHashMap<>();
+    private final LongAdder hitCnt = new LongAdder();
+    private final LongAdder missCnt = new LongAdder();
+    private final LongAdder evictionCnt = new LongAdder();
+
+    /**
+     * 회원 상세 정보 조회 |
+     * 캐시에 없거나 만료된 경우 loader로 조회 후 저장한다.
+     * @param userId 회원 식별자
+     * @param loader 회원 상세 정보 조회 함수
+     * @return 회원 상세 정보
+     */
+    public UserDetails get(long userId, LongFunction<UserDetails> loader) {
+        if (!isEnabled)
+            return loader.apply(userId);
+
+        long now = System.currentTimeMillis();
+        CachedUserDetails cached = cache.get(userId);
+
+        if (cached != null && cached.expiresAt > now) {
+            hitCnt.increment();
+            return cached.userDetails;
+        }
+
+        missCnt.increment();
+
+        UserDetails userDetails = loader.apply(userId);
+        UserDetails principal = new User(userDetails.getUsername(), "", userDetails.getAuthorities());
+
+        if (cache.size() >= maxSize)
+            makeRoom(now);
+        cache.put(userId, new CachedUserDetails(principal, now + ttl));
+
+        return principal;
+    }
+
+    /**
+     * 회원 상세 정보 캐시 삭제 |
+     * 트랜잭션 안에서 호출된 경우 커밋 이후에도 한번 더 삭제하여 커밋 전 조회된 값이 남지 않도록 한다.
+     * @param userId 회원 식별자
+     */
+    public void evict(long userId) {
+        cache.remove(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(userId);
+                }
+            });
+    }
+
+    /**
+     * 회원 상세 정보 캐시 전체 삭제
+     */
+    public void evictAll() {
+        cache.clear();
+    }
+
+    public long getHitCnt() {
+        return hitCnt.sum();
+    }
+
+    public long getMissCnt() {
+        return missCnt.sum();
+    }
+
+    public long getEvictionCnt() {
+        return evictionCnt.sum();
+    }
+
+    public int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * 캐시 공간 확보 |
+     * 만료된 항목을 먼저 삭제하고, 그래도 가득 찬 경우 임의의 항목을 삭제한다.
+     * @param now 현재 시간
+     */
+    private void makeRoom(long now) {
+        cache.values().removeIf(cached -> cached.expiresAt <= now);
+
+        Iterator<Long> iterator = cache.keySet().iterator();
+        while (cache.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCnt.increment();
+        }
+
+        log.debug("[SYSTEM | CACHE] user details cache size={}, hit={}, miss={}", cache.size(), getHitCnt(),
+                getMissCnt());
+    }
+
+    private static final class CachedUserDetails {
+
+        private final UserDetails userDetails;
+        private final long expiresAt;
+
+        private CachedUserDetails(UserDetails userDetails, long expiresAt) {
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
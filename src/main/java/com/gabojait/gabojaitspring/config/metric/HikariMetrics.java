@@ -0,0 +1,75 @@
+package com.gabojait.gabojaitspring.config.metric;
+
+import com.gabojait.gabojaitspring.common.util.LatencyHistogram;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 풀 지표 |
+ * 풀이 시작되기 전에 HikariDataSource에 등록되어 커넥션 획득 대기 시간, 사용 시간, 타임아웃 수를 기록한다.
+ */
+@Component
+public class HikariMetrics implements MetricsTrackerFactory, BeanPostProcessor {
+
+    private final LatencyHistogram acquireHistogram = new LatencyHistogram();
+    private final LatencyHistogram usageHistogram = new LatencyHistogram();
+    private final LongAdder timeoutCnt = new LongAdder();
+    private volatile PoolStats poolStats;
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource)
+            ((HikariDataSource) bean).setMetricsTrackerFactory(this);
+
+        return bean;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireHistogram.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageHistogram.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeoutCnt.increment();
+            }
+        };
+    }
+
+    public LatencyHistogram getAcquireHistogram() {
+        return acquireHistogram;
+    }
+
+    public LatencyHistogram getUsageHistogram() {
+        return usageHistogram;
+    }
+
+    public long getTimeoutCnt() {
+        return timeoutCnt.sum();
+    }
+
+    /**
+     * 커넥션 풀 상태 조회
+     * @return 커넥션 풀 상태 (풀이 시작되기 전인 경우 null)
+     */
+    public PoolStats getPoolStats() {
+        return poolStats;
+    }
+}
@@ -0,0 +1,271 @@
+package com.gabojait.gabojaitspring.config.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabojait.gabojaitspring.common.constant.code.ErrorCode;
+import com.gabojait.gabojaitspring.common.response.ExceptionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.REQUEST_LIMIT_EXCEEDED;
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.REQUEST_SIZE_EXCEED;
+
+/**
+ * 요청 제한 필터 |
+ * 메일 발송 또는 비밀번호 해싱을 유발하는 인증 전 요청을 IP별, 아이디/이메일별 토큰 버킷으로 제한한다.
+ * 아이디/이메일 제한을 건너뛰지 못하도록 본문은 Content-Length와 관계없이 최대 크기까지만 읽고, 초과하면 413을 반환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Value("${api.rate-limit.enabled}")
+    private boolean isEnabled;
+
+    @Value("${api.rate-limit.contact.capacity}")
+    private int contactCapacity;
+
+    @Value("${api.rate-limit.contact.refill-period}")
+    private long contactRefillPeriod;
+
+    @Value("${api.rate-limit.login.capacity}")
+    private int loginCapacity;
+
+    @Value("${api.rate-limit.login.refill-period}")
+    private long loginRefillPeriod;
+
+    @Value("${api.rate-limit.username.capacity}")
+    private int usernameCapacity;
+
+    @Value("${api.rate-limit.username.refill-period}")
+    private long usernameRefillPeriod;
+
+    @Value("${api.rate-limit.password.capacity}")
+    private int passwordCapacity;
+
+    @Value("${api.rate-limit.password.refill-period}")
+    private long passwordRefillPeriod;
+
+    private final ObjectMapper objectMapper;
+    private final TokenBucketTable tokenBucketTable = new TokenBucketTable();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private static final int maxBodySize = 4096;
+    private List<Route> routes;
+
+    @PostConstruct
+    void init() {
+        routes = List.of(
+                new Route("contact", "/api/**/contact", contactCapacity, contactRefillPeriod, "email"),
+                new Route("login", "/api/**/user/login", loginCapacity, loginRefillPeriod, "username"),
+                new Route("username", "/api/**/user/username", usernameCapacity, usernameRefillPeriod, "email"),
+                new Route("password", "/api/**/user/password", passwordCapacity, passwordRefillPeriod, "username")
+        );
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !isEnabled || !HttpMethod.POST.matches(request.getMethod()) || findRoute(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Route route = findRoute(request);
+        long now = System.currentTimeMillis();
+
+        long waitTime = tokenBucketTable.tryConsume(route.name + ":ip:" + request.getRemoteAddr(), route.capacity,
+                route.refillPeriod, now);
+        if (waitTime > 0) {
+            writeError(request, response, REQUEST_LIMIT_EXCEEDED, waitTime);
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxBodySize) {
+            writeError(request, response, REQUEST_SIZE_EXCEED, 0);
+            return;
+        }
+
+        CachedBodyRequest cachedBodyRequest = new CachedBodyRequest(request, maxBodySize);
+        if (cachedBodyRequest.isTooLarge) {
+            writeError(request, response, REQUEST_SIZE_EXCEED, 0);
+            return;
+        }
+
+        String key = findKey(cachedBodyRequest.body, route.keyField);
+        if (key != null)
+            waitTime = tokenBucketTable.tryConsume(route.name + ":key:" + key, route.capacity, route.refillPeriod,
+                    now);
+
+        if (waitTime > 0) {
+            writeError(request, response, REQUEST_LIMIT_EXCEEDED, waitTime);
+            return;
+        }
+
+        filterChain.doFilter(cachedBodyRequest, response);
+    }
+
+    /**
+     * 유휴 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${api.rate-limit.sweep-interval}")
+    public void evictIdleBuckets() {
+        tokenBucketTable.evictIdle(System.currentTimeMillis());
+    }
+
+    public int getBucketSize() {
+        return tokenBucketTable.getSize();
+    }
+
+    private Route findRoute(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+
+        for (Route route : routes)
+            if (pathMatcher.match(route.pattern, uri))
+                return route;
+
+        return null;
+    }
+
+    private String findKey(byte[] body, String keyField) {
+        if (body.length == 0)
+            return null;
+
+        try {
+            JsonNode value = objectMapper.readTree(body).get(keyField);
+
+            if (value == null || !value.isTextual() || value.asText().isBlank())
+                return null;
+
+            return value.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeError(HttpServletRequest request,
+                            HttpServletResponse response,
+                            ErrorCode errorCode,
+                            long waitTime) throws IOException {
+        log.warn("[SYSTEM | RATE LIMIT] {} {} ip={}, code={}", request.getMethod(), request.getRequestURI(),
+                request.getRemoteAddr(), errorCode.name());
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (waitTime > 0)
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitTime + 999) / 1000));
+
+        String responseBody = objectMapper.writeValueAsString(ExceptionResponse.builder()
+                .responseCode(errorCode.name())
+                .responseMessage(errorCode.getMessage())
+                .build());
+
+        OutputStream outputStream = response.getOutputStream();
+        outputStream.write(responseBody.getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+    }
+
+    private static final class Route {
+
+        private final String name;
+        private final String pattern;
+        private final int capacity;
+        private final long refillPeriod;
+        private final String keyField;
+
+        private Route(String name, String pattern, int capacity, long refillPeriod, String keyField) {
+            this.name = name;
+            this.pattern = pattern;
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+            this.keyField = keyField;
+        }
+    }
+
+    /**
+     * 본문 재사용 요청 |
+     * 키 추출을 위해 읽은 본문을 컨트롤러에서 다시 읽을 수 있도록 보관한다.
+     * 청크 전송처럼 Content-Length가 없는 경우에도 최대 크기보다 1바이트만 더 읽어 초과 여부를 판단한다.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+        private final boolean isTooLarge;
+
+        private CachedBodyRequest(HttpServletRequest request, int maxBodySize) throws IOException {
+            super(request);
+            byte[] read = request.getInputStream().readNBytes(maxBodySize + 1);
+
+            this.isTooLarge = read.length > maxBodySize;
+            this.body = read;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // 본문을 이미 모두 읽어 두었으므로 등록 즉시 읽기 가능과 읽기 완료를 알린다.
+                    try {
+                        if (!isFinished())
+                            readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.gabojait.gabojaitspring.config.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 버킷 테이블 |
+ * 각 버킷은 다음 토큰이 채워지는 이론적 시각(GCRA) 하나만 AtomicLong으로 저장하여 CAS 한번으로 토큰을 소비한다.
+ * ConcurrentHashMap이 키별로 잠금을 분산하므로 서로 다른 키의 요청은 경합하지 않는다.
+ */
+public final class TokenBucketTable {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 소비 |
+     * @param key 버킷 키
+     * @param capacity 버킷 용량
+     * @param refillPeriod 토큰 하나가 채워지는 시간(ms)
+     * @param now 현재 시각(ms)
+     * @return 소비 성공시 0, 실패시 다음 토큰까지 남은 시간(ms)
+     */
+    public long tryConsume(String key, int capacity, long refillPeriod, long now) {
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        long limit = capacity * refillPeriod;
+
+        while (true) {
+            long arrivedAt = bucket.get();
+            long nextArrivedAt = Math.max(arrivedAt, now) + refillPeriod;
+            long waitTime = nextArrivedAt - now - limit;
+
+            if (waitTime > 0)
+                return waitTime;
+            if (bucket.compareAndSet(arrivedAt, nextArrivedAt))
+                return 0;
+        }
+    }
+
+    /**
+     * 유휴 버킷 삭제 |
+     * 토큰이 모두 채워진 버킷은 버킷이 없는 것과 같으므로 삭제한다.
+     * @param now 현재 시각(ms)
+     * @return 남은 버킷 수
+     */
+    public int evictIdle(long now) {
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+
+        return buckets.size();
+    }
+
+    public int getSize() {
+        return buckets.size();
+    }
+}
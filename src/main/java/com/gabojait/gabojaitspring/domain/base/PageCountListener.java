@@ -0,0 +1,43 @@
+package com.gabojait.gabojaitspring.domain.base;
+
+import com.gabojait.gabojaitspring.common.util.PageCountUtility;
+import com.gabojait.gabojaitspring.domain.favorite.Favorite;
+import com.gabojait.gabojaitspring.domain.notification.Notification;
+import com.gabojait.gabojaitspring.domain.offer.Offer;
+import com.gabojait.gabojaitspring.domain.review.Review;
+import com.gabojait.gabojaitspring.domain.team.Team;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 페이지 전체 개수 캐시 삭제 리스너 |
+ * 페이지 조회 조건에 영향을 주는 엔티티가 저장, 수정, 삭제되면 해당 영역의 전체 개수 캐시를 삭제한다.
+ * 팀은 제안과 리뷰 페이지의 조건(팀 완료 여부)에도 포함되어 함께 삭제한다.
+ */
+@RequiredArgsConstructor
+public class PageCountListener {
+
+    private final PageCountUtility pageCountUtility;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(Object entity) {
+        if (entity instanceof Team) {
+            pageCountUtility.evict("team");
+            pageCountUtility.evict("offer");
+            pageCountUtility.evict("review");
+        } else if (entity instanceof Offer) {
+            pageCountUtility.evict("offer");
+        } else if (entity instanceof Notification) {
+            pageCountUtility.evict("notification");
+        } else if (entity instanceof Favorite) {
+            pageCountUtility.evict("favorite");
+        } else if (entity instanceof Review) {
+            pageCountUtility.evict("review");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.gabojait.gabojaitspring.domain.base;
+
+import com.gabojait.gabojaitspring.common.util.ProfileCacheUtility;
+import com.gabojait.gabojaitspring.domain.profile.Education;
+import com.gabojait.gabojaitspring.domain.profile.Portfolio;
+import com.gabojait.gabojaitspring.domain.profile.Skill;
+import com.gabojait.gabojaitspring.domain.profile.Work;
+import com.gabojait.gabojaitspring.domain.review.Review;
+import com.gabojait.gabojaitspring.domain.team.Team;
+import com.gabojait.gabojaitspring.domain.team.TeamMember;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 프로필 캐시 무효화 리스너 |
+ * 프로필 읽기 모델에 포함되는 엔티티가 저장, 수정, 삭제되면 해당 회원의 프로필 캐시 버전을 올린다.
+ * 팀은 팀원 모두의 프로필에 포함되어 팀 버전을 올리고, 리뷰는 리뷰를 받은 회원의 프로필을 무효화한다.
+ */
+@RequiredArgsConstructor
+public class ProfileCacheListener {
+
+    private final ProfileCacheUtility profileCacheUtility;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(Object entity) {
+        if (entity instanceof Skill) {
+            profileCacheUtility.evictUser(((Skill) entity).getUser().getId());
+        } else if (entity instanceof Education) {
+            profileCacheUtility.evictUser(((Education) entity).getUser().getId());
+        } else if (entity instanceof Portfolio) {
+            profileCacheUtility.evictUser(((Portfolio) entity).getUser().getId());
+        } else if (entity instanceof Work) {
+            profileCacheUtility.evictUser(((Work) entity).getUser().getId());
+        } else if (entity instanceof TeamMember) {
+            profileCacheUtility.evictUser(((TeamMember) entity).getUser().getId());
+        } else if (entity instanceof Team) {
+            profileCacheUtility.evictTeam(((Team) entity).getId());
+        } else if (entity instanceof Review) {
+            profileCacheUtility.evictUser(((Review) entity).getReviewee().getUser().getId());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.gabojait.gabojaitspring.domain.base;
+
+import com.gabojait.gabojaitspring.domain.offer.Offer;
+import com.gabojait.gabojaitspring.domain.team.Team;
+import com.gabojait.gabojaitspring.domain.user.User;
+import com.gabojait.gabojaitspring.repository.team.TeamRecommendationIndex;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 팀 추천 인덱스 리스너 |
+ * 회원의 팀 찾기 여부, 포지션, 평점, 접속 시간 변경, 팀 정보와 모집 중인 포지션 변경, 제안 생성과 결정이 저장되면
+ * 팀 추천 인덱스의 해당 부분만 다시 계산한다.
+ */
+@RequiredArgsConstructor
+public class RecommendationListener {
+
+    private final TeamRecommendationIndex teamRecommendationIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void update(Object entity) {
+        if (entity instanceof User) {
+            teamRecommendationIndex.updateCandidate((User) entity);
+        } else if (entity instanceof Team) {
+            teamRecommendationIndex.updateTeam((Team) entity);
+        } else if (entity instanceof Offer) {
+            teamRecommendationIndex.updateOffer((Offer) entity);
+        }
+    }
+
+    @PostRemove
+    public void remove(Object entity) {
+        if (entity instanceof User) {
+            teamRecommendationIndex.removeCandidate((User) entity);
+        } else if (entity instanceof Team) {
+            teamRecommendationIndex.removeTeam((Team) entity);
+        } else if (entity instanceof Offer) {
+            teamRecommendationIndex.removeOffer((Offer) entity);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.gabojait.gabojaitspring.domain.favorite;
 
 import com.gabojait.gabojaitspring.domain.base.BaseEntity;
+import com.gabojait.gabojaitspring.domain.base.PageCountListener;
 import com.gabojait.gabojaitspring.domain.team.Team;
 import com.gabojait.gabojaitspring.domain.user.User;
 import lombok.*;
@@ -10,6 +11,7 @@ import java.util.Objects;
 
 @Getter
 @Entity
+@EntityListeners(PageCountListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Favorite extends BaseEntity {
 
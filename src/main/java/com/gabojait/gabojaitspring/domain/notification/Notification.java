@@ -1,6 +1,7 @@
 package com.gabojait.gabojaitspring.domain.notification;
 
 import com.gabojait.gabojaitspring.domain.base.BasePermanentEntity;
+import com.gabojait.gabojaitspring.domain.base.PageCountListener;
 import com.gabojait.gabojaitspring.domain.user.User;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,6 +12,7 @@ import java.util.Objects;
 
 @Getter
 @Entity
+@EntityListeners(PageCountListener.class)
 @NoArgsConstructor
 public class Notification extends BasePermanentEntity {
 
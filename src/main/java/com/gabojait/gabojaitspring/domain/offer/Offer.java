@@ -1,6 +1,8 @@
 package com.gabojait.gabojaitspring.domain.offer;
 
 import com.gabojait.gabojaitspring.domain.base.BasePermanentEntity;
+import com.gabojait.gabojaitspring.domain.base.PageCountListener;
+import com.gabojait.gabojaitspring.domain.base.RecommendationListener;
 import com.gabojait.gabojaitspring.domain.team.Team;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import com.gabojait.gabojaitspring.domain.user.User;
@@ -11,6 +13,7 @@ import java.util.Objects;
 
 @Getter
 @Entity
+@EntityListeners({ PageCountListener.class, RecommendationListener.class })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Offer extends BasePermanentEntity {
 
@@ -1,6 +1,7 @@
 package com.gabojait.gabojaitspring.domain.profile;
 
 import com.gabojait.gabojaitspring.domain.base.BaseEntity;
+import com.gabojait.gabojaitspring.domain.base.ProfileCacheListener;
 import com.gabojait.gabojaitspring.domain.user.User;
 import lombok.*;
 
@@ -9,6 +10,7 @@ import java.util.Objects;
 
 @Getter
 @Entity
+@EntityListeners(ProfileCacheListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Portfolio extends BaseEntity {
 
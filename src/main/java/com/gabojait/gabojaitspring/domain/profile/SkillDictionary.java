@@ -0,0 +1,59 @@
+package com.gabojait.gabojaitspring.domain.profile;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 기술명 사전 |
+ * 회원마다 다르게 입력한 기술명을 같은 기술로 검색할 수 있도록 정규화한다.
+ * 전각 문자와 대소문자, 공백과 구분 기호를 정리한 후 별칭을 대표 기술명으로 바꾼다.
+ * C++, C#처럼 의미가 있는 '+', '#'은 남긴다.
+ */
+public final class SkillDictionary {
+
+    private static final Map<String, String> aliases = Map.ofEntries(
+            Map.entry("js", "javascript"),
+            Map.entry("자바스크립트", "javascript"),
+            Map.entry("ts", "typescript"),
+            Map.entry("타입스크립트", "typescript"),
+            Map.entry("자바", "java"),
+            Map.entry("코틀린", "kotlin"),
+            Map.entry("파이썬", "python"),
+            Map.entry("py", "python"),
+            Map.entry("스프링", "spring"),
+            Map.entry("스프링부트", "springboot"),
+            Map.entry("리액트", "react"),
+            Map.entry("reactjs", "react"),
+            Map.entry("리액트네이티브", "reactnative"),
+            Map.entry("rn", "reactnative"),
+            Map.entry("뷰", "vue"),
+            Map.entry("vuejs", "vue"),
+            Map.entry("노드", "nodejs"),
+            Map.entry("node", "nodejs"),
+            Map.entry("플러터", "flutter"),
+            Map.entry("피그마", "figma"),
+            Map.entry("golang", "go"),
+            Map.entry("k8s", "kubernetes"),
+            Map.entry("postgres", "postgresql")
+    );
+
+    private SkillDictionary() {
+    }
+
+    /**
+     * 기술명 정규화
+     * @param skillName 기술명
+     * @return 정규화된 기술명, 남는 문자가 없으면 빈 문자열
+     */
+    public static String normalize(String skillName) {
+        if (skillName == null)
+            return "";
+
+        String normalized = Normalizer.normalize(skillName, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}+#]", "");
+
+        return aliases.getOrDefault(normalized, normalized);
+    }
+}
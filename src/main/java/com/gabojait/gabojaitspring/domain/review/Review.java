@@ -1,6 +1,8 @@
 package com.gabojait.gabojaitspring.domain.review;
 
 import com.gabojait.gabojaitspring.domain.base.BasePermanentEntity;
+import com.gabojait.gabojaitspring.domain.base.PageCountListener;
+import com.gabojait.gabojaitspring.domain.base.ProfileCacheListener;
 import com.gabojait.gabojaitspring.domain.team.TeamMember;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,6 +14,7 @@ import java.util.Objects;
 
 @Getter
 @Entity
+@EntityListeners({ PageCountListener.class, ProfileCacheListener.class })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Review extends BasePermanentEntity {
 
@@ -40,8 +43,6 @@ public class Review extends BasePermanentEntity {
         this.reviewer = reviewer;
         this.reviewee = reviewee;
         this.isDeleted = false;
-
-        reviewee.getUser().rate(rating);
     }
 
     @Override
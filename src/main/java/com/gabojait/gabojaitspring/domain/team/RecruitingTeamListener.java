@@ -0,0 +1,25 @@
+package com.gabojait.gabojaitspring.domain.team;
+
+import com.gabojait.gabojaitspring.repository.team.RecruitingTeamIndex;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 모집 중인 팀 인덱스 리스너 |
+ * 팀 생성, 팀원 합류/이탈, 모집 여부 변경, 프로젝트 종료/해산 등 팀이 저장되면 모집 중인 팀 인덱스에 반영한다.
+ */
+@RequiredArgsConstructor
+public class RecruitingTeamListener {
+
+    private final RecruitingTeamIndex recruitingTeamIndex;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void update(Team team) {
+        recruitingTeamIndex.update(team);
+    }
+}
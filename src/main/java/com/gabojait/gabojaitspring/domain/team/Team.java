@@ -1,6 +1,9 @@
 package com.gabojait.gabojaitspring.domain.team;
 
 import com.gabojait.gabojaitspring.domain.base.BasePermanentEntity;
+import com.gabojait.gabojaitspring.domain.base.PageCountListener;
+import com.gabojait.gabojaitspring.domain.base.ProfileCacheListener;
+import com.gabojait.gabojaitspring.domain.base.RecommendationListener;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
 import lombok.*;
@@ -13,6 +16,8 @@ import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.*;
 
 @Getter
 @Entity
+@EntityListeners({ PageCountListener.class, RecruitingTeamListener.class, TeamSearchListener.class,
+        RecommendationListener.class, ProfileCacheListener.class })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Team extends BasePermanentEntity {
 
@@ -48,10 +53,12 @@ public class Team extends BasePermanentEntity {
     private Byte frontendMaxCnt;
     @Column(nullable = false)
     private Byte managerMaxCnt;
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Long visitedCnt;
     @Column(nullable = false)
     private Boolean isRecruiting;
+    @Column(nullable = false)
+    private Byte openPositions;
 
     @Builder
     private Team(String projectName,
@@ -79,6 +86,7 @@ public class Team extends BasePermanentEntity {
         this.visitedCnt = 0L;
         this.isRecruiting = true;
         this.isDeleted = false;
+        this.openPositions = calculateOpenPositions();
     }
 
     public void update(String projectName,
@@ -107,6 +115,8 @@ public class Team extends BasePermanentEntity {
             this.managerMaxCnt = managerMaxCnt;
         else
             throw new CustomException(MANAGER_CNT_UPDATE_UNAVAILABLE);
+
+        this.openPositions = calculateOpenPositions();
     }
 
     protected void join(Position position) {
@@ -127,6 +137,7 @@ public class Team extends BasePermanentEntity {
                 this.managerCurrentCnt++;
                 break;
         }
+        this.openPositions = calculateOpenPositions();
 
         boolean isDesignerFull = isPositionFull(Position.DESIGNER);
         boolean isBackendFull = isPositionFull(Position.BACKEND);
@@ -152,6 +163,7 @@ public class Team extends BasePermanentEntity {
                 this.managerCurrentCnt--;
                 break;
         }
+        this.openPositions = calculateOpenPositions();
 
         this.isRecruiting = true;
     }
@@ -179,8 +191,49 @@ public class Team extends BasePermanentEntity {
         return isPositionFull;
     }
 
-    public void visit() {
-        this.visitedCnt++;
+    /**
+     * 모집 중인 포지션 비트 재계산 |
+     * 포지션별 현재/최대 인원과 비트가 다르면 다시 계산한다.
+     * @return 재계산 여부
+     */
+    public boolean refreshOpenPositions() {
+        byte openPositions = calculateOpenPositions();
+
+        if (this.openPositions != null && this.openPositions == openPositions)
+            return false;
+
+        this.openPositions = openPositions;
+        return true;
+    }
+
+    /**
+     * 포지션 비트 조회 |
+     * 저장된 open_positions 값과 V3 마이그레이션에 맞춘 고정 값이므로 포지션 선언 순서와 관계없다.
+     * @param position 포지션
+     * @return 포지션 비트 (선택 안함은 0)
+     */
+    public static int getPositionBit(Position position) {
+        switch (position) {
+            case DESIGNER:
+                return 1;
+            case BACKEND:
+                return 2;
+            case FRONTEND:
+                return 4;
+            case MANAGER:
+                return 8;
+            default:
+                return 0;
+        }
+    }
+
+    private byte calculateOpenPositions() {
+        int openPositions = 0;
+        for (Position position : Position.values())
+            if (position != Position.NONE && !isPositionFull(position))
+                openPositions |= getPositionBit(position);
+
+        return (byte) openPositions;
     }
 
     protected void incomplete() {
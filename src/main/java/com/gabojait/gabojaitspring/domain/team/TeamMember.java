@@ -1,6 +1,7 @@
 package com.gabojait.gabojaitspring.domain.team;
 
 import com.gabojait.gabojaitspring.domain.base.BasePermanentEntity;
+import com.gabojait.gabojaitspring.domain.base.ProfileCacheListener;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import com.gabojait.gabojaitspring.domain.user.User;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
@@ -15,6 +16,7 @@ import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.UNREGIS
 
 @Getter
 @Entity
+@EntityListeners(ProfileCacheListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TeamMember extends BasePermanentEntity {
 
@@ -0,0 +1,29 @@
+package com.gabojait.gabojaitspring.domain.team;
+
+import com.gabojait.gabojaitspring.repository.team.TeamSearchIndex;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 팀 검색 인덱스 리스너 |
+ * 팀 생성, 팀 정보 수정, 모집 여부와 모집 중인 포지션 변경, 프로젝트 종료/해산 등 팀이 저장되면 팀 검색 인덱스에 반영한다.
+ */
+@RequiredArgsConstructor
+public class TeamSearchListener {
+
+    private final TeamSearchIndex teamSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void update(Team team) {
+        teamSearchIndex.update(team);
+    }
+
+    @PostRemove
+    public void remove(Team team) {
+        teamSearchIndex.remove(team);
+    }
+}
@@ -0,0 +1,62 @@
+package com.gabojait.gabojaitspring.domain.user;
+
+import com.gabojait.gabojaitspring.domain.base.BaseEntity;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshTokenFamily extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "refresh_token_family_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false, length = 36)
+    private String currentTokenId;
+
+    @Column(nullable = false)
+    private Boolean isRevoked;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    private RefreshTokenFamily(User user, String familyId, String currentTokenId, LocalDateTime expiresAt) {
+        this.user = user;
+        this.familyId = familyId;
+        this.currentTokenId = currentTokenId;
+        this.expiresAt = expiresAt;
+        this.isRevoked = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RefreshTokenFamily)) return false;
+        RefreshTokenFamily that = (RefreshTokenFamily) o;
+        return Objects.equals(id, that.id)
+                && Objects.equals(user, that.user)
+                && Objects.equals(familyId, that.familyId)
+                && Objects.equals(currentTokenId, that.currentTokenId)
+                && Objects.equals(isRevoked, that.isRevoked)
+                && Objects.equals(expiresAt, that.expiresAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, user, familyId, currentTokenId, isRevoked, expiresAt);
+    }
+}
@@ -1,6 +1,7 @@
 package com.gabojait.gabojaitspring.domain.user;
 
 import com.gabojait.gabojaitspring.domain.base.BaseEntity;
+import com.gabojait.gabojaitspring.domain.base.RecommendationListener;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +14,7 @@ import java.util.Objects;
 
 @Getter
 @Entity(name = "users")
+@EntityListeners(RecommendationListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity implements UserDetails {
 
@@ -34,6 +36,8 @@ public class User extends BaseEntity implements UserDetails {
     @Column(length = 120)
     private String profileDescription;
     private String imageUrl;
+    @Column(updatable = false)
+    private String thumbnailUrl;
 
     private LocalDate birthdate;
     @Column(nullable = false)
@@ -46,12 +50,14 @@ public class User extends BaseEntity implements UserDetails {
     @Enumerated(EnumType.STRING)
     private Position position;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Float rating;
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Long visitedCnt;
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer reviewCnt;
+    @Column(nullable = false, updatable = false)
+    private Long ratingSum;
     @Column(nullable = false)
     private Boolean isSeekingTeam;
     @Column(nullable = false)
@@ -81,6 +87,7 @@ public class User extends BaseEntity implements UserDetails {
         this.rating = 0F;
         this.visitedCnt = 0L;
         this.reviewCnt = 0;
+        this.ratingSum = 0L;
         this.isSeekingTeam = true;
         this.isTemporaryPassword = false;
         this.isNotified = true;
@@ -119,22 +126,42 @@ public class User extends BaseEntity implements UserDetails {
         this.imageUrl = imageUrl;
     }
 
+    /**
+     * 목록용 프로필 이미지 조회 |
+     * 썸네일은 현재 원본 이미지 주소 뒤에 접미사를 붙인 주소에 저장되므로, 이전 이미지의 썸네일이거나 아직 만들어지지 않은 경우
+     * 원본 이미지 주소를 반환한다.
+     * @return 썸네일 또는 원본 이미지 주소
+     */
+    public String getListImageUrl() {
+        if (this.imageUrl == null || this.thumbnailUrl == null || !this.thumbnailUrl.startsWith(this.imageUrl))
+            return this.imageUrl;
+
+        return this.thumbnailUrl;
+    }
+
     public void updateIsSeekingTeam(boolean isSeekingTeam) {
         this.isSeekingTeam = isSeekingTeam;
     }
 
-    public void visit() {
-        this.visitedCnt++;
+    /**
+     * 평점 반영 |
+     * 평점 합과 리뷰 수는 데이터베이스에서 원자적으로 증가시키므로, 같은 증가분을 영속성 컨텍스트의 엔티티에도 반영한다.
+     * @param ratingSum 증가할 평점 합
+     * @param reviewCnt 증가할 리뷰 수
+     */
+    public void rate(long ratingSum, int reviewCnt) {
+        this.ratingSum += ratingSum;
+        this.reviewCnt += reviewCnt;
+        this.rating = getRating();
     }
 
-    public void rate(float rating) {
-        if (this.reviewCnt == 0)
-            this.rating = rating;
-        else
-            this.rating = (this.rating * ((float) this.reviewCnt / ((float) this.reviewCnt + 1)))
-                    + (rating * (1 / ((float) this.reviewCnt + 1)));
-
-        this.reviewCnt++;
+    /**
+     * 평점 평균 조회 |
+     * 평점 합과 리뷰 수로 계산하여 누적 오차가 없다.
+     * @return 평점 평균
+     */
+    public Float getRating() {
+        return this.reviewCnt == 0 ? 0F : (float) ((double) this.ratingSum / this.reviewCnt);
     }
 
     @Override
@@ -149,6 +176,7 @@ public class User extends BaseEntity implements UserDetails {
                 && Objects.equals(nickname, user.nickname)
                 && Objects.equals(profileDescription, user.profileDescription)
                 && Objects.equals(imageUrl, user.imageUrl)
+                && Objects.equals(thumbnailUrl, user.thumbnailUrl)
                 && Objects.equals(birthdate, user.birthdate)
                 && Objects.equals(lastRequestAt, user.lastRequestAt)
                 && gender == user.gender
@@ -156,6 +184,7 @@ public class User extends BaseEntity implements UserDetails {
                 && Objects.equals(rating, user.rating)
                 && Objects.equals(visitedCnt, user.visitedCnt)
                 && Objects.equals(reviewCnt, user.reviewCnt)
+                && Objects.equals(ratingSum, user.ratingSum)
                 && Objects.equals(isSeekingTeam, user.isSeekingTeam)
                 && Objects.equals(isTemporaryPassword, user.isTemporaryPassword)
                 && Objects.equals(isNotified, user.isNotified);
@@ -163,9 +192,9 @@ public class User extends BaseEntity implements UserDetails {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, contact, username, password, nickname, profileDescription, imageUrl, birthdate,
-                lastRequestAt, gender, position, rating, visitedCnt, reviewCnt, isSeekingTeam, isTemporaryPassword,
-                isNotified);
+        return Objects.hash(id, contact, username, password, nickname, profileDescription, imageUrl, thumbnailUrl,
+                birthdate, lastRequestAt, gender, position, rating, visitedCnt, reviewCnt, ratingSum, isSeekingTeam,
+                isTemporaryPassword, isNotified);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.gabojait.gabojaitspring.repository.favorite;
 
 import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.common.util.PageCountUtility;
 import com.gabojait.gabojaitspring.domain.favorite.Favorite;
 import com.gabojait.gabojaitspring.domain.user.QUser;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -17,6 +18,7 @@ import static com.gabojait.gabojaitspring.domain.user.QUser.user;
 public class FavoriteRepositoryImpl implements FavoriteCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageCountUtility pageCountUtility;
 
     @Override
     public boolean existsUser(long userId, long targetUserId) {
@@ -82,15 +84,19 @@ public class FavoriteRepositoryImpl implements FavoriteCustomRepository {
 
     @Override
     public PageData<List<Favorite>> findPageUser(long userId, long pageFrom, int pageSize) {
-        Long count = queryFactory.select(favorite.count())
-                .from(favorite)
-                .leftJoin(favorite.user, user)
-                .where(
-                        favorite.user.id.eq(userId),
-                        favorite.favoriteUser.isNotNull()
-                ).fetchOne();
-
-        if (count == null || count == 0)
+        long count = pageCountUtility.count("favorite", "user:" + userId, pageFrom, () -> {
+            Long cnt = queryFactory.select(favorite.count())
+                    .from(favorite)
+                    .leftJoin(favorite.user, user)
+                    .where(
+                            favorite.user.id.eq(userId),
+                            favorite.favoriteUser.isNotNull()
+                    ).fetchOne();
+
+            return cnt == null ? 0 : cnt;
+        });
+
+        if (count == 0)
             return new PageData<>(List.of(), 0);
 
         QUser targetUser = new QUser("targetUser");
@@ -103,7 +109,7 @@ public class FavoriteRepositoryImpl implements FavoriteCustomRepository {
                         favorite.id.lt(pageFrom),
                         favorite.favoriteUser.isNotNull(),
                         favorite.user.id.eq(userId)
-                ).orderBy(favorite.createdAt.desc())
+                ).orderBy(favorite.id.desc())
                 .limit(pageSize)
                 .fetch();
 
@@ -112,15 +118,19 @@ public class FavoriteRepositoryImpl implements FavoriteCustomRepository {
 
     @Override
     public PageData<List<Favorite>> findPageTeam(long userId, long pageFrom, int pageSize) {
-        Long count = queryFactory.select(favorite.count())
-                .from(favorite)
-                .leftJoin(favorite.user, user)
-                .where(
-                        favorite.user.id.eq(userId),
-                        favorite.favoriteTeam.isNotNull()
-                ).fetchOne();
-
-        if (count == null || count == 0)
+        long count = pageCountUtility.count("favorite", "team:" + userId, pageFrom, () -> {
+            Long cnt = queryFactory.select(favorite.count())
+                    .from(favorite)
+                    .leftJoin(favorite.user, user)
+                    .where(
+                            favorite.user.id.eq(userId),
+                            favorite.favoriteTeam.isNotNull()
+                    ).fetchOne();
+
+            return cnt == null ? 0 : cnt;
+        });
+
+        if (count == 0)
             return new PageData<>(List.of(), 0);
 
         List<Favorite> favorites = queryFactory.select(favorite)
@@ -132,7 +142,7 @@ public class FavoriteRepositoryImpl implements FavoriteCustomRepository {
                         favorite.id.lt(pageFrom),
                         favorite.favoriteTeam.isNotNull(),
                         favorite.user.id.eq(userId)
-                ).orderBy(favorite.createdAt.desc())
+                ).orderBy(favorite.id.desc())
                 .limit(pageSize)
                 .fetch();
 
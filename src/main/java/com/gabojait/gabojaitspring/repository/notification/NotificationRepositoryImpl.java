@@ -1,6 +1,7 @@
 package com.gabojait.gabojaitspring.repository.notification;
 
 import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.common.util.PageCountUtility;
 import com.gabojait.gabojaitspring.domain.notification.Notification;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -15,17 +16,22 @@ import static com.gabojait.gabojaitspring.domain.user.QUser.user;
 public class NotificationRepositoryImpl implements NotificationCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageCountUtility pageCountUtility;
 
     @Override
     public PageData<List<Notification>> findPage(long userId, long pageFrom, int pageSize) {
-        Long count = queryFactory
-                .select(notification.id.count())
-                .from(notification)
-                .where(
-                        notification.user.id.eq(userId)
-                ).fetchOne();
+        long count = pageCountUtility.count("notification", String.valueOf(userId), pageFrom, () -> {
+            Long cnt = queryFactory
+                    .select(notification.id.count())
+                    .from(notification)
+                    .where(
+                            notification.user.id.eq(userId)
+                    ).fetchOne();
+
+            return cnt == null ? 0 : cnt;
+        });
 
-        if (count == null || count == 0)
+        if (count == 0)
             return new PageData<>(List.of(), 0);
 
         List<Notification> notifications = queryFactory
@@ -35,7 +41,7 @@ public class NotificationRepositoryImpl implements NotificationCustomRepository
                 .where(
                         notification.id.lt(pageFrom),
                         notification.user.id.eq(userId)
-                ).orderBy(notification.createdAt.desc())
+                ).orderBy(notification.id.desc())
                 .limit(pageSize)
                 .fetch();
 
@@ -16,6 +16,8 @@ public interface OfferCustomRepository {
 
     List<Offer> findAllByTeamId(long userId, long teamId);
 
+    List<Offer> findAllRecruitingTeam();
+
     Optional<Offer> findFetchTeam(long userId, long offerId, OfferedBy offeredBy);
 
     Optional<Offer> findFetchUser(long teamId, long offerId, OfferedBy offeredBy);
@@ -1,11 +1,11 @@
 package com.gabojait.gabojaitspring.repository.offer;
 
 import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.common.util.PageCountUtility;
 import com.gabojait.gabojaitspring.domain.offer.Offer;
 import com.gabojait.gabojaitspring.domain.offer.OfferedBy;
 import com.gabojait.gabojaitspring.domain.team.TeamMemberStatus;
 import com.gabojait.gabojaitspring.domain.user.Position;
-import com.gabojait.gabojaitspring.domain.user.QUser;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -24,10 +24,10 @@ import static com.querydsl.jpa.JPAExpressions.select;
 public class OfferRepositoryImpl implements OfferCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageCountUtility pageCountUtility;
 
     @Override
     public List<Offer> findAllByUserId(long userId, long offerorUserId) {
-        QUser offerorUser = new QUser("offerorUser");
         return queryFactory
                 .selectFrom(offer)
                 .where(
@@ -35,9 +35,8 @@ public class OfferRepositoryImpl implements OfferCustomRepository {
                                 select(teamMember.team.id)
                                         .from(teamMember)
                                         .leftJoin(teamMember.team, team)
-                                        .leftJoin(teamMember.user, offerorUser)
                                         .where(
-                                                offerorUser.id.eq(offerorUserId),
+                                                teamMember.user.id.eq(offerorUserId),
                                                 teamMember.isLeader.isTrue(),
                                                 teamMember.teamMemberStatus.eq(TeamMemberStatus.PROGRESS),
                                                 teamMember.team.completedAt.isNull(),
@@ -53,7 +52,6 @@ public class OfferRepositoryImpl implements OfferCustomRepository {
 
     @Override
     public List<Offer> findAllInUserIds(List<Long> userIds, long offerorUserId) {
-        QUser offerorUser = new QUser("offerorUser");
         return queryFactory
                 .select(offer)
                 .from(offer)
@@ -65,9 +63,8 @@ public class OfferRepositoryImpl implements OfferCustomRepository {
                                 select(teamMember.team.id)
                                         .from(teamMember)
                                         .leftJoin(teamMember.team, team)
-                                        .leftJoin(teamMember.user, offerorUser)
                                         .where(
-                                                offerorUser.id.eq(offerorUserId),
+                                                teamMember.user.id.eq(offerorUserId),
                                                 teamMember.isLeader.isTrue(),
                                                 teamMember.teamMemberStatus.eq(TeamMemberStatus.PROGRESS),
                                                 teamMember.team.completedAt.isNull(),
@@ -93,6 +90,18 @@ public class OfferRepositoryImpl implements OfferCustomRepository {
                 ).fetch();
     }
 
+    @Override
+    public List<Offer> findAllRecruitingTeam() {
+        return queryFactory.selectFrom(offer)
+                .join(offer.team, team)
+                .where(
+                        team.isRecruiting.isTrue(),
+                        team.completedAt.isNull(),
+                        team.isDeleted.isFalse(),
+                        offer.isDeleted.isFalse().or(offer.isAccepted.isNotNull())
+                ).fetch();
+    }
+
     @Override
     public Optional<Offer> findFetchTeam(long userId, long offerId, OfferedBy offeredBy) {
         return Optional.ofNullable(
@@ -131,18 +140,22 @@ public class OfferRepositoryImpl implements OfferCustomRepository {
 
     @Override
     public PageData<List<Offer>> findPageFetchUser(long userId, OfferedBy offeredBy, long pageFrom, int pageSize) {
-        Long count = queryFactory.select(offer.count())
-                .from(offer)
-                .leftJoin(offer.user, user)
-                .leftJoin(offer.team, team)
-                .where(
-                        offer.user.id.eq(userId),
-                        offer.offeredBy.eq(offeredBy),
-                        offer.isAccepted.isNull(),
-                        offer.team.completedAt.isNull()
-                ).fetchOne();
-
-        if (count == null || count == 0)
+        long count = pageCountUtility.count("offer", "user:" + userId + ":" + offeredBy, pageFrom, () -> {
+            Long cnt = queryFactory.select(offer.count())
+                    .from(offer)
+                    .leftJoin(offer.user, user)
+                    .leftJoin(offer.team, team)
+                    .where(
+                            offer.user.id.eq(userId),
+                            offer.offeredBy.eq(offeredBy),
+                            offer.isAccepted.isNull(),
+                            offer.team.completedAt.isNull()
+                    ).fetchOne();
+
+            return cnt == null ? 0 : cnt;
+        });
+
+        if (count == 0)
             return new PageData<>(List.of(), 0);
 
         List<Offer> offers = queryFactory.select(offer)
@@ -156,7 +169,7 @@ public class OfferRepositoryImpl implements OfferCustomRepository {
                         offer.user.id.eq(userId),
                         offer.isAccepted.isNull(),
                         offer.team.completedAt.isNull()
-                ).orderBy(offer.createdAt.desc())
+                ).orderBy(offer.id.desc())
                 .limit(pageSize)
                 .fetch();
 
@@ -169,19 +182,24 @@ public class OfferRepositoryImpl implements OfferCustomRepository {
                                          OfferedBy offeredBy,
                                          long pageFrom,
                                          int pageSize) {
-        Long count = queryFactory.select(offer.count())
-                .from(offer)
-                .leftJoin(offer.user, user)
-                .leftJoin(offer.team, team)
-                .where(
-                        offer.team.id.eq(teamId),
-                        offer.offeredBy.eq(offeredBy),
-                        offer.position.eq(position),
-                        offer.isAccepted.isNull(),
-                        offer.team.completedAt.isNull()
-                ).fetchOne();
-
-        if (count == null || count == 0)
+        String key = "team:" + teamId + ":" + position + ":" + offeredBy;
+        long count = pageCountUtility.count("offer", key, pageFrom, () -> {
+            Long cnt = queryFactory.select(offer.count())
+                    .from(offer)
+                    .leftJoin(offer.user, user)
+                    .leftJoin(offer.team, team)
+                    .where(
+                            offer.team.id.eq(teamId),
+                            offer.offeredBy.eq(offeredBy),
+                            offer.position.eq(position),
+                            offer.isAccepted.isNull(),
+                            offer.team.completedAt.isNull()
+                    ).fetchOne();
+
+            return cnt == null ? 0 : cnt;
+        });
+
+        if (count == 0)
             return new PageData<>(List.of(), 0);
 
         List<Offer> offers = queryFactory.select(offer)
@@ -196,7 +214,7 @@ public class OfferRepositoryImpl implements OfferCustomRepository {
                         offer.position.eq(position),
                         offer.isAccepted.isNull(),
                         offer.team.completedAt.isNull()
-                ).orderBy(offer.createdAt.desc())
+                ).orderBy(offer.id.desc())
                 .limit(pageSize)
                 .fetch();
 
@@ -3,9 +3,12 @@ package com.gabojait.gabojaitspring.repository.profile;
 import com.gabojait.gabojaitspring.domain.profile.Education;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.gabojait.gabojaitspring.domain.profile.QEducation.education;
 
@@ -14,6 +17,7 @@ import static com.gabojait.gabojaitspring.domain.profile.QEducation.education;
 public class EducationRepositoryImpl implements EducationCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<Education> findAll(long userId) {
@@ -23,4 +27,26 @@ public class EducationRepositoryImpl implements EducationCustomRepository {
                 .orderBy(education.startedAt.desc())
                 .fetch();
     }
+
+    @Override
+    public void insertAll(List<Education> educations) {
+        if (educations.isEmpty())
+            return;
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("INSERT INTO education "
+                        + "(institution_name, is_current, started_at, ended_at, created_at, updated_at, user_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                educations.stream()
+                        .map(e -> new Object[] {
+                                e.getInstitutionName(),
+                                e.getIsCurrent(),
+                                e.getStartedAt(),
+                                e.getEndedAt(),
+                                now,
+                                now,
+                                e.getUser().getId()
+                        })
+                        .collect(Collectors.toList()));
+    }
 }
@@ -7,4 +7,11 @@ import java.util.List;
 public interface PortfolioCustomRepository {
 
     List<Portfolio> findAll(long userId);
+
+    /**
+     * 포트폴리오들 일괄 생성 |
+     * 한번의 JDBC 배치로 생성하며, 엔티티 리스너를 거치지 않고 식별자도 채우지 않는다.
+     * @param portfolios 포트폴리오들
+     */
+    void insertAll(List<Portfolio> portfolios);
 }
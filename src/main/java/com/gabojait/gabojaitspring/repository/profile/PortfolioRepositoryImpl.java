@@ -4,9 +4,12 @@ import com.gabojait.gabojaitspring.domain.profile.Portfolio;
 import com.gabojait.gabojaitspring.domain.user.User;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.gabojait.gabojaitspring.domain.profile.QPortfolio.portfolio;
 
@@ -15,13 +18,35 @@ import static com.gabojait.gabojaitspring.domain.profile.QPortfolio.portfolio;
 public class PortfolioRepositoryImpl implements PortfolioCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<Portfolio> findAll(long userId) {
         return queryFactory
                 .selectFrom(portfolio)
                 .where(portfolio.user.id.eq(userId))
-                .orderBy(portfolio.createdAt.desc())
+                .orderBy(portfolio.createdAt.desc(), portfolio.id.desc())
                 .fetch();
     }
+
+    @Override
+    public void insertAll(List<Portfolio> portfolios) {
+        if (portfolios.isEmpty())
+            return;
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("INSERT INTO portfolio "
+                        + "(portfolio_name, media, portfolio_url, created_at, updated_at, user_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                portfolios.stream()
+                        .map(p -> new Object[] {
+                                p.getPortfolioName(),
+                                p.getMedia().name(),
+                                p.getPortfolioUrl(),
+                                now,
+                                now,
+                                p.getUser().getId()
+                        })
+                        .collect(Collectors.toList()));
+    }
 }
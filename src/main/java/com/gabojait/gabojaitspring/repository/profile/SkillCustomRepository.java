@@ -10,4 +10,13 @@ public interface SkillCustomRepository {
     List<Skill> findAll(long userId);
 
     List<Skill> findAllInFetchUser(List<Long> userIds);
+
+    List<Skill> findAllAfter(long idFrom, int size);
+
+    /**
+     * 기술들 일괄 생성 |
+     * 한번의 JDBC 배치로 생성하며, 엔티티 리스너를 거치지 않고 식별자도 채우지 않는다.
+     * @param skills 기술들
+     */
+    void insertAll(List<Skill> skills);
 }
@@ -0,0 +1,261 @@
+package com.gabojait.gabojaitspring.repository.profile;
+
+import com.gabojait.gabojaitspring.domain.profile.Level;
+import com.gabojait.gabojaitspring.domain.profile.Skill;
+import com.gabojait.gabojaitspring.domain.profile.SkillDictionary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * 기술 역색인 |
+ * 정규화된 기술명과 레벨별로 회원 식별자 목록(posting)을 유지하여 기술로 회원을 찾는다.
+ * 여러 기술을 검색하면 가장 작은 목록부터 나머지 목록에 포함되는지 확인하여 교집합을 구한다.
+ * 회원의 기술 변경은 커밋 이후 회원 단위로 교체하고, 다른 서버의 변경은 주기적인 재구성으로 반영한다.
+ */
+@Slf4j
+@Component
+public class SkillIndex {
+
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+    private Map<Long, Map<String, Level>> pendingUpdates;
+
+    /**
+     * 사용 가능 여부 |
+     * 첫 재구성이 끝나기 전에는 사용할 수 없다.
+     * @return 사용 가능 여부
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 회원 식별자 검색 |
+     * 모든 기술을 최소 레벨 이상으로 가진 회원을 찾는다.
+     * 팀을 찾는지와 평점은 알 수 없으므로 자르지 않고 모두 반환한다.
+     * @param skillNames 기술명들
+     * @param minLevel 최소 레벨
+     * @return 회원 식별자들 (내림차순)
+     */
+    public List<Long> search(Collection<String> skillNames, Level minLevel) {
+        Snapshot current = snapshot;
+        Set<String> normalizedNames = new HashSet<>();
+        List<Map<Level, Set<Long>>> postings = new ArrayList<>();
+
+        for (String skillName : skillNames) {
+            String normalizedName = SkillDictionary.normalize(skillName);
+            Map<Level, Set<Long>> posting = current.postings.get(normalizedName);
+
+            if (posting == null)
+                return List.of();
+            if (normalizedNames.add(normalizedName))
+                postings.add(posting);
+        }
+
+        if (postings.isEmpty())
+            return List.of();
+
+        postings.sort(Comparator.comparingInt(posting -> size(posting, minLevel)));
+
+        List<Long> userIds = new ArrayList<>();
+        for (Level level : Level.values()) {
+            if (level.compareTo(minLevel) < 0)
+                continue;
+
+            for (Long userId : postings.get(0).get(level))
+                if (containsAll(postings, userId, minLevel))
+                    userIds.add(userId);
+        }
+
+        userIds.sort(Comparator.reverseOrder());
+
+        return userIds;
+    }
+
+    /**
+     * 회원 기술명 조회 |
+     * @param userId 회원 식별자
+     * @return 정규화된 기술명들, 사용할 수 없으면 빈 값
+     */
+    public Set<String> findSkillNames(long userId) {
+        Snapshot current = snapshot;
+        Map<String, Level> levels = current == null ? null : current.skills.get(userId);
+
+        return levels == null ? Set.of() : levels.keySet();
+    }
+
+    /**
+     * 기술명 존재 여부 |
+     * 한명 이상의 회원이 가진 기술명인지 확인한다.
+     * @param normalizedName 정규화된 기술명
+     * @return 존재 여부
+     */
+    public boolean contains(String normalizedName) {
+        Snapshot current = snapshot;
+        Map<Level, Set<Long>> posting = current == null ? null : current.postings.get(normalizedName);
+
+        if (posting == null)
+            return false;
+
+        for (Set<Long> userIds : posting.values())
+            if (!userIds.isEmpty())
+                return true;
+
+        return false;
+    }
+
+    /**
+     * 회원 기술 반영 |
+     * 회원의 기술 전체를 교체한다. 트랜잭션 안에서 호출된 경우 커밋 이후에 반영하고, 롤백되면 반영하지 않는다.
+     * @param userId 회원 식별자
+     * @param skills 회원의 현재 기술들
+     */
+    public void update(long userId, Collection<Skill> skills) {
+        Map<String, Level> levels = levels(skills);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userId, levels);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(userId, levels);
+            }
+        });
+    }
+
+    /**
+     * 인덱스 재구성 |
+     * 동시에 하나의 재구성만 실행한다.
+     * @param loader 기술 식별자 이후의 기술 배치 조회 함수, 빈 목록이면 종료한다
+     */
+    public synchronized void rebuild(LongFunction<List<Skill>> loader) {
+        synchronized (lock) {
+            pendingUpdates = new HashMap<>();
+        }
+
+        Map<Long, Map<String, Level>> loaded = new HashMap<>();
+        int skillCnt = 0;
+        try {
+            long idFrom = 0;
+            List<Skill> skills;
+
+            while (!(skills = loader.apply(idFrom)).isEmpty()) {
+                for (Skill skill : skills) {
+                    String skillName = SkillDictionary.normalize(skill.getSkillName());
+
+                    if (!skillName.isEmpty())
+                        loaded.computeIfAbsent(skill.getUser().getId(), id -> new HashMap<>())
+                                .merge(skillName, skill.getLevel(), SkillIndex::max);
+                }
+
+                skillCnt += skills.size();
+                idFrom = skills.get(skills.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingUpdates = null;
+            }
+            throw e;
+        }
+
+        Snapshot rebuilt = new Snapshot();
+        loaded.forEach(rebuilt::put);
+
+        synchronized (lock) {
+            pendingUpdates.forEach(rebuilt::put);
+            pendingUpdates = null;
+            snapshot = rebuilt;
+        }
+
+        log.info("[SYSTEM | SKILL INDEX] skills={} users={} terms={}", skillCnt, rebuilt.skills.size(),
+                rebuilt.postings.size());
+    }
+
+    private void apply(long userId, Map<String, Level> levels) {
+        synchronized (lock) {
+            if (pendingUpdates != null)
+                pendingUpdates.put(userId, levels);
+            if (snapshot != null)
+                snapshot.put(userId, levels);
+        }
+    }
+
+    /**
+     * 기술 레벨 변환 |
+     * 정규화 후 같은 기술이 여러 개면 가장 높은 레벨을 사용한다.
+     * @param skills 기술들
+     * @return 정규화된 기술명별 레벨
+     */
+    static Map<String, Level> levels(Collection<Skill> skills) {
+        Map<String, Level> levels = new HashMap<>();
+
+        for (Skill skill : skills) {
+            String skillName = SkillDictionary.normalize(skill.getSkillName());
+
+            if (!skillName.isEmpty())
+                levels.merge(skillName, skill.getLevel(), SkillIndex::max);
+        }
+
+        return levels;
+    }
+
+    private static Level max(Level a, Level b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static int size(Map<Level, Set<Long>> posting, Level minLevel) {
+        int size = 0;
+
+        for (Level level : Level.values())
+            if (level.compareTo(minLevel) >= 0)
+                size += posting.get(level).size();
+
+        return size;
+    }
+
+    private static boolean containsAll(List<Map<Level, Set<Long>>> postings, Long userId, Level minLevel) {
+        for (int i = 1; i < postings.size(); i++) {
+            boolean isContained = false;
+
+            for (Level level : Level.values())
+                if (level.compareTo(minLevel) >= 0 && postings.get(i).get(level).contains(userId)) {
+                    isContained = true;
+                    break;
+                }
+
+            if (!isContained)
+                return false;
+        }
+
+        return true;
+    }
+
+    private static final class Snapshot {
+
+        private final Map<String, Map<Level, Set<Long>>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, Map<String, Level>> skills = new ConcurrentHashMap<>();
+
+        private void put(long userId, Map<String, Level> levels) {
+            Map<String, Level> previous = levels.isEmpty() ? skills.remove(userId) : skills.put(userId, levels);
+
+            if (previous != null)
+                previous.forEach((skillName, level) -> postings.get(skillName).get(level).remove(userId));
+
+            levels.forEach((skillName, level) -> postings.computeIfAbsent(skillName, s -> {
+                Map<Level, Set<Long>> posting = new EnumMap<>(Level.class);
+                for (Level l : Level.values())
+                    posting.put(l, ConcurrentHashMap.newKeySet());
+                return posting;
+            }).get(level).add(userId));
+        }
+    }
+}
@@ -4,9 +4,12 @@ import com.gabojait.gabojaitspring.domain.profile.Skill;
 import com.gabojait.gabojaitspring.domain.user.User;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.gabojait.gabojaitspring.domain.profile.QSkill.skill;
 import static com.gabojait.gabojaitspring.domain.user.QUser.user;
@@ -16,6 +19,7 @@ import static com.gabojait.gabojaitspring.domain.user.QUser.user;
 public class SkillRepositoryImpl implements SkillCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<Skill> findAll(long userId) {
@@ -24,7 +28,7 @@ public class SkillRepositoryImpl implements SkillCustomRepository {
                 .from(skill)
                 .leftJoin(skill.user, user)
                 .where(skill.user.id.eq(userId))
-                .orderBy(skill.createdAt.desc())
+                .orderBy(skill.createdAt.desc(), skill.id.desc())
                 .fetch();
     }
 
@@ -40,4 +44,35 @@ public class SkillRepositoryImpl implements SkillCustomRepository {
                 .orderBy(skill.createdAt.desc())
                 .fetch();
     }
+
+    @Override
+    public List<Skill> findAllAfter(long idFrom, int size) {
+        return queryFactory
+                .selectFrom(skill)
+                .where(skill.id.gt(idFrom))
+                .orderBy(skill.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public void insertAll(List<Skill> skills) {
+        if (skills.isEmpty())
+            return;
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("INSERT INTO skill "
+                        + "(skill_name, level, is_experienced, created_at, updated_at, user_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                skills.stream()
+                        .map(s -> new Object[] {
+                                s.getSkillName(),
+                                s.getLevel().name(),
+                                s.getIsExperienced(),
+                                now,
+                                now,
+                                s.getUser().getId()
+                        })
+                        .collect(Collectors.toList()));
+    }
 }
@@ -3,9 +3,12 @@ package com.gabojait.gabojaitspring.repository.profile;
 import com.gabojait.gabojaitspring.domain.profile.Work;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.gabojait.gabojaitspring.domain.profile.QWork.work;
 
@@ -14,6 +17,7 @@ import static com.gabojait.gabojaitspring.domain.profile.QWork.work;
 public class WorkRepositoryImpl implements WorkCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<Work> findAll(long userId) {
@@ -23,4 +27,28 @@ public class WorkRepositoryImpl implements WorkCustomRepository {
                 .orderBy(work.startedAt.desc())
                 .fetch();
     }
+
+    @Override
+    public void insertAll(List<Work> works) {
+        if (works.isEmpty())
+            return;
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("INSERT INTO work "
+                        + "(corporation_name, work_description, is_current, started_at, ended_at, "
+                        + "created_at, updated_at, user_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                works.stream()
+                        .map(w -> new Object[] {
+                                w.getCorporationName(),
+                                w.getWorkDescription(),
+                                w.getIsCurrent(),
+                                w.getStartedAt(),
+                                w.getEndedAt(),
+                                now,
+                                now,
+                                w.getUser().getId()
+                        })
+                        .collect(Collectors.toList()));
+    }
 }
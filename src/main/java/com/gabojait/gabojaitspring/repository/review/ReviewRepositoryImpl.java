@@ -1,6 +1,7 @@
 package com.gabojait.gabojaitspring.repository.review;
 
 import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.common.util.PageCountUtility;
 import com.gabojait.gabojaitspring.domain.review.Review;
 import com.gabojait.gabojaitspring.domain.team.TeamMemberStatus;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -18,25 +19,30 @@ import static com.querydsl.jpa.JPAExpressions.select;
 public class ReviewRepositoryImpl implements ReviewCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageCountUtility pageCountUtility;
 
     @Override
     public PageData<List<Review>> findPage(long userId, long pageFrom, int pageSize) {
-        Long count = queryFactory.select(review.id.count())
-                .from(review)
-                .where(
-                        review.reviewee.id.in(
-                                select(teamMember.id)
-                                        .from(teamMember)
-                                        .leftJoin(teamMember.team, team)
-                                        .leftJoin(teamMember.user, user)
-                                        .where(
-                                                teamMember.user.id.eq(userId),
-                                                teamMember.teamMemberStatus.eq(TeamMemberStatus.COMPLETE),
-                                                team.completedAt.isNotNull()
-                                        ))
-                ).fetchOne();
+        long count = pageCountUtility.count("review", String.valueOf(userId), pageFrom, () -> {
+            Long cnt = queryFactory.select(review.id.count())
+                    .from(review)
+                    .where(
+                            review.reviewee.id.in(
+                                    select(teamMember.id)
+                                            .from(teamMember)
+                                            .leftJoin(teamMember.team, team)
+                                            .leftJoin(teamMember.user, user)
+                                            .where(
+                                                    teamMember.user.id.eq(userId),
+                                                    teamMember.teamMemberStatus.eq(TeamMemberStatus.COMPLETE),
+                                                    team.completedAt.isNotNull()
+                                            ))
+                    ).fetchOne();
 
-        if (count == null || count == 0)
+            return cnt == null ? 0 : cnt;
+        });
+
+        if (count == 0)
             return new PageData<>(List.of(), 0);
 
         List<Review> reviews = queryFactory.selectFrom(review)
@@ -53,7 +59,7 @@ public class ReviewRepositoryImpl implements ReviewCustomRepository {
                                         )
                         ),
                         review.id.lt(pageFrom)
-                ).orderBy(review.createdAt.desc())
+                ).orderBy(review.id.desc())
                 .limit(pageSize)
                 .fetch();
 
@@ -70,11 +76,9 @@ public class ReviewRepositoryImpl implements ReviewCustomRepository {
                         teamMember.id.in(
                                 select(teamMember.id)
                                         .from(teamMember)
-                                        .leftJoin(teamMember.user, user)
-                                        .leftJoin(teamMember.team, team)
                                         .where(
-                                                user.id.eq(userId),
-                                                team.id.eq(teamId)
+                                                teamMember.user.id.eq(userId),
+                                                teamMember.team.id.eq(teamId)
                                         )
                         )
                 ).fetchFirst();
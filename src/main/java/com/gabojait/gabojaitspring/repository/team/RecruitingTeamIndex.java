@@ -0,0 +1,194 @@
+package com.gabojait.gabojaitspring.repository.team;
+
+import com.gabojait.gabojaitspring.domain.team.Team;
+import com.gabojait.gabojaitspring.domain.user.Position;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 모집 중인 팀 인덱스 |
+ * 포지션별로 모집 중인 팀 식별자를 내림차순 정렬 집합으로 유지하여 팀 페이징 조회를 메모리에서 처리한다.
+ * 팀 변경은 커밋 이후 반영하고, 다른 서버의 변경은 주기적인 재구성으로 반영한다.
+ * 재구성 중 반영된 변경은 따로 기록했다가 새 인덱스에 다시 적용하여 재구성 결과가 더 최신 변경을 덮어쓰지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class RecruitingTeamIndex {
+
+    @Value("${api.team.index.enabled}")
+    private boolean isEnabled;
+
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+    private Map<Long, Set<Position>> pendingUpdates;
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * 사용 가능 여부 |
+     * 첫 재구성이 끝나기 전에는 데이터베이스에서 조회한다.
+     * @return 사용 가능 여부
+     */
+    public boolean isReady() {
+        return isEnabled && snapshot != null;
+    }
+
+    /**
+     * 팀 식별자 페이징 조회
+     * @param position 포지션
+     * @param pageFrom 페이지 시작점
+     * @param pageSize 페이지 크기
+     * @return 팀 식별자들
+     */
+    public List<Long> findPage(Position position, long pageFrom, int pageSize) {
+        List<Long> teamIds = new ArrayList<>(pageSize);
+
+        for (Long teamId : snapshot.teamIds.get(position).tailSet(pageFrom, false)) {
+            if (teamIds.size() >= pageSize)
+                break;
+            teamIds.add(teamId);
+        }
+
+        return teamIds;
+    }
+
+    /**
+     * 팀 개수 조회
+     * @param position 포지션
+     * @return 팀 개수
+     */
+    public long count(Position position) {
+        return snapshot.counts.get(position).get();
+    }
+
+    /**
+     * 팀 반영 |
+     * 트랜잭션 안에서 호출된 경우 커밋 이후에 반영하고, 롤백되면 반영하지 않는다.
+     * @param team 팀
+     */
+    public void update(Team team) {
+        if (!isEnabled || team.getId() == null)
+            return;
+
+        long teamId = team.getId();
+        Set<Position> positions = openPositions(team);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(teamId, positions);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(teamId, positions);
+            }
+        });
+    }
+
+    /**
+     * 인덱스 재구성 |
+     * 동시에 하나의 재구성만 실행한다.
+     * @param loader 모집 중인 팀 전체 조회 함수
+     */
+    public synchronized void rebuild(Supplier<List<Team>> loader) {
+        if (!isEnabled)
+            return;
+
+        synchronized (lock) {
+            pendingUpdates = new HashMap<>();
+        }
+
+        Snapshot rebuilt = new Snapshot();
+        try {
+            for (Team team : loader.get())
+                rebuilt.put(team.getId(), openPositions(team));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingUpdates = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            pendingUpdates.forEach(rebuilt::put);
+            pendingUpdates = null;
+            snapshot = rebuilt;
+        }
+
+        log.info("[SYSTEM | TEAM INDEX] recruiting teams={}", rebuilt.counts.get(Position.NONE).get());
+    }
+
+    private void apply(long teamId, Set<Position> positions) {
+        synchronized (lock) {
+            if (pendingUpdates != null)
+                pendingUpdates.put(teamId, positions);
+            if (snapshot != null)
+                snapshot.put(teamId, positions);
+        }
+    }
+
+    /**
+     * 모집 중인 포지션 조회 |
+     * 모집 중이면 NONE을 포함하고, 자리가 남은 포지션을 포함한다.
+     * @param team 팀
+     * @return 모집 중인 포지션들
+     */
+    static Set<Position> openPositions(Team team) {
+        Set<Position> positions = EnumSet.noneOf(Position.class);
+
+        if (!team.getIsRecruiting() || team.getCompletedAt() != null || team.getIsDeleted())
+            return positions;
+
+        positions.add(Position.NONE);
+        for (Position position : Position.values())
+            if (position != Position.NONE && !team.isPositionFull(position))
+                positions.add(position);
+
+        return positions;
+    }
+
+    private static final class Snapshot {
+
+        private final Map<Position, ConcurrentSkipListSet<Long>> teamIds = new EnumMap<>(Position.class);
+        private final Map<Position, AtomicInteger> counts = new EnumMap<>(Position.class);
+        private final Map<Long, Set<Position>> positions = new ConcurrentHashMap<>();
+
+        private Snapshot() {
+            for (Position position : Position.values()) {
+                teamIds.put(position, new ConcurrentSkipListSet<>(Comparator.reverseOrder()));
+                counts.put(position, new AtomicInteger());
+            }
+        }
+
+        private void put(long teamId, Set<Position> openPositions) {
+            Set<Position> previous = openPositions.isEmpty()
+                    ? positions.remove(teamId)
+                    : positions.put(teamId, openPositions);
+
+            for (Position position : Position.values()) {
+                boolean isOpen = openPositions.contains(position);
+                boolean wasOpen = previous != null && previous.contains(position);
+
+                if (isOpen && !wasOpen) {
+                    teamIds.get(position).add(teamId);
+                    counts.get(position).incrementAndGet();
+                } else if (!isOpen && wasOpen) {
+                    teamIds.get(position).remove(teamId);
+                    counts.get(position).decrementAndGet();
+                }
+            }
+        }
+    }
+}
@@ -5,8 +5,33 @@ import com.gabojait.gabojaitspring.domain.team.Team;
 import com.gabojait.gabojaitspring.domain.user.Position;
 
 import java.util.List;
+import java.util.Map;
 
 public interface TeamCustomRepository {
 
     PageData<List<Team>> findPage(Position position, long pageFrom, int pageSize);
+
+    List<Team> findAllRecruiting();
+
+    List<Team> findAllRecruitingIn(List<Long> teamIds, Position position);
+
+    /**
+     * 팀 검색 |
+     * 팀 검색 인덱스가 준비되기 전에 사용하며, 프로젝트명, 프로젝트 설명, 바라는 점에 검색어를 포함한 팀을 최신순으로 조회한다.
+     * @param query 검색어
+     * @param position 포지션
+     * @param pageFrom 페이지 시작점 (순위)
+     * @param pageSize 페이지 크기
+     * @return 팀들
+     */
+    PageData<List<Team>> searchRecruiting(String query, Position position, long pageFrom, int pageSize);
+
+    List<Team> findAllOpenPositionsMismatch(long idFrom, int size);
+
+    /**
+     * 팀 방문 수 일괄 증가 |
+     * 한번의 JDBC 배치로 반영하며, 엔티티 리스너를 거치지 않는다.
+     * @param visitedCnts 팀 식별자별 증가할 방문 수
+     */
+    void incrementVisitedCnt(Map<Long, Long> visitedCnts);
 }
@@ -187,9 +187,8 @@ public class TeamMemberRepositoryImpl implements TeamMemberCustomRepository {
                                                 teamMember.id.in(
                                                         select(teamMember.id)
                                                                 .from(teamMember)
-                                                                .leftJoin(teamMember.user, user)
                                                                 .where(
-                                                                        user.id.eq(userId),
+                                                                        teamMember.user.id.eq(userId),
                                                                         teamMember.teamMemberStatus.eq(TeamMemberStatus.COMPLETE)
                                                                 )
                                                 )
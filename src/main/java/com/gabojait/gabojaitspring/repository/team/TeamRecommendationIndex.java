@@ -0,0 +1,634 @@
+package com.gabojait.gabojaitspring.repository.team;
+
+import com.gabojait.gabojaitspring.domain.offer.Offer;
+import com.gabojait.gabojaitspring.domain.profile.SkillDictionary;
+import com.gabojait.gabojaitspring.domain.team.Team;
+import com.gabojait.gabojaitspring.domain.user.Position;
+import com.gabojait.gabojaitspring.domain.user.User;
+import com.gabojait.gabojaitspring.repository.profile.SkillIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * 팀 추천 인덱스 |
+ * 모집 중인 팀마다 모집 중인 포지션별로 팀을 찾는 회원 중 점수가 높은 상위 K명의 후보 목록을 미리 계산해 둔다.
+ * 점수는 기술 일치도, 평점, 리뷰 수, 최근 접속을 가중합하며, 회원의 포지션이 팀의 모집 중인 포지션이어야 후보가 된다.
+ * 팀과 진행 중이거나 거절된 제안이 있는 회원은 후보에서 제외한다.
+ * 회원, 팀, 제안이 바뀌면 전체를 다시 계산하지 않고 바뀐 회원의 점수만 각 팀 목록에 반영하거나 바뀐 팀의 목록만 다시 계산한다.
+ * 상위 K명 안의 회원이 빠져 목록이 모자라면 다음 조회 시 해당 팀만 다시 계산한다.
+ * 최근 접속 점수는 시간이 지나면 달라지므로 주기적인 재구성으로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamRecommendationIndex {
+
+    private static final double skillWeight = 0.4;
+    private static final double ratingWeight = 0.25;
+    private static final double reviewCntWeight = 0.1;
+    private static final double recencyWeight = 0.25;
+    private static final double reviewCntSaturation = Math.log1p(20);
+    private static final double recencyHalfLifeDays = 14;
+
+    @Value("${api.team.recommendation.size}")
+    private int size;
+
+    private final SkillIndex skillIndex;
+
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+    private List<Consumer<Snapshot>> pendingUpdates;
+
+    /**
+     * 사용 가능 여부 |
+     * 첫 재구성이 끝나기 전에는 사용할 수 없다.
+     * @return 사용 가능 여부
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 추천 회원 식별자 조회 |
+     * 점수 내림차순으로 최대 K명까지 반환한다.
+     * 포지션을 지정하면 해당 포지션의 목록을, NONE이면 포지션별 목록을 합쳐 상위 K명을 반환한다.
+     * @param teamId 팀 식별자
+     * @param position 포지션, NONE이면 전체
+     * @return 추천 회원 식별자들
+     */
+    public List<Long> find(long teamId, Position position) {
+        Snapshot current = snapshot;
+        Ranking ranking = current.rankings.get(teamId);
+
+        if (ranking == null)
+            return List.of();
+
+        if (ranking.isDirty)
+            synchronized (lock) {
+                ranking = current.rankings.get(teamId);
+                if (ranking == null)
+                    return List.of();
+                if (ranking.isDirty)
+                    ranking = current.rank(teamId, size, skillIndex, LocalDateTime.now());
+            }
+
+        List<Scored> ranked;
+        if (position == Position.NONE) {
+            ranked = new ArrayList<>();
+            ranking.candidates.values().forEach(ranked::addAll);
+            ranked.sort(Snapshot.order);
+        } else {
+            ranked = ranking.candidates.getOrDefault(position, List.of());
+        }
+
+        List<Long> userIds = new ArrayList<>(Math.min(ranked.size(), size));
+        for (int i = 0; i < ranked.size() && i < size; i++)
+            userIds.add(ranked.get(i).candidate.userId);
+
+        return userIds;
+    }
+
+    /**
+     * 회원 반영 |
+     * 팀을 찾지 않는 회원은 모든 후보 목록에서 제외한다. 점수에 쓰이는 값이 그대로면 다시 계산하지 않는다.
+     * 트랜잭션 안에서 호출된 경우 커밋 이후에 반영하고, 롤백되면 반영하지 않는다.
+     * @param user 회원
+     */
+    public void updateCandidate(User user) {
+        if (user.getId() == null)
+            return;
+
+        long userId = user.getId();
+        Candidate candidate = toCandidate(user);
+
+        register(s -> s.putCandidate(userId, candidate, false, size, skillIndex, LocalDateTime.now()));
+    }
+
+    /**
+     * 회원 기술 반영 |
+     * 기술 역색인에 반영된 이후 회원의 점수를 다시 계산한다.
+     * @param user 회원
+     */
+    public void updateCandidateSkills(User user) {
+        if (user.getId() == null)
+            return;
+
+        long userId = user.getId();
+        Candidate candidate = toCandidate(user);
+
+        register(s -> s.putCandidate(userId, candidate, true, size, skillIndex, LocalDateTime.now()));
+    }
+
+    /**
+     * 회원 제외 |
+     * 삭제된 회원을 모든 후보 목록에서 제외한다.
+     * @param user 회원
+     */
+    public void removeCandidate(User user) {
+        if (user.getId() == null)
+            return;
+
+        long userId = user.getId();
+
+        register(s -> s.putCandidate(userId, null, false, size, skillIndex, LocalDateTime.now()));
+    }
+
+    /**
+     * 팀 반영 |
+     * 모집 중이 아닌 팀은 후보 목록을 삭제하고, 모집 중인 포지션이나 팀의 기술이 바뀐 팀은 후보 목록을 다시 계산한다.
+     * @param team 팀
+     */
+    public void updateTeam(Team team) {
+        if (team.getId() == null)
+            return;
+
+        long teamId = team.getId();
+        Optional<Requirement> requirement = toRequirement(team);
+
+        register(s -> s.putTeam(teamId, requirement.orElse(null), size, skillIndex, LocalDateTime.now()));
+    }
+
+    /**
+     * 팀 제외 |
+     * @param team 팀
+     */
+    public void removeTeam(Team team) {
+        if (team.getId() == null)
+            return;
+
+        long teamId = team.getId();
+
+        register(s -> s.putTeam(teamId, null, size, skillIndex, LocalDateTime.now()));
+    }
+
+    /**
+     * 제안 반영 |
+     * 제안을 주고받았거나 거절한 회원은 팀의 후보 목록에서 제외하고, 취소된 제안이면 다시 후보로 계산한다.
+     * @param offer 제안
+     */
+    public void updateOffer(Offer offer) {
+        register(toOfferUpdate(offer, isExcluded(offer)));
+    }
+
+    /**
+     * 제안 제외 |
+     * 삭제된 제안의 회원을 다시 후보로 계산한다.
+     * @param offer 제안
+     */
+    public void removeOffer(Offer offer) {
+        register(toOfferUpdate(offer, false));
+    }
+
+    private Consumer<Snapshot> toOfferUpdate(Offer offer, boolean isExcluded) {
+        long teamId = offer.getTeam().getId();
+        long userId = offer.getUser().getId();
+
+        return s -> s.putOffer(teamId, userId, isExcluded, size, skillIndex, LocalDateTime.now());
+    }
+
+    /**
+     * 인덱스 재구성 |
+     * 동시에 하나의 재구성만 실행한다.
+     * @param userLoader 회원 식별자 이후의 팀을 찾는 회원 배치 조회 함수, 빈 목록이면 종료한다
+     * @param teamLoader 모집 중인 팀 전체 조회 함수
+     * @param offerLoader 모집 중인 팀의 취소되지 않은 제안 전체 조회 함수
+     */
+    public synchronized void rebuild(LongFunction<List<User>> userLoader,
+                                     Supplier<List<Team>> teamLoader,
+                                     Supplier<List<Offer>> offerLoader) {
+        synchronized (lock) {
+            pendingUpdates = new ArrayList<>();
+        }
+
+        Snapshot rebuilt = new Snapshot();
+        try {
+            long idFrom = 0;
+            List<User> users;
+
+            while (!(users = userLoader.apply(idFrom)).isEmpty()) {
+                for (User user : users) {
+                    Candidate candidate = toCandidate(user);
+                    if (candidate != null)
+                        rebuilt.candidates.put(candidate.userId, candidate);
+                }
+
+                idFrom = users.get(users.size() - 1).getId();
+            }
+
+            for (Team team : teamLoader.get())
+                toRequirement(team).ifPresent(requirement -> rebuilt.teams.put(team.getId(), requirement));
+
+            for (Offer offer : offerLoader.get())
+                if (isExcluded(offer))
+                    rebuilt.offeredUserIds.computeIfAbsent(offer.getTeam().getId(), t -> ConcurrentHashMap.newKeySet())
+                            .add(offer.getUser().getId());
+
+            LocalDateTime now = LocalDateTime.now();
+            for (Long teamId : rebuilt.teams.keySet())
+                rebuilt.rank(teamId, size, skillIndex, now);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingUpdates = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            pendingUpdates.forEach(update -> update.accept(rebuilt));
+            pendingUpdates = null;
+            snapshot = rebuilt;
+        }
+
+        log.info("[SYSTEM | TEAM RECOMMENDATION] teams={} candidates={}", rebuilt.teams.size(),
+                rebuilt.candidates.size());
+    }
+
+    private void register(Consumer<Snapshot> update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(update);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(update);
+            }
+        });
+    }
+
+    private void apply(Consumer<Snapshot> update) {
+        synchronized (lock) {
+            if (pendingUpdates != null)
+                pendingUpdates.add(update);
+            if (snapshot != null)
+                update.accept(snapshot);
+        }
+    }
+
+    private static boolean isExcluded(Offer offer) {
+        return !offer.getIsDeleted() || offer.getIsAccepted() != null;
+    }
+
+    private static Candidate toCandidate(User user) {
+        if (!user.getIsSeekingTeam() || user.getPosition() == Position.NONE)
+            return null;
+
+        return new Candidate(user.getId(), user.getPosition(), user.getRating(), user.getReviewCnt(),
+                user.getLastRequestAt());
+    }
+
+    /**
+     * 팀 요구 조건 변환 |
+     * 프로젝트명, 프로젝트 설명, 바라는 점의 단어 중 회원이 가진 기술명과 일치하는 것을 팀의 기술로 사용한다.
+     * 'Spring Boot'처럼 두 단어로 쓰인 기술도 찾을 수 있도록 이웃한 두 단어를 붙인 것도 확인한다.
+     * @param team 팀
+     * @return 팀 요구 조건, 모집 중이 아니면 빈 값
+     */
+    Optional<Requirement> toRequirement(Team team) {
+        if (!team.getIsRecruiting() || team.getCompletedAt() != null || team.getIsDeleted())
+            return Optional.empty();
+
+        Set<String> skillNames = new HashSet<>();
+        for (String text : List.of(team.getProjectName(), team.getProjectDescription(), team.getExpectation())) {
+            List<String> words = words(text);
+
+            for (int i = 0; i < words.size(); i++) {
+                skillNames.add(SkillDictionary.normalize(words.get(i)));
+                if (i + 1 < words.size())
+                    skillNames.add(SkillDictionary.normalize(words.get(i) + words.get(i + 1)));
+            }
+        }
+        skillNames.removeIf(skillName -> !skillIndex.contains(skillName));
+
+        return Optional.of(new Requirement(team.getOpenPositions(), skillNames));
+    }
+
+    /**
+     * 단어 분리 |
+     * 공백과 구분 기호로 나누고, 'React로'처럼 조사가 붙은 경우를 위해 한글과 그 외 문자가 바뀌는 지점에서도 나눈다.
+     */
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+
+        if (text == null)
+            return words;
+
+        StringBuilder word = new StringBuilder();
+        boolean isHangulWord = false;
+
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint) && codePoint != '+' && codePoint != '#' && codePoint != '.') {
+                flush(word, words);
+                continue;
+            }
+
+            boolean isHangul = Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+            if (isHangul != isHangulWord)
+                flush(word, words);
+
+            isHangulWord = isHangul;
+            word.appendCodePoint(codePoint);
+        }
+        flush(word, words);
+
+        return words;
+    }
+
+    private static void flush(StringBuilder word, List<String> words) {
+        if (word.length() > 0)
+            words.add(word.toString());
+        word.setLength(0);
+    }
+
+    /**
+     * 점수 계산 |
+     * 각 항목을 0~1로 맞춘 후 가중합한다.
+     * 기술 일치도는 팀 기술 중 회원이 가진 기술의 비율, 리뷰 수는 20개에서 포화되는 로그 값,
+     * 최근 접속은 14일마다 절반이 되는 지수 감소 값이다.
+     */
+    static double score(Candidate candidate, Requirement requirement, Set<String> skillNames, LocalDateTime now) {
+        double skill = 0;
+        if (!requirement.skillNames.isEmpty()) {
+            int matchCnt = 0;
+            for (String skillName : requirement.skillNames)
+                if (skillNames.contains(skillName))
+                    matchCnt++;
+            skill = (double) matchCnt / requirement.skillNames.size();
+        }
+
+        double rating = candidate.rating / 5.0;
+        double reviewCnt = Math.min(1.0, Math.log1p(candidate.reviewCnt) / reviewCntSaturation);
+        double days = candidate.lastRequestAt == null
+                ? Double.MAX_VALUE
+                : Math.max(0, Duration.between(candidate.lastRequestAt, now).toMinutes() / (60.0 * 24));
+        double recency = Math.pow(0.5, days / recencyHalfLifeDays);
+
+        return skillWeight * skill + ratingWeight * rating + reviewCntWeight * reviewCnt + recencyWeight * recency;
+    }
+
+    static final class Candidate {
+
+        private final long userId;
+        private final Position position;
+        private final float rating;
+        private final int reviewCnt;
+        private final LocalDateTime lastRequestAt;
+
+        Candidate(long userId, Position position, float rating, int reviewCnt, LocalDateTime lastRequestAt) {
+            this.userId = userId;
+            this.position = position;
+            this.rating = rating;
+            this.reviewCnt = reviewCnt;
+            this.lastRequestAt = lastRequestAt;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Candidate candidate = (Candidate) o;
+            return userId == candidate.userId
+                    && position == candidate.position
+                    && Float.compare(rating, candidate.rating) == 0
+                    && reviewCnt == candidate.reviewCnt
+                    && Objects.equals(lastRequestAt, candidate.lastRequestAt);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, position, rating, reviewCnt, lastRequestAt);
+        }
+    }
+
+    static final class Requirement {
+
+        private final byte openPositions;
+        private final Set<String> skillNames;
+
+        Requirement(byte openPositions, Set<String> skillNames) {
+            this.openPositions = openPositions;
+            this.skillNames = skillNames;
+        }
+
+        Set<String> getSkillNames() {
+            return skillNames;
+        }
+
+        private boolean isOpen(Position position) {
+            return (openPositions & Team.getPositionBit(position)) != 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Requirement requirement = (Requirement) o;
+            return openPositions == requirement.openPositions && skillNames.equals(requirement.skillNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(openPositions, skillNames);
+        }
+    }
+
+    private static final class Scored {
+
+        private final Candidate candidate;
+        private final double score;
+
+        private Scored(Candidate candidate, double score) {
+            this.candidate = candidate;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 후보 목록 |
+     * 포지션을 지정한 조회도 K명을 채울 수 있도록 모집 중인 포지션별로 상위 K명을 유지한다.
+     * 조회 중인 스레드가 있어도 안전하도록 목록을 바꿀 때마다 새 목록으로 교체한다.
+     */
+    private static final class Ranking {
+
+        private final Map<Position, List<Scored>> candidates;
+        private final boolean isDirty;
+
+        private Ranking(Map<Position, List<Scored>> candidates, boolean isDirty) {
+            this.candidates = candidates;
+            this.isDirty = isDirty;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private static final Comparator<Scored> order = Comparator.comparingDouble((Scored s) -> s.score)
+                .thenComparingLong(s -> s.candidate.userId)
+                .reversed();
+
+        private final Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+        private final Map<Long, Requirement> teams = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> offeredUserIds = new ConcurrentHashMap<>();
+        private final Map<Long, Ranking> rankings = new ConcurrentHashMap<>();
+
+        private boolean isEligible(long teamId, Requirement requirement, Candidate candidate) {
+            Set<Long> offered = offeredUserIds.get(teamId);
+
+            return requirement.isOpen(candidate.position) && (offered == null || !offered.contains(candidate.userId));
+        }
+
+        /**
+         * 팀 후보 목록 전체 계산
+         */
+        private Ranking rank(long teamId, int size, SkillIndex skillIndex, LocalDateTime now) {
+            Requirement requirement = teams.get(teamId);
+            Map<Position, PriorityQueue<Scored>> tops = new EnumMap<>(Position.class);
+            for (Position position : Position.values())
+                if (position != Position.NONE && requirement.isOpen(position))
+                    tops.put(position, new PriorityQueue<>(order.reversed()));
+
+            for (Candidate candidate : candidates.values()) {
+                if (!isEligible(teamId, requirement, candidate))
+                    continue;
+
+                PriorityQueue<Scored> top = tops.get(candidate.position);
+                top.add(new Scored(candidate, score(candidate, requirement,
+                        skillIndex.findSkillNames(candidate.userId), now)));
+                if (top.size() > size)
+                    top.poll();
+            }
+
+            Map<Position, List<Scored>> rankedByPosition = new EnumMap<>(Position.class);
+            tops.forEach((position, top) -> {
+                List<Scored> ranked = new ArrayList<>(top);
+                ranked.sort(order);
+                rankedByPosition.put(position, Collections.unmodifiableList(ranked));
+            });
+
+            Ranking ranking = new Ranking(Collections.unmodifiableMap(rankedByPosition), false);
+            rankings.put(teamId, ranking);
+
+            return ranking;
+        }
+
+        /**
+         * 회원 한명의 점수를 각 팀 후보 목록에 반영 |
+         * 목록에 있던 회원이 빠지거나 점수가 내려가 K번째 밖의 회원이 더 높을 수 있으면 목록을 다시 계산하도록 표시한다.
+         */
+        private void putCandidate(long userId, Candidate candidate, boolean isForced, int size, SkillIndex skillIndex,
+                                  LocalDateTime now) {
+            Candidate previous = candidate == null ? candidates.remove(userId) : candidates.put(userId, candidate);
+
+            if (!isForced && Objects.equals(previous, candidate))
+                return;
+
+            Set<String> skillNames = skillIndex.findSkillNames(userId);
+
+            teams.forEach((teamId, requirement) -> {
+                Scored scored = candidate != null && isEligible(teamId, requirement, candidate)
+                        ? new Scored(candidate, score(candidate, requirement, skillNames, now))
+                        : null;
+
+                rerank(teamId, userId, scored, size);
+            });
+        }
+
+        private void putTeam(long teamId, Requirement requirement, int size, SkillIndex skillIndex,
+                             LocalDateTime now) {
+            if (requirement == null) {
+                teams.remove(teamId);
+                offeredUserIds.remove(teamId);
+                rankings.remove(teamId);
+                return;
+            }
+
+            if (requirement.equals(teams.put(teamId, requirement)) && rankings.containsKey(teamId))
+                return;
+
+            rank(teamId, size, skillIndex, now);
+        }
+
+        private void putOffer(long teamId, long userId, boolean isExcluded, int size, SkillIndex skillIndex,
+                              LocalDateTime now) {
+            Requirement requirement = teams.get(teamId);
+            if (requirement == null)
+                return;
+
+            if (isExcluded) {
+                offeredUserIds.computeIfAbsent(teamId, t -> ConcurrentHashMap.newKeySet()).add(userId);
+            } else {
+                Set<Long> offered = offeredUserIds.get(teamId);
+                if (offered != null)
+                    offered.remove(userId);
+            }
+
+            Candidate candidate = candidates.get(userId);
+            Scored scored = candidate != null && isEligible(teamId, requirement, candidate)
+                    ? new Scored(candidate, score(candidate, requirement, skillIndex.findSkillNames(userId), now))
+                    : null;
+
+            rerank(teamId, userId, scored, size);
+        }
+
+        /**
+         * 회원 한명의 점수 변경을 후보 목록에 반영 |
+         * 포지션별 목록은 자격이 있는 해당 포지션 회원 중 정확한 상위 K명이다.
+         * 포지션이 바뀐 회원은 이전 포지션 목록에서 빠지고 새 포지션 목록에 반영된다.
+         * 목록이 가득 찬 상태에서 목록 안의 회원이 빠지거나 K번째보다 낮아지면 목록 밖의 회원이 더 높을 수 있으므로
+         * 다시 계산하도록 표시한다.
+         */
+        private void rerank(long teamId, long userId, Scored scored, int size) {
+            Ranking ranking = rankings.get(teamId);
+            if (ranking == null || ranking.isDirty)
+                return;
+
+            Map<Position, List<Scored>> rankedByPosition = new EnumMap<>(Position.class);
+            boolean isChanged = false;
+            boolean isDirty = false;
+
+            for (Map.Entry<Position, List<Scored>> entry : ranking.candidates.entrySet()) {
+                Scored positionScored = scored != null && scored.candidate.position == entry.getKey() ? scored : null;
+                List<Scored> ranked = new ArrayList<>(entry.getValue());
+                boolean isFull = ranked.size() >= size;
+                Scored last = ranked.isEmpty() ? null : ranked.get(ranked.size() - 1);
+                boolean wasRanked = ranked.removeIf(s -> s.candidate.userId == userId);
+                boolean isRanked = positionScored != null
+                        && (!isFull || wasRanked || order.compare(positionScored, last) < 0);
+
+                if (!wasRanked && !isRanked) {
+                    rankedByPosition.put(entry.getKey(), entry.getValue());
+                    continue;
+                }
+
+                if (isRanked) {
+                    ranked.add(positionScored);
+                    ranked.sort(order);
+                    if (ranked.size() > size)
+                        ranked.remove(ranked.size() - 1);
+                }
+
+                isChanged = true;
+                isDirty |= isFull && wasRanked && (positionScored == null || order.compare(positionScored, last) > 0);
+                rankedByPosition.put(entry.getKey(), Collections.unmodifiableList(ranked));
+            }
+
+            if (isChanged)
+                rankings.put(teamId, new Ranking(Collections.unmodifiableMap(rankedByPosition), isDirty));
+        }
+    }
+}
@@ -1,26 +1,119 @@
 package com.gabojait.gabojaitspring.repository.team;
 
 import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.common.util.PageCountUtility;
 import com.gabojait.gabojaitspring.domain.team.Team;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.gabojait.gabojaitspring.domain.team.QTeam.team;
 
 @RequiredArgsConstructor
 public class TeamRepositoryImpl implements TeamCustomRepository {
 
+    private static final int openPositionsBound = Arrays.stream(Position.values())
+            .mapToInt(Team::getPositionBit)
+            .reduce(0, (bits, bit) -> bits | bit) + 1;
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final PageCountUtility pageCountUtility;
+    private final RecruitingTeamIndex recruitingTeamIndex;
 
     @Override
     public PageData<List<Team>> findPage(Position position, long pageFrom, int pageSize) {
+        if (recruitingTeamIndex.isReady())
+            return findPageFromIndex(position, pageFrom, pageSize);
+
+        long count = pageCountUtility.count("team", position.name(), pageFrom, () -> {
+            Long cnt = queryFactory.select(team.count())
+                    .from(team)
+                    .where(
+                            positionEq(position),
+                            team.isRecruiting.isTrue(),
+                            team.completedAt.isNull(),
+                            team.isDeleted.isFalse()
+                    ).fetchOne();
+
+            return cnt == null ? 0 : cnt;
+        });
+
+        if (count == 0)
+            return new PageData<>(List.of(), 0L);
+
+        List<Team> teams = queryFactory.selectFrom(team)
+                .where(
+                        team.id.lt(pageFrom),
+                        positionEq(position),
+                        team.isRecruiting.isTrue(),
+                        team.completedAt.isNull(),
+                        team.isDeleted.isFalse()
+                ).orderBy(team.id.desc())
+                .limit(pageSize)
+                .fetch();
+
+        return new PageData<>(teams, count);
+    }
+
+    @Override
+    public List<Team> findAllOpenPositionsMismatch(long idFrom, int size) {
+        NumberExpression<Integer> openPositions = openPositionBit(team.designerMaxCnt, team.designerCurrentCnt, Position.DESIGNER)
+                .add(openPositionBit(team.backendMaxCnt, team.backendCurrentCnt, Position.BACKEND))
+                .add(openPositionBit(team.frontendMaxCnt, team.frontendCurrentCnt, Position.FRONTEND))
+                .add(openPositionBit(team.managerMaxCnt, team.managerCurrentCnt, Position.MANAGER));
+
+        return queryFactory.selectFrom(team)
+                .where(
+                        team.id.gt(idFrom),
+                        openPositions.ne(team.openPositions.intValue())
+                ).orderBy(team.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<Team> findAllRecruiting() {
+        return queryFactory.selectFrom(team)
+                .where(
+                        team.isRecruiting.isTrue(),
+                        team.completedAt.isNull(),
+                        team.isDeleted.isFalse()
+                ).fetch();
+    }
+
+    @Override
+    public List<Team> findAllRecruitingIn(List<Long> teamIds, Position position) {
+        if (teamIds.isEmpty())
+            return List.of();
+
+        return queryFactory.selectFrom(team)
+                .where(
+                        team.id.in(teamIds),
+                        positionEq(position),
+                        team.isRecruiting.isTrue(),
+                        team.completedAt.isNull(),
+                        team.isDeleted.isFalse()
+                ).fetch();
+    }
+
+    @Override
+    public PageData<List<Team>> searchRecruiting(String query, Position position, long pageFrom, int pageSize) {
         Long count = queryFactory.select(team.count())
                 .from(team)
                 .where(
+                        queryContains(query),
                         positionEq(position),
                         team.isRecruiting.isTrue(),
                         team.completedAt.isNull(),
@@ -32,30 +125,84 @@ public class TeamRepositoryImpl implements TeamCustomRepository {
 
         List<Team> teams = queryFactory.selectFrom(team)
                 .where(
-                        team.id.lt(pageFrom),
+                        queryContains(query),
                         positionEq(position),
                         team.isRecruiting.isTrue(),
                         team.completedAt.isNull(),
                         team.isDeleted.isFalse()
-                ).orderBy(team.createdAt.desc())
+                ).orderBy(team.id.desc())
+                .offset(pageFrom)
                 .limit(pageSize)
                 .fetch();
 
         return new PageData<>(teams, count);
     }
 
+    @Override
+    public void incrementVisitedCnt(Map<Long, Long> visitedCnts) {
+        if (visitedCnts.isEmpty())
+            return;
+
+        jdbcTemplate.batchUpdate("UPDATE team SET visited_cnt = visited_cnt + ? WHERE team_id = ?",
+                visitedCnts.entrySet()
+                        .stream()
+                        .map(visitedCnt -> new Object[] { visitedCnt.getValue(), visitedCnt.getKey() })
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * 인덱스 기반 팀 페이징 조회 |
+     * 인덱스에서 팀 식별자를 찾은 후 한번에 조회한다.
+     * 다른 서버의 변경이 아직 반영되지 않았을 수 있어 조회 조건을 함께 확인한다.
+     */
+    private PageData<List<Team>> findPageFromIndex(Position position, long pageFrom, int pageSize) {
+        long count = recruitingTeamIndex.count(position);
+        List<Long> teamIds = recruitingTeamIndex.findPage(position, pageFrom, pageSize);
+
+        if (teamIds.isEmpty())
+            return new PageData<>(List.of(), count);
+
+        List<Team> teams = queryFactory.selectFrom(team)
+                .where(
+                        team.id.in(teamIds),
+                        positionEq(position),
+                        team.isRecruiting.isTrue(),
+                        team.completedAt.isNull(),
+                        team.isDeleted.isFalse()
+                ).orderBy(team.id.desc())
+                .fetch();
+
+        return new PageData<>(teams, count);
+    }
+
+    /**
+     * 포지션 조건 |
+     * 모집 중인 포지션 비트가 켜진 값들을 IN 조건으로 비교하여 인덱스를 사용할 수 있도록 한다.
+     */
     private Predicate positionEq(Position position) {
-        switch (position) {
-            case DESIGNER:
-                return team.designerMaxCnt.gt(team.designerCurrentCnt);
-            case BACKEND:
-                return team.backendMaxCnt.gt(team.backendCurrentCnt);
-            case FRONTEND:
-                return team.frontendMaxCnt.gt(team.frontendCurrentCnt);
-            case MANAGER:
-                return team.managerMaxCnt.gt(team.managerCurrentCnt);
-            default:
-                return null;
-        }
+        if (position == Position.NONE)
+            return null;
+
+        int positionBit = Team.getPositionBit(position);
+        List<Byte> openPositions = new ArrayList<>();
+        for (int value = 0; value < openPositionsBound; value++)
+            if ((value & positionBit) != 0)
+                openPositions.add((byte) value);
+
+        return team.openPositions.in(openPositions);
+    }
+
+    private Predicate queryContains(String query) {
+        return team.projectName.contains(query)
+                .or(team.projectDescription.contains(query))
+                .or(team.expectation.contains(query));
+    }
+
+    private NumberExpression<Integer> openPositionBit(NumberPath<Byte> maxCnt, NumberPath<Byte> currentCnt,
+                                                      Position position) {
+        return new CaseBuilder()
+                .when(maxCnt.gt(currentCnt))
+                .then(Team.getPositionBit(position))
+                .otherwise(0);
     }
 }
@@ -0,0 +1,355 @@
+package com.gabojait.gabojaitspring.repository.team;
+
+import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.domain.team.Team;
+import com.gabojait.gabojaitspring.domain.user.Position;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 팀 검색 인덱스 |
+ * 모집 중인 팀의 프로젝트명, 프로젝트 설명, 바라는 점을 n-gram 역색인으로 유지하여 검색어로 팀을 찾는다.
+ * 한글은 띄어쓰기와 조사에 관계없이 찾을 수 있도록 2-gram으로, 그 외 문자는 단어 단위로 색인한다.
+ * 점수는 필드 가중치를 적용한 BM25이며, 검색어 term의 75% 이상을 포함한 팀만 결과에 포함한다.
+ * 팀 변경은 커밋 이후 반영하고, 다른 서버의 변경은 주기적인 재구성으로 반영한다.
+ */
+@Slf4j
+@Component
+public class TeamSearchIndex {
+
+    private static final float projectNameWeight = 3F;
+    private static final float projectDescriptionWeight = 1F;
+    private static final float expectationWeight = 1F;
+    private static final double k1 = 1.2;
+    private static final double b = 0.75;
+    private static final double minimumMatchRatio = 0.75;
+
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+    private Map<Long, Optional<Document>> pendingUpdates;
+
+    /**
+     * 사용 가능 여부 |
+     * 첫 재구성이 끝나기 전에는 사용할 수 없다.
+     * @return 사용 가능 여부
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 팀 식별자 검색 |
+     * 점수 내림차순, 같은 점수는 최근 팀 순으로 정렬한다.
+     * @param query 검색어
+     * @param position 모집 중인 포지션, NONE이면 전체
+     * @param pageFrom 페이지 시작점 (순위)
+     * @param pageSize 페이지 크기
+     * @return 팀 식별자들과 검색된 팀 수
+     */
+    public PageData<List<Long>> search(String query, Position position, long pageFrom, int pageSize) {
+        Snapshot current = snapshot;
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        int documentCnt = current.entries.size();
+
+        if (terms.isEmpty() || documentCnt == 0)
+            return new PageData<>(List.of(), 0);
+
+        int positionBit = Team.getPositionBit(position);
+        double averageLength = current.totalLength / documentCnt;
+        Map<Entry, Match> matches = new HashMap<>();
+
+        for (String term : terms) {
+            Map<Long, Posting> posting = current.postings.get(term);
+            if (posting == null)
+                continue;
+
+            double idf = Math.log(1 + (documentCnt - posting.size() + 0.5) / (posting.size() + 0.5));
+
+            for (Posting p : posting.values()) {
+                Entry entry = p.entry;
+                if (positionBit != 0 && (entry.document.openPositions & positionBit) == 0)
+                    continue;
+
+                double norm = k1 * (1 - b + b * entry.document.length / averageLength);
+                Match match = matches.computeIfAbsent(entry, e -> new Match());
+                match.cnt++;
+                match.score += idf * p.frequency * (k1 + 1) / (p.frequency + norm);
+            }
+        }
+
+        int minimumMatchCnt = (int) Math.ceil(terms.size() * minimumMatchRatio);
+        int limit = (int) Math.min(pageFrom + pageSize, Integer.MAX_VALUE);
+        Comparator<Hit> order = Comparator.comparingDouble((Hit hit) -> hit.score)
+                .thenComparingLong(hit -> hit.teamId);
+        PriorityQueue<Hit> top = new PriorityQueue<>(order);
+        long total = 0;
+
+        for (Map.Entry<Entry, Match> matched : matches.entrySet()) {
+            if (matched.getValue().cnt < minimumMatchCnt)
+                continue;
+
+            total++;
+            Hit hit = new Hit(matched.getKey().teamId, matched.getValue().score);
+            if (top.size() < limit) {
+                top.add(hit);
+            } else if (order.compare(hit, top.peek()) > 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(order.reversed());
+
+        List<Long> teamIds = new ArrayList<>(pageSize);
+        for (int i = (int) Math.min(pageFrom, ranked.size()); i < ranked.size(); i++)
+            teamIds.add(ranked.get(i).teamId);
+
+        return new PageData<>(teamIds, total);
+    }
+
+    /**
+     * 팀 반영 |
+     * 모집 중이 아닌 팀은 인덱스에서 제외한다. 트랜잭션 안에서 호출된 경우 커밋 이후에 반영하고, 롤백되면 반영하지 않는다.
+     * @param team 팀
+     */
+    public void update(Team team) {
+        if (team.getId() != null)
+            register(team.getId(), toDocument(team));
+    }
+
+    /**
+     * 팀 제외 |
+     * 삭제된 팀을 인덱스에서 제외한다.
+     * @param team 팀
+     */
+    public void remove(Team team) {
+        if (team.getId() != null)
+            register(team.getId(), Optional.empty());
+    }
+
+    private void register(long teamId, Optional<Document> document) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(teamId, document);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(teamId, document);
+            }
+        });
+    }
+
+    /**
+     * 인덱스 재구성 |
+     * 동시에 하나의 재구성만 실행한다.
+     * @param loader 모집 중인 팀 전체 조회 함수
+     */
+    public synchronized void rebuild(Supplier<List<Team>> loader) {
+        synchronized (lock) {
+            pendingUpdates = new HashMap<>();
+        }
+
+        Snapshot rebuilt = new Snapshot();
+        try {
+            for (Team team : loader.get())
+                rebuilt.put(team.getId(), toDocument(team));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingUpdates = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            pendingUpdates.forEach(rebuilt::put);
+            pendingUpdates = null;
+            snapshot = rebuilt;
+        }
+
+        log.info("[SYSTEM | TEAM SEARCH INDEX] teams={} terms={}", rebuilt.entries.size(), rebuilt.postings.size());
+    }
+
+    private void apply(long teamId, Optional<Document> document) {
+        synchronized (lock) {
+            if (pendingUpdates != null)
+                pendingUpdates.put(teamId, document);
+            if (snapshot != null)
+                snapshot.put(teamId, document);
+        }
+    }
+
+    private static Optional<Document> toDocument(Team team) {
+        if (!team.getIsRecruiting() || team.getCompletedAt() != null || team.getIsDeleted())
+            return Optional.empty();
+
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = 0;
+
+        length += addTerms(frequencies, team.getProjectName(), projectNameWeight);
+        length += addTerms(frequencies, team.getProjectDescription(), projectDescriptionWeight);
+        length += addTerms(frequencies, team.getExpectation(), expectationWeight);
+
+        return Optional.of(new Document(frequencies, length, team.getOpenPositions()));
+    }
+
+    private static float addTerms(Map<String, Float> frequencies, String text, float weight) {
+        List<String> terms = tokenize(text);
+
+        for (String term : terms)
+            frequencies.merge(term, weight, Float::sum);
+
+        return terms.size() * weight;
+    }
+
+    /**
+     * 토큰 분리 |
+     * NFKC 정규화와 소문자 변환 후 문자와 숫자가 아닌 문자로 나누고, 한글과 그 외 문자가 바뀌는 지점에서도 나눈다.
+     * 한글은 2-gram(한 글자면 그대로), 그 외는 단어 그대로 term으로 만든다.
+     * @param text 텍스트
+     * @return term들 (중복 포함)
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+
+        if (text == null)
+            return terms;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean isHangulRun = false;
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, isHangulRun, terms);
+                continue;
+            }
+
+            boolean isHangul = Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+            if (isHangul != isHangulRun)
+                flush(run, isHangulRun, terms);
+
+            isHangulRun = isHangul;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, isHangulRun, terms);
+
+        return terms;
+    }
+
+    private static void flush(StringBuilder run, boolean isHangul, List<String> terms) {
+        if (run.length() == 0)
+            return;
+
+        if (!isHangul || run.length() == 1)
+            terms.add(run.toString());
+        else
+            for (int i = 0; i < run.length() - 1; i++)
+                terms.add(run.substring(i, i + 2));
+
+        run.setLength(0);
+    }
+
+    private static final class Document {
+
+        private final Map<String, Float> frequencies;
+        private final float length;
+        private final byte openPositions;
+
+        private Document(Map<String, Float> frequencies, float length, byte openPositions) {
+            this.frequencies = frequencies;
+            this.length = length;
+            this.openPositions = openPositions;
+        }
+    }
+
+    private static final class Hit {
+
+        private final long teamId;
+        private final double score;
+
+        private Hit(long teamId, double score) {
+            this.teamId = teamId;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 인덱스 항목 |
+     * 팀을 다시 반영하면 새 항목으로 교체되므로, 검색 중 교체된 팀의 이전 항목과 새 항목은 따로 집계된다.
+     */
+    private static final class Entry {
+
+        private final long teamId;
+        private final Document document;
+
+        private Entry(long teamId, Document document) {
+            this.teamId = teamId;
+            this.document = document;
+        }
+    }
+
+    /**
+     * 검색 집계 |
+     * 검색어 term과 일치한 항목만 집계하므로 검색 비용은 인덱스 크기가 아닌 일치한 항목 수에 비례한다.
+     */
+    private static final class Match {
+
+        private int cnt;
+        private double score;
+    }
+
+    private static final class Posting {
+
+        private final Entry entry;
+        private final float frequency;
+
+        private Posting(Entry entry, float frequency) {
+            this.entry = entry;
+            this.frequency = frequency;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final Map<String, Map<Long, Posting>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private volatile double totalLength;
+
+        private void put(long teamId, Optional<Document> document) {
+            Entry previous = entries.get(teamId);
+
+            if (previous != null) {
+                entries.remove(teamId);
+                totalLength -= previous.document.length;
+                previous.document.frequencies.keySet().forEach(term -> {
+                    Map<Long, Posting> posting = postings.get(term);
+                    posting.remove(teamId);
+                    if (posting.isEmpty())
+                        postings.remove(term);
+                });
+            }
+
+            document.ifPresent(d -> {
+                Entry entry = new Entry(teamId, d);
+                d.frequencies.forEach((term, frequency) ->
+                        postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>())
+                                .put(teamId, new Posting(entry, frequency)));
+                entries.put(teamId, entry);
+                totalLength += d.length;
+            });
+        }
+    }
+}
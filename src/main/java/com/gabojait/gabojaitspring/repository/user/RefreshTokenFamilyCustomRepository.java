@@ -0,0 +1,22 @@
+package com.gabojait.gabojaitspring.repository.user;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RefreshTokenFamilyCustomRepository {
+
+    long rotate(String familyId, String currentTokenId, String newTokenId, LocalDateTime expiresAt,
+                LocalDateTime now);
+
+    long revoke(String familyId, LocalDateTime now);
+
+    long deleteAll(long userId);
+
+    long deleteExpired(LocalDateTime now);
+
+    boolean existsRevoked(String familyId);
+
+    List<String> findAllRevokedFamilyId(LocalDateTime now);
+
+    List<String> findAllRevokedFamilyId(LocalDateTime since, LocalDateTime now);
+}
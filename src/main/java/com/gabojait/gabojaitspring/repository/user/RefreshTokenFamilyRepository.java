@@ -0,0 +1,8 @@
+package com.gabojait.gabojaitspring.repository.user;
+
+import com.gabojait.gabojaitspring.domain.user.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, Long>,
+        RefreshTokenFamilyCustomRepository {
+}
@@ -0,0 +1,97 @@
+package com.gabojait.gabojaitspring.repository.user;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.gabojait.gabojaitspring.domain.user.QRefreshTokenFamily.refreshTokenFamily;
+
+@RequiredArgsConstructor
+public class RefreshTokenFamilyRepositoryImpl implements RefreshTokenFamilyCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public long rotate(String familyId, String currentTokenId, String newTokenId, LocalDateTime expiresAt,
+                       LocalDateTime now) {
+        return queryFactory
+                .update(refreshTokenFamily)
+                .set(refreshTokenFamily.currentTokenId, newTokenId)
+                .set(refreshTokenFamily.expiresAt, expiresAt)
+                .set(refreshTokenFamily.updatedAt, now)
+                .where(
+                        refreshTokenFamily.familyId.eq(familyId),
+                        refreshTokenFamily.currentTokenId.eq(currentTokenId),
+                        refreshTokenFamily.isRevoked.isFalse(),
+                        refreshTokenFamily.expiresAt.after(now)
+                ).execute();
+    }
+
+    @Override
+    public long revoke(String familyId, LocalDateTime now) {
+        return queryFactory
+                .update(refreshTokenFamily)
+                .set(refreshTokenFamily.isRevoked, true)
+                .set(refreshTokenFamily.updatedAt, now)
+                .where(
+                        refreshTokenFamily.familyId.eq(familyId),
+                        refreshTokenFamily.isRevoked.isFalse()
+                ).execute();
+    }
+
+    @Override
+    public long deleteAll(long userId) {
+        return queryFactory
+                .delete(refreshTokenFamily)
+                .where(
+                        refreshTokenFamily.user.id.eq(userId)
+                ).execute();
+    }
+
+    @Override
+    public long deleteExpired(LocalDateTime now) {
+        return queryFactory
+                .delete(refreshTokenFamily)
+                .where(
+                        refreshTokenFamily.expiresAt.before(now)
+                ).execute();
+    }
+
+    @Override
+    public boolean existsRevoked(String familyId) {
+        Integer result = queryFactory
+                .selectOne()
+                .from(refreshTokenFamily)
+                .where(
+                        refreshTokenFamily.familyId.eq(familyId),
+                        refreshTokenFamily.isRevoked.isTrue()
+                ).fetchFirst();
+
+        return result != null;
+    }
+
+    @Override
+    public List<String> findAllRevokedFamilyId(LocalDateTime now) {
+        return queryFactory
+                .select(refreshTokenFamily.familyId)
+                .from(refreshTokenFamily)
+                .where(
+                        refreshTokenFamily.isRevoked.isTrue(),
+                        refreshTokenFamily.expiresAt.after(now)
+                ).fetch();
+    }
+
+    @Override
+    public List<String> findAllRevokedFamilyId(LocalDateTime since, LocalDateTime now) {
+        return queryFactory
+                .select(refreshTokenFamily.familyId)
+                .from(refreshTokenFamily)
+                .where(
+                        refreshTokenFamily.isRevoked.isTrue(),
+                        refreshTokenFamily.updatedAt.goe(since),
+                        refreshTokenFamily.expiresAt.after(now)
+                ).fetch();
+    }
+}
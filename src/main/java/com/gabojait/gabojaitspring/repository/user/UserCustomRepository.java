@@ -4,14 +4,57 @@ import com.gabojait.gabojaitspring.common.response.PageData;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import com.gabojait.gabojaitspring.domain.user.User;
 
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserCustomRepository {
 
     PageData<List<User>> findPage(Position position, long pageFrom, int pageSize);
 
+    PageData<List<User>> findPageRanked(List<Long> userIds, int chunkSize, long pageFrom, int pageSize);
+
+    List<User> findAllSeekingTeamAfter(long idFrom, int size);
+
+    List<User> findAllSeekingTeamIn(List<Long> userIds);
+
     Optional<User> findSeekingTeam(long userId);
 
     Optional<User> find(String email);
+
+    /**
+     * 회원 방문 수 일괄 증가 |
+     * 한번의 JDBC 배치로 반영하며, 엔티티 리스너를 거치지 않는다.
+     * @param visitedCnts 회원 식별자별 증가할 방문 수
+     */
+    void incrementVisitedCnt(Map<Long, Long> visitedCnts);
+
+    /**
+     * 회원 썸네일 업데이트 |
+     * 썸네일을 만드는 동안 프로필 이미지가 바뀌지 않은 경우에만 반영하며, 엔티티 리스너를 거치지 않는다.
+     * @param userId 회원 식별자
+     * @param imageUrl 썸네일을 만든 원본 이미지 주소
+     * @param thumbnailUrl 썸네일 주소
+     * @return 반영 여부
+     */
+    boolean updateThumbnailUrl(long userId, String imageUrl, String thumbnailUrl);
+
+    /**
+     * 회원 평점 일괄 증가 |
+     * 평점 합과 리뷰 수를 한번의 JDBC 배치로 원자적으로 증가시키고 평점 평균을 다시 계산한다.
+     * @param ratings 회원 식별자별 증가할 평점 통계
+     */
+    void incrementRatings(Map<Long, IntSummaryStatistics> ratings);
+
+    /**
+     * 회원 평점 재계산 |
+     * 식별자 범위의 회원 중 평점 합이나 리뷰 수가 리뷰 테이블과 다른 회원만 리뷰 테이블 기준으로 다시 계산한다.
+     * @param idFrom 회원 식별자 시작점 (미포함)
+     * @param idTo 회원 식별자 끝점 (포함)
+     * @return 재계산한 회원 수
+     */
+    int repairRatings(long idFrom, long idTo);
+
+    long findLastId();
 }
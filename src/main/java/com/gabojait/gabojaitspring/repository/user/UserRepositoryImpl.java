@@ -1,14 +1,19 @@
 package com.gabojait.gabojaitspring.repository.user;
 
 import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.common.util.PageCountUtility;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import com.gabojait.gabojaitspring.domain.user.User;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.gabojait.gabojaitspring.domain.user.QContact.contact;
 import static com.gabojait.gabojaitspring.domain.user.QUser.user;
@@ -17,17 +22,23 @@ import static com.gabojait.gabojaitspring.domain.user.QUser.user;
 public class UserRepositoryImpl implements UserCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final PageCountUtility pageCountUtility;
 
     @Override
     public PageData<List<User>> findPage(Position position, long pageFrom, int pageSize) {
-        Long count = queryFactory.select(user.id.count())
-                .from(user)
-                .where(
-                        positionEq(position),
-                        user.isSeekingTeam.isTrue()
-                ).fetchOne();
+        long count = pageCountUtility.count("user", position.name(), pageFrom, () -> {
+            Long cnt = queryFactory.select(user.id.count())
+                    .from(user)
+                    .where(
+                            positionEq(position),
+                            user.isSeekingTeam.isTrue()
+                    ).fetchOne();
+
+            return cnt == null ? 0 : cnt;
+        });
 
-        if (count == null || count == 0)
+        if (count == 0)
             return new PageData<>(List.of(), 0);
 
         List<User> users = queryFactory.selectFrom(user)
@@ -35,13 +46,107 @@ public class UserRepositoryImpl implements UserCustomRepository {
                         user.id.lt(pageFrom),
                         positionEq(position),
                         user.isSeekingTeam.isTrue()
-                ).orderBy(user.createdAt.desc())
+                ).orderBy(user.id.desc())
                 .limit(pageSize)
                 .fetch();
 
         return new PageData<>(users, count);
     }
 
+    @Override
+    public PageData<List<User>> findPageRanked(List<Long> userIds, int chunkSize, long pageFrom, int pageSize) {
+        if (userIds.isEmpty())
+            return new PageData<>(List.of(), 0);
+
+        if (userIds.size() <= chunkSize) {
+            Long count = countSeekingTeamIn(userIds);
+
+            if (count == null || count == 0)
+                return new PageData<>(List.of(), 0);
+
+            List<User> users = queryFactory.selectFrom(user)
+                    .where(
+                            user.id.in(userIds),
+                            user.isSeekingTeam.isTrue()
+                    ).orderBy(user.rating.desc(), user.lastRequestAt.desc(), user.id.desc())
+                    .offset(pageFrom)
+                    .limit(pageSize)
+                    .fetch();
+
+            return new PageData<>(users, count);
+        }
+
+        // IN 절이 커지지 않도록 나누어 조회하고, 나눈 조회마다 페이지 끝까지의 순위만 가져와 합친다.
+        long count = 0;
+        List<Tuple> ranks = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i += chunkSize) {
+            List<Long> chunk = userIds.subList(i, Math.min(i + chunkSize, userIds.size()));
+            Long chunkCnt = countSeekingTeamIn(chunk);
+
+            if (chunkCnt == null || chunkCnt == 0)
+                continue;
+
+            count += chunkCnt;
+            ranks.addAll(queryFactory.select(user.id, user.rating, user.lastRequestAt)
+                    .from(user)
+                    .where(
+                            user.id.in(chunk),
+                            user.isSeekingTeam.isTrue()
+                    ).orderBy(user.rating.desc(), user.lastRequestAt.desc(), user.id.desc())
+                    .limit(pageFrom + pageSize)
+                    .fetch());
+        }
+
+        List<Long> pageUserIds = ranks.stream()
+                .sorted(Comparator.comparing((Tuple rank) -> rank.get(user.rating),
+                                Comparator.nullsFirst(Comparator.<Float>naturalOrder()))
+                        .thenComparing(rank -> rank.get(user.lastRequestAt),
+                                Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                        .thenComparing(rank -> rank.get(user.id))
+                        .reversed())
+                .skip(pageFrom)
+                .limit(pageSize)
+                .map(rank -> rank.get(user.id))
+                .collect(Collectors.toList());
+
+        if (pageUserIds.isEmpty())
+            return new PageData<>(List.of(), count);
+
+        Map<Long, User> users = queryFactory.selectFrom(user)
+                .where(user.id.in(pageUserIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return new PageData<>(pageUserIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()), count);
+    }
+
+    @Override
+    public List<User> findAllSeekingTeamAfter(long idFrom, int size) {
+        return queryFactory.selectFrom(user)
+                .where(
+                        user.id.gt(idFrom),
+                        user.isSeekingTeam.isTrue()
+                ).orderBy(user.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<User> findAllSeekingTeamIn(List<Long> userIds) {
+        if (userIds.isEmpty())
+            return List.of();
+
+        return queryFactory.selectFrom(user)
+                .where(
+                        user.id.in(userIds),
+                        user.isSeekingTeam.isTrue()
+                ).fetch();
+    }
+
     @Override
     public Optional<User> findSeekingTeam(long userId) {
         return Optional.ofNullable(
@@ -59,13 +164,86 @@ public class UserRepositoryImpl implements UserCustomRepository {
         return Optional.ofNullable(
                 queryFactory
                         .selectFrom(user)
-                        .leftJoin(user.contact, contact)
+                        .join(user.contact, contact)
                         .where(
                                 contact.email.eq(email)
                         ).fetchFirst()
         );
     }
 
+    @Override
+    public void incrementVisitedCnt(Map<Long, Long> visitedCnts) {
+        if (visitedCnts.isEmpty())
+            return;
+
+        jdbcTemplate.batchUpdate("UPDATE users SET visited_cnt = visited_cnt + ? WHERE user_id = ?",
+                visitedCnts.entrySet()
+                        .stream()
+                        .map(visitedCnt -> new Object[] { visitedCnt.getValue(), visitedCnt.getKey() })
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public boolean updateThumbnailUrl(long userId, String imageUrl, String thumbnailUrl) {
+        return jdbcTemplate.update("UPDATE users SET thumbnail_url = ? WHERE user_id = ? AND image_url = ?",
+                thumbnailUrl, userId, imageUrl) > 0;
+    }
+
+    @Override
+    public void incrementRatings(Map<Long, IntSummaryStatistics> ratings) {
+        if (ratings.isEmpty())
+            return;
+
+        // MySQL은 SET 절을 왼쪽부터 반영하므로 증가 전의 값을 사용하도록 평점 평균을 먼저 계산한다.
+        jdbcTemplate.batchUpdate("UPDATE users "
+                        + "SET rating = (rating_sum + ?) / (review_cnt + ?), "
+                        + "rating_sum = rating_sum + ?, "
+                        + "review_cnt = review_cnt + ? "
+                        + "WHERE user_id = ?",
+                ratings.entrySet()
+                        .stream()
+                        .map(rating -> new Object[] {
+                                (double) rating.getValue().getSum(), rating.getValue().getCount(),
+                                rating.getValue().getSum(), rating.getValue().getCount(),
+                                rating.getKey()
+                        })
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public int repairRatings(long idFrom, long idTo) {
+        String reviews = "FROM review r JOIN team_member tm ON tm.team_member_id = r.reviewee_id "
+                + "WHERE tm.user_id = users.user_id AND r.is_deleted = FALSE";
+        String ratingSum = "(SELECT COALESCE(SUM(r.rating), 0) " + reviews + ")";
+        String reviewCnt = "(SELECT COUNT(*) " + reviews + ")";
+
+        return jdbcTemplate.update("UPDATE users "
+                        + "SET rating = (SELECT COALESCE(AVG(r.rating * 1.0), 0) " + reviews + "), "
+                        + "rating_sum = " + ratingSum + ", "
+                        + "review_cnt = " + reviewCnt + " "
+                        + "WHERE user_id > ? AND user_id <= ? "
+                        + "AND (rating_sum <> " + ratingSum + " OR review_cnt <> " + reviewCnt + ")",
+                idFrom, idTo);
+    }
+
+    @Override
+    public long findLastId() {
+        Long id = queryFactory.select(user.id.max())
+                .from(user)
+                .fetchOne();
+
+        return id == null ? 0 : id;
+    }
+
+    private Long countSeekingTeamIn(List<Long> userIds) {
+        return queryFactory.select(user.id.count())
+                .from(user)
+                .where(
+                        user.id.in(userIds),
+                        user.isSeekingTeam.isTrue()
+                ).fetchOne();
+    }
+
     private Predicate positionEq(Position position) {
         return position != Position.NONE ? user.position.eq(position) : null;
     }
@@ -18,7 +18,7 @@ public class UserRoleRepositoryImpl implements UserRoleCustomRepository {
     public List<UserRole> findAll(String username) {
         return queryFactory
                 .selectFrom(userRole)
-                .leftJoin(userRole.user, user)
+                .join(userRole.user, user)
                 .fetchJoin()
                 .where(
                         userRole.user.username.eq(username)
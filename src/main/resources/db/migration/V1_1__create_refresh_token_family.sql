@@ -0,0 +1,15 @@
+-- 리프레시 토큰 패밀리 (재사용 감지를 위한 토큰 회전 상태)
+-- schema.sql로 생성하지 않은 기존 데이터베이스에 버전 순서대로 한번만 적용한다.
+CREATE TABLE IF NOT EXISTS refresh_token_family
+(
+    refresh_token_family_id     INT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    family_id                   VARCHAR(36)             NOT NULL,
+    current_token_id            VARCHAR(36)             NOT NULL,
+    is_revoked                  BIT                     NOT NULL,
+    expires_at                  DATETIME(6)             NOT NULL,
+    created_at                  DATETIME(6)             NOT NULL,
+    updated_at                  DATETIME(6)             NOT NULL,
+    user_id                     INT UNSIGNED            NOT NULL,
+    CONSTRAINT uq_refresh_token_family_family_id UNIQUE (family_id),
+    CONSTRAINT fk_refresh_token_family_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
@@ -0,0 +1,6 @@
+-- 페이지 조회 조건 인덱스
+-- schema.sql로 생성하지 않은 기존 데이터베이스에 버전 순서대로 한번만 적용한다.
+CREATE INDEX idx_user_is_seeking_team_position ON users (is_seeking_team, position);
+CREATE INDEX idx_team_is_recruiting ON team (is_recruiting, is_deleted, completed_at);
+CREATE INDEX idx_offer_user_offered_by ON offer (user_id, offered_by, is_accepted);
+CREATE INDEX idx_offer_team_offered_by ON offer (team_id, offered_by, position, is_accepted);
@@ -0,0 +1,9 @@
+-- 저장소 쿼리 조건 인덱스
+-- schema.sql로 생성하지 않은 기존 데이터베이스에 버전 순서대로 한번만 적용한다.
+-- 외래키 단일 컬럼(notification.user_id, fcm.user_id, review.reviewee_id 등)은 외래키 인덱스를 사용한다.
+CREATE INDEX idx_team_member_user_status ON team_member (user_id, team_member_status);
+CREATE INDEX idx_team_member_team_status ON team_member (team_id, team_member_status, is_deleted);
+CREATE INDEX idx_favorite_user_favorite_user ON favorite (user_id, favorite_user_id);
+CREATE INDEX idx_favorite_user_favorite_team ON favorite (user_id, favorite_team_id);
+CREATE INDEX idx_refresh_token_family_expires_at ON refresh_token_family (expires_at);
+CREATE INDEX idx_refresh_token_family_is_revoked ON refresh_token_family (is_revoked, expires_at);
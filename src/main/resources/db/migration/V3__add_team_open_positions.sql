@@ -0,0 +1,11 @@
+-- 팀 모집 중인 포지션 비트 (디자이너 1, 백엔드 2, 프런트엔드 4, 매니저 8)
+-- schema.sql로 생성하지 않은 기존 데이터베이스에 버전 순서대로 한번만 적용한다.
+ALTER TABLE team ADD COLUMN open_positions TINYINT NOT NULL DEFAULT 0 AFTER is_recruiting;
+
+UPDATE team
+SET open_positions = (CASE WHEN designer_max_cnt > designer_current_cnt THEN 1 ELSE 0 END)
+                   + (CASE WHEN backend_max_cnt > backend_current_cnt THEN 2 ELSE 0 END)
+                   + (CASE WHEN frontend_max_cnt > frontend_current_cnt THEN 4 ELSE 0 END)
+                   + (CASE WHEN manager_max_cnt > manager_current_cnt THEN 8 ELSE 0 END);
+
+CREATE INDEX idx_team_open_positions ON team (open_positions, is_recruiting, is_deleted, completed_at);
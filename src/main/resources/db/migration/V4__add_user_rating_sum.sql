@@ -0,0 +1,13 @@
+-- 회원 리뷰 평점 합 (평점 평균은 rating_sum / review_cnt로 계산한다)
+-- schema.sql로 생성하지 않은 기존 데이터베이스에 버전 순서대로 한번만 적용한다.
+ALTER TABLE users ADD COLUMN rating_sum INT UNSIGNED NOT NULL DEFAULT 0 AFTER review_cnt;
+
+UPDATE users u
+    JOIN (SELECT tm.user_id, COUNT(*) AS review_cnt, SUM(r.rating) AS rating_sum
+          FROM review r
+                   JOIN team_member tm ON tm.team_member_id = r.reviewee_id
+          WHERE r.is_deleted = FALSE
+          GROUP BY tm.user_id) a ON a.user_id = u.user_id
+SET u.review_cnt = a.review_cnt,
+    u.rating_sum = a.rating_sum,
+    u.rating     = a.rating_sum / a.review_cnt;
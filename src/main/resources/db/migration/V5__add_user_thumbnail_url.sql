@@ -0,0 +1,3 @@
+-- 회원 목록용 프로필 썸네일 주소 (원본 이미지 주소 뒤에 접미사를 붙인 주소)
+-- schema.sql로 생성하지 않은 기존 데이터베이스에 버전 순서대로 한번만 적용한다.
+ALTER TABLE users ADD COLUMN thumbnail_url VARCHAR(255) AFTER image_url;
@@ -9,6 +9,7 @@ DROP TABLE IF EXISTS work;
 DROP TABLE IF EXISTS skill;
 DROP TABLE IF EXISTS portfolio;
 DROP TABLE IF EXISTS education;
+DROP TABLE IF EXISTS refresh_token_family;
 DROP TABLE IF EXISTS user_role;
 DROP TABLE IF EXISTS suspend;
 DROP TABLE IF EXISTS report;
@@ -34,11 +35,13 @@ CREATE TABLE users
     password                    VARCHAR(255)            NOT NULL,
     gender                      VARCHAR(1)              NOT NULL,
     image_url                   VARCHAR(255),
+    thumbnail_url               VARCHAR(255),
     nickname                    VARCHAR(8)              NOT NULL,
     position                    VARCHAR(20)             NOT NULL,
     profile_description          VARCHAR(120),
     visited_cnt                 INT UNSIGNED            NOT NULL,
     review_cnt                  INT UNSIGNED            NOT NULL,
+    rating_sum                  INT UNSIGNED            NOT NULL,
     rating                      FLOAT                   NOT NULL,
     birthdate                   DATE,
     is_notified                  BIT                     NOT NULL,
@@ -104,6 +107,20 @@ CREATE TABLE user_role
     CONSTRAINT fk_user_role_user FOREIGN KEY (user_id) REFERENCES users (user_id)
 );
 
+CREATE TABLE refresh_token_family
+(
+    refresh_token_family_id     INT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    family_id                   VARCHAR(36)             NOT NULL,
+    current_token_id            VARCHAR(36)             NOT NULL,
+    is_revoked                  BIT                     NOT NULL,
+    expires_at                  DATETIME(6)             NOT NULL,
+    created_at                  DATETIME(6)             NOT NULL,
+    updated_at                  DATETIME(6)             NOT NULL,
+    user_id                     INT UNSIGNED            NOT NULL,
+    CONSTRAINT uq_refresh_token_family_family_id UNIQUE (family_id),
+    CONSTRAINT fk_refresh_token_family_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
 CREATE TABLE education
 (
     education_id                INT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
@@ -197,6 +214,7 @@ CREATE TABLE team
     manager_max_cnt             TINYINT                 NOT NULL,
     visited_cnt                 BIGINT                  NOT NULL,
     is_recruiting               BIT                     NOT NULL,
+    open_positions              TINYINT                 NOT NULL,
     completed_at                DATETIME(6),
     created_at                  DATETIME(6)             NOT NULL,
     updated_at                  DATETIME(6)             NOT NULL,
@@ -260,4 +278,16 @@ CREATE TABLE review
     reviewer_id                 INT UNSIGNED            NOT NULL,
     CONSTRAINT fk_review_reviewee FOREIGN KEY (reviewee_id) REFERENCES team_member (team_member_id),
     CONSTRAINT fk_review_reviewer FOREIGN KEY (reviewer_id) REFERENCES team_member (team_member_id)
-);
\ No newline at end of file
+);
+
+CREATE INDEX idx_user_is_seeking_team_position ON users (is_seeking_team, position);
+CREATE INDEX idx_team_is_recruiting ON team (is_recruiting, is_deleted, completed_at);
+CREATE INDEX idx_offer_user_offered_by ON offer (user_id, offered_by, is_accepted);
+CREATE INDEX idx_offer_team_offered_by ON offer (team_id, offered_by, position, is_accepted);
+CREATE INDEX idx_team_member_user_status ON team_member (user_id, team_member_status);
+CREATE INDEX idx_team_member_team_status ON team_member (team_id, team_member_status, is_deleted);
+CREATE INDEX idx_favorite_user_favorite_user ON favorite (user_id, favorite_user_id);
+CREATE INDEX idx_favorite_user_favorite_team ON favorite (user_id, favorite_team_id);
+CREATE INDEX idx_refresh_token_family_expires_at ON refresh_token_family (expires_at);
+CREATE INDEX idx_refresh_token_family_is_revoked ON refresh_token_family (is_revoked, expires_at);
+CREATE INDEX idx_team_open_positions ON team (open_positions, is_recruiting, is_deleted, completed_at);
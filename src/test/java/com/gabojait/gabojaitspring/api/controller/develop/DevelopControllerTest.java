@@ -2,6 +2,7 @@ package com.gabojait.gabojaitspring.api.controller.develop;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gabojait.gabojaitspring.api.service.develop.DevelopService;
+import com.gabojait.gabojaitspring.api.service.develop.MetricService;
 import com.gabojait.gabojaitspring.config.auth.CustomAuthenticationEntryPoint;
 import com.gabojait.gabojaitspring.config.auth.JwtProvider;
 import org.junit.jupiter.api.DisplayName;
@@ -11,10 +12,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.List;
+
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.SERVER_ERROR;
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.TESTER_ID_POSITIVE_ONLY;
 import static com.gabojait.gabojaitspring.common.constant.code.SuccessCode.*;
@@ -22,6 +26,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -35,6 +40,7 @@ class DevelopControllerTest {
     @MockBean private CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     @MockBean private JwtProvider jwtProvider;
     @MockBean private DevelopService developService;
+    @MockBean private MetricService metricService;
 
     @Test
     @DisplayName("헬스 체크를 하면 200을 반환한다.")
@@ -137,4 +143,47 @@ class DevelopControllerTest {
                 .andExpect(jsonPath("$.responseMessage")
                         .value(TESTER_ID_POSITIVE_ONLY.getMessage()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("지표 전체 조회를 하면 200을 반환한다.")
+    void givenValid_whenScrapeMetrics_thenReturn200() throws Exception {
+        // given
+        String metrics = "jvm_threads_live_threads 10.0\n";
+        when(metricService.scrape())
+                .thenReturn(metrics);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/master/metrics")
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string(metrics));
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 쿼리 지표 전체 조회를 하면 200을 반환한다.")
+    void givenValid_whenFindQueryMetrics_thenReturn200() throws Exception {
+        // given
+        when(developService.findQueryMetrics())
+                .thenReturn(List.of());
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/master/metrics/query")
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(QUERY_METRICS_FOUND.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(QUERY_METRICS_FOUND.getMessage()))
+                .andExpect(jsonPath("$.responseData.total")
+                        .value(0));
+    }
+}
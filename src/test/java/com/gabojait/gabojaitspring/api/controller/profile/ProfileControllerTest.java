@@ -641,6 +641,165 @@ class ProfileControllerTest {
                         .value(PORTFOLIO_FILE_UPLOADED.getMessage()));
     }
 
+    @Test
+    @DisplayName("파일 포트폴리오 업로드 URL 발급을 하면 201을 반환한다.")
+    void givenValid_whenCreatePortfolioFileUploadUrl_thenReturn201() throws Exception {
+        // given
+        PortfolioFileUploadUrlRequest request = createValidPortfolioFileUploadUrlRequest();
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                post("/api/v1/user/portfolio/file/upload-url")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(APPLICATION_JSON)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(PORTFOLIO_FILE_UPLOAD_URL_CREATED.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(PORTFOLIO_FILE_UPLOAD_URL_CREATED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("파일 타입 미입력시 파일 포트폴리오 업로드 URL 발급을 하면 400을 반환한다.")
+    void givenBlankContentType_whenCreatePortfolioFileUploadUrl_thenReturn400() throws Exception {
+        // given
+        PortfolioFileUploadUrlRequest request = createValidPortfolioFileUploadUrlRequest();
+        request.setContentType("");
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                post("/api/v1/user/portfolio/file/upload-url")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(APPLICATION_JSON)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(CONTENT_TYPE_FIELD_REQUIRED.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(CONTENT_TYPE_FIELD_REQUIRED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("파일 크기 미입력시 파일 포트폴리오 업로드 URL 발급을 하면 400을 반환한다.")
+    void givenNullFileSize_whenCreatePortfolioFileUploadUrl_thenReturn400() throws Exception {
+        // given
+        PortfolioFileUploadUrlRequest request = createValidPortfolioFileUploadUrlRequest();
+        request.setFileSize(null);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                post("/api/v1/user/portfolio/file/upload-url")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(APPLICATION_JSON)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(FILE_SIZE_FIELD_REQUIRED.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(FILE_SIZE_FIELD_REQUIRED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("파일 크기가 양수가 아닐시 파일 포트폴리오 업로드 URL 발급을 하면 400을 반환한다.")
+    void givenZeroFileSize_whenCreatePortfolioFileUploadUrl_thenReturn400() throws Exception {
+        // given
+        PortfolioFileUploadUrlRequest request = createValidPortfolioFileUploadUrlRequest();
+        request.setFileSize(0L);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                post("/api/v1/user/portfolio/file/upload-url")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(APPLICATION_JSON)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(FILE_SIZE_POSITIVE_ONLY.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(FILE_SIZE_POSITIVE_ONLY.getMessage()));
+    }
+
+    @Test
+    @DisplayName("파일 포트폴리오 업로드 확인을 하면 201을 반환한다.")
+    void givenValid_whenConfirmPortfolioFile_thenReturn201() throws Exception {
+        // given
+        PortfolioFileConfirmRequest request = createValidPortfolioFileConfirmRequest();
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                post("/api/v1/user/portfolio/file/confirm")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(APPLICATION_JSON)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(PORTFOLIO_FILE_UPLOADED.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(PORTFOLIO_FILE_UPLOADED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("파일명 미입력시 파일 포트폴리오 업로드 확인을 하면 400을 반환한다.")
+    void givenNullFileName_whenConfirmPortfolioFile_thenReturn400() throws Exception {
+        // given
+        PortfolioFileConfirmRequest request = createValidPortfolioFileConfirmRequest();
+        request.setFileName(null);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                post("/api/v1/user/portfolio/file/confirm")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(APPLICATION_JSON)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(FILE_NAME_FIELD_REQUIRED.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(FILE_NAME_FIELD_REQUIRED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("파일명이 발급받은 형식이 아닐시 파일 포트폴리오 업로드 확인을 하면 400을 반환한다.")
+    void givenInvalidFileName_whenConfirmPortfolioFile_thenReturn400() throws Exception {
+        // given
+        PortfolioFileConfirmRequest request = createValidPortfolioFileConfirmRequest();
+        request.setFileName("../2/0f8fad5b-d9cb-469f-a165-70867728950e");
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                post("/api/v1/user/portfolio/file/confirm")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(APPLICATION_JSON)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(FILE_NAME_FORMAT_INVALID.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(FILE_NAME_FORMAT_INVALID.getMessage()));
+    }
+
     @Test
     @DisplayName("팀을 찾는 회원 페이징 조회를 하면 200을 반환한다.")
     void givenValid_whenFindUsersLookingForTeam_theReturn200() throws Exception {
@@ -742,6 +901,120 @@ class ProfileControllerTest {
                         .value(PAGE_SIZE_RANGE_INVALID.getMessage()));
     }
 
+    @Test
+    @DisplayName("기술로 팀을 찾는 회원 페이징 조회를 하면 200을 반환한다.")
+    void givenValid_whenFindUsersBySkill_theReturn200() throws Exception {
+        // given & when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/user/skill")
+                        .param("skill-names", "Spring", "JPA")
+                        .param("level", "MID")
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(USERS_SKILL_FOUND.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(USERS_SKILL_FOUND.getMessage()));
+    }
+
+    @Test
+    @DisplayName("기술명 없이 기술로 팀을 찾는 회원 페이징 조회를 하면 400을 반환한다.")
+    void givenNoSkillNames_whenFindUsersBySkill_theReturn400() throws Exception {
+        // given & when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/user/skill")
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(SKILL_NAMES_FIELD_REQUIRED.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(SKILL_NAMES_FIELD_REQUIRED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("5개 초과의 기술명으로 기술로 팀을 찾는 회원 페이징 조회를 하면 400을 반환한다.")
+    void givenGreaterThan5SkillNames_whenFindUsersBySkill_theReturn400() throws Exception {
+        // given
+        String[] skillNames = { "Java", "Spring", "JPA", "MySQL", "Redis", "Docker" };
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/user/skill")
+                        .param("skill-names", skillNames)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(SKILL_NAMES_LENGTH_INVALID.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(SKILL_NAMES_LENGTH_INVALID.getMessage()));
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 레벨로 기술로 팀을 찾는 회원 페이징 조회를 하면 400을 반환한다.")
+    void givenFormatLevel_whenFindUsersBySkill_theReturn400() throws Exception {
+        // given
+        String level = "EXPERT";
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/user/skill")
+                        .param("skill-names", "Spring")
+                        .param("level", level)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(LEVEL_TYPE_INVALID.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(LEVEL_TYPE_INVALID.getMessage()));
+    }
+
+    @Test
+    @DisplayName("음수인 페이지 시작점으로 기술로 팀을 찾는 회원 페이징 조회를 하면 400을 반환한다.")
+    void givenNegativePageFrom_whenFindUsersBySkill_theReturn400() throws Exception {
+        // given
+        Long pageFrom = -1L;
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/user/skill")
+                        .param("skill-names", "Spring")
+                        .param("page-from", pageFrom.toString())
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(PAGE_FROM_POSITIVE_OR_ZERO_ONLY.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(PAGE_FROM_POSITIVE_OR_ZERO_ONLY.getMessage()));
+    }
+
+    private PortfolioFileUploadUrlRequest createValidPortfolioFileUploadUrlRequest() {
+        return PortfolioFileUploadUrlRequest.builder()
+                .contentType("application/pdf")
+                .fileSize(1048576L)
+                .build();
+    }
+
+    private PortfolioFileConfirmRequest createValidPortfolioFileConfirmRequest() {
+        return PortfolioFileConfirmRequest.builder()
+                .fileName("0f8fad5b-d9cb-469f-a165-70867728950e")
+                .build();
+    }
+
     private ProfileUpdateRequest createValidProfileUpdateRequest() {
         return ProfileUpdateRequest.builder()
                 .position(Position.BACKEND.toString())
@@ -1093,6 +1093,151 @@ class TeamControllerTest {
                         .value(USER_LEFT_TEAM.getMessage()));
     }
 
+    @Test
+    @DisplayName("팀 검색을 하면 200을 반환한다.")
+    void givenValid_whenSearchTeams_thenReturn200() throws Exception {
+        // given & when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/team/search")
+                        .param("query", "협업 플랫폼")
+                        .param("position", "BACKEND")
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(TEAMS_SEARCHED.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(TEAMS_SEARCHED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("빈 검색어로 팀 검색을 하면 400을 반환한다.")
+    void givenBlankQuery_whenSearchTeams_thenReturn400() throws Exception {
+        // given
+        String query = " ";
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/team/search")
+                        .param("query", query)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(QUERY_FIELD_REQUIRED.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(QUERY_FIELD_REQUIRED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("50자 초과의 검색어로 팀 검색을 하면 400을 반환한다.")
+    void givenGreaterThan50SizeQuery_whenSearchTeams_thenReturn400() throws Exception {
+        // given
+        String query = "가".repeat(51);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/team/search")
+                        .param("query", query)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(QUERY_LENGTH_INVALID.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(QUERY_LENGTH_INVALID.getMessage()));
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 포지션으로 팀 검색을 하면 400을 반환한다.")
+    void givenFormatPosition_whenSearchTeams_thenReturn400() throws Exception {
+        // given
+        String position = "WRITER";
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/team/search")
+                        .param("query", "플랫폼")
+                        .param("position", position)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(POSITION_TYPE_INVALID.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(POSITION_TYPE_INVALID.getMessage()));
+    }
+
+    @Test
+    @DisplayName("올바른 요청으로 팀 추천 회원 페이징 조회를 하면 200을 반환한다.")
+    void givenValid_whenFindRecommendedUsers_thenReturn200() throws Exception {
+        // given & when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/team/recommendation")
+                        .param("position", "BACKEND")
+                        .param("page-from", "0")
+                        .param("page-size", "20")
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(TEAM_RECOMMENDATIONS_FOUND.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(TEAM_RECOMMENDATIONS_FOUND.getMessage()));
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 포지션으로 팀 추천 회원 페이징 조회를 하면 400을 반환한다.")
+    void givenFormatPosition_whenFindRecommendedUsers_thenReturn400() throws Exception {
+        // given
+        String position = "WRITER";
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/team/recommendation")
+                        .param("position", position)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(POSITION_TYPE_INVALID.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(POSITION_TYPE_INVALID.getMessage()));
+    }
+
+    @Test
+    @DisplayName("음수 페이지 시작점으로 팀 추천 회원 페이징 조회를 하면 400을 반환한다.")
+    void givenNegativePageFrom_whenFindRecommendedUsers_thenReturn400() throws Exception {
+        // given
+        String pageFrom = "-1";
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/v1/team/recommendation")
+                        .param("page-from", pageFrom)
+        );
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.responseCode")
+                        .value(PAGE_FROM_POSITIVE_OR_ZERO_ONLY.name()))
+                .andExpect(jsonPath("$.responseMessage")
+                        .value(PAGE_FROM_POSITIVE_OR_ZERO_ONLY.getMessage()));
+    }
+
     private TeamCompleteRequest createValidTeamCompleteRequest() {
         return TeamCompleteRequest.builder()
                 .projectUrl("https://github.com/gabojait")
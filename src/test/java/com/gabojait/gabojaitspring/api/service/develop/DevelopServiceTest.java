@@ -1,5 +1,7 @@
 package com.gabojait.gabojaitspring.api.service.develop;
 
+import com.gabojait.gabojaitspring.api.dto.develop.response.QueryMetricResponse;
+import com.gabojait.gabojaitspring.common.log.QueryBudgetInterceptor;
 import com.gabojait.gabojaitspring.common.response.PageData;
 import com.gabojait.gabojaitspring.domain.profile.*;
 import com.gabojait.gabojaitspring.domain.review.Review;
@@ -20,8 +22,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -49,6 +53,29 @@ class DevelopServiceTest {
     @Autowired private WorkRepository workRepository;
     @Autowired private ReviewRepository reviewRepository;
     @Autowired private TeamMemberRepository teamMemberRepository;
+    @Autowired private QueryBudgetInterceptor queryBudgetInterceptor;
+
+    @Test
+    @DisplayName("엔드포인트별 쿼리 지표 전체 조회를 한다.")
+    void givenValid_whenFindQueryMetrics_thenReturn() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/user/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/user/{user-id}");
+
+        queryBudgetInterceptor.preHandle(request, null, null);
+        userRepository.count();
+        userRepository.count();
+        queryBudgetInterceptor.afterCompletion(request, null, null, null);
+
+        // when
+        List<QueryMetricResponse> responses = developService.findQueryMetrics();
+
+        // then
+        assertThat(responses)
+                .filteredOn(response -> response.getEndpoint().equals("GET /api/v1/user/{user-id}"))
+                .extracting(QueryMetricResponse::getRequestCnt, QueryMetricResponse::getMaxStatementCnt)
+                .containsExactly(tuple(1L, 2L));
+    }
 
     @Test
     @DisplayName("서버명을 조회한다.")
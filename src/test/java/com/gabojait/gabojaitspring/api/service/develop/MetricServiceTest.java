@@ -0,0 +1,43 @@
+package com.gabojait.gabojaitspring.api.service.develop;
+
+import com.gabojait.gabojaitspring.common.log.LatencyInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MetricServiceTest {
+
+    @Autowired private MetricService metricService;
+    @Autowired private LatencyInterceptor latencyInterceptor;
+
+    @Test
+    @DisplayName("지표 전체 조회를 한다.")
+    void givenValid_whenScrape_thenReturn() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/team/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/team/{team-id}");
+
+        latencyInterceptor.preHandle(request, null, null);
+        latencyInterceptor.afterCompletion(request, null, null, null);
+
+        // when
+        String metrics = metricService.scrape();
+
+        // then
+        assertThat(metrics)
+                .contains("http_server_requests_seconds{method=\"GET\",uri=\"/api/v1/team/{team-id}\",quantile=\"0.99\"}")
+                .contains("http_server_requests_seconds_count{method=\"GET\",uri=\"/api/v1/team/{team-id}\"}")
+                .contains("hikaricp_connections{state=\"active\"}")
+                .contains("executor_queued_tasks{name=\"async\"}")
+                .contains("jvm_gc_collection_seconds_count{gc=")
+                .contains("user_details_cache_requests_total{result=\"hit\"}");
+    }
+}
@@ -5,6 +5,8 @@ import com.gabojait.gabojaitspring.api.dto.profile.response.*;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
 import com.gabojait.gabojaitspring.common.response.PageData;
 import com.gabojait.gabojaitspring.common.util.FileUtility;
+import com.gabojait.gabojaitspring.common.util.ParallelQueryUtility;
+import com.gabojait.gabojaitspring.common.util.VisitCountUtility;
 import com.gabojait.gabojaitspring.domain.offer.Offer;
 import com.gabojait.gabojaitspring.domain.offer.OfferedBy;
 import com.gabojait.gabojaitspring.domain.profile.*;
@@ -25,19 +27,34 @@ import com.gabojait.gabojaitspring.repository.team.TeamMemberRepository;
 import com.gabojait.gabojaitspring.repository.team.TeamRepository;
 import com.gabojait.gabojaitspring.repository.user.ContactRepository;
 import com.gabojait.gabojaitspring.repository.user.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+
+import java.sql.Connection;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -62,6 +79,10 @@ class ProfileServiceTest {
     @Autowired private ReviewRepository reviewRepository;
     @Autowired private OfferRepository offerRepository;
     @Autowired private FileUtility fileUtility;
+    @Autowired private VisitCountUtility visitCountUtility;
+    @Autowired private EntityManager entityManager;
+    @Autowired private ParallelQueryUtility parallelQueryUtility;
+    @Autowired private DataSource dataSource;
 
     @Test
     @DisplayName("내 프로필 조회가 정상 작동한다")
@@ -203,6 +224,32 @@ class ProfileServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("프로필을 다시 조회하면 캐시된 프로필을 사용하고 학력이 추가되면 다시 조회한다")
+    void givenCachedProfile_whenMyFindProfile_thenReturn() {
+        // given
+        User user = createSavedDefaultUser("tester@gabojait.com","tester", "테스터");
+        Education education1 = createEducation("가보자잇대", LocalDate.of(2001, 1, 1), user);
+        educationRepository.save(education1);
+
+        ProfileFindMyselfResponse cachedResponse = profileService.findMyProfile(user.getId());
+
+        // when
+        ProfileFindMyselfResponse response1 = profileService.findMyProfile(user.getId());
+
+        Education education2 = createEducation("가보자잇고", LocalDate.of(2002, 1, 1), user);
+        educationRepository.save(education2);
+        ProfileFindMyselfResponse response2 = profileService.findMyProfile(user.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(response1.getEducations()).isSameAs(cachedResponse.getEducations()),
+                () -> assertThat(response2.getEducations())
+                        .extracting("educationId")
+                        .containsExactly(education2.getId(), education1.getId())
+        );
+    }
+
     @Test
     @DisplayName("존재하지 않은 회원으로 프로필 조회시 예외가 발생한다")
     void givenNonExistingUser_whenMyFindProfile_thenThrow() {
@@ -216,6 +263,46 @@ class ProfileServiceTest {
                 .isEqualTo(USER_NOT_FOUND);
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("남은 커넥션보다 많은 동시 요청으로 프로필을 병렬 조회해도 모두 정상 작동한다")
+    void givenConcurrentRequestsOverFreeConnections_whenFindMyProfile_thenReturn() throws Exception {
+        // given
+        int requestCnt = 3;
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < requestCnt; i++)
+            users.add(createSavedDefaultUser("tester" + i + "@gabojait.com", "tester" + i, "테스터" + i));
+
+        List<Connection> heldConnections = new ArrayList<>();
+        for (int i = 1; i < ((HikariDataSource) dataSource).getMaximumPoolSize(); i++)
+            heldConnections.add(dataSource.getConnection());
+
+        ExecutorService requestExecutor = Executors.newFixedThreadPool(requestCnt);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ReflectionTestUtils.setField(parallelQueryUtility, "isEnabled", true);
+
+        try {
+            // when
+            List<Future<ProfileFindMyselfResponse>> responses = new ArrayList<>();
+            for (User user : users)
+                responses.add(requestExecutor.submit(() -> {
+                    startLatch.await();
+                    return profileService.findMyProfile(user.getId());
+                }));
+            startLatch.countDown();
+
+            // then
+            for (int i = 0; i < requestCnt; i++)
+                assertThat(responses.get(i).get(10, TimeUnit.SECONDS).getUserId()).isEqualTo(users.get(i).getId());
+        } finally {
+            ReflectionTestUtils.setField(parallelQueryUtility, "isEnabled", false);
+            requestExecutor.shutdownNow();
+            for (Connection connection : heldConnections)
+                connection.close();
+            userRepository.deleteAll(users);
+        }
+    }
+
     @Test
     @DisplayName("다른 회원 식별자로 다른 프로필 조회가 정상 작동한다")
     void givenOtherUserId_whenFindOtherProfile_thenReturn() {
@@ -267,7 +354,7 @@ class ProfileServiceTest {
 
         // then
         assertAll(
-                () -> assertThat(userRepository.findById(user2.getId()).get().getVisitedCnt()).isEqualTo(1L),
+                () -> assertThat(visitCountUtility.getPendingUserCnt(user2.getId())).isEqualTo(1L),
                 () -> assertThat(response)
                         .extracting("userId", "nickname", "position", "reviewCnt",
                                 "rating", "createdAt", "updatedAt", "profileDescription",
@@ -1201,6 +1288,126 @@ class ProfileServiceTest {
                 .isEqualTo(USER_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("기술로 프로필 페이징 조회를 하면 팀을 찾는 회원을 평점 순으로 조회한다")
+    void givenValid_whenFindPageUserBySkill_thenReturn() {
+        // given
+        User user1 = createSavedDefaultUser("tester1@gabojait.com", "tester1", "테스터일");
+        User user2 = createSavedDefaultUser("tester2@gabojait.com", "tester2", "테스터이");
+        User user3 = createSavedDefaultUser("tester3@gabojait.com", "tester3", "테스터삼");
+        User user4 = createSavedDefaultUser("tester4@gabojait.com", "tester4", "테스터사");
+        userRepository.incrementRatings(Map.of(
+                user2.getId(), IntStream.of(3).summaryStatistics(),
+                user3.getId(), IntStream.of(5).summaryStatistics()
+        ));
+        user4.updateIsSeekingTeam(false);
+
+        skillRepository.saveAll(List.of(
+                createSkill("Spring", user2),
+                createSkill("JPA", user2),
+                createSkill("spring boot", user3),
+                createSkill("스프링", user3),
+                createSkill("jpa", user3),
+                createSkill("Spring", user4),
+                createSkill("JPA", user4)
+        ));
+        profileService.rebuildSkillIndex();
+
+        // when
+        PageData<List<ProfilePageResponse>> users = profileService.findPageUserBySkill(user1.getId(),
+                List.of("spring", "JPA"), Level.MID, 0, 20);
+
+        // then
+        assertAll(
+                () -> assertThat(users.getData())
+                        .extracting("userId", "nickname")
+                        .containsExactly(
+                                tuple(user3.getId(), user3.getNickname()),
+                                tuple(user2.getId(), user2.getNickname())
+                        ),
+                () -> assertThat(users.getData().get(0).getSkills()).hasSize(3),
+                () -> assertThat(users.getTotal()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("기술들을 업데이트하면 변경된 기술로 조회된다")
+    void givenUpdatedSkills_whenFindPageUserBySkill_thenReturn() {
+        // given
+        User user1 = createSavedDefaultUser("tester1@gabojait.com", "tester1", "테스터일");
+        User user2 = createSavedDefaultUser("tester2@gabojait.com", "tester2", "테스터이");
+        skillRepository.save(createSkill("Java", user2));
+        profileService.rebuildSkillIndex();
+
+        // when
+        profileService.updateSkills(user2, List.of(createSkillUpdateRequest(null, "Kotlin", true,
+                Level.HIGH.toString())));
+        profileService.rebuildSkillIndex();
+
+        // then
+        assertAll(
+                () -> assertThat(profileService.findPageUserBySkill(user1.getId(), List.of("java"), Level.LOW, 0, 20)
+                        .getData()).isEmpty(),
+                () -> assertThat(profileService.findPageUserBySkill(user1.getId(), List.of("코틀린"), Level.HIGH, 0,
+                        20).getData())
+                        .extracting("userId")
+                        .containsExactly(user2.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("존재하지 않은 회원 식별자로 기술로 프로필 페이징 조회시 예외가 발생한다")
+    void givenNonExistingUser_whenFindPageUserBySkill_thenThrow() {
+        // given
+        long userId = 1L;
+
+        // when & then
+        assertThatThrownBy(() -> profileService.findPageUserBySkill(userId, List.of("Spring"), Level.LOW, 0, 20))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(USER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("모아 둔 회원 방문 수 반영이 정상 작동한다")
+    void givenVisited_whenFlushUserVisits_thenReturn() {
+        // given
+        User user = createSavedDefaultUser("tester@gabojait.com", "tester", "테스터");
+        visitCountUtility.visitUser(user.getId());
+        visitCountUtility.visitUser(user.getId());
+
+        // when
+        profileService.flushUserVisits();
+
+        // then
+        entityManager.clear();
+
+        assertAll(
+                () -> assertThat(userRepository.findById(user.getId()).get().getVisitedCnt()).isEqualTo(2L),
+                () -> assertThat(visitCountUtility.getPendingUserCnt(user.getId())).isEqualTo(0L)
+        );
+    }
+
+    @Test
+    @DisplayName("회원 방문 수 반영 트랜잭션이 롤백되면 방문 수가 다음 반영에 다시 포함된다")
+    void givenRolledBack_whenFlushUserVisits_thenRestore() {
+        // given
+        User user = createSavedDefaultUser("tester@gabojait.com", "tester", "테스터");
+        visitCountUtility.visitUser(user.getId());
+        visitCountUtility.visitUser(user.getId());
+
+        // when
+        profileService.flushUserVisits();
+        long pendingCnt = visitCountUtility.getPendingUserCnt(user.getId());
+        TestTransaction.end();
+
+        // then
+        assertAll(
+                () -> assertThat(pendingCnt).isEqualTo(0L),
+                () -> assertThat(visitCountUtility.getPendingUserCnt(user.getId())).isEqualTo(2L)
+        );
+    }
+
     private ProfileUpdateRequest createValidProfileUpdateRequest() {
         EducationUpdateRequest educationRequest = createEducationUpdateRequest(null, "가보자잇대",
                 LocalDate.of(2004, 1, 1), null, true);
@@ -24,12 +24,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.TEAM_MEMBER_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,6 +52,7 @@ class ReviewServiceTest {
     @Autowired private UserRepository userRepository;
     @Autowired private TeamMemberRepository teamMemberRepository;
     @Autowired private TeamRepository teamRepository;
+    @Autowired private EntityManager entityManager;
 
     @Test
     @DisplayName("리뷰 가능한 팀 전체 조회가 정상 작동한다")
@@ -172,6 +177,115 @@ class ReviewServiceTest {
         assertThat(exists).isTrue();
     }
 
+    @Test
+    @DisplayName("리뷰를 생성하면 리뷰 대상 회원의 평점 합과 리뷰 수가 증가한다")
+    void givenValid_whenCreateReview_thenIncrementRating() {
+        // given
+        User user1 = createSavedDefaultUser("tester1@gabojait.com", "tester1", "테스터일", Position.MANAGER);
+        User user2 = createSavedDefaultUser("tester2@gabojait.com", "tester2", "테스터이", Position.BACKEND);
+        User user3 = createSavedDefaultUser("tester3@gabojait.com", "tester3", "테스터삼", Position.FRONTEND);
+        LocalDateTime now = LocalDateTime.now();
+
+        Team team = createSavedTeam("가보자잇");
+        TeamMember teamMember1 = createSavedTeamMember(true, user1, team);
+        teamMember1.complete("https://github.com/gabojait", now.minusWeeks(4).plusSeconds(1));
+        TeamMember teamMember2 = createSavedTeamMember(false, user2, team);
+        teamMember2.complete("https://github.com/gabojait", now.minusWeeks(4).plusSeconds(1));
+        TeamMember teamMember3 = createSavedTeamMember(false, user3, team);
+        teamMember3.complete("https://github.com/gabojait", now.minusWeeks(4).plusSeconds(1));
+        teamMemberRepository.saveAll(List.of(teamMember1, teamMember2, teamMember3));
+
+        // when
+        reviewService.createReview(user1.getId(), team.getId(),
+                createReviewCreateManyRequest(teamMember2.getId(), (byte) 4));
+        reviewService.createReview(user3.getId(), team.getId(),
+                createReviewCreateManyRequest(teamMember2.getId(), (byte) 5));
+
+        // then
+        entityManager.clear();
+        User foundUser2 = userRepository.findById(user2.getId()).get();
+        User foundUser3 = userRepository.findById(user3.getId()).get();
+
+        assertAll(
+                () -> assertThat(foundUser2)
+                        .extracting("ratingSum", "reviewCnt", "rating")
+                        .containsExactly(9L, 2, 4.5F),
+                () -> assertThat(foundUser3)
+                        .extracting("ratingSum", "reviewCnt", "rating")
+                        .containsExactly(0L, 0, 0F)
+        );
+    }
+
+    @Test
+    @DisplayName("회원 식별자 범위를 나누어 평점 정합성 검사를 하면 모든 범위의 회원 평점을 다시 계산한다")
+    void givenSmallBatchSize_whenRepairRatings_thenReturn() {
+        // given
+        User user1 = createSavedDefaultUser("tester1@gabojait.com", "tester1", "테스터일", Position.MANAGER);
+        User user2 = createSavedDefaultUser("tester2@gabojait.com", "tester2", "테스터이", Position.BACKEND);
+
+        Team team = createSavedTeam("가보자잇");
+        TeamMember teamMember1 = createSavedTeamMember(true, user1, team);
+        TeamMember teamMember2 = createSavedTeamMember(false, user2, team);
+
+        createSavedReview(teamMember1, teamMember2);
+        createSavedReview(teamMember2, teamMember1);
+        ReflectionTestUtils.setField(reviewService, "ratingRepairBatchSize", 1);
+
+        try {
+            // when
+            int repairedCnt = reviewService.repairRatings();
+
+            // then
+            entityManager.clear();
+
+            assertAll(
+                    () -> assertThat(repairedCnt).isEqualTo(2),
+                    () -> assertThat(userRepository.findById(user1.getId()).get())
+                            .extracting("ratingSum", "reviewCnt", "rating")
+                            .containsExactly(3L, 1, 3F),
+                    () -> assertThat(userRepository.findById(user2.getId()).get())
+                            .extracting("ratingSum", "reviewCnt", "rating")
+                            .containsExactly(3L, 1, 3F)
+            );
+        } finally {
+            ReflectionTestUtils.setField(reviewService, "ratingRepairBatchSize", 1000);
+        }
+    }
+
+    @Test
+    @DisplayName("회원 평점 정합성 검사를 하면 리뷰 테이블과 다른 회원의 평점을 다시 계산한다")
+    void givenMismatch_whenRepairRatings_thenReturn() {
+        // given
+        User user1 = createSavedDefaultUser("tester1@gabojait.com", "tester1", "테스터일", Position.MANAGER);
+        User user2 = createSavedDefaultUser("tester2@gabojait.com", "tester2", "테스터이", Position.BACKEND);
+
+        Team team = createSavedTeam("가보자잇");
+        TeamMember teamMember1 = createSavedTeamMember(true, user1, team);
+        TeamMember teamMember2 = createSavedTeamMember(false, user2, team);
+
+        createSavedReview(teamMember1, teamMember2);
+        createSavedReview(teamMember2, teamMember1);
+        userRepository.incrementRatings(Map.of(user1.getId(), IntStream.of(3).summaryStatistics()));
+
+        // when
+        int repairedCnt = reviewService.repairRatings();
+
+        // then
+        entityManager.clear();
+        User foundUser1 = userRepository.findById(user1.getId()).get();
+        User foundUser2 = userRepository.findById(user2.getId()).get();
+
+        assertAll(
+                () -> assertThat(repairedCnt).isEqualTo(1),
+                () -> assertThat(foundUser1)
+                        .extracting("ratingSum", "reviewCnt", "rating")
+                        .containsExactly(3L, 1, 3F),
+                () -> assertThat(foundUser2)
+                        .extracting("ratingSum", "reviewCnt", "rating")
+                        .containsExactly(3L, 1, 3F)
+        );
+    }
+
     @Test
     @DisplayName("존재하는 리뷰 생성이 정상 작동한다")
     void givenExistingReview_whenCreateReview_thenReturn() {
@@ -280,6 +394,16 @@ class ReviewServiceTest {
                 .build();
     }
 
+    private ReviewCreateManyRequest createReviewCreateManyRequest(long revieweeMemberId, byte rating) {
+        return ReviewCreateManyRequest.builder()
+                .reviews(List.of(ReviewCreateOneRequest.builder()
+                        .teamMemberId(revieweeMemberId)
+                        .rating(rating)
+                        .post("열정적인 팀원입니다.")
+                        .build()))
+                .build();
+    }
+
     private Review createSavedReview(TeamMember reviewer, TeamMember reviewee) {
         Review review = Review.builder()
                 .reviewer(reviewer)
@@ -1,5 +1,6 @@
 package com.gabojait.gabojaitspring.api.service.team;
 
+import com.gabojait.gabojaitspring.api.dto.profile.response.ProfilePageResponse;
 import com.gabojait.gabojaitspring.common.response.PageData;
 import com.gabojait.gabojaitspring.api.dto.team.request.TeamCreateRequest;
 import com.gabojait.gabojaitspring.api.dto.team.request.TeamUpdateRequest;
@@ -15,10 +16,13 @@ import com.gabojait.gabojaitspring.domain.user.Gender;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import com.gabojait.gabojaitspring.domain.user.User;
 import com.gabojait.gabojaitspring.common.exception.CustomException;
+import com.gabojait.gabojaitspring.common.util.VisitCountUtility;
 import com.gabojait.gabojaitspring.repository.favorite.FavoriteRepository;
 import com.gabojait.gabojaitspring.repository.offer.OfferRepository;
 import com.gabojait.gabojaitspring.repository.team.TeamMemberRepository;
+import com.gabojait.gabojaitspring.repository.team.TeamRecommendationIndex;
 import com.gabojait.gabojaitspring.repository.team.TeamRepository;
+import com.gabojait.gabojaitspring.repository.team.TeamSearchIndex;
 import com.gabojait.gabojaitspring.repository.user.ContactRepository;
 import com.gabojait.gabojaitspring.repository.user.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -29,8 +33,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -55,6 +63,50 @@ class TeamServiceTest {
     @Autowired private TeamRepository teamRepository;
     @Autowired private OfferRepository offerRepository;
     @Autowired private FavoriteRepository favoriteRepository;
+    @Autowired private VisitCountUtility visitCountUtility;
+    @Autowired private TeamSearchIndex teamSearchIndex;
+    @Autowired private TeamRecommendationIndex teamRecommendationIndex;
+    @Autowired private EntityManager entityManager;
+
+    @Test
+    @DisplayName("모아 둔 팀 방문 수 반영이 정상 작동한다")
+    void givenVisited_whenFlushTeamVisits_thenReturn() {
+        // given
+        Team team = createSavedTeam();
+        visitCountUtility.visitTeam(team.getId());
+        visitCountUtility.visitTeam(team.getId());
+
+        // when
+        teamService.flushTeamVisits();
+
+        // then
+        entityManager.clear();
+
+        assertAll(
+                () -> assertThat(teamRepository.findById(team.getId()).get().getVisitedCnt()).isEqualTo(2L),
+                () -> assertThat(visitCountUtility.getPendingTeamCnt(team.getId())).isEqualTo(0L)
+        );
+    }
+
+    @Test
+    @DisplayName("팀 방문 수 반영 트랜잭션이 롤백되면 방문 수가 다음 반영에 다시 포함된다")
+    void givenRolledBack_whenFlushTeamVisits_thenRestore() {
+        // given
+        Team team = createSavedTeam();
+        visitCountUtility.visitTeam(team.getId());
+        visitCountUtility.visitTeam(team.getId());
+
+        // when
+        teamService.flushTeamVisits();
+        long pendingCnt = visitCountUtility.getPendingTeamCnt(team.getId());
+        TestTransaction.end();
+
+        // then
+        assertAll(
+                () -> assertThat(pendingCnt).isEqualTo(0L),
+                () -> assertThat(visitCountUtility.getPendingTeamCnt(team.getId())).isEqualTo(2L)
+        );
+    }
 
     private static Stream<Arguments> providerCreateTeam() {
         return Stream.of(
@@ -439,7 +491,7 @@ class TeamServiceTest {
 
         // then
         assertAll(
-                () -> assertThat(team.getVisitedCnt()).isEqualTo(1),
+                () -> assertThat(visitCountUtility.getPendingTeamCnt(team.getId())).isEqualTo(1),
                 () -> assertThat(response)
                         .extracting("teamId", "projectName", "designerCurrentCnt", "backendCurrentCnt",
                                 "frontendCurrentCnt", "managerCurrentCnt", "designerMaxCnt", "backendMaxCnt", "frontendMaxCnt",
@@ -510,7 +562,152 @@ class TeamServiceTest {
                 () -> assertThat(teams.getTotal()).isEqualTo(3)
         );
     }
-    
+
+    @Test
+    @DisplayName("팀 검색을 하면 검색어를 포함하고 포지션 자리가 남은 팀을 조회한다")
+    void givenValid_whenSearchTeam_thenReturn() {
+        // given
+        Team team1 = createSavedTeam("가보자잇 백엔드", "스프링으로 만드는 협업 플랫폼", (byte) 2);
+        Team team2 = createSavedTeam("여행 기록 앱", "플랫폼 개발자를 구해요", (byte) 0);
+        createSavedTeam("스터디 매칭", "스터디 모임 서비스", (byte) 2);
+        teamService.rebuildTeamSearchIndex();
+
+        // when
+        PageData<List<TeamPageResponse>> teams = teamService.searchTeam("플랫폼", Position.NONE, 0, 20);
+        PageData<List<TeamPageResponse>> backendTeams = teamService.searchTeam("플랫폼", Position.BACKEND, 0, 20);
+        PageData<List<TeamPageResponse>> spacedTeams = teamService.searchTeam("협업플랫폼", Position.NONE, 0, 20);
+
+        // then
+        assertAll(
+                () -> assertThat(teams.getData())
+                        .extracting("teamId")
+                        .containsExactlyInAnyOrder(team1.getId(), team2.getId()),
+                () -> assertThat(teams.getTotal()).isEqualTo(2),
+                () -> assertThat(backendTeams.getData())
+                        .extracting("teamId", "projectName")
+                        .containsExactly(tuple(team1.getId(), team1.getProjectName())),
+                () -> assertThat(spacedTeams.getData())
+                        .extracting("teamId")
+                        .containsExactly(team1.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("팀 검색 인덱스가 준비되지 않았을 때 팀 검색을 하면 검색어를 포함한 팀을 최신순으로 조회한다")
+    void givenIndexNotReady_whenSearchTeam_thenReturn() {
+        // given
+        Team team1 = createSavedTeam("가보자잇 백엔드", "스프링으로 만드는 협업 플랫폼", (byte) 2);
+        Team team2 = createSavedTeam("여행 기록 앱", "플랫폼 개발자를 구해요", (byte) 0);
+        createSavedTeam("스터디 매칭", "스터디 모임 서비스", (byte) 2);
+        ReflectionTestUtils.setField(teamSearchIndex, "snapshot", null);
+
+        // when
+        PageData<List<TeamPageResponse>> teams = teamService.searchTeam("플랫폼", Position.NONE, 0, 20);
+        PageData<List<TeamPageResponse>> backendTeams = teamService.searchTeam("플랫폼", Position.BACKEND, 0, 20);
+        PageData<List<TeamPageResponse>> nextTeams = teamService.searchTeam("플랫폼", Position.NONE, 1, 20);
+
+        // then
+        assertAll(
+                () -> assertThat(teamSearchIndex.isReady()).isFalse(),
+                () -> assertThat(teams.getData())
+                        .extracting("teamId")
+                        .containsExactly(team2.getId(), team1.getId()),
+                () -> assertThat(teams.getTotal()).isEqualTo(2),
+                () -> assertThat(backendTeams.getData())
+                        .extracting("teamId")
+                        .containsExactly(team1.getId()),
+                () -> assertThat(nextTeams.getData())
+                        .extracting("teamId")
+                        .containsExactly(team1.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("팀 추천 회원 페이징 조회를 하면 모집 중인 포지션의 제안하지 않은 회원을 조회한다")
+    void givenValid_whenFindPageRecommendedUser_thenReturn() {
+        // given
+        User user1 = createSavedDefaultUser("tester1@gabojait.com", "tester1", "테스터일");
+        User user2 = createSavedDefaultUser("tester2@gabojait.com", "tester2", "테스터이");
+        User user3 = createSavedDefaultUser("tester3@gabojait.com", "tester3", "테스터삼");
+        User user4 = createSavedDefaultUser("tester4@gabojait.com", "tester4", "테스터사");
+        user2.updatePosition(Position.BACKEND);
+        user3.updatePosition(Position.FRONTEND);
+        user4.updatePosition(Position.BACKEND);
+
+        Team team = createSavedTeam();
+        createdSavedTeamMember(true, user1, team, Position.MANAGER);
+        createSavedOffer(team, user4, Position.BACKEND);
+        teamService.rebuildTeamRecommendationIndex();
+
+        // when
+        PageData<List<ProfilePageResponse>> users = teamService.findPageRecommendedUser(user1.getId(),
+                Position.NONE, 0, 20);
+        PageData<List<ProfilePageResponse>> backendUsers = teamService.findPageRecommendedUser(user1.getId(),
+                Position.BACKEND, 0, 20);
+
+        // then
+        assertAll(
+                () -> assertThat(users.getData())
+                        .extracting("userId")
+                        .containsExactlyInAnyOrder(user2.getId(), user3.getId()),
+                () -> assertThat(users.getTotal()).isEqualTo(2),
+                () -> assertThat(backendUsers.getData())
+                        .extracting("userId", "nickname")
+                        .containsExactly(tuple(user2.getId(), user2.getNickname()))
+        );
+    }
+
+    @Test
+    @DisplayName("팀 추천 인덱스가 준비되지 않았을 때 팀 추천 회원 페이징 조회를 하면 예외가 발생한다")
+    void givenIndexNotReady_whenFindPageRecommendedUser_thenThrow() {
+        // given
+        User user = createSavedDefaultUser("tester@gabojait.com", "tester", "테스터");
+        Team team = createSavedTeam();
+        createdSavedTeamMember(true, user, team, Position.MANAGER);
+        ReflectionTestUtils.setField(teamRecommendationIndex, "snapshot", null);
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> teamService.findPageRecommendedUser(user.getId(), Position.NONE, 0, 20))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(RECOMMENDATION_NOT_READY),
+                () -> assertThat(teamRecommendationIndex.isReady()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("팀 리더가 아닌 회원으로 팀 추천 회원 페이징 조회를 하면 예외가 발생한다")
+    void givenNonLeader_whenFindPageRecommendedUser_thenThrow() {
+        // given
+        User user = createSavedDefaultUser("tester@gabojait.com", "tester", "테스터");
+        Team team = createSavedTeam();
+        createdSavedTeamMember(false, user, team, Position.BACKEND);
+
+        // when & then
+        assertThatThrownBy(() -> teamService.findPageRecommendedUser(user.getId(), Position.NONE, 0, 20))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(REQUEST_FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("모집 중인 포지션 비트가 인원과 다른 팀을 다시 계산한다")
+    void givenMismatchedOpenPositions_whenCheckOpenPositions_thenReturn() {
+        // given
+        Team team = createSavedTeam();
+        byte openPositions = team.getOpenPositions();
+        ReflectionTestUtils.setField(team, "openPositions", (byte) 0);
+        teamRepository.saveAndFlush(team);
+
+        // when
+        int repairedCnt = teamService.checkOpenPositions();
+
+        // then
+        assertThat(repairedCnt).isEqualTo(1);
+        assertThat(team.getOpenPositions()).isEqualTo(openPositions);
+    }
+
     @Test
     @DisplayName("팀원 모집 여부를 업데이트가 정상 작동한다")
     void givenValid_whenUpdateIsRecruiting_thenReturn() {
@@ -812,6 +1009,22 @@ class TeamServiceTest {
         return team;
     }
 
+    private Team createSavedTeam(String projectName, String projectDescription, byte backendMaxCnt) {
+        Team team = Team.builder()
+                .projectName(projectName)
+                .projectDescription(projectDescription)
+                .expectation("열정적인 팀원을 구해요")
+                .openChatUrl("kakao.com/o/gabojait")
+                .designerMaxCnt((byte) 2)
+                .backendMaxCnt(backendMaxCnt)
+                .frontendMaxCnt((byte) 2)
+                .managerMaxCnt((byte) 2)
+                .build();
+        teamRepository.save(team);
+
+        return team;
+    }
+
     private TeamMember createdSavedTeamMember(boolean isLeader, User user, Team team, Position position) {
         TeamMember teamMember = TeamMember.builder()
                 .isLeader(isLeader)
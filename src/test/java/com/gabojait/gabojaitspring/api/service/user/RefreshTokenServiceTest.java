@@ -0,0 +1,74 @@
+package com.gabojait.gabojaitspring.api.service.user;
+
+import com.gabojait.gabojaitspring.repository.user.RefreshTokenFamilyRepository;
+import com.gabojait.gabojaitspring.repository.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    @Test
+    @DisplayName("필터 재구성 중 폐기된 패밀리는 재구성된 필터에도 반영된다")
+    void givenRevokeDuringRebuild_whenSweep_thenReturn() {
+        // given
+        RefreshTokenFamilyRepository refreshTokenFamilyRepository = mock(RefreshTokenFamilyRepository.class);
+        RefreshTokenService refreshTokenService = createRefreshTokenService(refreshTokenFamilyRepository);
+        when(refreshTokenFamilyRepository.existsRevoked(anyString())).thenReturn(true);
+        when(refreshTokenFamilyRepository.findAllRevokedFamilyId(any(LocalDateTime.class))).thenAnswer(invocation -> {
+            refreshTokenService.revokeFamily("family2");
+            return List.of("family1");
+        });
+
+        // when
+        refreshTokenService.sweep();
+
+        // then
+        assertAll(
+                () -> assertThat(refreshTokenService.isRevoked("family1")).isTrue(),
+                () -> assertThat(refreshTokenService.isRevoked("family2")).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 폐기된 패밀리는 최근 폐기 반영 후 필터에 반영된다")
+    void givenRevokedByOtherServer_whenRefreshRevoked_thenReturn() {
+        // given
+        RefreshTokenFamilyRepository refreshTokenFamilyRepository = mock(RefreshTokenFamilyRepository.class);
+        RefreshTokenService refreshTokenService = createRefreshTokenService(refreshTokenFamilyRepository);
+        when(refreshTokenFamilyRepository.existsRevoked(anyString())).thenReturn(true);
+        when(refreshTokenFamilyRepository.findAllRevokedFamilyId(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of("family1"));
+        boolean isRevokedBefore = refreshTokenService.isRevoked("family1");
+
+        // when
+        refreshTokenService.refreshRevoked();
+
+        // then
+        assertAll(
+                () -> assertThat(isRevokedBefore).isFalse(),
+                () -> assertThat(refreshTokenService.isRevoked("family1")).isTrue()
+        );
+    }
+
+    private RefreshTokenService createRefreshTokenService(RefreshTokenFamilyRepository refreshTokenFamilyRepository) {
+        RefreshTokenService refreshTokenService = new RefreshTokenService(refreshTokenFamilyRepository,
+                mock(UserRepository.class));
+        ReflectionTestUtils.setField(refreshTokenService, "expectedInsertions", 1000);
+        ReflectionTestUtils.setField(refreshTokenService, "falsePositiveRate", 0.000001);
+        ReflectionTestUtils.setField(refreshTokenService, "refreshInterval", 10000L);
+        refreshTokenService.init();
+
+        return refreshTokenService;
+    }
+}
@@ -0,0 +1,130 @@
+package com.gabojait.gabojaitspring.common.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.gabojait.gabojaitspring.api.service.user.UserService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.*;
+
+class AspectLoggingTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(AspectLogging.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level level;
+
+    @BeforeEach
+    void setUp() {
+        level = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(level);
+    }
+
+    @Test
+    @DisplayName("이름이 password인 문자열 파라미터는 값을 가려서 기록한다")
+    void givenPasswordParameter_whenTraceGlobal_thenRedact() throws Throwable {
+        // given
+        AspectLogging aspectLogging = createAspectLogging(1);
+        Method method = UserService.class.getMethod("updatePassword", long.class, String.class, String.class);
+        ProceedingJoinPoint jp = createJoinPoint(method, 1L, "password1!", "password1!");
+
+        // when
+        aspectLogging.traceGlobal(jp);
+
+        // then
+        List<String> messages = getMessages();
+        assertAll(
+                () -> assertThat(messages).hasSize(2),
+                () -> assertThat(messages.get(0))
+                        .contains("userId=1, password=******, passwordReEntered=******")
+                        .doesNotContain("password1!")
+        );
+    }
+
+    @Test
+    @DisplayName("문자열로 변환된 인자에 포함된 비밀번호를 가려서 기록한다")
+    void givenPasswordInArgument_whenTraceGlobal_thenRedact() throws Throwable {
+        // given
+        AspectLogging aspectLogging = createAspectLogging(1);
+        Method method = UserService.class.getMethod("verifyPassword", long.class, String.class);
+        ProceedingJoinPoint jp = createJoinPoint(method, 1L, "password1!");
+        when(jp.proceed()).thenReturn("UserLoginRequest(username=tester, password=password1!)");
+
+        // when
+        aspectLogging.traceGlobal(jp);
+
+        // then
+        List<String> messages = getMessages();
+        assertAll(
+                () -> assertThat(messages).hasSize(2),
+                () -> assertThat(messages.get(1))
+                        .contains("password=******")
+                        .doesNotContain("password1!")
+        );
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0이면 기록하지 않고 메소드를 실행한다")
+    void givenZeroSampleRate_whenTraceGlobal_thenNotLog() throws Throwable {
+        // given
+        AspectLogging aspectLogging = createAspectLogging(0);
+        Method method = UserService.class.getMethod("verifyPassword", long.class, String.class);
+        ProceedingJoinPoint jp = createJoinPoint(method, 1L, "password1!");
+
+        // when
+        aspectLogging.traceGlobal(jp);
+
+        // then
+        assertAll(
+                () -> assertThat(getMessages()).isEmpty(),
+                () -> verify(jp, times(1)).proceed()
+        );
+    }
+
+    private List<String> getMessages() {
+        return appender.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .collect(Collectors.toList());
+    }
+
+    private AspectLogging createAspectLogging(double sampleRate) {
+        AspectLogging aspectLogging = new AspectLogging();
+        ReflectionTestUtils.setField(aspectLogging, "apiSampleRate", sampleRate);
+        ReflectionTestUtils.setField(aspectLogging, "repositorySampleRate", sampleRate);
+        ReflectionTestUtils.setField(aspectLogging, "domainSampleRate", sampleRate);
+        return aspectLogging;
+    }
+
+    private ProceedingJoinPoint createJoinPoint(Method method, Object... args) {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getDeclaringType()).thenReturn(method.getDeclaringClass());
+
+        ProceedingJoinPoint jp = mock(ProceedingJoinPoint.class);
+        when(jp.getSignature()).thenReturn(signature);
+        when(jp.getArgs()).thenReturn(args);
+        return jp;
+    }
+}
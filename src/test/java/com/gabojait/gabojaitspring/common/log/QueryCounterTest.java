@@ -0,0 +1,59 @@
+package com.gabojait.gabojaitspring.common.log;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class QueryCounterTest {
+
+    @Test
+    @DisplayName("쿼리 카운터 종료 시 기록된 쿼리 카운터를 반환하고 초기화한다")
+    void givenStarted_whenEnd_thenReturn() {
+        // given
+        QueryCounter counter = QueryCounter.start("request-id");
+        counter.record("select * from users where user_id = ?", 2_000_000);
+
+        // when
+        QueryCounter ended = QueryCounter.end();
+
+        // then
+        assertAll(
+                () -> assertThat(ended).isSameAs(counter),
+                () -> assertThat(ended.getStatementCnt()).isEqualTo(1),
+                () -> assertThat(ended.getElapsedMillis()).isEqualTo(2),
+                () -> assertThat(QueryCounter.current()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("리터럴과 IN 절 파라미터 개수가 다른 같은 형태의 쿼리는 하나의 핑거프린트로 합친다")
+    void givenSameShape_whenGetFingerprints_thenReturn() {
+        // given
+        QueryCounter counter = QueryCounter.start(null);
+        counter.record("select * from skill where user_id = 1", 0);
+        counter.record("select * from skill where user_id = 2", 0);
+        counter.record("select * from skill  where user_id = ?", 0);
+        counter.record("select * from users where user_id in (?, ?)", 0);
+        counter.record("select * from users where user_id in (?, ?, ?)", 0);
+        counter.record("select * from users where nickname = 'tester'", 0);
+        QueryCounter.end();
+
+        // when
+        List<Map.Entry<String, Integer>> fingerprints = counter.getFingerprints();
+
+        // then
+        assertThat(fingerprints)
+                .extracting(Map.Entry::getKey, Map.Entry::getValue)
+                .containsExactly(
+                        tuple("select * from skill where user_id = ?", 3),
+                        tuple("select * from users where user_id in (?)", 2),
+                        tuple("select * from users where nickname = ?", 1)
+                );
+    }
+}
@@ -0,0 +1,43 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 항목은 항상 포함 가능성이 있다고 반환한다")
+    void givenPut_whenMightContain_thenReturn() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+        String value = UUID.randomUUID().toString();
+        bloomFilter.put(value);
+
+        // when
+        boolean result = bloomFilter.mightContain(value);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 항목의 오탐율이 설정한 범위 안에 있다")
+    void givenNotPut_whenMightContain_thenReturn() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> bloomFilter.put("family" + i));
+
+        // when
+        long falsePositiveCnt = IntStream.range(0, 10000)
+                .filter(i -> bloomFilter.mightContain(UUID.randomUUID().toString()))
+                .count();
+
+        // then
+        assertThat(falsePositiveCnt).isLessThan(300);
+    }
+}
@@ -0,0 +1,60 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CollectionDiffTest {
+
+    private static final Function<Long, Long> identity = Function.identity();
+
+    @Test
+    @DisplayName("식별자로 생성, 수정, 삭제 대상을 나눈다")
+    void givenValid_whenOf_thenReturn() {
+        // given
+        List<Long> currents = List.of(1L, 2L, 3L);
+        List<Long> requests = Arrays.asList(2L, null, 3L, null);
+
+        // when
+        CollectionDiff<Long, Long> diff = CollectionDiff.of(currents, identity, requests, identity);
+
+        // then
+        assertAll(
+                () -> assertThat(diff.getInserts()).hasSize(2),
+                () -> assertThat(diff.getUpdates())
+                        .extracting("current", "request")
+                        .containsExactly(
+                                tuple(2L, 2L),
+                                tuple(3L, 3L)
+                        ),
+                () -> assertThat(diff.getDeleteIds(identity)).containsExactly(1L),
+                () -> assertThat(diff.hasInsertOrDelete()).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("없는 식별자와 중복된 식별자의 요청은 무시한다")
+    void givenUnknownOrDuplicateId_whenOf_thenReturn() {
+        // given
+        List<Long> currents = List.of(1L);
+        List<Long> requests = List.of(1L, 1L, 4L);
+
+        // when
+        CollectionDiff<Long, Long> diff = CollectionDiff.of(currents, identity, requests, identity);
+
+        // then
+        assertAll(
+                () -> assertThat(diff.getInserts()).isEmpty(),
+                () -> assertThat(diff.getUpdates()).hasSize(1),
+                () -> assertThat(diff.getDeletes()).isEmpty(),
+                () -> assertThat(diff.hasInsertOrDelete()).isFalse()
+        );
+    }
+}
@@ -1,83 +1,376 @@
 package com.gabojait.gabojaitspring.common.util;
 
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+import com.gabojait.gabojaitspring.common.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.*;
+
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class FileUtilityTest {
+
+    @Test
+    @DisplayName("멀티파트 업로드 기준 크기보다 작은 파일은 한번에 업로드한다")
+    void givenSmallFile_whenUpload_thenReturn() {
+        // given
+        InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3(false);
+        FileUtility fileUtility = createFileUtility(amazonS3, 16, 5);
+        byte[] content = "image".getBytes();
+        MultipartFile multipartFile = new StreamOnlyMultipartFile("image/jpeg", content);
+
+        // when
+        String url = fileUtility.upload("bucket", "1", "file", multipartFile, true);
+
+        // then
+        assertAll(
+                () -> assertThat(url).isEqualTo("https://bucket.s3.gabojait.com/1/file"),
+                () -> assertThat(amazonS3.objects.get("1/file")).isEqualTo(content),
+                () -> assertThat(amazonS3.contentTypes.get("1/file")).isEqualTo("image/jpeg"),
+                () -> assertThat(amazonS3.partSizes).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드 기준 크기 이상인 파일은 파트 크기만큼 나누어 업로드한다")
+    void givenLargeFile_whenUpload_thenReturn() {
+        // given
+        InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3(false);
+        FileUtility fileUtility = createFileUtility(amazonS3, 10, 5);
+        byte[] content = "portfolio.pdf".getBytes();
+        MultipartFile multipartFile = new StreamOnlyMultipartFile("application/pdf", content);
+
+        // when
+        String url = fileUtility.upload("bucket", "1", "file", multipartFile, false);
+
+        // then
+        assertAll(
+                () -> assertThat(url).isEqualTo("https://bucket.s3.gabojait.com/1/file"),
+                () -> assertThat(amazonS3.objects.get("1/file")).isEqualTo(content),
+                () -> assertThat(amazonS3.contentTypes.get("1/file")).isEqualTo("application/pdf"),
+                () -> assertThat(amazonS3.partSizes).containsExactly(5L, 5L, 3L),
+                () -> assertThat(amazonS3.uploads).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드 중 실패하면 업로드를 취소하고 예외가 발생한다")
+    void givenFailedPart_whenUpload_thenThrow() {
+        // given
+        InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3(true);
+        FileUtility fileUtility = createFileUtility(amazonS3, 10, 5);
+        MultipartFile multipartFile = new StreamOnlyMultipartFile("application/pdf", "portfolio.pdf".getBytes());
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> fileUtility.upload("bucket", "1", "file", multipartFile, false))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(SERVER_ERROR),
+                () -> assertThat(amazonS3.objects).isEmpty(),
+                () -> assertThat(amazonS3.uploads).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("null인 파일로 파일 업로드시 예외가 발생한다")
+    void givenNullMultipartFile_whenUpload_thenThrow() {
+        // given
+        FileUtility fileUtility = createFileUtility(new InMemoryAmazonS3(false), 16, 5);
+
+        // when & then
+        assertThatThrownBy(() -> fileUtility.upload("bucket", "1", "file", null, true))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(FILE_FIELD_REQUIRED);
+    }
+
+    @Test
+    @DisplayName("빈 파일로 파일 업로드시 예외가 발생한다")
+    void givenEmptyMultipartFile_whenUpload_thenThrow() {
+        // given
+        FileUtility fileUtility = createFileUtility(new InMemoryAmazonS3(false), 16, 5);
+        MultipartFile multipartFile = new MockMultipartFile("file", "file", "image/jpeg", new byte[0]);
+
+        // when & then
+        assertThatThrownBy(() -> fileUtility.upload("bucket", "1", "file", multipartFile, true))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(FILE_FIELD_REQUIRED);
+    }
+
+    @Test
+    @DisplayName("업로드 URL 생성을 하면 파일 타입과 크기가 서명된 PUT URL을 반환한다")
+    void givenValid_whenCreateUploadUrl_thenReturn() {
+        // given
+        InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3(false);
+        FileUtility fileUtility = createFileUtility(amazonS3, 16, 5);
+        long now = System.currentTimeMillis();
+
+        // when
+        String url = fileUtility.createUploadUrl("bucket", "1", "file", "application/pdf", 8, false);
+
+        // then
+        GeneratePresignedUrlRequest request = amazonS3.presignedRequests.get(0);
+        assertAll(
+                () -> assertThat(url).isEqualTo("https://bucket.s3.gabojait.com/1/file?signed"),
+                () -> assertThat(request.getMethod()).isEqualTo(HttpMethod.PUT),
+                () -> assertThat(request.getKey()).isEqualTo("1/file"),
+                () -> assertThat(request.getContentType()).isEqualTo("application/pdf"),
+                () -> assertThat(request.getCustomRequestHeaders()).containsEntry("Content-Length", "8"),
+                () -> assertThat(request.getExpiration().getTime()).isBetween(now + 1000, now + 2000)
+        );
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 파일 타입으로 업로드 URL 생성시 예외가 발생한다")
+    void givenUnsupportedContentType_whenCreateUploadUrl_thenThrow() {
+        // given
+        InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3(false);
+        FileUtility fileUtility = createFileUtility(amazonS3, 16, 5);
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> fileUtility.createUploadUrl("bucket", "1", "file", "text/html", 8,
+                        false))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(FILE_TYPE_UNSUPPORTED),
+                () -> assertThatThrownBy(() -> fileUtility.createUploadUrl("bucket", "1", "file", "pdf", 8, false))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(FILE_TYPE_UNSUPPORTED),
+                () -> assertThat(amazonS3.presignedRequests).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("최대 크기를 초과한 파일로 업로드 URL 생성시 예외가 발생한다")
+    void givenExceededSize_whenCreateUploadUrl_thenThrow() {
+        // given
+        FileUtility fileUtility = createFileUtility(new InMemoryAmazonS3(false), 16, 5);
+
+        // when & then
+        assertThatThrownBy(() -> fileUtility.createUploadUrl("bucket", "1", "file", "application/pdf", 17, false))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(FILE_SIZE_EXCEED);
+    }
+
+    @Test
+    @DisplayName("업로드 확인을 하면 파일을 공개하고 파일 주소를 반환한다")
+    void givenUploaded_whenConfirmUpload_thenReturn() {
+        // given
+        InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3(false);
+        FileUtility fileUtility = createFileUtility(amazonS3, 16, 5);
+        amazonS3.objects.put("1/file", "portfolio.pdf".getBytes());
+        amazonS3.contentTypes.put("1/file", "application/pdf");
+
+        // when
+        String url = fileUtility.confirmUpload("bucket", "1", "file", false);
+
+        // then
+        assertAll(
+                () -> assertThat(url).isEqualTo("https://bucket.s3.gabojait.com/1/file"),
+                () -> assertThat(amazonS3.acls).containsEntry("1/file", CannedAccessControlList.PublicRead)
+        );
+    }
+
+    @Test
+    @DisplayName("업로드되지 않은 파일로 업로드 확인시 예외가 발생한다")
+    void givenNotUploaded_whenConfirmUpload_thenThrow() {
+        // given
+        FileUtility fileUtility = createFileUtility(new InMemoryAmazonS3(false), 16, 5);
+
+        // when & then
+        assertThatThrownBy(() -> fileUtility.confirmUpload("bucket", "1", "file", false))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(FILE_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 초과하거나 지원하지 않는 타입으로 업로드된 파일로 업로드 확인시 파일을 삭제하고 예외가 발생한다")
+    void givenInvalidUploaded_whenConfirmUpload_thenThrow() {
+        // given
+        InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3(false);
+        FileUtility fileUtility = createFileUtility(amazonS3, 16, 5);
+        amazonS3.objects.put("1/large", new byte[17]);
+        amazonS3.contentTypes.put("1/large", "application/pdf");
+        amazonS3.objects.put("1/html", "<html>".getBytes());
+        amazonS3.contentTypes.put("1/html", "text/html");
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> fileUtility.confirmUpload("bucket", "1", "large", false))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(FILE_SIZE_EXCEED),
+                () -> assertThatThrownBy(() -> fileUtility.confirmUpload("bucket", "1", "html", false))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(FILE_TYPE_UNSUPPORTED),
+                () -> assertThat(amazonS3.objects).isEmpty(),
+                () -> assertThat(amazonS3.acls).isEmpty()
+        );
+    }
+
+    private FileUtility createFileUtility(InMemoryAmazonS3 amazonS3, long multipartThreshold, long partSize) {
+        FileUtility fileUtility = new FileUtility(amazonS3);
+        ReflectionTestUtils.setField(fileUtility, "multipartThreshold", multipartThreshold);
+        ReflectionTestUtils.setField(fileUtility, "partSize", partSize);
+        ReflectionTestUtils.setField(fileUtility, "presignedExpiration", 1500L);
+        ReflectionTestUtils.setField(fileUtility, "presignedMaxSize", multipartThreshold);
+
+        return fileUtility;
+    }
+
+    /**
+     * 입력 스트림으로만 읽을 수 있는 파일 |
+     * 파일 전체를 메모리에 올리는 getBytes()를 호출하면 실패한다.
+     */
+    private static class StreamOnlyMultipartFile extends MockMultipartFile {
+
+        StreamOnlyMultipartFile(String contentType, byte[] content) {
+            super("file", "file", contentType, content);
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * S3 대역 |
+     * AmazonS3Client처럼 파트마다 입력 스트림에서 파트 크기만큼만 읽는다.
+     */
+    private static class InMemoryAmazonS3 extends AbstractAmazonS3 {
+
+        private final boolean isPartFailing;
+        private final Map<String, byte[]> objects = new HashMap<>();
+        private final Map<String, String> contentTypes = new HashMap<>();
+        private final Map<String, ByteArrayOutputStream> uploads = new HashMap<>();
+        private final List<Long> partSizes = new ArrayList<>();
+        private final List<GeneratePresignedUrlRequest> presignedRequests = new ArrayList<>();
+        private final Map<String, CannedAccessControlList> acls = new HashMap<>();
+
+        InMemoryAmazonS3(boolean isPartFailing) {
+            this.isPartFailing = isPartFailing;
+        }
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest request) {
+            objects.put(request.getKey(), read(request.getInputStream(), request.getMetadata().getContentLength()));
+            contentTypes.put(request.getKey(), request.getMetadata().getContentType());
+
+            return new PutObjectResult();
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+            uploads.put(request.getKey(), new ByteArrayOutputStream());
+            contentTypes.put(request.getKey(), request.getObjectMetadata().getContentType());
+
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setUploadId(request.getKey());
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) {
+            if (isPartFailing && request.getPartNumber() > 1)
+                throw new SdkClientException("part failed");
+
+            partSizes.add(request.getPartSize());
+            uploads.get(request.getUploadId())
+                    .writeBytes(read(request.getInputStream(), request.getPartSize()));
+
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag(String.valueOf(request.getPartNumber()));
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            objects.put(request.getKey(), uploads.remove(request.getUploadId()).toByteArray());
+
+            return new CompleteMultipartUploadResult();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+            uploads.remove(request.getUploadId());
+        }
+
+        @Override
+        public URL generatePresignedUrl(GeneratePresignedUrlRequest request) {
+            presignedRequests.add(request);
+
+            try {
+                return new URL(getUrl(request.getBucketName(), request.getKey()) + "?signed");
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        @Override
+        public ObjectMetadata getObjectMetadata(String bucketName, String key) {
+            if (!objects.containsKey(key)) {
+                AmazonS3Exception exception = new AmazonS3Exception("Not Found");
+                exception.setStatusCode(404);
+                throw exception;
+            }
+
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(objects.get(key).length);
+            metadata.setContentType(contentTypes.get(key));
+            return metadata;
+        }
+
+        @Override
+        public void deleteObject(String bucketName, String key) {
+            objects.remove(key);
+            contentTypes.remove(key);
+        }
+
+        @Override
+        public void setObjectAcl(String bucketName, String key, CannedAccessControlList acl) {
+            acls.put(key, acl);
+        }
+
+        @Override
+        public URL getUrl(String bucketName, String key) {
+            try {
+                return new URL("https://" + bucketName + ".s3.gabojait.com/" + key);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
 
-// TODO
-//@ActiveProfiles("test")
-//@SpringBootTest
-//class FileUtilityTest {
-//
-//    @MockBean private AmazonS3Client amazonS3Client;
-//    @Autowired private FileUtility fileUtility;
-//
-//    @Test
-//    @DisplayName("파일 업로드가 정상 작동한다")
-//    void givenValid_whenUpload_thenReturn() throws MalformedURLException {
-//        // given
-//        String bucketName = "test";
-//        String folderName = "";
-//        String fileName = "file";
-//        String contentType = "image/jpeg";
-//        byte[] content = "a".getBytes();
-//        MultipartFile multipartFile = new MockMultipartFile(fileName, fileName, contentType, content);
-//        boolean isImage = true;
-//
-//        URL url = new URL("https://gabojait.com/test");
-//
-//        when(amazonS3Client.getUrl(anyString(), anyString()))
-//                .thenReturn(url);
-//
-//        // when
-//        String uploadedUrl = fileUtility.upload(bucketName, folderName, fileName, multipartFile, isImage);
-//
-//        // then
-//        assertThat(uploadedUrl).isEqualTo(url.toString());
-//    }
-//
-//    @Test
-//    @DisplayName("null인 파일로 파일 업로드시 예외가 발생한다")
-//    void givenNullMultipartFile_whenUpload_thenThrow() throws MalformedURLException {
-//        // given
-//        String bucketName = "test";
-//        String folderName = "";
-//        String fileName = "file";
-//        MultipartFile multipartFile = null;
-//        boolean isImage = true;
-//
-//        URL url = new URL("https://gabojait.com/test");
-//
-//        when(amazonS3Client.getUrl(anyString(), anyString()))
-//                .thenReturn(url);
-//
-//        // when & then
-//        assertThatThrownBy(() -> fileUtility.upload(bucketName, folderName, fileName, multipartFile, isImage))
-//                .isInstanceOf(CustomException.class)
-//                .extracting("errorCode")
-//                .isEqualTo(FILE_FIELD_REQUIRED);
-//    }
-//
-//    @Test
-//    @DisplayName("빈 파일로 파일 업로드시 예외가 발생한다")
-//    void givenEmptyMultipartFile_whenUpload_thenThrow() throws MalformedURLException {
-//        // given
-//        String bucketName = "test";
-//        String folderName = "";
-//        String fileName = "file";
-//        String contentType = "image/jpeg";
-//        byte[] content = new byte[0];
-//        MultipartFile multipartFile = new MockMultipartFile(fileName, fileName, contentType, content);
-//        boolean isImage = true;
-//
-//        URL url = new URL("https://gabojait.com/test");
-//
-//        when(amazonS3Client.getUrl(anyString(), anyString()))
-//                .thenReturn(url);
-//
-//        // when & then
-//        assertThatThrownBy(() -> fileUtility.upload(bucketName, folderName, fileName, multipartFile, isImage))
-//                .isInstanceOf(CustomException.class)
-//                .extracting("errorCode")
-//                .isEqualTo(FILE_FIELD_REQUIRED);
-//    }
-//}
\ No newline at end of file
+        private static byte[] read(InputStream inputStream, long size) {
+            try {
+                return inputStream.readNBytes((int) size);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import com.gabojait.gabojaitspring.common.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.SERVER_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ImageUtilityTest {
+
+    @Test
+    @DisplayName("썸네일 크기보다 큰 이미지는 비율을 유지한 채 긴 변을 썸네일 크기로 줄인다")
+    void givenLargeImage_whenResize_thenReturn() throws IOException {
+        // given
+        ImageUtility imageUtility = createImageUtility(200);
+        byte[] image = createImage(1000, 500, BufferedImage.TYPE_INT_RGB, "jpg");
+
+        // when
+        byte[] thumbnail = imageUtility.resize(new ByteArrayInputStream(image), "image/jpeg");
+
+        // then
+        BufferedImage resized = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertAll(
+                () -> assertThat(resized.getWidth()).isEqualTo(200),
+                () -> assertThat(resized.getHeight()).isEqualTo(100)
+        );
+    }
+
+    @Test
+    @DisplayName("썸네일 크기보다 작은 PNG 이미지는 크기와 투명도를 유지한다")
+    void givenSmallPng_whenResize_thenReturn() throws IOException {
+        // given
+        ImageUtility imageUtility = createImageUtility(200);
+        byte[] image = createImage(50, 40, BufferedImage.TYPE_INT_ARGB, "png");
+
+        // when
+        byte[] thumbnail = imageUtility.resize(new ByteArrayInputStream(image), "image/png");
+
+        // then
+        BufferedImage resized = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertAll(
+                () -> assertThat(resized.getWidth()).isEqualTo(50),
+                () -> assertThat(resized.getHeight()).isEqualTo(40),
+                () -> assertThat(resized.getColorModel().hasAlpha()).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일로 썸네일을 만들면 예외가 발생한다")
+    void givenNonImage_whenResize_thenThrow() {
+        // given
+        ImageUtility imageUtility = createImageUtility(200);
+
+        // when & then
+        assertThatThrownBy(() -> imageUtility.resize(new ByteArrayInputStream("pdf".getBytes()), "image/jpeg"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(SERVER_ERROR);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 실행한 썸네일 작업은 요청 스레드가 아닌 스레드에서 바로 실행되고 실패는 기록된다")
+    void givenNoTransaction_whenSubmitAfterCommit_thenReturn() throws Exception {
+        // given
+        ImageUtility imageUtility = createImageUtility(200);
+        CompletableFuture<String> threadName = new CompletableFuture<>();
+        CompletableFuture<Void> nextTask = new CompletableFuture<>();
+
+        // when
+        imageUtility.submitAfterCommit(() -> {
+            throw new IllegalStateException();
+        });
+        imageUtility.submitAfterCommit(() -> threadName.complete(Thread.currentThread().getName()));
+        imageUtility.submitAfterCommit(() -> nextTask.complete(null));
+
+        // then
+        nextTask.get(1, TimeUnit.SECONDS);
+        assertAll(
+                () -> assertThat(threadName.get()).startsWith("ThumbnailExecutor-"),
+                () -> assertThat(imageUtility.getFailedCnt()).isEqualTo(1)
+        );
+    }
+
+    private byte[] createImage(int width, int height, int type, String formatName) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), formatName, outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+    private ImageUtility createImageUtility(int thumbnailSize) {
+        ImageUtility imageUtility = new ImageUtility();
+        ReflectionTestUtils.setField(imageUtility, "thumbnailSize", thumbnailSize);
+        ReflectionTestUtils.setField(imageUtility, "poolSize", 1);
+        ReflectionTestUtils.setField(imageUtility, "queueCapacity", 4);
+        imageUtility.init();
+
+        return imageUtility;
+    }
+}
@@ -0,0 +1,49 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위 지연 시간은 실제 값과 1/16 이내의 오차로 조회된다")
+    void givenRecorded_whenGetPercentileNanos_thenReturn() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++)
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+
+        // when
+        long p50 = histogram.getPercentileNanos(0.5);
+        long p95 = histogram.getPercentileNanos(0.95);
+        long p99 = histogram.getPercentileNanos(0.99);
+
+        // then
+        assertAll(
+                () -> assertThat((double) p50).isCloseTo(TimeUnit.MILLISECONDS.toNanos(500), within(500e6 / 16)),
+                () -> assertThat((double) p95).isCloseTo(TimeUnit.MILLISECONDS.toNanos(950), within(950e6 / 16)),
+                () -> assertThat((double) p99).isCloseTo(TimeUnit.MILLISECONDS.toNanos(990), within(990e6 / 16)),
+                () -> assertThat(histogram.getCount()).isEqualTo(1000),
+                () -> assertThat(histogram.getMaxNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1000))
+        );
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 백분위 지연 시간은 0이다")
+    void givenEmpty_whenGetPercentileNanos_thenReturn() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        long p99 = histogram.getPercentileNanos(0.99);
+
+        // then
+        assertThat(p99).isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static com.gabojait.gabojaitspring.common.util.PageCountUtility.FIRST_PAGE_FROM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class PageCountUtilityTest {
+
+    private final PageCountUtility pageCountUtility = new PageCountUtility();
+    private final AtomicInteger countCnt = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pageCountUtility, "mode", PageCountUtility.Mode.CACHED);
+        ReflectionTestUtils.setField(pageCountUtility, "ttl", 60000L);
+        ReflectionTestUtils.setField(pageCountUtility, "maxSize", 100);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 이후 페이지는 캐시된 전체 개수를 사용한다")
+    void givenCached_whenCount_thenReturn() {
+        // given
+        pageCountUtility.count("team", "NONE", FIRST_PAGE_FROM, counter(3));
+
+        // when
+        long count = pageCountUtility.count("team", "NONE", 10L, counter(5));
+
+        // then
+        assertAll(
+                () -> assertThat(count).isEqualTo(3),
+                () -> assertThat(countCnt.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 캐시가 있어도 전체 개수를 다시 센다")
+    void givenFirstPage_whenCount_thenReturn() {
+        // given
+        pageCountUtility.count("team", "NONE", FIRST_PAGE_FROM, counter(3));
+
+        // when
+        long count = pageCountUtility.count("team", "NONE", FIRST_PAGE_FROM, counter(5));
+
+        // then
+        assertAll(
+                () -> assertThat(count).isEqualTo(5),
+                () -> assertThat(countCnt.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("영역 캐시 삭제 후 조회하면 전체 개수를 다시 센다")
+    void givenEvicted_whenCount_thenReturn() {
+        // given
+        pageCountUtility.count("team", "NONE", FIRST_PAGE_FROM, counter(3));
+        pageCountUtility.evict("team");
+
+        // when
+        long count = pageCountUtility.count("team", "NONE", 10L, counter(4));
+
+        // then
+        assertAll(
+                () -> assertThat(count).isEqualTo(4),
+                () -> assertThat(countCnt.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("근사 모드는 첫 페이지도 캐시를 사용하고 쓰기가 발생해도 캐시를 유지한다")
+    void givenApproximate_whenCount_thenReturn() {
+        // given
+        ReflectionTestUtils.setField(pageCountUtility, "mode", PageCountUtility.Mode.APPROXIMATE);
+        pageCountUtility.count("team", "NONE", FIRST_PAGE_FROM, counter(3));
+        pageCountUtility.evict("team");
+
+        // when
+        long count = pageCountUtility.count("team", "NONE", FIRST_PAGE_FROM, counter(4));
+
+        // then
+        assertAll(
+                () -> assertThat(count).isEqualTo(3),
+                () -> assertThat(countCnt.get()).isEqualTo(1)
+        );
+    }
+
+    private LongSupplier counter(long count) {
+        return () -> {
+            countCnt.incrementAndGet();
+            return count;
+        };
+    }
+}
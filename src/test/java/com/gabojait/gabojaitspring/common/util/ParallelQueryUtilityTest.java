@@ -0,0 +1,167 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import com.gabojait.gabojaitspring.common.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.SERVER_OVERLOADED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ParallelQueryUtilityTest {
+
+    @Test
+    @DisplayName("조회들이 요청 스레드가 아닌 스레드에서 각자의 읽기 전용 트랜잭션으로 동시에 실행된다")
+    void givenEnabled_whenSubmit_thenReturn() {
+        // given
+        ParallelQueryUtility parallelQueryUtility = createParallelQueryUtility(true, 2, 1000L);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        // when
+        Future<Boolean> query1 = parallelQueryUtility.submit(() -> awaitTogether(latch));
+        Future<Boolean> query2 = parallelQueryUtility.submit(() -> awaitTogether(latch));
+        Future<String> threadName = parallelQueryUtility.submit(() -> Thread.currentThread().getName());
+        long deadline = parallelQueryUtility.deadline();
+
+        // then
+        assertAll(
+                () -> assertThat(parallelQueryUtility.get(query1, deadline)).isTrue(),
+                () -> assertThat(parallelQueryUtility.get(query2, deadline)).isTrue(),
+                () -> assertThat(parallelQueryUtility.get(threadName, deadline)).startsWith("ParallelQueryExecutor-")
+        );
+    }
+
+    @Test
+    @DisplayName("비활성화된 경우 요청 스레드에서 조회한다")
+    void givenDisabled_whenSubmit_thenReturn() {
+        // given
+        ParallelQueryUtility parallelQueryUtility = createParallelQueryUtility(false, 1, 1000L);
+        String requestThreadName = Thread.currentThread().getName();
+
+        // when
+        Future<String> threadName = parallelQueryUtility.submit(() -> Thread.currentThread().getName());
+
+        // then
+        assertThat(parallelQueryUtility.get(threadName, parallelQueryUtility.deadline()))
+                .isEqualTo(requestThreadName);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찬 경우 요청 스레드에서 조회하지 않고 예외가 발생한다")
+    void givenQueueFull_whenSubmit_thenThrow() {
+        // given
+        ParallelQueryUtility parallelQueryUtility = createParallelQueryUtility(true, 1, 1000L);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        AtomicBoolean isCalled = new AtomicBoolean();
+        for (int i = 0; i < 5; i++)
+            parallelQueryUtility.submit(() -> releaseLatch.await(1, TimeUnit.SECONDS));
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> parallelQueryUtility.submit(() -> isCalled.getAndSet(true)))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(SERVER_OVERLOADED);
+            assertAll(
+                    () -> assertThat(isCalled).isFalse(),
+                    () -> assertThat(parallelQueryUtility.getRejectedCnt()).isEqualTo(1)
+            );
+        } finally {
+            releaseLatch.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("마감 시각까지 조회가 끝나지 않으면 예외가 발생한다")
+    void givenSlowQuery_whenGet_thenThrow() {
+        // given
+        ParallelQueryUtility parallelQueryUtility = createParallelQueryUtility(true, 1, 50L);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        Future<Boolean> query = parallelQueryUtility.submit(() -> releaseLatch.await(1, TimeUnit.SECONDS));
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> parallelQueryUtility.get(query, parallelQueryUtility.deadline()))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(SERVER_OVERLOADED);
+            assertThat(parallelQueryUtility.getTimeoutCnt()).isEqualTo(1);
+        } finally {
+            releaseLatch.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("조회 취소시 아직 끝나지 않은 조회를 모두 취소한다")
+    void givenRunningQueries_whenCancel_thenCancelled() {
+        // given
+        ParallelQueryUtility parallelQueryUtility = createParallelQueryUtility(true, 1, 1000L);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        Future<Boolean> running = parallelQueryUtility.submit(() -> releaseLatch.await(1, TimeUnit.SECONDS));
+        Future<Boolean> queued = parallelQueryUtility.submit(() -> releaseLatch.await(1, TimeUnit.SECONDS));
+
+        // when
+        try {
+            parallelQueryUtility.cancel(running, queued, null);
+
+            // then
+            assertAll(
+                    () -> assertThat(running.isCancelled()).isTrue(),
+                    () -> assertThat(queued.isCancelled()).isTrue(),
+                    () -> assertThat(parallelQueryUtility.getQueueSize()).isZero()
+            );
+        } finally {
+            releaseLatch.countDown();
+        }
+    }
+
+    private boolean awaitTogether(CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        latch.await();
+
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private ParallelQueryUtility createParallelQueryUtility(boolean isEnabled, int poolSize, long timeout) {
+        ParallelQueryUtility parallelQueryUtility = new ParallelQueryUtility(readOnlyTransactionManager());
+        ReflectionTestUtils.setField(parallelQueryUtility, "isEnabled", isEnabled);
+        ReflectionTestUtils.setField(parallelQueryUtility, "poolSize", poolSize);
+        ReflectionTestUtils.setField(parallelQueryUtility, "queueCapacity", 4);
+        ReflectionTestUtils.setField(parallelQueryUtility, "timeout", timeout);
+        parallelQueryUtility.init();
+
+        return parallelQueryUtility;
+    }
+
+    private PlatformTransactionManager readOnlyTransactionManager() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(definition.isReadOnly());
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import com.gabojait.gabojaitspring.common.exception.CustomException;
+import com.gabojait.gabojaitspring.domain.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.SERVER_OVERLOADED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class PasswordUtilityTest {
+
+    private final CountDownLatch startLatch = new CountDownLatch(1);
+    private final ExecutorService requestExecutor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        requestExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("비밀번호 암호화와 검증이 정상 작동한다")
+    void givenValid_whenEncodeAndVerifyPassword_thenReturn() {
+        // given
+        PasswordUtility passwordUtility = createPasswordUtility(new BCryptPasswordEncoder(4), 1, 1);
+        String password = "password1!";
+
+        // when
+        String encodedPassword = passwordUtility.encodePassword(password);
+
+        // then
+        User user = User.builder()
+                .password(encodedPassword)
+                .build();
+
+        assertAll(
+                () -> assertThat(passwordUtility.verifyPassword(user, password)).isTrue(),
+                () -> assertThat(passwordUtility.verifyPassword(user, "password2!")).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("해싱 대기열이 가득 찬 경우 비밀번호 암호화시 예외가 발생한다")
+    void givenFullQueue_whenEncodePassword_thenThrow() throws InterruptedException {
+        // given
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        PasswordUtility passwordUtility = createPasswordUtility(blockingEncoder(releaseLatch), 1, 1);
+
+        requestExecutor.submit(() -> passwordUtility.encodePassword("password1!"));
+        startLatch.await();
+        requestExecutor.submit(() -> passwordUtility.encodePassword("password2!"));
+        while (passwordUtility.getQueueSize() < 1)
+            Thread.onSpinWait();
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> passwordUtility.encodePassword("password3!"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(SERVER_OVERLOADED);
+            assertThat(passwordUtility.getRejectedCnt()).isEqualTo(1);
+        } finally {
+            releaseLatch.countDown();
+        }
+    }
+
+    private PasswordUtility createPasswordUtility(PasswordEncoder passwordEncoder, int poolSize, int queueCapacity) {
+        PasswordUtility passwordUtility = new PasswordUtility(passwordEncoder);
+        ReflectionTestUtils.setField(passwordUtility, "poolSize", poolSize);
+        ReflectionTestUtils.setField(passwordUtility, "queueCapacity", queueCapacity);
+        passwordUtility.init();
+
+        return passwordUtility;
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch releaseLatch) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                startLatch.countDown();
+                try {
+                    releaseLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package com.gabojait.gabojaitspring.common.util;
+
+import com.gabojait.gabojaitspring.api.vo.profile.ProfileVO;
+import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.domain.team.Team;
+import com.gabojait.gabojaitspring.domain.team.TeamMember;
+import com.gabojait.gabojaitspring.domain.user.Position;
+import com.gabojait.gabojaitspring.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ProfileCacheUtilityTest {
+
+    private final ProfileCacheUtility profileCacheUtility = new ProfileCacheUtility();
+    private final AtomicInteger loadCnt = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(profileCacheUtility, "ttl", 60000L);
+        ReflectionTestUtils.setField(profileCacheUtility, "maxSize", 100);
+    }
+
+    @Test
+    @DisplayName("캐시된 프로필은 다시 조회하지 않는다")
+    void givenCached_whenGet_thenReturn() {
+        // given
+        ProfileVO cached = profileCacheUtility.get(1L, loader(1L));
+
+        // when
+        ProfileVO profile = profileCacheUtility.get(1L, loader(1L));
+
+        // then
+        assertAll(
+                () -> assertThat(profile).isSameAs(cached),
+                () -> assertThat(loadCnt.get()).isEqualTo(1),
+                () -> assertThat(profileCacheUtility.getHitCnt()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("회원 프로필 무효화 후 조회하면 다시 조회한다")
+    void givenUserEvicted_whenGet_thenReturn() {
+        // given
+        ProfileVO cached = profileCacheUtility.get(1L, loader(1L));
+        profileCacheUtility.get(2L, loader(2L));
+
+        // when
+        profileCacheUtility.evictUser(1L);
+        ProfileVO profile = profileCacheUtility.get(1L, loader(1L));
+        profileCacheUtility.get(2L, loader(2L));
+
+        // then
+        assertAll(
+                () -> assertThat(profile).isNotSameAs(cached),
+                () -> assertThat(loadCnt.get()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("프로필에 포함된 팀을 무효화하면 다시 조회하고 포함되지 않은 팀은 영향이 없다")
+    void givenTeamEvicted_whenGet_thenReturn() {
+        // given
+        profileCacheUtility.get(1L, loader(1L));
+
+        // when
+        profileCacheUtility.evictTeam(2L);
+        profileCacheUtility.get(1L, loader(1L));
+        profileCacheUtility.evictTeam(1L);
+        profileCacheUtility.get(1L, loader(1L));
+
+        // then
+        assertThat(loadCnt.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화된 프로필은 다음 조회에서 다시 조회한다")
+    void givenEvictedWhileLoading_whenGet_thenReturn() {
+        // given
+        Supplier<ProfileVO> loader = loader(1L);
+        profileCacheUtility.get(1L, () -> {
+            profileCacheUtility.evictUser(1L);
+            return loader.get();
+        });
+
+        // when
+        profileCacheUtility.get(1L, loader(1L));
+
+        // then
+        assertThat(loadCnt.get()).isEqualTo(2);
+    }
+
+    private Supplier<ProfileVO> loader(long teamId) {
+        return () -> {
+            loadCnt.incrementAndGet();
+
+            return new ProfileVO(List.of(), List.of(), List.of(), List.of(), List.of(createTeamMember(teamId)),
+                    new PageData<>(List.of(), 0), 0);
+        };
+    }
+
+    private TeamMember createTeamMember(long teamId) {
+        Team team = Team.builder()
+                .projectName("가보자잇")
+                .projectDescription("프로젝트 설명입니다.")
+                .expectation("열정적인 팀원을 구해요")
+                .openChatUrl("kakao.com/o/gabojait")
+                .designerMaxCnt((byte) 2)
+                .backendMaxCnt((byte) 2)
+                .frontendMaxCnt((byte) 2)
+                .managerMaxCnt((byte) 2)
+                .build();
+        ReflectionTestUtils.setField(team, "id", teamId);
+
+        return TeamMember.builder()
+                .isLeader(true)
+                .position(Position.BACKEND)
+                .user(User.builder().username("tester").nickname("테스터").build())
+                .team(team)
+                .build();
+    }
+}
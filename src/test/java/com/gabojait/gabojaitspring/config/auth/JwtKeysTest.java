@@ -0,0 +1,104 @@
+package com.gabojait.gabojaitspring.config.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.gabojait.gabojaitspring.common.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.TOKEN_UNAUTHENTICATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeysTest {
+
+    @Test
+    @DisplayName("현재 키로 서명한 토큰을 검증한다")
+    void givenCurrentKey_whenVerify_thenReturn() {
+        // given
+        JwtKeys jwtKeys = new JwtKeys("key2", "secret2", "key1:secret1");
+        String token = JWT.create()
+                .withKeyId(jwtKeys.getKeyId())
+                .withSubject("1")
+                .sign(jwtKeys.getAlgorithm());
+
+        // when
+        DecodedJWT decodedJWT = jwtKeys.verify(token);
+
+        // then
+        assertThat(decodedJWT.getSubject()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("폐기 예정 키로 서명한 토큰을 검증한다")
+    void givenRetiredKey_whenVerify_thenReturn() {
+        // given
+        JwtKeys jwtKeys = new JwtKeys("key2", "secret2", "key1:secret1");
+        String token = sign("key1", "secret1");
+
+        // when
+        DecodedJWT decodedJWT = jwtKeys.verify(token);
+
+        // then
+        assertThat(decodedJWT.getKeyId()).isEqualTo("key1");
+    }
+
+    @Test
+    @DisplayName("키 식별자가 없는 토큰은 현재 키로 검증한다")
+    void givenNoKeyId_whenVerify_thenReturn() {
+        // given
+        JwtKeys jwtKeys = new JwtKeys("key2", "secret2", "");
+        String token = sign(null, "secret2");
+
+        // when
+        DecodedJWT decodedJWT = jwtKeys.verify(token);
+
+        // then
+        assertThat(decodedJWT.getKeyId()).isNull();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 키 식별자의 토큰을 검증하면 예외가 발생한다")
+    void givenUnknownKeyId_whenVerify_thenThrow() {
+        // given
+        JwtKeys jwtKeys = new JwtKeys("key2", "secret2", "");
+        String token = sign("key1", "secret1");
+
+        // when & then
+        assertThatThrownBy(() -> jwtKeys.verify(token))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(TOKEN_UNAUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("키 식별자와 다른 키로 서명한 토큰을 검증하면 예외가 발생한다")
+    void givenWrongSecret_whenVerify_thenThrow() {
+        // given
+        JwtKeys jwtKeys = new JwtKeys("key2", "secret2", "key1:secret1");
+        String token = sign("key1", "secret2");
+
+        // when & then
+        assertThatThrownBy(() -> jwtKeys.verify(token))
+                .isInstanceOf(SignatureVerificationException.class);
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 폐기 예정 키로 생성하면 예외가 발생한다")
+    void givenInvalidRetiredKeys_whenCreate_thenThrow() {
+        // when & then
+        assertThatThrownBy(() -> new JwtKeys("key2", "secret2", "secret1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String sign(String keyId, String secret) {
+        return JWT.create()
+                .withKeyId(keyId)
+                .withSubject("1")
+                .sign(Algorithm.HMAC256(secret.getBytes(StandardCharsets.UTF_8)));
+    }
+}
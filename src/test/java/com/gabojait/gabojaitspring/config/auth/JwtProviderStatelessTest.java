@@ -0,0 +1,138 @@
+package com.gabojait.gabojaitspring.config.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.gabojait.gabojaitspring.common.exception.CustomException;
+import com.gabojait.gabojaitspring.domain.user.*;
+import com.gabojait.gabojaitspring.repository.user.ContactRepository;
+import com.gabojait.gabojaitspring.repository.user.UserRepository;
+import com.gabojait.gabojaitspring.repository.user.UserRoleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.USER_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class JwtProviderStatelessTest {
+
+    @Autowired private JwtProvider jwtProvider;
+    @Autowired private ContactRepository contactRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private UserRoleRepository userRoleRepository;
+    @Value("${api.jwt.time.stateless-access}") private long statelessAccessTokenTime;
+    private final String tokenPrefix = "Bearer ";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtProvider, "isStateless", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(jwtProvider, "isStateless", false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("무상태 인증 모드에서 액세스 토큰은 짧은 유효 시간으로 생성된다")
+    void givenStateless_whenCreateJwt_thenReturn() {
+        // given
+        User user = createSavedDefaultUser(List.of(Role.USER));
+
+        // when
+        HttpHeaders headers = jwtProvider.createJwt(user.getId());
+
+        // then
+        DecodedJWT decodedJWT = JWT.decode(headers.get(AUTHORIZATION).get(0));
+        long validTime = decodedJWT.getExpiresAt().getTime() - decodedJWT.getIssuedAt().getTime();
+
+        assertThat(validTime).isEqualTo(statelessAccessTokenTime);
+    }
+
+    @Test
+    @DisplayName("무상태 인증 모드에서 액세스 토큰은 데이터베이스 조회 없이 클레임으로 인증한다")
+    void givenStatelessAccessToken_whenAuthenticate_thenReturn() {
+        // given
+        User user = createSavedDefaultUser(List.of(Role.USER, Role.ADMIN));
+        String accessToken = jwtProvider.createJwt(user.getId()).get(AUTHORIZATION).get(0);
+        userRoleRepository.deleteAll(userRoleRepository.findAll(user.getId()));
+
+        // when
+        jwtProvider.authenticate(tokenPrefix + accessToken, Jwt.ACCESS);
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        assertAll(
+                () -> assertThat(authentication.getName()).isEqualTo(user.getId().toString()),
+                () -> assertThat(authentication.getAuthorities())
+                        .extracting("authority")
+                        .containsExactlyInAnyOrder(Role.USER.name(), Role.ADMIN.name())
+        );
+    }
+
+    @Test
+    @DisplayName("무상태 인증 모드에서 권한이 삭제된 회원의 리프레시 토큰으로 인증하면 예외가 발생한다")
+    void givenStatelessRevokedRefreshToken_whenAuthenticate_thenThrow() {
+        // given
+        User user = createSavedDefaultUser(List.of(Role.USER));
+        String refreshToken = jwtProvider.createJwt(user.getId()).get("Refresh-Token").get(0);
+        userRoleRepository.deleteAll(userRoleRepository.findAll(user.getId()));
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.authenticate(tokenPrefix + refreshToken, Jwt.REFRESH))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(USER_NOT_FOUND);
+    }
+
+    private User createSavedDefaultUser(List<Role> roles) {
+        Contact contact = Contact.builder()
+                .email("tester@gabojait.com")
+                .verificationCode("000000")
+                .build();
+        contact.verified();
+        contactRepository.save(contact);
+
+        User user = User.builder()
+                .username("tester")
+                .password("password1!")
+                .nickname("테스터")
+                .gender(Gender.M)
+                .birthdate(LocalDate.of(1997, 2, 11))
+                .lastRequestAt(LocalDateTime.now())
+                .contact(contact)
+                .build();
+        user.updatePosition(Position.BACKEND);
+
+        userRepository.save(user);
+
+        roles.forEach(r -> userRoleRepository.save(UserRole.builder()
+                .user(user)
+                .role(r)
+                .build()));
+
+        return user;
+    }
+}
@@ -99,6 +99,65 @@ class JwtProviderTest {
                 .isEqualTo(USER_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("리프레시 토큰으로 Jwt를 재발급한다.")
+    void givenRefreshToken_whenRenewJwt_thenReturn() {
+        // given
+        User user = createSavedDefaultUser("tester@gabojait.com", "tester", "테스터", Position.BACKEND, List.of(Role.USER));
+        String refreshToken = jwtProvider.createJwt(user.getId()).get("Refresh-Token").get(0);
+
+        // when
+        HttpHeaders headers = jwtProvider.renewJwt(tokenPrefix + refreshToken);
+
+        // then
+        String renewedAccessToken = headers.get(AUTHORIZATION).get(0);
+        String renewedRefreshToken = headers.get("Refresh-Token").get(0);
+        jwtProvider.authenticate(tokenPrefix + renewedAccessToken, Jwt.ACCESS);
+        jwtProvider.authenticate(tokenPrefix + renewedRefreshToken, Jwt.REFRESH);
+    }
+
+    @Test
+    @DisplayName("이미 사용한 리프레시 토큰으로 Jwt를 재발급하면 패밀리 전체가 폐기되고 예외가 발생한다.")
+    void givenReusedRefreshToken_whenRenewJwt_thenThrow() {
+        // given
+        User user = createSavedDefaultUser("tester@gabojait.com", "tester", "테스터", Position.BACKEND, List.of(Role.USER));
+        String refreshToken = jwtProvider.createJwt(user.getId()).get("Refresh-Token").get(0);
+        String renewedRefreshToken = jwtProvider.renewJwt(tokenPrefix + refreshToken).get("Refresh-Token").get(0);
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.renewJwt(tokenPrefix + refreshToken))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(TOKEN_UNAUTHENTICATED);
+        assertThatThrownBy(() -> jwtProvider.authenticate(tokenPrefix + renewedRefreshToken, Jwt.REFRESH))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(TOKEN_UNAUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("Jwt를 폐기하면 같은 패밀리의 토큰으로 인증시 예외가 발생한다.")
+    void givenRevoked_whenAuthenticate_thenThrow() {
+        // given
+        User user = createSavedDefaultUser("tester@gabojait.com", "tester", "테스터", Position.BACKEND, List.of(Role.USER));
+        HttpHeaders headers = jwtProvider.createJwt(user.getId());
+        String accessToken = headers.get(AUTHORIZATION).get(0);
+        String refreshToken = headers.get("Refresh-Token").get(0);
+
+        // when
+        jwtProvider.revokeJwt(tokenPrefix + accessToken);
+
+        // then
+        assertThatThrownBy(() -> jwtProvider.authenticate(tokenPrefix + accessToken, Jwt.ACCESS))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(TOKEN_UNAUTHENTICATED);
+        assertThatThrownBy(() -> jwtProvider.renewJwt(tokenPrefix + refreshToken))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(TOKEN_UNAUTHENTICATED);
+    }
+
     @Test // TODO
     @DisplayName("")
     void authenticate() {
@@ -0,0 +1,94 @@
+package com.gabojait.gabojaitspring.config.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class UserDetailsCacheTest {
+
+    @Autowired private UserDetailsCache userDetailsCache;
+    private final AtomicInteger loadCnt = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCache.evictAll();
+        loadCnt.set(0);
+    }
+
+    @Test
+    @DisplayName("회원 상세 정보를 캐시에서 조회한다")
+    void givenCached_whenGet_thenReturn() {
+        // given
+        long userId = 1L;
+        long hitCnt = userDetailsCache.getHitCnt();
+        userDetailsCache.get(userId, loader("tester"));
+
+        // when
+        UserDetails userDetails = userDetailsCache.get(userId, loader("tester"));
+
+        // then
+        assertAll(
+                () -> assertThat(loadCnt.get()).isEqualTo(1),
+                () -> assertThat(userDetailsCache.getHitCnt()).isEqualTo(hitCnt + 1),
+                () -> assertThat(userDetails.getUsername()).isEqualTo("tester"),
+                () -> assertThat(userDetails.getPassword()).isEmpty(),
+                () -> assertThat(userDetails.getAuthorities())
+                        .extracting("authority")
+                        .containsExactly("USER")
+        );
+    }
+
+    @Test
+    @DisplayName("캐시 삭제 후 회원 상세 정보를 조회하면 다시 조회한다")
+    void givenEvicted_whenGet_thenReturn() {
+        // given
+        long userId = 1L;
+        userDetailsCache.get(userId, loader("tester"));
+
+        // when
+        userDetailsCache.evict(userId);
+        UserDetails userDetails = userDetailsCache.get(userId, loader("tester2"));
+
+        // then
+        assertAll(
+                () -> assertThat(loadCnt.get()).isEqualTo(2),
+                () -> assertThat(userDetails.getUsername()).isEqualTo("tester2")
+        );
+    }
+
+    @Test
+    @DisplayName("캐시 전체 삭제가 정상 작동한다")
+    void givenCached_whenEvictAll_thenReturn() {
+        // given
+        userDetailsCache.get(1L, loader("tester1"));
+        userDetailsCache.get(2L, loader("tester2"));
+
+        // when
+        userDetailsCache.evictAll();
+
+        // then
+        assertThat(userDetailsCache.getSize()).isZero();
+    }
+
+    private LongFunction<UserDetails> loader(String username) {
+        return userId -> {
+            loadCnt.incrementAndGet();
+            return new User(username, "password1!", List.of(new SimpleGrantedAuthority("USER")));
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package com.gabojait.gabojaitspring.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter = new RateLimitFilter(new ObjectMapper());
+        ReflectionTestUtils.setField(rateLimitFilter, "isEnabled", true);
+        ReflectionTestUtils.setField(rateLimitFilter, "contactCapacity", 1);
+        ReflectionTestUtils.setField(rateLimitFilter, "contactRefillPeriod", 60000L);
+        ReflectionTestUtils.setField(rateLimitFilter, "loginCapacity", 1);
+        ReflectionTestUtils.setField(rateLimitFilter, "loginRefillPeriod", 60000L);
+        ReflectionTestUtils.setField(rateLimitFilter, "usernameCapacity", 1);
+        ReflectionTestUtils.setField(rateLimitFilter, "usernameRefillPeriod", 60000L);
+        ReflectionTestUtils.setField(rateLimitFilter, "passwordCapacity", 1);
+        ReflectionTestUtils.setField(rateLimitFilter, "passwordRefillPeriod", 60000L);
+        rateLimitFilter.init();
+    }
+
+    @Test
+    @DisplayName("제한 이내의 요청은 본문을 유지한 채 통과한다")
+    void givenWithinLimit_whenDoFilter_thenReturn() throws ServletException, IOException {
+        // given
+        String body = "{\"username\":\"tester\",\"password\":\"password1!\"}";
+        MockHttpServletRequest request = createRequest("/api/v1/user/login", "127.0.0.1", body);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // then
+        String passedBody = StreamUtils.copyToString(filterChain.getRequest().getInputStream(),
+                StandardCharsets.UTF_8);
+
+        assertAll(
+                () -> assertThat(response.getStatus()).isEqualTo(200),
+                () -> assertThat(passedBody).isEqualTo(body)
+        );
+    }
+
+    @Test
+    @DisplayName("통과한 요청의 본문에 읽기 리스너를 등록하면 바로 읽기 가능과 읽기 완료를 알린다")
+    void givenWithinLimit_whenSetReadListener_thenNotify() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = createRequest("/api/v1/user/login", "127.0.0.1", "{\"username\":\"tester\"}");
+        MockFilterChain filterChain = new MockFilterChain();
+        rateLimitFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        ReadListener readListener = mock(ReadListener.class);
+
+        // when
+        filterChain.getRequest().getInputStream().setReadListener(readListener);
+
+        // then
+        InOrder inOrder = inOrder(readListener);
+        inOrder.verify(readListener).onDataAvailable();
+        inOrder.verify(readListener).onAllDataRead();
+        verify(readListener, never()).onError(any());
+    }
+
+    @Test
+    @DisplayName("같은 IP에서 제한을 초과한 요청은 429를 반환한다")
+    void givenExceededIp_whenDoFilter_thenReturn() throws ServletException, IOException {
+        // given
+        rateLimitFilter.doFilter(createRequest("/api/v1/contact", "127.0.0.1", "{\"email\":\"a@gabojait.com\"}"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(createRequest("/api/v1/contact", "127.0.0.1", "{\"email\":\"b@gabojait.com\"}"),
+                response, filterChain);
+
+        // then
+        assertAll(
+                () -> assertThat(response.getStatus()).isEqualTo(429),
+                () -> assertThat(response.getHeader(RETRY_AFTER)).isEqualTo("60"),
+                () -> assertThat(response.getContentAsString()).contains("REQUEST_LIMIT_EXCEEDED"),
+                () -> assertThat(filterChain.getRequest()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("다른 IP에서 같은 아이디로 제한을 초과한 요청은 429를 반환한다")
+    void givenExceededKey_whenDoFilter_thenReturn() throws ServletException, IOException {
+        // given
+        rateLimitFilter.doFilter(createRequest("/api/v1/user/login", "127.0.0.1", "{\"username\":\"tester\"}"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        rateLimitFilter.doFilter(createRequest("/api/v1/user/login", "127.0.0.2", "{\"username\":\"Tester\"}"),
+                response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Content-Length 없이 전송한 요청도 같은 아이디로 제한을 초과하면 429를 반환한다")
+    void givenChunkedExceededKey_whenDoFilter_thenReturn() throws ServletException, IOException {
+        // given
+        rateLimitFilter.doFilter(createChunkedRequest("/api/v1/user/login", "127.0.0.1", "{\"username\":\"tester\"}"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(createChunkedRequest("/api/v1/user/login", "127.0.0.2", "{\"username\":\"tester\"}"),
+                response, filterChain);
+
+        // then
+        assertAll(
+                () -> assertThat(response.getStatus()).isEqualTo(429),
+                () -> assertThat(filterChain.getRequest()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("최대 크기를 초과한 본문의 요청은 Content-Length 여부와 관계없이 413을 반환한다")
+    void givenPaddedBody_whenDoFilter_thenReturn() throws ServletException, IOException {
+        // given
+        String body = "{\"username\":\"tester\",\"padding\":\"" + "a".repeat(4096) + "\"}";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletResponse chunkedResponse = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        MockFilterChain chunkedFilterChain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(createRequest("/api/v1/user/login", "127.0.0.1", body), response, filterChain);
+        rateLimitFilter.doFilter(createChunkedRequest("/api/v1/user/login", "127.0.0.2", body), chunkedResponse,
+                chunkedFilterChain);
+
+        // then
+        assertAll(
+                () -> assertThat(response.getStatus()).isEqualTo(413),
+                () -> assertThat(response.getContentAsString()).contains("REQUEST_SIZE_EXCEED"),
+                () -> assertThat(filterChain.getRequest()).isNull(),
+                () -> assertThat(chunkedResponse.getStatus()).isEqualTo(413),
+                () -> assertThat(chunkedFilterChain.getRequest()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("제한 대상이 아닌 요청은 제한하지 않는다")
+    void givenNotLimited_whenDoFilter_thenReturn() throws ServletException, IOException {
+        // given
+        rateLimitFilter.doFilter(createRequest("/api/v1/user/token", "127.0.0.1", "{}"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        rateLimitFilter.doFilter(createRequest("/api/v1/user/token", "127.0.0.1", "{}"), response,
+                new MockFilterChain());
+
+        // then
+        assertAll(
+                () -> assertThat(response.getStatus()).isEqualTo(200),
+                () -> assertThat(rateLimitFilter.getBucketSize()).isZero()
+        );
+    }
+
+    private MockHttpServletRequest createRequest(String uri, String ip, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        return request;
+    }
+
+    private MockHttpServletRequest createChunkedRequest(String uri, String ip, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.addHeader("Transfer-Encoding", "chunked");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        return request;
+    }
+}
@@ -0,0 +1,76 @@
+package com.gabojait.gabojaitspring.config.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TokenBucketTableTest {
+
+    @Test
+    @DisplayName("버킷 용량만큼 토큰 소비가 정상 작동한다")
+    void givenCapacity_whenTryConsume_thenReturn() {
+        // given
+        TokenBucketTable tokenBucketTable = new TokenBucketTable();
+        long now = 1000L;
+
+        // when
+        long waitTime1 = tokenBucketTable.tryConsume("key", 2, 100L, now);
+        long waitTime2 = tokenBucketTable.tryConsume("key", 2, 100L, now);
+        long waitTime3 = tokenBucketTable.tryConsume("key", 2, 100L, now);
+
+        // then
+        assertAll(
+                () -> assertThat(waitTime1).isZero(),
+                () -> assertThat(waitTime2).isZero(),
+                () -> assertThat(waitTime3).isEqualTo(100L)
+        );
+    }
+
+    @Test
+    @DisplayName("토큰이 다시 채워진 후 토큰 소비가 정상 작동한다")
+    void givenRefilled_whenTryConsume_thenReturn() {
+        // given
+        TokenBucketTable tokenBucketTable = new TokenBucketTable();
+        long now = 1000L;
+        tokenBucketTable.tryConsume("key", 1, 100L, now);
+
+        // when
+        long waitTime = tokenBucketTable.tryConsume("key", 1, 100L, now + 100L);
+
+        // then
+        assertThat(waitTime).isZero();
+    }
+
+    @Test
+    @DisplayName("서로 다른 키의 버킷은 독립적으로 작동한다")
+    void givenDifferentKey_whenTryConsume_thenReturn() {
+        // given
+        TokenBucketTable tokenBucketTable = new TokenBucketTable();
+        long now = 1000L;
+        tokenBucketTable.tryConsume("key1", 1, 100L, now);
+
+        // when
+        long waitTime = tokenBucketTable.tryConsume("key2", 1, 100L, now);
+
+        // then
+        assertThat(waitTime).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰이 모두 채워진 유휴 버킷 삭제가 정상 작동한다")
+    void givenIdle_whenEvictIdle_thenReturn() {
+        // given
+        TokenBucketTable tokenBucketTable = new TokenBucketTable();
+        long now = 1000L;
+        tokenBucketTable.tryConsume("key1", 1, 100L, now);
+        tokenBucketTable.tryConsume("key2", 1, 1000L, now);
+
+        // when
+        int size = tokenBucketTable.evictIdle(now + 100L);
+
+        // then
+        assertThat(size).isEqualTo(1);
+    }
+}
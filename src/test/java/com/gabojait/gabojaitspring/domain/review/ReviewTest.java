@@ -44,7 +44,9 @@ class ReviewTest {
                 () -> assertThat(review)
                         .extracting("rating", "post", "isDeleted", "reviewer", "reviewee")
                         .containsExactly(rating, post, false, reviewer, reviewee),
-                () -> assertThat(user2.getRating()).isEqualTo(rating)
+                () -> assertThat(user2)
+                        .extracting("rating", "reviewCnt")
+                        .containsExactly(0F, 0)
         );
     }
 
@@ -10,16 +10,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static com.gabojait.gabojaitspring.common.constant.code.ErrorCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 class TeamTest {
 
@@ -242,6 +242,53 @@ class TeamTest {
                 .isEqualTo(TEAM_POSITION_UNAVAILABLE);
     }
 
+    @Test
+    @DisplayName("팀 합류와 탈퇴 시 모집 중인 포지션 비트가 다시 계산된다")
+    void givenJoinAndLeave_whenGetOpenPositions_thenReturn() {
+        // given
+        Team team = createTeam("가보자잇", "가보자잇입니다", "열정적인 사람을 구합니다.", "kakao.com/o/gabojait", (byte) 1, (byte) 1,
+                (byte) 0, (byte) 1);
+        byte created = team.getOpenPositions();
+
+        // when
+        team.join(Position.BACKEND);
+        byte joined = team.getOpenPositions();
+        team.leave(Position.BACKEND);
+        byte left = team.getOpenPositions();
+
+        // then
+        assertThat(created).isEqualTo((byte) 0b1011);
+        assertThat(joined).isEqualTo((byte) 0b1001);
+        assertThat(left).isEqualTo((byte) 0b1011);
+    }
+
+    @Test
+    @DisplayName("팀 업데이트 시 모집 중인 포지션 비트가 다시 계산된다")
+    void givenValid_whenUpdate_thenOpenPositionsReturn() {
+        // given
+        Team team = createTeam("가보자잇", "가보자잇입니다", "열정적인 사람을 구합니다.", "kakao.com/o/gabojait", (byte) 0, (byte) 0,
+                (byte) 0, (byte) 0);
+
+        // when
+        team.update("가볼까잇", "가볼까잇입니다", "열정적인 사람을 구합니다.", (byte) 0, (byte) 0, (byte) 2, (byte) 0);
+
+        // then
+        assertThat(team.getOpenPositions()).isEqualTo((byte) Team.getPositionBit(Position.FRONTEND));
+    }
+
+    @Test
+    @DisplayName("포지션 비트는 저장된 모집 중인 포지션 값과 같은 고정 값이다")
+    void givenPosition_whenGetPositionBit_thenReturn() {
+        // when & then
+        assertAll(
+                () -> assertThat(Team.getPositionBit(Position.DESIGNER)).isEqualTo(1),
+                () -> assertThat(Team.getPositionBit(Position.BACKEND)).isEqualTo(2),
+                () -> assertThat(Team.getPositionBit(Position.FRONTEND)).isEqualTo(4),
+                () -> assertThat(Team.getPositionBit(Position.MANAGER)).isEqualTo(8),
+                () -> assertThat(Team.getPositionBit(Position.NONE)).isZero()
+        );
+    }
+
     private static Stream<Arguments> providerLeave() {
         return Stream.of(
                 Arguments.of(Position.DESIGNER, (byte) 1, (byte) 0, (byte) 0, (byte) 0),
@@ -329,22 +376,6 @@ class TeamTest {
         assertThat(result).isTrue();
     }
 
-    @ParameterizedTest(name = "[{index}] {0}번 팀 프로필을 방문한다")
-    @ValueSource(longs = {1, 3, 5, 7, 10})
-    @DisplayName("팀 프로필을 방문이 정상 작동한다")
-    void givenValid_whenVisited_thenReturn(long visitCnt) {
-        // given
-        Team team = createTeam("가보자잇", "가보자잇입니다", "열정적인 사람을 구합니다.", "kakao.com/o/gabojait", (byte) 2, (byte) 2,
-                (byte) 2, (byte) 2);
-
-        // when
-        LongStream.range(0, visitCnt)
-                .forEach(i -> team.visit());
-
-        // then
-        assertThat(team.getVisitedCnt()).isEqualTo(visitCnt);
-    }
-
     @Test
     @DisplayName("프로젝트 미완료가 정상 작동한다")
     void givenValid_whenIncomplete_thenReturn() {
@@ -447,7 +478,7 @@ class TeamTest {
                 (byte) 2, (byte) 2, (byte) 2, (byte) 2);
         Team visitCntTeam2 = createTeam("가보자잇", "가보자잇입니다", "열정적인 사람을 구합니다.", "kakao.com/o/gabojait",
                 (byte) 2, (byte) 2, (byte) 2, (byte) 2);
-        visitCntTeam2.visit();
+        ReflectionTestUtils.setField(visitCntTeam2, "visitedCnt", 1L);
 
         Team isRecruitingTeam1 = createTeam("가보자잇", "가보자잇입니다", "열정적인 사람을 구합니다.", "kakao.com/o/gabojait",
                 (byte) 2, (byte) 2, (byte) 2, (byte) 2);
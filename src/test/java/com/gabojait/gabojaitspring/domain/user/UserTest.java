@@ -7,10 +7,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -320,48 +320,21 @@ class UserTest {
                         false, true);
     }
 
-    @ParameterizedTest(name = "[{index}] {0}번 회원 프로필을 방문한다")
-    @ValueSource(longs = {1, 3, 5, 7, 10})
-    @DisplayName("회원 프로필 방문이 정상 작동한다")
-    void givenValid_whenVisit_thenReturn(long visitCnt) {
-        // given
-        String username = "tester";
-        String password = "password1!";
-        String nickname = "테스터";
-        Gender gender = Gender.M;
-        LocalDate birthdate = LocalDate.of(1997, 2, 11);
-        LocalDateTime lastRequestAt = LocalDateTime.now();
-        Contact contact = createDefaultContact("tester@gabojait.com");
-        User user = createUser(username, password, nickname, gender, birthdate, lastRequestAt, contact);
-
-        // when
-        LongStream.range(0, visitCnt)
-                .forEach(i -> user.visit());
-
-        // then
-        assertThat(user)
-                .extracting("username", "password", "nickname", "profileDescription", "imageUrl", "birthdate",
-                        "lastRequestAt", "gender", "position", "rating", "visitedCnt", "reviewCnt", "isSeekingTeam",
-                        "isTemporaryPassword", "isNotified")
-                .containsExactly(username, password, nickname, null, null, birthdate,
-                        lastRequestAt, gender, Position.NONE, 0F, visitCnt, 0, true,
-                        false, true);
-    }
-
     private static Stream<Arguments> providerRate() {
         return Stream.of(
-                Arguments.of(new float[] {1, 1, 1}, 1F),
-                Arguments.of(new float[] {1, 3, 2}, 2F),
-                Arguments.of(new float[] {1, 2, 3, 4, 5}, 3F),
-                Arguments.of(new float[] {3, 4, 5}, 4F),
-                Arguments.of(new float[] {5, 5, 5}, 5F)
+                Arguments.of(new int[] {1, 1, 1}, 1F),
+                Arguments.of(new int[] {1, 3, 2}, 2F),
+                Arguments.of(new int[] {1, 2, 3, 4, 5}, 3F),
+                Arguments.of(new int[] {3, 4, 5}, 4F),
+                Arguments.of(new int[] {5, 5, 5}, 5F),
+                Arguments.of(new int[] {4, 5, 5}, 14F / 3)
         );
     }
 
     @ParameterizedTest(name = "[{index}] {1}로 회원 평점을 업데이트한다")
     @MethodSource("providerRate")
     @DisplayName("회원 평점 업데이트가 정상 작동한다")
-    void givenProvider_whenRate_thenReturn(float[] ratings, float averageRating) {
+    void givenProvider_whenRate_thenReturn(int[] ratings, float averageRating) {
         // given
         String username = "tester";
         String password = "password1!";
@@ -373,8 +346,8 @@ class UserTest {
         User user = createUser(username, password, nickname, gender, birthdate, lastRequestAt, contact);
 
         // when
-        for (float r : ratings)
-            user.rate(r);
+        for (int r : ratings)
+            user.rate(r, 1);
 
         // then
         assertThat(user)
@@ -425,21 +398,20 @@ class UserTest {
                 contact);
         User ratingUser2 = createUser("tester", "password1!", "테스터", Gender.M, LocalDate.of(1997, 2, 11), now,
                 contact);
-        ratingUser2.rate(5F);
+        ratingUser2.rate(5, 1);
 
         User visitUser1 = createUser("tester", "password1!", "테스터", Gender.M, LocalDate.of(1997, 2, 11), now,
                 contact);
         User visitUser2 = createUser("tester", "password1!", "테스터", Gender.M, LocalDate.of(1997, 2, 11), now,
                 contact);
-        visitUser2.visit();
+        ReflectionTestUtils.setField(visitUser2, "visitedCnt", 1L);
 
         User reviewCntUser1 = createUser("tester", "password1!", "테스터", Gender.M, LocalDate.of(1997, 2, 11),
                 now, contact);
-        reviewCntUser1.rate(1F);
+        reviewCntUser1.rate(1, 1);
         User reviewCntUser2 = createUser("tester", "password1!", "테스터", Gender.M, LocalDate.of(1997, 2, 11),
                 now, contact);
-        reviewCntUser2.rate(1F);
-        reviewCntUser2.rate(1F);
+        reviewCntUser2.rate(2, 2);
 
         User isSeekingTeamUser1 = createUser("tester", "password1!", "테스터", Gender.M, LocalDate.of(1997, 2, 11),
                 now, contact);
@@ -0,0 +1,334 @@
+package com.gabojait.gabojaitspring.repository;
+
+import com.gabojait.gabojaitspring.common.log.QueryCounter;
+import com.gabojait.gabojaitspring.domain.favorite.Favorite;
+import com.gabojait.gabojaitspring.domain.notification.DeepLinkType;
+import com.gabojait.gabojaitspring.domain.notification.Notification;
+import com.gabojait.gabojaitspring.domain.offer.Offer;
+import com.gabojait.gabojaitspring.domain.offer.OfferedBy;
+import com.gabojait.gabojaitspring.domain.review.Review;
+import com.gabojait.gabojaitspring.domain.team.Team;
+import com.gabojait.gabojaitspring.domain.team.TeamMember;
+import com.gabojait.gabojaitspring.domain.team.TeamMemberStatus;
+import com.gabojait.gabojaitspring.domain.user.Contact;
+import com.gabojait.gabojaitspring.domain.user.Gender;
+import com.gabojait.gabojaitspring.domain.user.Position;
+import com.gabojait.gabojaitspring.domain.user.User;
+import com.gabojait.gabojaitspring.repository.favorite.FavoriteRepository;
+import com.gabojait.gabojaitspring.repository.notification.FcmRepository;
+import com.gabojait.gabojaitspring.repository.notification.NotificationRepository;
+import com.gabojait.gabojaitspring.repository.offer.OfferRepository;
+import com.gabojait.gabojaitspring.repository.profile.EducationRepository;
+import com.gabojait.gabojaitspring.repository.profile.PortfolioRepository;
+import com.gabojait.gabojaitspring.repository.profile.SkillRepository;
+import com.gabojait.gabojaitspring.repository.profile.WorkRepository;
+import com.gabojait.gabojaitspring.repository.review.ReviewRepository;
+import com.gabojait.gabojaitspring.repository.team.TeamMemberRepository;
+import com.gabojait.gabojaitspring.repository.team.TeamRepository;
+import com.gabojait.gabojaitspring.repository.user.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.gabojait.gabojaitspring.common.util.PageCountUtility.FIRST_PAGE_FROM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 쿼리 실행 계획 테스트 |
+ * 저장소 메소드가 실행한 쿼리마다 EXPLAIN을 실행하여 전체 테이블 스캔이 있으면 실패한다.
+ * 페이지 조회는 전체 개수가 0이면 목록 쿼리를 실행하지 않으므로 조건을 만족하는 데이터를 미리 저장한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class QueryPlanTest {
+
+    private static final Pattern indexPattern = Pattern.compile("CREATE INDEX (\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern commentPattern = Pattern.compile("^\\s*(/\\*.*?\\*/\\s*)*", Pattern.DOTALL);
+
+    @Autowired private ContactRepository contactRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private UserRoleRepository userRoleRepository;
+    @Autowired private RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private TeamMemberRepository teamMemberRepository;
+    @Autowired private OfferRepository offerRepository;
+    @Autowired private FavoriteRepository favoriteRepository;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private FcmRepository fcmRepository;
+    @Autowired private ReviewRepository reviewRepository;
+    @Autowired private EducationRepository educationRepository;
+    @Autowired private PortfolioRepository portfolioRepository;
+    @Autowired private SkillRepository skillRepository;
+    @Autowired private WorkRepository workRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private User user1;
+    private User user2;
+    private Team team1;
+    private Team team2;
+
+    @BeforeEach
+    void setUp() {
+        user1 = createSavedDefaultUser("tester1@gabojait.com", "tester1", "테스터일");
+        user2 = createSavedDefaultUser("tester2@gabojait.com", "tester2", "테스터이");
+
+        team1 = createSavedTeam("가보자잇");
+        createSavedTeamMember(Position.BACKEND, true, user1, team1);
+
+        team2 = createSavedTeam("가볼까잇");
+        TeamMember teamMember1 = createSavedTeamMember(Position.BACKEND, true, user1, team2);
+        TeamMember teamMember2 = createSavedTeamMember(Position.FRONTEND, false, user2, team2);
+        teamMember1.complete("github.com/gabojait", LocalDateTime.now());
+        teamMember2.complete("github.com/gabojait", LocalDateTime.now());
+
+        reviewRepository.save(Review.builder()
+                .rating((byte) 5)
+                .post("좋아요.")
+                .reviewer(teamMember2)
+                .reviewee(teamMember1)
+                .build());
+        offerRepository.saveAll(List.of(
+                Offer.builder().offeredBy(OfferedBy.LEADER).position(Position.BACKEND).user(user2).team(team1).build(),
+                Offer.builder().offeredBy(OfferedBy.USER).position(Position.BACKEND).user(user2).team(team1).build()
+        ));
+        favoriteRepository.saveAll(List.of(
+                Favorite.builder().user(user1).favoriteUser(user2).build(),
+                Favorite.builder().user(user1).favoriteTeam(team1).build()
+        ));
+        notificationRepository.save(Notification.builder()
+                .user(user1)
+                .title("알림")
+                .body("알림입니다.")
+                .deepLinkType(DeepLinkType.HOME_PAGE)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("회원 저장소 쿼리는 전체 테이블 스캔을 하지 않는다")
+    void givenUserQueries_whenExplain_thenNoTableScan() {
+        long userId = user1.getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        assertNoTableScan(() -> userRepository.findPage(Position.NONE, FIRST_PAGE_FROM, 20));
+        assertNoTableScan(() -> userRepository.findPage(Position.FRONTEND, FIRST_PAGE_FROM, 20));
+        assertNoTableScan(() -> userRepository.findPageRanked(List.of(userId, user2.getId()), 1000, 0, 20));
+        assertNoTableScan(() -> userRepository.findAllSeekingTeamAfter(0L, 1000));
+        assertNoTableScan(() -> userRepository.findAllSeekingTeamIn(List.of(userId, user2.getId())));
+        assertNoTableScan(() -> userRepository.findSeekingTeam(userId));
+        assertNoTableScan(() -> userRepository.find("tester1@gabojait.com"));
+        assertNoTableScan(() -> userRoleRepository.findAll("tester1"));
+        assertNoTableScan(() -> userRoleRepository.findAll(userId));
+        assertNoTableScan(() -> refreshTokenFamilyRepository.existsRevoked("family"));
+        assertNoTableScan(() -> refreshTokenFamilyRepository.findAllRevokedFamilyId(now));
+        assertNoTableScan(() -> refreshTokenFamilyRepository.revoke("family", now));
+        assertNoTableScan(() -> refreshTokenFamilyRepository.deleteAll(userId));
+        assertNoTableScan(() -> refreshTokenFamilyRepository.deleteExpired(now));
+    }
+
+    @Test
+    @DisplayName("프로필 저장소 쿼리는 전체 테이블 스캔을 하지 않는다")
+    void givenProfileQueries_whenExplain_thenNoTableScan() {
+        long userId = user1.getId();
+
+        assertNoTableScan(() -> educationRepository.findAll(userId));
+        assertNoTableScan(() -> portfolioRepository.findAll(userId));
+        assertNoTableScan(() -> skillRepository.findAll(userId));
+        assertNoTableScan(() -> skillRepository.findAllInFetchUser(List.of(userId, user2.getId())));
+        assertNoTableScan(() -> skillRepository.findAllAfter(0L, 1000));
+        assertNoTableScan(() -> workRepository.findAll(userId));
+    }
+
+    @Test
+    @DisplayName("팀 저장소 쿼리는 전체 테이블 스캔을 하지 않는다")
+    void givenTeamQueries_whenExplain_thenNoTableScan() {
+        long userId = user1.getId();
+        long teamId = team1.getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        assertNoTableScan(() -> teamRepository.findPage(Position.NONE, FIRST_PAGE_FROM, 20));
+        assertNoTableScan(() -> teamRepository.findPage(Position.BACKEND, FIRST_PAGE_FROM, 20));
+        assertNoTableScan(() -> teamRepository.findAllRecruiting());
+        assertNoTableScan(() -> teamRepository.findAllRecruitingIn(List.of(teamId, team2.getId()), Position.BACKEND));
+        assertNoTableScan(() -> teamRepository.findAllOpenPositionsMismatch(0L, 500));
+        assertNoTableScan(() -> teamMemberRepository.findAllFetchTeam(userId));
+        assertNoTableScan(() -> teamMemberRepository.findAll(userId));
+        assertNoTableScan(() -> teamMemberRepository.findCurrentFetchTeam(userId));
+        assertNoTableScan(() -> teamMemberRepository.find(userId, teamId, TeamMemberStatus.PROGRESS));
+        assertNoTableScan(() -> teamMemberRepository.findLeaderFetchUser(teamId));
+        assertNoTableScan(() -> teamMemberRepository.findAllCompleteFetchTeam(team2.getId()));
+        assertNoTableScan(() -> teamMemberRepository.findAllCurrentFetchUser(teamId));
+        assertNoTableScan(() -> teamMemberRepository.findAllFetchUser(teamId));
+        assertNoTableScan(() -> teamMemberRepository.findAllExceptUserFetchUser(teamId, userId));
+        assertNoTableScan(() -> teamMemberRepository.findReviewableFetchTeam(userId, team2.getId(), now));
+        assertNoTableScan(() -> teamMemberRepository.findAllReviewableFetchTeam(userId, now));
+        assertNoTableScan(() -> teamMemberRepository.existsCurrent(userId));
+        assertNoTableScan(() -> teamMemberRepository.exists(userId, teamId));
+    }
+
+    @Test
+    @DisplayName("제안 저장소 쿼리는 전체 테이블 스캔을 하지 않는다")
+    void givenOfferQueries_whenExplain_thenNoTableScan() {
+        long userId = user2.getId();
+        long teamId = team1.getId();
+
+        assertNoTableScan(() -> offerRepository.findAllByUserId(userId, user1.getId()));
+        assertNoTableScan(() -> offerRepository.findAllInUserIds(List.of(userId), user1.getId()));
+        assertNoTableScan(() -> offerRepository.findAllByTeamId(userId, teamId));
+        assertNoTableScan(() -> offerRepository.findAllRecruitingTeam());
+        assertNoTableScan(() -> offerRepository.findFetchTeam(userId, 1L, OfferedBy.LEADER));
+        assertNoTableScan(() -> offerRepository.findFetchUser(teamId, 1L, OfferedBy.USER));
+        assertNoTableScan(() -> offerRepository.findPageFetchUser(userId, OfferedBy.LEADER, FIRST_PAGE_FROM, 20));
+        assertNoTableScan(() -> offerRepository.findPageFetchTeam(teamId, Position.BACKEND, OfferedBy.USER,
+                FIRST_PAGE_FROM, 20));
+    }
+
+    @Test
+    @DisplayName("찜, 알림, 리뷰 저장소 쿼리는 전체 테이블 스캔을 하지 않는다")
+    void givenFavoriteNotificationReviewQueries_whenExplain_thenNoTableScan() {
+        long userId = user1.getId();
+        long teamId = team1.getId();
+
+        assertNoTableScan(() -> favoriteRepository.existsUser(userId, user2.getId()));
+        assertNoTableScan(() -> favoriteRepository.existsTeam(userId, teamId));
+        assertNoTableScan(() -> favoriteRepository.findUser(userId, user2.getId()));
+        assertNoTableScan(() -> favoriteRepository.findTeam(userId, teamId));
+        assertNoTableScan(() -> favoriteRepository.findPageUser(userId, FIRST_PAGE_FROM, 20));
+        assertNoTableScan(() -> favoriteRepository.findPageTeam(userId, FIRST_PAGE_FROM, 20));
+        assertNoTableScan(() -> notificationRepository.findPage(userId, FIRST_PAGE_FROM, 20));
+        assertNoTableScan(() -> notificationRepository.findUnread(userId, 1L));
+        assertNoTableScan(() -> fcmRepository.findAllTeam(teamId));
+        assertNoTableScan(() -> fcmRepository.findAllUser(userId));
+        assertNoTableScan(() -> fcmRepository.findAllTeamExceptUser(teamId, userId));
+        assertNoTableScan(() -> reviewRepository.findPage(userId, FIRST_PAGE_FROM, 20));
+        assertNoTableScan(() -> reviewRepository.exists(user2.getId(), team2.getId()));
+        assertNoTableScan(() -> reviewRepository.countPrevious(userId, FIRST_PAGE_FROM));
+    }
+
+    @Test
+    @DisplayName("마이그레이션의 모든 인덱스가 스키마에 존재한다")
+    void givenMigrations_whenFindIndex_thenExist() throws IOException {
+        // given
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql");
+        List<String> indexNames = new ArrayList<>();
+        for (Resource migration : migrations) {
+            String content = StreamUtils.copyToString(migration.getInputStream(), StandardCharsets.UTF_8);
+            Matcher matcher = indexPattern.matcher(content);
+            while (matcher.find())
+                indexNames.add(matcher.group(1).toUpperCase(Locale.ROOT));
+        }
+
+        // when
+        List<String> schemaIndexNames = jdbcTemplate.queryForList(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES", String.class);
+
+        // then
+        assertThat(indexNames).isNotEmpty();
+        assertThat(schemaIndexNames).containsAll(indexNames);
+    }
+
+    private void assertNoTableScan(Runnable query) {
+        QueryCounter.start("explain");
+        QueryCounter counter;
+        try {
+            query.run();
+        } finally {
+            counter = QueryCounter.end();
+        }
+
+        assertThat(counter.getStatements()).isNotEmpty();
+
+        for (String sql : counter.getStatements()) {
+            String statement = commentPattern.matcher(sql).replaceFirst("").toLowerCase(Locale.ROOT);
+            if (!statement.startsWith("select") && !statement.startsWith("update") && !statement.startsWith("delete"))
+                continue;
+
+            assertThat(explain(sql)).as(sql).doesNotContain("tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement ps) -> {
+            int parameterCnt = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCnt; i++)
+                ps.setObject(i, null);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        });
+    }
+
+    private TeamMember createSavedTeamMember(Position position, boolean isLeader, User user, Team team) {
+        TeamMember teamMember = TeamMember.builder()
+                .position(position)
+                .isLeader(isLeader)
+                .user(user)
+                .team(team)
+                .build();
+
+        return teamMemberRepository.save(teamMember);
+    }
+
+    private Team createSavedTeam(String projectName) {
+        Team team = Team.builder()
+                .projectName(projectName)
+                .projectDescription("프로젝트 설명")
+                .expectation("내용입니다.")
+                .openChatUrl("kakao.com/o/project")
+                .designerMaxCnt((byte) 2)
+                .backendMaxCnt((byte) 2)
+                .frontendMaxCnt((byte) 2)
+                .managerMaxCnt((byte) 2)
+                .build();
+
+        return teamRepository.save(team);
+    }
+
+    private User createSavedDefaultUser(String email, String username, String nickname) {
+        Contact contact = Contact.builder()
+                .email(email)
+                .verificationCode("000000")
+                .build();
+        contact.verified();
+        contactRepository.save(contact);
+
+        User user = User.builder()
+                .username(username)
+                .password("password1!")
+                .nickname(nickname)
+                .gender(Gender.M)
+                .birthdate(LocalDate.of(1997, 2, 11))
+                .lastRequestAt(LocalDateTime.now())
+                .contact(contact)
+                .build();
+
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,122 @@
+package com.gabojait.gabojaitspring.repository.profile;
+
+import com.gabojait.gabojaitspring.domain.profile.Level;
+import com.gabojait.gabojaitspring.domain.profile.Skill;
+import com.gabojait.gabojaitspring.domain.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SkillIndexTest {
+
+    private final SkillIndex skillIndex = new SkillIndex();
+
+    @Test
+    @DisplayName("여러 기술로 검색하면 모든 기술을 최소 레벨 이상으로 가진 회원 식별자를 내림차순으로 반환한다")
+    void givenRebuilt_whenSearch_thenReturn() {
+        // given
+        User user1 = createUser(1L);
+        User user2 = createUser(2L);
+        User user3 = createUser(3L);
+        List<Skill> skills = List.of(
+                createSkill(1L, "Spring", Level.HIGH, user1),
+                createSkill(2L, "JPA", Level.MID, user1),
+                createSkill(3L, "spring", Level.MID, user2),
+                createSkill(4L, "React", Level.HIGH, user2),
+                createSkill(5L, "Spring", Level.LOW, user3),
+                createSkill(6L, "JPA", Level.HIGH, user3)
+        );
+        rebuild(skills);
+
+        // when
+        List<Long> springUserIds = skillIndex.search(List.of("Spring"), Level.MID);
+        List<Long> springJpaUserIds = skillIndex.search(List.of("스프링", "jpa"), Level.LOW);
+        List<Long> highUserIds = skillIndex.search(List.of("SPRING", "JPA"), Level.HIGH);
+        List<Long> unknownUserIds = skillIndex.search(List.of("Spring", "Django"), Level.LOW);
+
+        // then
+        assertAll(
+                () -> assertThat(springUserIds).containsExactly(2L, 1L),
+                () -> assertThat(springJpaUserIds).containsExactly(3L, 1L),
+                () -> assertThat(highUserIds).isEmpty(),
+                () -> assertThat(unknownUserIds).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("회원 기술을 반영하면 이전 기술은 제외되고 새 기술로 검색된다")
+    void givenUpdatedSkills_whenSearch_thenReturn() {
+        // given
+        User user1 = createUser(1L);
+        User user2 = createUser(2L);
+        rebuild(List.of(
+                createSkill(1L, "Java", Level.MID, user1),
+                createSkill(2L, "Java", Level.MID, user2)
+        ));
+
+        // when
+        skillIndex.update(1L, List.of(createSkill(3L, "Node.js", Level.HIGH, user1)));
+        skillIndex.update(2L, List.of());
+
+        // then
+        assertAll(
+                () -> assertThat(skillIndex.search(List.of("java"), Level.LOW)).isEmpty(),
+                () -> assertThat(skillIndex.search(List.of("node"), Level.HIGH)).containsExactly(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("재구성 중 반영된 회원 기술 변경은 재구성 결과에 다시 적용된다")
+    void givenUpdatedWhileRebuilding_whenRebuild_thenReturn() {
+        // given
+        User user1 = createUser(1L);
+        User user2 = createUser(2L);
+        rebuild(List.of(createSkill(1L, "Figma", Level.MID, user1)));
+
+        // when
+        skillIndex.rebuild(idFrom -> {
+            if (idFrom > 0)
+                return List.of();
+
+            skillIndex.update(2L, List.of());
+            return List.of(
+                    createSkill(1L, "Figma", Level.MID, user1),
+                    createSkill(2L, "Figma", Level.MID, user2)
+            );
+        });
+
+        // then
+        assertThat(skillIndex.search(List.of("피그마"), Level.LOW)).containsExactly(1L);
+    }
+
+    private void rebuild(List<Skill> skills) {
+        skillIndex.rebuild(idFrom -> idFrom == 0 ? skills : List.of());
+    }
+
+    private Skill createSkill(long id, String skillName, Level level, User user) {
+        Skill skill = Skill.builder()
+                .skillName(skillName)
+                .level(level)
+                .isExperienced(true)
+                .user(user)
+                .build();
+        ReflectionTestUtils.setField(skill, "id", id);
+
+        return skill;
+    }
+
+    private User createUser(long id) {
+        User user = User.builder()
+                .username("tester" + id)
+                .nickname("테스터")
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+
+        return user;
+    }
+}
@@ -0,0 +1,152 @@
+package com.gabojait.gabojaitspring.repository.team;
+
+import com.gabojait.gabojaitspring.domain.team.Team;
+import com.gabojait.gabojaitspring.domain.user.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RecruitingTeamIndexTest {
+
+    private final RecruitingTeamIndex recruitingTeamIndex = new RecruitingTeamIndex();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recruitingTeamIndex, "isEnabled", true);
+    }
+
+    @Test
+    @DisplayName("포지션별로 모집 중인 팀 식별자를 내림차순으로 페이징 조회한다")
+    void givenRebuilt_whenFindPage_thenReturn() {
+        // given
+        Team team1 = createTeam(1L, (byte) 2, (byte) 0);
+        Team team2 = createTeam(2L, (byte) 2, (byte) 2);
+        Team team3 = createTeam(3L, (byte) 0, (byte) 2);
+        recruitingTeamIndex.rebuild(() -> List.of(team1, team2, team3));
+
+        // when
+        List<Long> teamIds = recruitingTeamIndex.findPage(Position.NONE, Long.MAX_VALUE, 2);
+        List<Long> nextTeamIds = recruitingTeamIndex.findPage(Position.NONE, teamIds.get(1), 2);
+        List<Long> backendTeamIds = recruitingTeamIndex.findPage(Position.BACKEND, Long.MAX_VALUE, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(teamIds).containsExactly(3L, 2L),
+                () -> assertThat(nextTeamIds).containsExactly(1L),
+                () -> assertThat(backendTeamIds).containsExactly(2L, 1L),
+                () -> assertThat(recruitingTeamIndex.count(Position.NONE)).isEqualTo(3L),
+                () -> assertThat(recruitingTeamIndex.count(Position.BACKEND)).isEqualTo(2L),
+                () -> assertThat(recruitingTeamIndex.count(Position.FRONTEND)).isEqualTo(2L)
+        );
+    }
+
+    @Test
+    @DisplayName("모집을 중단한 팀은 모든 포지션에서 제외된다")
+    void givenNotRecruiting_whenUpdate_thenReturn() {
+        // given
+        Team team1 = createTeam(1L, (byte) 2, (byte) 2);
+        Team team2 = createTeam(2L, (byte) 2, (byte) 2);
+        recruitingTeamIndex.rebuild(() -> List.of(team1, team2));
+        team2.updateIsRecruiting(false);
+
+        // when
+        recruitingTeamIndex.update(team2);
+
+        // then
+        assertAll(
+                () -> assertThat(recruitingTeamIndex.findPage(Position.NONE, Long.MAX_VALUE, 10)).containsExactly(1L),
+                () -> assertThat(recruitingTeamIndex.findPage(Position.BACKEND, Long.MAX_VALUE, 10)).containsExactly(1L),
+                () -> assertThat(recruitingTeamIndex.count(Position.NONE)).isEqualTo(1L),
+                () -> assertThat(recruitingTeamIndex.count(Position.BACKEND)).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("재구성 중 반영된 팀 변경은 재구성 결과에 다시 적용된다")
+    void givenUpdatedWhileRebuilding_whenRebuild_thenReturn() {
+        // given
+        Team team1 = createTeam(1L, (byte) 2, (byte) 2);
+        Team team2 = createTeam(2L, (byte) 2, (byte) 2);
+        Team staleTeam2 = createTeam(2L, (byte) 2, (byte) 2);
+        recruitingTeamIndex.rebuild(() -> List.of(team1));
+
+        // when
+        recruitingTeamIndex.rebuild(() -> {
+            team2.updateIsRecruiting(false);
+            recruitingTeamIndex.update(team2);
+            return List.of(team1, staleTeam2);
+        });
+
+        // then
+        assertAll(
+                () -> assertThat(recruitingTeamIndex.findPage(Position.NONE, Long.MAX_VALUE, 10)).containsExactly(1L),
+                () -> assertThat(recruitingTeamIndex.count(Position.NONE)).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("동시에 요청된 재구성은 먼저 시작한 재구성이 끝난 후 실행된다")
+    void givenConcurrentRebuild_whenRebuild_thenReturn() throws Exception {
+        // given
+        Team team1 = createTeam(1L, (byte) 2, (byte) 2);
+        Team team2 = createTeam(2L, (byte) 2, (byte) 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> recruitingTeamIndex.rebuild(() -> {
+            started.countDown();
+            await(released);
+            return List.of(team1);
+        }));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        Thread second = new Thread(() -> recruitingTeamIndex.rebuild(() -> List.of(team1, team2)));
+        second.start();
+        while (second.getState() != Thread.State.BLOCKED && second.getState() != Thread.State.TERMINATED)
+            Thread.onSpinWait();
+        Thread.State secondState = second.getState();
+        released.countDown();
+        first.get(1, TimeUnit.SECONDS);
+        second.join(1000);
+
+        // then
+        assertAll(
+                () -> assertThat(secondState).isEqualTo(Thread.State.BLOCKED),
+                () -> assertThat(recruitingTeamIndex.findPage(Position.NONE, Long.MAX_VALUE, 10))
+                        .containsExactly(2L, 1L)
+        );
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Team createTeam(long id, byte backendMaxCnt, byte frontendMaxCnt) {
+        Team team = Team.builder()
+                .projectName("가보자잇")
+                .projectDescription("프로젝트 설명")
+                .expectation("내용입니다.")
+                .openChatUrl("kakao.com/o/project")
+                .designerMaxCnt((byte) 2)
+                .backendMaxCnt(backendMaxCnt)
+                .frontendMaxCnt(frontendMaxCnt)
+                .managerMaxCnt((byte) 2)
+                .build();
+        ReflectionTestUtils.setField(team, "id", id);
+
+        return team;
+    }
+}
@@ -0,0 +1,227 @@
+package com.gabojait.gabojaitspring.repository.team;
+
+import com.gabojait.gabojaitspring.domain.offer.Offer;
+import com.gabojait.gabojaitspring.domain.offer.OfferedBy;
+import com.gabojait.gabojaitspring.domain.profile.Level;
+import com.gabojait.gabojaitspring.domain.profile.Skill;
+import com.gabojait.gabojaitspring.domain.team.Team;
+import com.gabojait.gabojaitspring.domain.user.Position;
+import com.gabojait.gabojaitspring.domain.user.User;
+import com.gabojait.gabojaitspring.repository.profile.SkillIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TeamRecommendationIndexTest {
+
+    private final SkillIndex skillIndex = new SkillIndex();
+    private final TeamRecommendationIndex teamRecommendationIndex = new TeamRecommendationIndex(skillIndex);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(teamRecommendationIndex, "size", 2);
+    }
+
+    @Test
+    @DisplayName("팀의 기술과 일치하는 기술이 많은 회원이 먼저 추천되고 모집하지 않는 포지션과 제안한 회원은 제외된다")
+    void givenRebuilt_whenFind_thenReturn() {
+        // given
+        User user1 = createUser(1L, Position.BACKEND);
+        User user2 = createUser(2L, Position.BACKEND);
+        User user3 = createUser(3L, Position.DESIGNER);
+        User user4 = createUser(4L, Position.FRONTEND);
+        Team team = createTeam(1L, "Spring Boot로 만드는 협업 플랫폼", (byte) 2, (byte) 0);
+        Offer offer = createOffer(user4, team);
+        rebuildSkillIndex(List.of(
+                createSkill(1L, "스프링", user1),
+                createSkill(2L, "Figma", user2),
+                createSkill(3L, "spring", user3),
+                createSkill(4L, "Spring", user4)
+        ));
+
+        // when
+        teamRecommendationIndex.rebuild(idFrom -> idFrom == 0 ? List.of(user1, user2, user3, user4) : List.of(),
+                () -> List.of(team), () -> List.of(offer));
+
+        // then
+        assertAll(
+                () -> assertThat(teamRecommendationIndex.toRequirement(team).orElseThrow().getSkillNames())
+                        .containsExactly("spring"),
+                () -> assertThat(teamRecommendationIndex.find(1L, Position.NONE)).containsExactly(1L, 2L),
+                () -> assertThat(teamRecommendationIndex.find(1L, Position.FRONTEND)).isEmpty(),
+                () -> assertThat(teamRecommendationIndex.find(2L, Position.NONE)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("회원, 팀, 제안 변경은 해당 팀 후보 목록에 반영된다")
+    void givenUpdated_whenFind_thenReturn() {
+        // given
+        User user1 = createUser(1L, Position.BACKEND);
+        User user2 = createUser(2L, Position.BACKEND);
+        User user3 = createUser(3L, Position.FRONTEND);
+        Team team = createTeam(1L, "협업 플랫폼", (byte) 2, (byte) 0);
+        rebuildSkillIndex(List.of());
+        teamRecommendationIndex.rebuild(idFrom -> idFrom == 0 ? List.of(user1, user2, user3) : List.of(),
+                () -> List.of(team), List::of);
+
+        // when
+        user2.rate(5, 1);
+        teamRecommendationIndex.updateCandidate(user2);
+        List<Long> ratedUserIds = teamRecommendationIndex.find(1L, Position.NONE);
+
+        team.update("협업 플랫폼", "설명입니다.", "내용입니다.", (byte) 2, (byte) 2, (byte) 2, (byte) 2);
+        teamRecommendationIndex.updateTeam(team);
+        List<Long> openedUserIds = teamRecommendationIndex.find(1L, Position.FRONTEND);
+
+        teamRecommendationIndex.updateOffer(createOffer(user2, team));
+        List<Long> offeredUserIds = teamRecommendationIndex.find(1L, Position.BACKEND);
+
+        team.updateIsRecruiting(false);
+        teamRecommendationIndex.updateTeam(team);
+        List<Long> closedUserIds = teamRecommendationIndex.find(1L, Position.NONE);
+
+        // then
+        assertAll(
+                () -> assertThat(ratedUserIds).containsExactly(2L, 1L),
+                () -> assertThat(openedUserIds).containsExactly(3L),
+                () -> assertThat(offeredUserIds).containsExactly(1L),
+                () -> assertThat(closedUserIds).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("후보 목록의 회원이 팀 찾기를 중단하면 목록 밖의 회원으로 다시 채워진다")
+    void givenCandidateStopped_whenFind_thenReturn() {
+        // given
+        User user1 = createUser(1L, Position.BACKEND);
+        User user2 = createUser(2L, Position.BACKEND);
+        User user3 = createUser(3L, Position.BACKEND);
+        Team team = createTeam(1L, "협업 플랫폼", (byte) 3, (byte) 0);
+        rebuildSkillIndex(List.of());
+        teamRecommendationIndex.rebuild(idFrom -> idFrom == 0 ? List.of(user1, user2, user3) : List.of(),
+                () -> List.of(team), List::of);
+        List<Long> rebuiltUserIds = teamRecommendationIndex.find(1L, Position.NONE);
+
+        // when
+        user3.updateIsSeekingTeam(false);
+        teamRecommendationIndex.updateCandidate(user3);
+
+        // then
+        assertAll(
+                () -> assertThat(rebuiltUserIds).containsExactly(3L, 2L),
+                () -> assertThat(teamRecommendationIndex.find(1L, Position.NONE)).containsExactly(2L, 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 포지션 회원이 전체 상위 K명을 차지해도 포지션으로 조회하면 해당 포지션의 상위 K명을 반환한다")
+    void givenOtherPositionsRankedHigher_whenFindPosition_thenReturn() {
+        // given
+        User user1 = createUser(1L, Position.BACKEND);
+        User user2 = createUser(2L, Position.BACKEND);
+        User user3 = createUser(3L, Position.BACKEND);
+        User user4 = createUser(4L, Position.FRONTEND);
+        User user5 = createUser(5L, Position.FRONTEND);
+        Team team = createTeam(1L, "Spring으로 만드는 협업 플랫폼", (byte) 3, (byte) 2);
+        rebuildSkillIndex(List.of(
+                createSkill(1L, "Spring", user1),
+                createSkill(2L, "Spring", user2),
+                createSkill(3L, "Spring", user3)
+        ));
+
+        // when
+        teamRecommendationIndex.rebuild(idFrom -> idFrom == 0 ? List.of(user1, user2, user3, user4, user5) : List.of(),
+                () -> List.of(team), List::of);
+
+        // then
+        assertAll(
+                () -> assertThat(teamRecommendationIndex.find(1L, Position.NONE)).containsExactly(3L, 2L),
+                () -> assertThat(teamRecommendationIndex.find(1L, Position.BACKEND)).containsExactly(3L, 2L),
+                () -> assertThat(teamRecommendationIndex.find(1L, Position.FRONTEND)).containsExactly(5L, 4L)
+        );
+    }
+
+    @Test
+    @DisplayName("회원의 포지션이 바뀌면 이전 포지션 목록에서 빠지고 새 포지션 목록에 반영된다")
+    void givenPositionChanged_whenFind_thenReturn() {
+        // given
+        User user1 = createUser(1L, Position.BACKEND);
+        User user2 = createUser(2L, Position.BACKEND);
+        User user3 = createUser(3L, Position.FRONTEND);
+        Team team = createTeam(1L, "협업 플랫폼", (byte) 2, (byte) 2);
+        rebuildSkillIndex(List.of());
+        teamRecommendationIndex.rebuild(idFrom -> idFrom == 0 ? List.of(user1, user2, user3) : List.of(),
+                () -> List.of(team), List::of);
+
+        // when
+        user2.updatePosition(Position.FRONTEND);
+        teamRecommendationIndex.updateCandidate(user2);
+
+        // then
+        assertAll(
+                () -> assertThat(teamRecommendationIndex.find(1L, Position.BACKEND)).containsExactly(1L),
+                () -> assertThat(teamRecommendationIndex.find(1L, Position.FRONTEND)).containsExactly(3L, 2L)
+        );
+    }
+
+    private void rebuildSkillIndex(List<Skill> skills) {
+        skillIndex.rebuild(idFrom -> idFrom == 0 ? skills : List.of());
+    }
+
+    private Skill createSkill(long id, String skillName, User user) {
+        Skill skill = Skill.builder()
+                .skillName(skillName)
+                .level(Level.MID)
+                .isExperienced(true)
+                .user(user)
+                .build();
+        ReflectionTestUtils.setField(skill, "id", id);
+
+        return skill;
+    }
+
+    private Offer createOffer(User user, Team team) {
+        return Offer.builder()
+                .offeredBy(OfferedBy.LEADER)
+                .position(user.getPosition())
+                .user(user)
+                .team(team)
+                .build();
+    }
+
+    private Team createTeam(long id, String projectDescription, byte backendMaxCnt, byte frontendMaxCnt) {
+        Team team = Team.builder()
+                .projectName("가보자잇")
+                .projectDescription(projectDescription)
+                .expectation("내용입니다.")
+                .openChatUrl("kakao.com/o/project")
+                .designerMaxCnt((byte) 0)
+                .backendMaxCnt(backendMaxCnt)
+                .frontendMaxCnt(frontendMaxCnt)
+                .managerMaxCnt((byte) 0)
+                .build();
+        ReflectionTestUtils.setField(team, "id", id);
+
+        return team;
+    }
+
+    private User createUser(long id, Position position) {
+        User user = User.builder()
+                .username("tester" + id)
+                .nickname("테스터")
+                .lastRequestAt(LocalDateTime.now())
+                .build();
+        user.updatePosition(position);
+        ReflectionTestUtils.setField(user, "id", id);
+
+        return user;
+    }
+}
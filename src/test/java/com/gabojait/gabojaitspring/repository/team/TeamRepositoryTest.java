@@ -1,6 +1,7 @@
 package com.gabojait.gabojaitspring.repository.team;
 
 import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.common.util.PageCountUtility;
 import com.gabojait.gabojaitspring.domain.team.Team;
 import com.gabojait.gabojaitspring.domain.user.Position;
 import org.junit.jupiter.api.DisplayName;
@@ -10,8 +11,10 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 class TeamRepositoryTest {
 
     @Autowired private TeamRepository teamRepository;
+    @Autowired private PageCountUtility pageCountUtility;
+    @Autowired private RecruitingTeamIndex recruitingTeamIndex;
 
     @ParameterizedTest(name = "[{index}] {0} 포지션으로 팀 페이징 조회한다")
     @EnumSource(Position.class)
@@ -48,6 +53,91 @@ class TeamRepositoryTest {
         );
     }
 
+    @Test
+    @DisplayName("마지막 팀 식별자로 다음 페이지를 조회하면 누락과 중복 없이 모든 팀이 조회된다")
+    void givenLastId_whenFindPage_thenReturn() {
+        // given
+        Team team1 = createTeam("프로젝트1", (byte) 3);
+        Team team2 = createTeam("프로젝트2", (byte) 3);
+        Team team3 = createTeam("프로젝트3", (byte) 3);
+        Team team4 = createTeam("프로젝트4", (byte) 3);
+        Team team5 = createTeam("프로젝트5", (byte) 3);
+        teamRepository.saveAll(List.of(team1, team2, team3, team4, team5));
+
+        int pageSize = 2;
+        List<Team> teams = new ArrayList<>();
+
+        // when
+        long pageFrom = Long.MAX_VALUE;
+        List<Team> page;
+        do {
+            page = teamRepository.findPage(Position.NONE, pageFrom, pageSize).getData();
+            teams.addAll(page);
+
+            if (!page.isEmpty())
+                pageFrom = page.get(page.size() - 1).getId();
+        } while (page.size() == pageSize);
+
+        // then
+        assertThat(teams).containsExactly(team5, team4, team3, team2, team1);
+    }
+
+    @Test
+    @DisplayName("팀 저장 시 팀 전체 개수 캐시가 삭제되어 다음 페이지 조회에 반영된다")
+    void givenSavedTeam_whenFindPage_thenReturn() {
+        // given
+        ReflectionTestUtils.setField(pageCountUtility, "mode", PageCountUtility.Mode.CACHED);
+        try {
+            Team team1 = createTeam("프로젝트1", (byte) 3);
+            Team team2 = createTeam("프로젝트2", (byte) 3);
+            teamRepository.saveAll(List.of(team1, team2));
+            teamRepository.findPage(Position.NONE, PageCountUtility.FIRST_PAGE_FROM, 1);
+
+            Team team3 = createTeam("프로젝트3", (byte) 3);
+            teamRepository.save(team3);
+
+            // when
+            PageData<List<Team>> teams = teamRepository.findPage(Position.NONE, team3.getId(), 1);
+
+            // then
+            assertAll(
+                    () -> assertThat(teams.getData()).containsExactly(team2),
+                    () -> assertThat(teams.getTotal()).isEqualTo(3L)
+            );
+        } finally {
+            ReflectionTestUtils.setField(pageCountUtility, "mode", PageCountUtility.Mode.EXACT);
+        }
+    }
+
+    @Test
+    @DisplayName("모집 중인 팀 인덱스로 팀 페이징 조회가 정상 작동한다")
+    void givenIndex_whenFindPage_thenReturn() {
+        // given
+        Team team1 = createTeam("프로젝트1", (byte) 2);
+        Team team2 = createTeam("프로젝트2", (byte) 0);
+        Team team3 = createTeam("프로젝트3", (byte) 2);
+        teamRepository.saveAll(List.of(team1, team2, team3));
+
+        ReflectionTestUtils.setField(recruitingTeamIndex, "isEnabled", true);
+        try {
+            recruitingTeamIndex.rebuild(teamRepository::findAllRecruiting);
+
+            // when
+            PageData<List<Team>> teams = teamRepository.findPage(Position.BACKEND, Long.MAX_VALUE, 1);
+            PageData<List<Team>> nextTeams = teamRepository.findPage(Position.BACKEND, team3.getId(), 1);
+
+            // then
+            assertAll(
+                    () -> assertThat(teams.getData()).containsExactly(team3),
+                    () -> assertThat(teams.getTotal()).isEqualTo(2L),
+                    () -> assertThat(nextTeams.getData()).containsExactly(team1)
+            );
+        } finally {
+            ReflectionTestUtils.setField(recruitingTeamIndex, "isEnabled", false);
+            ReflectionTestUtils.setField(recruitingTeamIndex, "snapshot", null);
+        }
+    }
+
     @Test
     @DisplayName("존재 하지 않은 팀 페이징 조회가 정상 작동한다")
     void givenNoneExistingTeam_whenFindPage_thenReturn() {
@@ -0,0 +1,131 @@
+package com.gabojait.gabojaitspring.repository.team;
+
+import com.gabojait.gabojaitspring.common.response.PageData;
+import com.gabojait.gabojaitspring.domain.team.Team;
+import com.gabojait.gabojaitspring.domain.user.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TeamSearchIndexTest {
+
+    private final TeamSearchIndex teamSearchIndex = new TeamSearchIndex();
+
+    @Test
+    @DisplayName("한글은 2-gram으로, 그 외 문자는 단어 단위로 토큰을 분리한다")
+    void givenMixedText_whenTokenize_thenReturn() {
+        // given
+        String text = "Spring 협업플랫폼, AI챗봇 앱!";
+
+        // when
+        List<String> terms = TeamSearchIndex.tokenize(text);
+
+        // then
+        assertThat(terms).containsExactly("spring", "협업", "업플", "플랫", "랫폼", "ai", "챗봇", "앱");
+    }
+
+    @Test
+    @DisplayName("프로젝트명에 검색어가 있는 팀이 프로젝트 설명에만 있는 팀보다 먼저 조회된다")
+    void givenRebuilt_whenSearch_thenReturn() {
+        // given
+        Team team1 = createTeam(1L, "여행 기록 앱", "여행지 사진을 모아 보는 플랫폼", (byte) 2);
+        Team team2 = createTeam(2L, "협업 플랫폼", "팀 프로젝트를 관리하는 서비스", (byte) 2);
+        Team team3 = createTeam(3L, "스터디 매칭", "스터디 모임 서비스", (byte) 2);
+        teamSearchIndex.rebuild(() -> List.of(team1, team2, team3));
+
+        // when
+        PageData<List<Long>> teamIds = teamSearchIndex.search("플랫폼", Position.NONE, 0, 10);
+        PageData<List<Long>> nextTeamIds = teamSearchIndex.search("플랫폼", Position.NONE, 1, 10);
+        PageData<List<Long>> unknownTeamIds = teamSearchIndex.search("블록체인", Position.NONE, 0, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(teamIds.getData()).containsExactly(2L, 1L),
+                () -> assertThat(teamIds.getTotal()).isEqualTo(2L),
+                () -> assertThat(nextTeamIds.getData()).containsExactly(1L),
+                () -> assertThat(unknownTeamIds.getData()).isEmpty(),
+                () -> assertThat(unknownTeamIds.getTotal()).isEqualTo(0L)
+        );
+    }
+
+    @Test
+    @DisplayName("포지션을 지정하면 해당 포지션 자리가 남은 팀만 조회된다")
+    void givenPosition_whenSearch_thenReturn() {
+        // given
+        Team team1 = createTeam(1L, "협업 플랫폼", "백엔드 구해요", (byte) 2);
+        Team team2 = createTeam(2L, "협업 플랫폼", "백엔드 구해요", (byte) 0);
+        teamSearchIndex.rebuild(() -> List.of(team1, team2));
+
+        // when
+        PageData<List<Long>> teamIds = teamSearchIndex.search("협업", Position.BACKEND, 0, 10);
+
+        // then
+        assertThat(teamIds.getData()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("모집을 중단하거나 수정된 팀은 검색 결과에 반영된다")
+    void givenUpdated_whenSearch_thenReturn() {
+        // given
+        Team team1 = createTeam(1L, "협업 플랫폼", "서비스", (byte) 2);
+        Team team2 = createTeam(2L, "협업 플랫폼", "서비스", (byte) 2);
+        teamSearchIndex.rebuild(() -> List.of(team1, team2));
+
+        // when
+        team1.updateIsRecruiting(false);
+        teamSearchIndex.update(team1);
+        team2.update("여행 기록 앱", "여행 서비스", "내용입니다.", (byte) 2, (byte) 2, (byte) 2, (byte) 2);
+        teamSearchIndex.update(team2);
+
+        // then
+        assertAll(
+                () -> assertThat(teamSearchIndex.search("협업", Position.NONE, 0, 10).getData()).isEmpty(),
+                () -> assertThat(teamSearchIndex.search("여행", Position.NONE, 0, 10).getData()).containsExactly(2L)
+        );
+    }
+
+    @Test
+    @DisplayName("모집을 중단했다가 다시 시작한 팀은 한번만 조회된다")
+    void givenRecruitingToggled_whenSearch_thenReturn() {
+        // given
+        Team team1 = createTeam(1L, "협업 플랫폼", "서비스", (byte) 2);
+        Team team2 = createTeam(2L, "여행 플랫폼", "서비스", (byte) 2);
+        teamSearchIndex.rebuild(() -> List.of(team1, team2));
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            team1.updateIsRecruiting(false);
+            teamSearchIndex.update(team1);
+            team1.updateIsRecruiting(true);
+            teamSearchIndex.update(team1);
+        }
+        PageData<List<Long>> teamIds = teamSearchIndex.search("플랫폼", Position.NONE, 0, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(teamIds.getData()).containsExactlyInAnyOrder(1L, 2L),
+                () -> assertThat(teamIds.getTotal()).isEqualTo(2L)
+        );
+    }
+
+    private Team createTeam(long id, String projectName, String projectDescription, byte backendMaxCnt) {
+        Team team = Team.builder()
+                .projectName(projectName)
+                .projectDescription(projectDescription)
+                .expectation("내용입니다.")
+                .openChatUrl("kakao.com/o/project")
+                .designerMaxCnt((byte) 2)
+                .backendMaxCnt(backendMaxCnt)
+                .frontendMaxCnt((byte) 2)
+                .managerMaxCnt((byte) 2)
+                .build();
+        ReflectionTestUtils.setField(team, "id", id);
+
+        return team;
+    }
+}
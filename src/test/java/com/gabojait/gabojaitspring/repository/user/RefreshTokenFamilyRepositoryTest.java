@@ -0,0 +1,171 @@
+package com.gabojait.gabojaitspring.repository.user;
+
+import com.gabojait.gabojaitspring.domain.user.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class RefreshTokenFamilyRepositoryTest {
+
+    @Autowired private RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ContactRepository contactRepository;
+
+    @Test
+    @DisplayName("현재 토큰 식별자로 리프레시 토큰 교체가 정상 작동한다")
+    void givenCurrentTokenId_whenRotate_thenReturn() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        User user = createSavedDefaultUser();
+        RefreshTokenFamily family = createSavedFamily(user, "family", "token1", now.plusDays(1));
+
+        // when
+        long rotatedCnt = refreshTokenFamilyRepository.rotate(family.getFamilyId(), "token1", "token2",
+                now.plusDays(2), now);
+
+        // then
+        assertThat(rotatedCnt).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰 식별자로 리프레시 토큰을 교체하면 교체되지 않는다")
+    void givenUsedTokenId_whenRotate_thenReturn() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        User user = createSavedDefaultUser();
+        RefreshTokenFamily family = createSavedFamily(user, "family", "token1", now.plusDays(1));
+        refreshTokenFamilyRepository.rotate(family.getFamilyId(), "token1", "token2", now.plusDays(2), now);
+
+        // when
+        long rotatedCnt = refreshTokenFamilyRepository.rotate(family.getFamilyId(), "token1", "token3",
+                now.plusDays(2), now);
+
+        // then
+        assertThat(rotatedCnt).isZero();
+    }
+
+    @Test
+    @DisplayName("폐기된 패밀리의 리프레시 토큰을 교체하면 교체되지 않는다")
+    void givenRevoked_whenRotate_thenReturn() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        User user = createSavedDefaultUser();
+        RefreshTokenFamily family = createSavedFamily(user, "family", "token1", now.plusDays(1));
+        refreshTokenFamilyRepository.revoke(family.getFamilyId(), now);
+
+        // when
+        long rotatedCnt = refreshTokenFamilyRepository.rotate(family.getFamilyId(), "token1", "token2",
+                now.plusDays(2), now);
+
+        // then
+        assertAll(
+                () -> assertThat(rotatedCnt).isZero(),
+                () -> assertThat(refreshTokenFamilyRepository.existsRevoked(family.getFamilyId())).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("만료되지 않은 폐기된 패밀리 식별자 전체 조회가 정상 작동한다")
+    void givenRevoked_whenFindAllRevokedFamilyId_thenReturn() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        User user = createSavedDefaultUser();
+        createSavedFamily(user, "family1", "token1", now.plusDays(1));
+        createSavedFamily(user, "family2", "token2", now.plusDays(1));
+        createSavedFamily(user, "family3", "token3", now.minusDays(1));
+        refreshTokenFamilyRepository.revoke("family2", now);
+        refreshTokenFamilyRepository.revoke("family3", now);
+
+        // when
+        List<String> familyIds = refreshTokenFamilyRepository.findAllRevokedFamilyId(now);
+
+        // then
+        assertThat(familyIds).containsExactly("family2");
+    }
+
+    @Test
+    @DisplayName("기준 일시 이후 폐기된 패밀리 식별자 전체 조회가 정상 작동한다")
+    void givenSince_whenFindAllRevokedFamilyId_thenReturn() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        User user = createSavedDefaultUser();
+        createSavedFamily(user, "family1", "token1", now.plusDays(1));
+        createSavedFamily(user, "family2", "token2", now.plusDays(1));
+        refreshTokenFamilyRepository.revoke("family1", now.minusHours(1));
+        refreshTokenFamilyRepository.revoke("family2", now);
+
+        // when
+        List<String> familyIds = refreshTokenFamilyRepository.findAllRevokedFamilyId(now.minusMinutes(1), now);
+
+        // then
+        assertThat(familyIds).containsExactly("family2");
+    }
+
+    @Test
+    @DisplayName("만료된 패밀리 삭제가 정상 작동한다")
+    void givenExpired_whenDeleteExpired_thenReturn() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        User user = createSavedDefaultUser();
+        createSavedFamily(user, "family1", "token1", now.plusDays(1));
+        createSavedFamily(user, "family2", "token2", now.minusDays(1));
+
+        // when
+        long deletedCnt = refreshTokenFamilyRepository.deleteExpired(now);
+
+        // then
+        assertAll(
+                () -> assertThat(deletedCnt).isEqualTo(1),
+                () -> assertThat(refreshTokenFamilyRepository.findAll())
+                        .extracting("familyId")
+                        .containsExactly("family1")
+        );
+    }
+
+    private RefreshTokenFamily createSavedFamily(User user, String familyId, String tokenId,
+                                                 LocalDateTime expiresAt) {
+        RefreshTokenFamily family = RefreshTokenFamily.builder()
+                .user(user)
+                .familyId(familyId)
+                .currentTokenId(tokenId)
+                .expiresAt(expiresAt)
+                .build();
+
+        return refreshTokenFamilyRepository.saveAndFlush(family);
+    }
+
+    private User createSavedDefaultUser() {
+        Contact contact = Contact.builder()
+                .email("tester@gabojait.com")
+                .verificationCode("000000")
+                .build();
+        contact.verified();
+        contactRepository.save(contact);
+
+        User user = User.builder()
+                .username("tester")
+                .password("password1!")
+                .nickname("테스터")
+                .gender(Gender.M)
+                .birthdate(LocalDate.of(1997, 2, 11))
+                .lastRequestAt(LocalDateTime.now())
+                .contact(contact)
+                .build();
+        user.updatePosition(Position.BACKEND);
+
+        return userRepository.save(user);
+    }
+}
@@ -13,8 +13,10 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +30,7 @@ class UserRepositoryTest {
 
     @Autowired private UserRepository userRepository;
     @Autowired private ContactRepository contactRepository;
+    @Autowired private EntityManager entityManager;
 
     @Test
     @DisplayName("연락처로 회원 단건 조회가 정상 작동한다")
@@ -278,6 +281,37 @@ class UserRepositoryTest {
         );
     }
 
+    @Test
+    @DisplayName("후보가 나누어 조회할 개수보다 많아도 모든 후보 중 평점 순으로 회원 페이징 조회가 정상 작동한다")
+    void givenMoreThanChunkSize_whenFindPageRanked_thenReturn() {
+        // given
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Contact contact = createContact("tester" + i + "@gabojait.com");
+            contactRepository.save(contact);
+            User user = createUser("tester" + i, "테스터" + i, contact);
+            user.rate(6 - i, 1);
+            users.add(userRepository.save(user));
+        }
+        users.get(1).updateIsSeekingTeam(false);
+
+        List<Long> userIds = new ArrayList<>();
+        for (int i = users.size() - 1; i >= 0; i--)
+            userIds.add(users.get(i).getId());
+
+        // when
+        PageData<List<User>> firstPage = userRepository.findPageRanked(userIds, 2, 0, 2);
+        PageData<List<User>> secondPage = userRepository.findPageRanked(userIds, 2, 2, 2);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.getData()).containsExactly(users.get(0), users.get(2)),
+                () -> assertThat(firstPage.getTotal()).isEqualTo(4L),
+                () -> assertThat(secondPage.getData()).containsExactly(users.get(3), users.get(4)),
+                () -> assertThat(secondPage.getTotal()).isEqualTo(4L)
+        );
+    }
+
     @Test
     @DisplayName("회원 식별자로 팀을 찾는 회원 단건 조회가 정상 작동한다")
     void givenValid_whenFindSeekingTeam_thenReturn() {
@@ -310,6 +344,54 @@ class UserRepositoryTest {
         assertThat(foundUser).isEqualTo(user);
     }
 
+    @Test
+    @DisplayName("현재 프로필 이미지로 만든 썸네일 업데이트가 정상 작동한다")
+    void givenCurrentImageUrl_whenUpdateThumbnailUrl_thenReturn() {
+        // given
+        Contact contact = createContact("tester@gabojait.com");
+        contactRepository.save(contact);
+        User user = createUser("tester", "테스터", contact);
+        user.updateImageUrl("https://gabojait.com/1/image");
+        userRepository.saveAndFlush(user);
+
+        // when
+        boolean isUpdated = userRepository.updateThumbnailUrl(user.getId(), "https://gabojait.com/1/image",
+                "https://gabojait.com/1/image_thumbnail");
+
+        // then
+        entityManager.clear();
+        User foundUser = userRepository.findById(user.getId()).get();
+
+        assertAll(
+                () -> assertThat(isUpdated).isTrue(),
+                () -> assertThat(foundUser.getListImageUrl()).isEqualTo("https://gabojait.com/1/image_thumbnail")
+        );
+    }
+
+    @Test
+    @DisplayName("이전 프로필 이미지로 만든 썸네일은 반영하지 않는다")
+    void givenPreviousImageUrl_whenUpdateThumbnailUrl_thenReturn() {
+        // given
+        Contact contact = createContact("tester@gabojait.com");
+        contactRepository.save(contact);
+        User user = createUser("tester", "테스터", contact);
+        user.updateImageUrl("https://gabojait.com/1/image1");
+        userRepository.saveAndFlush(user);
+
+        // when
+        boolean isUpdated = userRepository.updateThumbnailUrl(user.getId(), "https://gabojait.com/1/image0",
+                "https://gabojait.com/1/image0_thumbnail");
+
+        // then
+        entityManager.clear();
+        User foundUser = userRepository.findById(user.getId()).get();
+
+        assertAll(
+                () -> assertThat(isUpdated).isFalse(),
+                () -> assertThat(foundUser.getListImageUrl()).isEqualTo("https://gabojait.com/1/image1")
+        );
+    }
+
     private User createUser(String username, String nickname, Contact contact) {
         return User.builder()
                 .username(username)